@@ -0,0 +1,325 @@
+package Assembly;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+* Holds the state for translating one intermediate code file: output writer, register allocator,
+* scanner and parser.  Each file gets its own Assembler, so several can run at once on different threads.
+* The scanner and parser actions reach it through {@link #current()} while {@link #assemble(CharSequence)} runs.
+* They only turn the text into an {@link IrProgram}; the {@link IrTranslator} makes the assembly of every
+* program, parsed or handed over by the compiler.
+*/
+public class Assembler
+{
+	/** Assembler running on each thread.				*/
+	private static final ThreadLocal<Assembler> current = new ThreadLocal<Assembler>();
+
+	/** Input name used in diagnostics.					*/
+	public String inFile;
+	/** Destination for the generated assembly.			*/
+	public PrintWriter fout;
+	/** Destination for debug output.					*/
+	public PrintStream out = System.out;
+	/** Destination for diagnostics.						*/
+	public PrintStream err = System.err;
+
+	/** Cache for the assembly of single functions.  Null assembles everything.	*/
+	public FragmentCache cache;
+	/** Phase and function timings for --time-report, or null.	*/
+	public TimeReport timeReport;
+	/** Start offsets of the input lines, which diagnostics slice their lines from.  Null for a program.	*/
+	public LineIndex lines;
+
+	public RegisterAllocator ra;
+	public AssemblyScanner scanner;
+	public AssemblyParser parser;
+
+	/** Program being assembled.  The scanner and parser add the text to it.	*/
+	IrProgram program;
+	/** Translator of the program's instructions.	*/
+	private IrTranslator translator;
+
+	/**
+	* Creates an assembler writing to the given output.
+	* @param _inFile Input name used in diagnostics.
+	* @param out Destination for the generated assembly.
+	*/
+	public Assembler(String _inFile, PrintWriter out)
+	{
+		inFile = _inFile;
+		fout = out;
+	}
+
+	/**
+	* Returns the assembler running on the calling thread.
+	* @return The current assembler, or null outside of {@link #assemble(CharSequence)}.
+	*/
+	public static Assembler current()
+	{
+		return current.get();
+	}
+
+	/**
+	* Translates intermediate code into assembly.  The output is flushed but not closed.
+	* @param in Intermediate code to translate.
+	* @throws IOException This can be thrown from File IO features.
+	* @throws AssemblyError If the intermediate code could not be translated.
+	*/
+	public void assemble(Reader in) throws IOException
+	{
+		assemble(read(in));
+	}
+
+	/**
+	* Translates intermediate code held in memory, such as a file mapped by {@link SourceText}, into assembly.
+	* The output is flushed but not closed.
+	* @param code Intermediate code to translate.
+	* @throws IOException This can be thrown from File IO features.
+	* @throws AssemblyError If the intermediate code could not be translated.
+	*/
+	public void assemble(CharSequence code) throws IOException
+	{
+		Assembler previous = current.get();
+		current.set(this);
+
+		if(timeReport != null)
+			timeReport.enter("assembly");
+
+		try
+		{
+			lines = new LineIndex(code);
+			program = new IrProgram();
+			scanner = new AssemblyScanner(SourceText.reader(code));
+			parser = new AssemblyParser(scanner);
+
+			if(!parser.parse())
+				throw new AssemblyError("unable to parse intermediate code");
+
+			translate();
+		}
+		finally
+		{
+			if(timeReport != null)
+				timeReport.leave();
+
+			program = null;
+			translator = null;
+			current.set(previous);
+		}
+	}
+
+	/**
+	* Translates intermediate code built in memory into assembly, without writing or parsing its text.  The output
+	* matches what {@link #assemble(CharSequence)} makes of the program's text form and is flushed but not closed.
+	* @param code Intermediate code to translate.
+	* @throws IOException This can be thrown from File IO features.
+	* @throws AssemblyError If the intermediate code could not be translated.
+	*/
+	public void assemble(IrProgram code) throws IOException
+	{
+		Assembler previous = current.get();
+		current.set(this);
+
+		if(timeReport != null)
+			timeReport.enter("assembly");
+
+		try
+		{
+			lines = null;
+			program = code;
+			translate();
+		}
+		finally
+		{
+			if(timeReport != null)
+				timeReport.leave();
+
+			program = null;
+			translator = null;
+			current.set(previous);
+		}
+	}
+
+	/**
+	* Translates the program one function at a time.  The code in front of the first function is neither cached
+	* nor timed on its own.
+	*/
+	private void translate() throws IOException
+	{
+		ra = new RegisterAllocator(this);
+		translator = new IrTranslator(this);
+
+		header();
+
+		for(IrProgram.Function function : program.functions())
+		{
+			if(function.name == null)
+				translator.translate(program, function);
+
+			else
+				assembleFunction(function);
+		}
+
+		fout.flush();
+	}
+
+	/**
+	* Writes the program start.
+	*/
+	private void header()
+	{
+		outputAssemblyComment("program start");
+		fout.println("\t.data");
+		fout.println("spill: .space 1024");
+		fout.println("\t.text");
+		fout.println("\t la $s0, spill");
+		fout.println("\t j main");
+	}
+
+	/**
+	* Assembles one function, through the cache if there is one, timing it for the time report.
+	* @param function A function of the program.
+	*/
+	private void assembleFunction(IrProgram.Function function) throws IOException
+	{
+		long[] start = (timeReport == null) ? null : TimeReport.sample();
+
+		try
+		{
+			if(cache != null)
+				assembleCached(function);
+
+			else
+				translator.translate(program, function);
+		}
+		finally
+		{
+			if(start != null)
+				timeReport.function(function.name, TimeReport.ASSEMBLY, start);
+		}
+	}
+
+	/**
+	* Replays one function from the cache or assembles and stores it.  The key covers the function's instructions,
+	* hashed renumbered from the program's arrays, and the allocator state on entry, since registers and spill slots
+	* are not released between functions.  The entry holds the assembly and the allocator state on exit.
+	* @param function A function of the program.
+	*/
+	private void assembleCached(IrProgram.Function function) throws IOException
+	{
+		int[] base = program.base(function);
+		int[] delta = Fragments.negate(base);
+
+		MessageDigest md = Fragments.newDigest();
+		program.digest(function, delta, md);
+		md.update(Fragments.shift(saveState(), delta).getBytes(StandardCharsets.UTF_8));
+		String key = Fragments.toHex(md.digest());
+
+		String entry = cache.load(FragmentCache.ASSEMBLY, key);
+
+		if(entry != null)
+		{
+			int split = entry.indexOf('\n');
+			restoreState(Fragments.shift(entry.substring(0, split), base));
+			fout.print(Fragments.shift(entry.substring(split + 1), base));
+			return;
+		}
+
+		PrintWriter out = fout;
+		StringWriter buffer = new StringWriter();
+		fout = new PrintWriter(buffer);
+
+		try
+		{
+			translator.translate(program, function);
+		}
+		finally
+		{
+			fout.flush();
+			fout = out;
+		}
+
+		fout.print(buffer.toString());
+		cache.store(FragmentCache.ASSEMBLY, key, Fragments.shift(saveState(), delta) + "\n" + Fragments.shift(buffer.toString(), delta));
+	}
+
+	/**
+	* State carried from one function to the next: the allocator tables and the pending parameter count.
+	* @return Single line state.
+	*/
+	private String saveState()
+	{
+		return ra.saveState() + " " + translator.parameterIndex;
+	}
+
+	/**
+	* Restores a state written by {@link #saveState()}.
+	* @param state Saved state.
+	*/
+	private void restoreState(String state)
+	{
+		String[] fields = state.split(" ");
+
+		ra.restoreState(fields[0]);
+		translator.parameterIndex = Integer.parseInt(fields[1]);
+	}
+
+	/**
+	* Reads a whole input into memory.
+	*/
+	private static String read(Reader in) throws IOException
+	{
+		StringBuilder sb = new StringBuilder();
+		char[] buffer = new char[8192];
+		int count;
+
+		while((count = in.read(buffer)) > 0)
+			sb.append(buffer, 0, count);
+
+		return sb.toString();
+	}
+
+	public void outputAssembly(String command, String comment)
+	{
+		if(comment != null && !comment.equals("") && comment.charAt(0) != '#')
+			comment = "# " + comment;
+
+		fout.format("\t%-12s %-12s  %-12s  %-25s %-30s%n", command, "","","", comment);
+	}
+
+	public void outputAssembly1(String command, String reg1, String comment)
+	{
+		if(comment != null && !comment.equals("") && comment.charAt(0) != '#')
+			comment = "# " + comment;
+
+		fout.format("\t%-12s %-12s  %-12s  %-25s %-30s%n", command, reg1, "", "", comment);
+	}
+
+	public void outputAssembly2(String command, String reg1, String reg2, String comment)
+	{
+		if(comment != null && !comment.equals("") && comment.charAt(0) != '#')
+			comment = "# " + comment;
+
+		fout.format("\t%-12s %-12s, %-12s  %-25s %-30s%n", command, reg1, reg2, "", comment);
+	}
+
+	public void outputAssembly3(String command, String reg1, String reg2, String reg3, String comment)
+	{
+		if(comment != null && !comment.equals("") && comment.charAt(0) != '#')
+			comment = "# " + comment;
+
+		fout.format("\t%-12s %-12s, %-12s, %-25s %-30s%n", command, reg1, reg2, reg3, comment);
+	}
+
+	public void outputAssemblyLabel(String label)
+	{
+		fout.println(label);
+	}
+
+	public void outputAssemblyComment(String comment)
+	{
+		fout.println("# " + comment);
+	}
+}
@@ -9,17 +9,15 @@ import java.io.*;
 */
 public class AssemblyDriver 
 {
+	/** Input file name, or "-" for standard input.	*/
 	public static String inFile = null;
 	public static String outFile = "output.s";
 	public static boolean verbose = false;
 	public static int debugLevel = 1;
-	public static String[] lines;
-	
-	public static AssemblyScanner scanner;
-	public static AssemblyParser parser;
-	public static RegisterAllocator ra;
-	
-	public static PrintWriter fout;
+	/** Print the time spent in each phase when done.	*/
+	public static boolean timeReport = false;
+	/** Number of functions listed in the time report.	*/
+	public static int timeReportTop = 10;
 	
 	public static void main(String[] args) throws IOException
 	{
@@ -37,87 +35,131 @@ public class AssemblyDriver
 			System.out.println("Output File: " + outFile);
 		}
 		
-		FileInputStream fin = new FileInputStream(inFile);
-		
-		readInput(fin);
-		
-		fin.close();
-		
-		fout = new PrintWriter(outFile);
-		
-		ra = new RegisterAllocator();
-		fin = new FileInputStream(inFile);
-		scanner = new AssemblyScanner(fin);
-		parser = new AssemblyParser(scanner);
-		
-		// output program start
-		outputAssemblyComment("program start");
-		fout.println("\t.data");
-		fout.println("spill: .space 1024");
-		fout.println("\t.text");
-		fout.println("\t la $s0, spill");
-		fout.println("\t j main");
-		
-		parser.parse();
-		
-		fin.close();
-		fout.close();
-
+		try
+		{
+			assemble();
+		}
+		catch(AssemblyError e)
+		{
+			System.exit(1);
+		}
 	}
 	
-	public static void outputAssembly(String command, String comment)
+	/**
+	* Generates assembly for inFile and writes it to outFile.
+	* @throws IOException This can be thrown from File IO features.
+	* @throws AssemblyError If the intermediate code could not be translated.
+	*/
+	public static void assemble() throws IOException
 	{
-		if(comment != null && !comment.equals("") && comment.charAt(0) != '#')
-			comment = "# " + comment;
+		TimeReport report = timeReport ? new TimeReport() : null;
 		
-		fout.format("\t%-12s %-12s  %-12s  %-25s %-30s%n", command, "","","", comment);
-	}
-	
-	public static void outputAssembly1(String command, String reg1, String comment)
-	{
-		if(comment != null && !comment.equals("") && comment.charAt(0) != '#')
-			comment = "# " + comment;
+		if(report != null)
+			report.enter("read input");
+			
+		SourceText code = SourceText.read(inFile);
+		
+		if(report != null)
+			report.leave();
+			
+		PrintWriter out = new PrintWriter(outFile);
 		
-		//fout.printf("\t%s %s %s %s %s\n", command, reg1, "", "", comment);
-		//fout.printf("\t%12s %12s %12 %20s %30s%n", command, reg1, "","", comment);
-		fout.format("\t%-12s %-12s  %-12s  %-25s %-30s%n", command, reg1, "", "", comment);
+		try
+		{
+			Assembler asm = new Assembler(inFile, out);
+			asm.timeReport = report;
+			asm.assemble(code);
+		}
+		finally
+		{
+			out.close();
+			
+			if(report != null) {
+				report.finish();
+				System.out.print(report.format(inFile, timeReportTop));
+			}
+		}
 	}
 	
-	public static void outputAssembly2(String command, String reg1, String reg2, String comment)
+	/**
+	* Generates assembly for intermediate code held in memory.  This is the in-process entry point used by
+	* the compiler driver, so no intermediate file or second JVM is needed.  Each call uses its own
+	* {@link Assembler}, so calls from different threads do not interfere.
+	* @param name Input name used in diagnostics.
+	* @param in Intermediate code to translate.
+	* @param out Destination for the generated assembly.  It is flushed but not closed.
+	* @throws IOException This can be thrown from File IO features.
+	* @throws AssemblyError If the intermediate code could not be translated.
+	*/
+	public static void assemble(String name, Reader in, PrintWriter out) throws IOException
 	{
-		if(comment != null && !comment.equals("") && comment.charAt(0) != '#')
-			comment = "# " + comment;
-		
-		fout.format("\t%-12s %-12s, %-12s  %-25s %-30s%n", command, reg1, reg2, "", comment);
+		assemble(name, in, out, null);
 	}
 	
-	public static void outputAssembly3(String command, String reg1, String reg2, String reg3, String comment)
+	/**
+	* Generates assembly for intermediate code held in memory, reusing the assembly of functions found in a cache.
+	* @param name Input name used in diagnostics.
+	* @param in Intermediate code to translate.
+	* @param out Destination for the generated assembly.  It is flushed but not closed.
+	* @param cache Cache of function assembly, or null to assemble everything.
+	* @throws IOException This can be thrown from File IO features.
+	* @throws AssemblyError If the intermediate code could not be translated.
+	*/
+	public static void assemble(String name, Reader in, PrintWriter out, FragmentCache cache) throws IOException
 	{
-		if(comment != null && !comment.equals("") && comment.charAt(0) != '#')
-			comment = "# " + comment;
-		
-		fout.format("\t%-12s %-12s, %-12s, %-25s %-30s%n", command, reg1, reg2, reg3, comment);
+		assemble(name, in, out, cache, null);
 	}
 	
-	public static void outputAssemblyLabel(String label)
+	/**
+	* Generates assembly for intermediate code held in memory, charging the phases and functions to a time report.
+	* @param name Input name used in diagnostics.
+	* @param in Intermediate code to translate.
+	* @param out Destination for the generated assembly.  It is flushed but not closed.
+	* @param cache Cache of function assembly, or null to assemble everything.
+	* @param report Time report of the calling thread, or null.
+	* @throws IOException This can be thrown from File IO features.
+	* @throws AssemblyError If the intermediate code could not be translated.
+	*/
+	public static void assemble(String name, Reader in, PrintWriter out, FragmentCache cache, TimeReport report)
+		throws IOException
 	{
-		fout.println(label);
+		Assembler asm = new Assembler(name, out);
+		asm.cache = cache;
+		asm.timeReport = report;
+		asm.assemble(in);
 	}
-	
-	public static void outputAssemblyComment(String comment)
+
+	/**
+	* Generates assembly for intermediate code the compiler built in memory, so its text is neither written nor
+	* scanned.  The output is the same as for the program's text form.
+	* @param name Input name used in diagnostics.
+	* @param code Intermediate code to translate.
+	* @param out Destination for the generated assembly.  It is flushed but not closed.
+	* @param cache Cache of function assembly, or null to assemble everything.
+	* @param report Time report of the calling thread, or null.
+	* @throws IOException This can be thrown from File IO features.
+	* @throws AssemblyError If the intermediate code could not be translated.
+	*/
+	public static void assemble(String name, IrProgram code, PrintWriter out, FragmentCache cache, TimeReport report)
+		throws IOException
 	{
-		fout.println("# " + comment);
+		Assembler asm = new Assembler(name, out);
+		asm.cache = cache;
+		asm.timeReport = report;
+		asm.assemble(code);
 	}
-	
-	public static void readInput(FileInputStream fin)
+
+	/**
+	* Restores all options to their initial values so another file can be assembled in the same JVM.
+	*/
+	public static void reset()
 	{
-		java.util.Scanner reader = new java.util.Scanner(fin);
-		StringBuilder sb = new StringBuilder();
-		
-		while(reader.hasNextLine())
-			sb.append(reader.nextLine()).append("\n");
-			
-		lines = sb.toString().split("\n");
+		inFile = null;
+		outFile = "output.s";
+		verbose = false;
+		debugLevel = 1;
+		timeReport = false;
+		timeReportTop = 10;
 	}
 	
 	/**
@@ -155,7 +197,7 @@ public class AssemblyDriver
 					System.out.println("No file specified for -o option.  Using default.");
 			}
 			
-			else if(currentToken.contains(".s"))
+			else if(currentToken.contains(".s") || currentToken.equals(SourceText.STDIN))
 			{
 				inFile = currentToken;
 		/*
@@ -175,6 +217,14 @@ public class AssemblyDriver
 			else if(currentToken.equals("--verbose"))
 				verbose = true;
 				
+			else if(currentToken.equals("--time-report"))
+			{
+				timeReport = true;
+				
+				if(cmdParser.hasNextInt())
+					timeReportTop = cmdParser.nextInt();
+			}
+				
 			else if(currentToken.equals("-d"))
 			{
 				if(cmdParser.hasNext("-.*"))
@@ -204,7 +254,9 @@ public class AssemblyDriver
 		System.err.println("Compiler Options\n" +
 		"\t-h, --help           Display this help message.\n" +
 		"\t-o <outputfile>      Sets output file name.\n" +
-		"\t--verbose            Generate verbose output.\n");
+		"\t-                    Read the intermediate code from standard input.\n" +
+		"\t--verbose            Generate verbose output.\n" +
+		"\t--time-report [n]    Print the time spent per phase and in the n slowest functions (default: 10).\n");
 		
 		System.exit(0);
 	}
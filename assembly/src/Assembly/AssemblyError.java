@@ -0,0 +1,14 @@
+package Assembly;
+
+/**
+* Thrown when the assembly generator cannot continue.  The diagnostic has already been printed.
+*/
+public class AssemblyError extends RuntimeException
+{
+	private static final long serialVersionUID = 1L;
+
+	public AssemblyError(String message)
+	{
+		super(message);
+	}
+}
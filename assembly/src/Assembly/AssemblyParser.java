@@ -0,0 +1,297 @@
+package Assembly;
+
+
+  import java.io.StreamTokenizer;
+  import java.io.InputStream;
+  import java.io.InputStreamReader;
+  import java.io.FileInputStream;
+  import java.io.Reader;
+  import java.io.IOException;
+  import java.io.PrintWriter;
+  import Assembly.IrBuilder.Label;
+
+
+/* LALR(1) parser generated from parser.y by a bison compatible table generator. */
+public class AssemblyParser
+{
+	public interface Lexer {
+		int REGISTER = 258;
+		int RETVAL = 259;
+		int INT_LITERAL = 260;
+		int FLOAT_LITERAL = 261;
+		int CHAR_LITERAL = 262;
+		int STRING_LITERAL = 263;
+		int IDENTIFIER = 264;
+		int INSTRUCTION = 265;
+		int LABEL = 266;
+		int COMMENT = 267;
+		int EOL = 268;
+		int EOF = 0;
+		Object getLVal();
+		int yylex() throws java.io.IOException;
+		void yyerror(String s);
+	}
+
+	public static final int REGISTER = Lexer.REGISTER;
+	public static final int RETVAL = Lexer.RETVAL;
+	public static final int INT_LITERAL = Lexer.INT_LITERAL;
+	public static final int FLOAT_LITERAL = Lexer.FLOAT_LITERAL;
+	public static final int CHAR_LITERAL = Lexer.CHAR_LITERAL;
+	public static final int STRING_LITERAL = Lexer.STRING_LITERAL;
+	public static final int IDENTIFIER = Lexer.IDENTIFIER;
+	public static final int INSTRUCTION = Lexer.INSTRUCTION;
+	public static final int LABEL = Lexer.LABEL;
+	public static final int COMMENT = Lexer.COMMENT;
+	public static final int EOL = Lexer.EOL;
+	public static final int EOF = 0;
+
+	public int debugLevel = AssemblyDriver.debugLevel;
+	
+	private Assembler asm = Assembler.current();
+	private IrProgram program = asm.program;
+	
+	/**
+	* Adds an instruction to the program, placed on the line of the text it was read from.
+	* @param line Line number, counting from 0.
+	* @param op The instruction.
+	* @param a1 First operand, see {@link Operand}.
+	* @param a2 Second operand.
+	* @param a3 Third operand.
+	* @param comment Comment of the line, may be empty.
+	*/
+	private void add(int line, Opcode op, long a1, long a2, long a3, String comment) {
+		program.setLine(line);
+		program.add(op, a1, a2, a3, comment);
+	}
+
+
+	private Lexer yylexer;
+	private int yydebug;
+	private java.io.PrintStream yyDebugStream = System.err;
+
+	public AssemblyParser(Lexer yylexer) { this.yylexer = yylexer; }
+	public void setDebugLevel(int level) { yydebug = level; }
+	public int getDebugLevel() { return yydebug; }
+	public void setDebugStream(java.io.PrintStream s) { yyDebugStream = s; }
+	public java.io.PrintStream getDebugStream() { return yyDebugStream; }
+
+	private static final class Stack {
+		int[] states = new int[256];
+		Object[] values = new Object[256];
+		int height = -1;
+		void push(int state, Object value) {
+			if(++height == states.length) {
+				states = java.util.Arrays.copyOf(states, height * 2);
+				values = java.util.Arrays.copyOf(values, height * 2);
+			}
+			states[height] = state;
+			values[height] = value;
+		}
+		void pop(int n) { height -= n; }
+		int stateAt(int i) { return states[height - i]; }
+		Object valueAt(int i) { return values[height - i]; }
+	}
+	private Stack yystack;
+
+	private static final String[] ACTIONS = {
+		"",
+		"0,59999,10,4,11,5,12,6,13,7",
+		"",
+		"3,9,4,10,5,11,6,12,7,13,8,14,9,15,12,16",
+		"12,16",
+		"13,20",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"13,21",
+		"3,9,4,10,5,11,6,12,7,13,8,14,9,15,12,16",
+		"13,24",
+		"",
+		"",
+		"13,25",
+		"3,9,4,10,5,11,6,12,7,13,8,14,9,15,12,16",
+		"",
+		"",
+		"13,28",
+		"12,16",
+		"",
+		"13,30",
+		"",
+	};
+	private static final int[] DEFAULTS = { 2, -1, -1, 17, 17, -1, 3, 1, 10, 11, 12, 13, 14, 15, 16, 18, -1, 17, -1, 4, 6, -1, 17, 5, 7, -1, 17, 8, -1, 9 };
+	private static final int[] RULE_LENGTHS = { 2, 2, 0, 1, 2, 3, 3, 4, 5, 6, 1, 1, 1, 1, 1, 1, 1, 0, 1 };
+	private static final int[] RULE_LHS = { -1, 0, 0, 1, 1, 1, 1, 1, 1, 1, 2, 2, 2, 2, 2, 2, 2, 3, 3 };
+	private static final String[] GOTOS = {
+		"0,1",
+		"1,7",
+		"3,17,17,22,22,26",
+		"3,16,4,18,17,21,22,25,26,28",
+	};
+	private static final String[] TOKEN_NAMES = { "$end", "error", "$undefined", "REGISTER", "RETVAL", "INT_LITERAL", "FLOAT_LITERAL", "CHAR_LITERAL", "STRING_LITERAL", "IDENTIFIER", "INSTRUCTION", "LABEL", "COMMENT", "EOL" };
+
+	private static int tokenNumber(int token) {
+		return (token <= 0) ? 0 : (token >= 258 && token - 255 < TOKEN_NAMES.length) ? token - 255 : 2;
+	}
+
+	private static int[][] decode(String[] rows) {
+		int[][] t = new int[rows.length][];
+		for(int i = 0; i < rows.length; i++) {
+			String[] f = rows[i].isEmpty() ? new String[0] : rows[i].split(",");
+			t[i] = new int[f.length];
+			for(int j = 0; j < f.length; j++)
+				t[i][j] = Integer.parseInt(f[j]);
+		}
+		return t;
+	}
+	private static final int[][] ACTION_TABLE = decode(ACTIONS);
+	private static final int[][] GOTO_TABLE = decode(GOTOS);
+
+	private int action(int state, int token) {
+		int[] row = ACTION_TABLE[state];
+		for(int i = 0; i < row.length; i += 2)
+			if(row[i] == token) {
+				int v = row[i + 1];
+				return (v >= 30000) ? v - 60000 : v;
+			}
+		return 0;
+	}
+
+	private int gotoState(int state, int lhs) {
+		int[] row = GOTO_TABLE[lhs];
+		for(int i = 0; i < row.length; i += 2)
+			if(row[i] == state)
+				return row[i + 1];
+		throw new IllegalStateException("no goto");
+	}
+
+	public boolean parse() throws java.io.IOException {
+		yystack = new Stack();
+		yystack.push(0, null);
+		int token = -1;
+		Object lval = null;
+		while(true) {
+			int state = yystack.stateAt(0);
+			int rule;
+			if(ACTION_TABLE[state].length == 0 && DEFAULTS[state] >= 0)
+				rule = DEFAULTS[state];
+			else {
+				if(token < 0) {
+					token = tokenNumber(yylexer.yylex());
+					lval = yylexer.getLVal();
+					if(yydebug > 0)
+						yyDebugStream.println("Next token is " + TOKEN_NAMES[token]);
+				}
+				int a = action(state, token);
+				if(a == -1)
+					return true;
+				if(a > 0) {
+					if(yydebug > 0)
+						yyDebugStream.println("Shifting token " + TOKEN_NAMES[token]);
+					yystack.push(a - 1, lval);
+					token = -1;
+					continue;
+				}
+				if(a < -1)
+					rule = -a - 2;
+				else if(DEFAULTS[state] >= 0)
+					rule = DEFAULTS[state];
+				else {
+					yylexer.yyerror("syntax error, unexpected " + TOKEN_NAMES[token]);
+					return false;
+				}
+			}
+			int len = RULE_LENGTHS[rule];
+			Object yyval = yystack.valueAt((len > 0) ? len - 1 : 0);
+			if(yydebug > 0)
+				yyDebugStream.println("Reducing stack by rule " + rule);
+			yyval = yyaction(rule, yyval);
+			yystack.pop(len);
+			yystack.push(gotoState(yystack.stateAt(0), RULE_LHS[rule]), yyval);
+		}
+	}
+
+	private Object yyaction(int rule, Object yyval) throws java.io.IOException {
+		switch(rule) {
+			case 1: return yyrule1(yyval);
+			case 3: return yyrule3(yyval);
+			case 4: return yyrule4(yyval);
+			case 5: return yyrule5(yyval);
+			case 6: return yyrule6(yyval);
+			case 7: return yyrule7(yyval);
+			case 8: return yyrule8(yyval);
+			case 9: return yyrule9(yyval);
+			case 17: return yyrule17(yyval);
+		}
+		return yyval;
+	}
+
+	private Object yyrule1(Object yyval) throws java.io.IOException {
+		{ }
+		return yyval;
+	}
+
+	private Object yyrule3(Object yyval) throws java.io.IOException {
+		{
+	}
+		return yyval;
+	}
+
+	private Object yyrule4(Object yyval) throws java.io.IOException {
+		{
+		program.setLine(((Integer)(yystack.valueAt(2 - (2)))));
+		program.addComment(((String)(yystack.valueAt(2 - (1)))));
+	}
+		return yyval;
+	}
+
+	private Object yyrule5(Object yyval) throws java.io.IOException {
+		{
+		program.setLine(((Integer)(yystack.valueAt(3 - (3)))));
+		program.addLabel(((Label)(yystack.valueAt(3 - (1)))));
+	}
+		return yyval;
+	}
+
+	private Object yyrule6(Object yyval) throws java.io.IOException {
+		{
+		add(((Integer)(yystack.valueAt(3 - (3)))), ((Opcode)(yystack.valueAt(3 - (1)))), Operand.EMPTY, Operand.EMPTY, Operand.EMPTY, ((String)(yystack.valueAt(3 - (2)))));
+	}
+		return yyval;
+	}
+
+	private Object yyrule7(Object yyval) throws java.io.IOException {
+		{
+		add(((Integer)(yystack.valueAt(4 - (4)))), ((Opcode)(yystack.valueAt(4 - (1)))), ((Long)(yystack.valueAt(4 - (2)))), Operand.EMPTY, Operand.EMPTY, ((String)(yystack.valueAt(4 - (3)))));
+	}
+		return yyval;
+	}
+
+	private Object yyrule8(Object yyval) throws java.io.IOException {
+		{
+		add(((Integer)(yystack.valueAt(5 - (5)))), ((Opcode)(yystack.valueAt(5 - (1)))), ((Long)(yystack.valueAt(5 - (2)))), ((Long)(yystack.valueAt(5 - (3)))), Operand.EMPTY, ((String)(yystack.valueAt(5 - (4)))));
+	}
+		return yyval;
+	}
+
+	private Object yyrule9(Object yyval) throws java.io.IOException {
+		{
+		add(((Integer)(yystack.valueAt(6 - (6)))), ((Opcode)(yystack.valueAt(6 - (1)))), ((Long)(yystack.valueAt(6 - (2)))), ((Long)(yystack.valueAt(6 - (3)))), ((Long)(yystack.valueAt(6 - (4)))), ((String)(yystack.valueAt(6 - (5)))));
+	}
+		return yyval;
+	}
+
+	private Object yyrule17(Object yyval) throws java.io.IOException {
+		{
+		yyval = "";
+	}
+		return yyval;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,865 @@
+/* The following code was generated by JFlex 1.4.3 on 10/17/26, 7:19 AM */
+
+package Assembly;
+
+import java.io.*;
+
+
+/**
+ * This class is a scanner generated by 
+ * <a href="http://www.jflex.de/">JFlex</a> 1.4.3
+ * on 10/17/26, 7:19 AM from the specification file
+ * <tt>/root/project/assembly/AssemblyScanner.lex</tt>
+ */
+public class AssemblyScanner implements AssemblyParser.Lexer {
+
+  /** This character denotes the end of file */
+  public static final int YYEOF = -1;
+
+  /** initial size of the lookahead buffer */
+  private static final int ZZ_BUFFERSIZE = 16384;
+
+  /** lexical states */
+  public static final int YYINITIAL = 0;
+
+  /**
+   * ZZ_LEXSTATE[l] is the state in the DFA for the lexical state l
+   * ZZ_LEXSTATE[l+1] is the state in the DFA for the lexical state l
+   *                  at the beginning of a line
+   * l is of the form l = 2*k, k a non negative integer
+   */
+  private static final int ZZ_LEXSTATE[] = { 
+     0, 0
+  };
+
+  /** 
+   * Translates characters to character classes
+   */
+  private static final String ZZ_CMAP_PACKED = 
+    "\11\0\1\1\1\7\25\0\1\1\1\0\1\11\1\26\3\0\1\5"+
+    "\1\22\1\24\4\0\1\10\1\0\12\2\1\25\6\0\13\3\1\4"+
+    "\16\3\1\0\1\6\2\0\1\14\1\0\4\3\1\16\1\12\2\3"+
+    "\1\13\3\3\1\20\1\3\1\23\1\21\1\3\1\15\1\3\1\17"+
+    "\6\3\uff85\0";
+
+  /** 
+   * Translates characters to character classes
+   */
+  private static final char [] ZZ_CMAP = zzUnpackCMap(ZZ_CMAP_PACKED);
+
+  /** 
+   * Translates DFA states to action switch labels.
+   */
+  private static final int [] ZZ_ACTION = zzUnpackAction();
+
+  private static final String ZZ_ACTION_PACKED_0 =
+    "\1\0\1\1\1\2\1\3\2\4\1\1\1\5\1\1"+
+    "\1\4\1\6\2\0\2\4\1\7\5\0\1\10\1\4"+
+    "\1\11\1\0\1\4\1\12\1\4\1\0\2\4\1\0"+
+    "\1\4\1\13\1\14\1\4\1\15";
+
+  private static int [] zzUnpackAction() {
+    int [] result = new int[37];
+    int offset = 0;
+    offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackAction(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      do result[j++] = value; while (--count > 0);
+    }
+    return j;
+  }
+
+
+  /** 
+   * Translates a state to a row index in the transition table
+   */
+  private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
+
+  private static final String ZZ_ROWMAP_PACKED_0 =
+    "\0\0\0\27\0\56\0\105\0\134\0\163\0\212\0\27"+
+    "\0\241\0\270\0\317\0\346\0\375\0\u0114\0\u012b\0\27"+
+    "\0\212\0\241\0\u0142\0\u0159\0\u0170\0\27\0\u0187\0\346"+
+    "\0\u019e\0\u01b5\0\27\0\u01cc\0\u01e3\0\u01fa\0\u0211\0\u0228"+
+    "\0\u023f\0\u0114\0\27\0\u0256\0\u0256";
+
+  private static int [] zzUnpackRowMap() {
+    int [] result = new int[37];
+    int offset = 0;
+    offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackRowMap(String packed, int offset, int [] result) {
+    int i = 0;  /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int high = packed.charAt(i++) << 16;
+      result[j++] = high | packed.charAt(i++);
+    }
+    return j;
+  }
+
+  /** 
+   * The transition table of the DFA
+   */
+  private static final int ZZ_TRANS [] = {
+    1, 2, 3, 4, 5, 6, 1, 7, 1, 8, 
+    9, 9, 4, 4, 4, 4, 4, 4, 1, 4, 
+    1, 1, 10, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, 2, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, 3, -1, -1, -1, -1, -1, 11, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, 12, -1, -1, 
+    -1, -1, -1, -1, 13, 13, 13, -1, -1, -1, 
+    -1, -1, 13, 13, 14, 13, 13, 13, 13, 13, 
+    -1, 13, -1, 15, -1, -1, -1, 13, 13, 13, 
+    16, -1, -1, -1, 17, 13, 13, 14, 13, 13, 
+    13, 13, 13, -1, 13, -1, 15, -1, 18, 18, 
+    18, 18, 18, -1, 19, 18, 18, 18, 18, 18, 
+    18, 18, 18, 18, 18, 18, 18, 18, 18, 18, 
+    18, 17, 17, 17, 17, 17, 17, 20, -1, 17, 
+    21, 17, 17, 17, 17, 17, 17, 17, 17, 17, 
+    17, 17, 17, 17, -1, -1, 13, 13, 13, -1, 
+    -1, -1, -1, -1, 13, 13, 22, 13, 13, 13, 
+    13, 13, -1, 13, -1, 15, -1, 10, 10, 10, 
+    10, 10, 10, 10, -1, 10, 10, 10, 10, 10, 
+    10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 
+    -1, -1, 23, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, 24, -1, -1, -1, -1, -1, 13, 13, 
+    13, -1, -1, -1, -1, -1, 13, 13, 13, 13, 
+    13, 13, 13, 13, -1, 13, -1, 15, -1, -1, 
+    -1, 13, 13, 13, -1, -1, -1, -1, -1, 13, 
+    13, 13, 13, 13, 25, 13, 13, -1, 13, -1, 
+    15, -1, 18, 18, 18, 18, 18, 26, 19, 18, 
+    18, 18, 18, 18, 18, 18, 18, 18, 18, 18, 
+    18, 18, 18, 18, 18, 18, 18, 18, 18, 18, 
+    18, 18, -1, 18, 18, 18, 18, 18, 18, 18, 
+    18, 18, 18, 18, 18, 18, 18, 18, -1, -1, 
+    -1, -1, -1, -1, -1, 17, 17, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, 13, 13, 13, -1, -1, -1, -1, 
+    -1, 13, 13, 13, 27, 13, 25, 13, 13, -1, 
+    13, -1, 15, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 28, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 13, 
+    13, 13, -1, -1, -1, -1, -1, 13, 13, 13, 
+    13, 29, 13, 13, 13, -1, 13, -1, 15, -1, 
+    -1, -1, 13, 13, 13, -1, -1, -1, -1, -1, 
+    13, 13, 13, 13, 30, 13, 13, 13, -1, 13, 
+    -1, 15, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, 31, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, 13, 13, 
+    13, -1, -1, -1, -1, -1, 13, 13, 13, 13, 
+    13, 13, 32, 13, -1, 13, -1, 15, -1, -1, 
+    -1, 13, 13, 13, -1, -1, -1, -1, -1, 13, 
+    13, 13, 13, 13, 33, 13, 13, -1, 13, -1, 
+    15, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, 34, -1, -1, -1, -1, 13, 13, 13, 
+    -1, -1, -1, -1, -1, 13, 13, 13, 13, 13, 
+    13, 13, 35, -1, 13, -1, 15, -1, -1, -1, 
+    36, 13, 13, -1, -1, -1, -1, -1, 13, 13, 
+    13, 13, 13, 13, 13, 13, -1, 13, -1, 15, 
+    -1, 
+  };
+
+  /* error codes */
+  private static final int ZZ_UNKNOWN_ERROR = 0;
+  private static final int ZZ_NO_MATCH = 1;
+  private static final int ZZ_PUSHBACK_2BIG = 2;
+
+  /* error messages for the codes above */
+  private static final String ZZ_ERROR_MSG[] = {
+    "Unkown internal scanner error",
+    "Error: could not match input",
+    "Error: pushback value was too large"
+  };
+
+  /**
+   * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+   */
+  private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
+
+  private static final String ZZ_ATTRIBUTE_PACKED_0 =
+    "\1\0\1\11\5\1\1\11\3\1\2\0\2\1\1\11"+
+    "\5\0\1\11\2\1\1\0\1\1\1\11\1\1\1\0"+
+    "\2\1\1\0\2\1\1\11\2\1";
+
+  private static int [] zzUnpackAttribute() {
+    int [] result = new int[37];
+    int offset = 0;
+    offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackAttribute(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      do result[j++] = value; while (--count > 0);
+    }
+    return j;
+  }
+
+  /** the input device */
+  private java.io.Reader zzReader;
+
+  /** the current state of the DFA */
+  private int zzState;
+
+  /** the current lexical state */
+  private int zzLexicalState = YYINITIAL;
+
+  /** this buffer contains the current text to be matched and is
+      the source of the yytext() string */
+  private char zzBuffer[] = new char[ZZ_BUFFERSIZE];
+
+  /** the textposition at the last accepting state */
+  private int zzMarkedPos;
+
+  /** the current text position in the buffer */
+  private int zzCurrentPos;
+
+  /** startRead marks the beginning of the yytext() string in the buffer */
+  private int zzStartRead;
+
+  /** endRead marks the last character in the buffer, that has been read
+      from input */
+  private int zzEndRead;
+
+  /** number of newlines encountered up to the start of the matched text */
+  private int yyline;
+
+  /** the number of characters up to the start of the matched text */
+  private int yychar;
+
+  /**
+   * the number of characters from the last newline up to the start of the 
+   * matched text
+   */
+  private int yycolumn;
+
+  /** 
+   * zzAtBOL == true <=> the scanner is currently at the beginning of a line
+   */
+  private boolean zzAtBOL = true;
+
+  /** zzAtEOF == true <=> the scanner is at the EOF */
+  private boolean zzAtEOF;
+
+  /** denotes if the user-EOF-code has already been executed */
+  private boolean zzEOFDone;
+
+  /* user code: */
+	/**	Assembler this scanner belongs to.	*/
+	private Assembler asm = Assembler.current();
+	/**	Phase timings for --time-report, or null.	*/
+	private TimeReport timeReport = asm.timeReport;
+	/**	Program the parser builds, which makes the operands.	*/
+	private IrProgram program = asm.program;
+	/**	Whether a token was returned since the last line break.	*/
+	private boolean open = false;
+	
+	protected Object yylval;
+	
+	/**
+	* Returns the next token, charging the time to the scanner when --time-report is on.  A last line without a
+	* line break still ends with EOL, like the others.
+	* @return The token.
+	* @throws IOException This can be thrown from File IO features.
+	*/
+	public int yylex() throws IOException {
+		int token;
+		if(timeReport == null)
+			token = scanToken();
+		else {
+			timeReport.enter("assembly scanner");
+			try {
+				token = scanToken();
+			} finally {
+				timeReport.leave();
+			}
+		}
+		if(token == 0 && open) {
+			token = AssemblyParser.EOL;
+			yylval = Integer.valueOf(yyline);
+		}
+		open = (token != 0 && token != AssemblyParser.EOL);
+		return token;
+	}
+	
+	/**
+	* Getter function to return yylval.
+	* @return A pointer to yylval.
+	*/
+	public Object getLVal() {
+		return yylval;
+	}
+	
+	/**
+	* Prints an error message to stderr including line number and column number.
+	* Also prints the current line with a reference to where the error occured.
+	* @param errorMessage The message to be displayed describing the error.
+	*/
+	public void yyerror(String errorMessage) {
+		String text = asm.lines.line(yyline);
+		int count = indentation(text);
+		asm.err.println(asm.inFile + ": error on line " + String.valueOf(yyline+1) + " column " + String.valueOf(yycolumn+1));
+		asm.err.println(text.trim());
+		errorMessage = errorMessage.substring(errorMessage.indexOf(",")+1);
+		for(int i = 0; i <= yycolumn - count - 1; i++)
+			asm.err.print(' ');
+		asm.err.println("^ " + errorMessage);
+		asm.err.println("\nfatal error. compilation terminated");
+		throw new AssemblyError(errorMessage);
+	}
+	
+	/**
+	* Prints a warning message to stderr including line number and column number.
+	* Also prints the current line with a reference to where the warning occured.
+	* @param warningMessage The message to be displayed describing the error.
+	*/
+	public void yywarning(String warningMessage) {
+		String text = asm.lines.line(yyline);
+		int count = indentation(text);
+		asm.err.println(asm.inFile + ": warning on line " + String.valueOf(yyline+1) + " column " + String.valueOf(yycolumn+1));
+		asm.err.println(text.trim());
+		for(int i = 0; i <= yycolumn - count - 1; i++)
+			asm.err.print(' ');			
+		asm.err.println("^ " + warningMessage + "\n");
+	}
+	
+	/**
+	* Makes the operand of a temporary: i_temp, f_temp, c_temp or s_temp and its number.
+	* @param name The temporary as written.
+	* @return A register operand, or a TEXT operand for a prefix the assembler has no registers for.
+	*/
+	private long register(String name) {
+		int number = Integer.parseInt(name.substring(name.indexOf("_temp") + 5));
+		switch(name.charAt(0)) {
+			case 'i':	return Operand.of(Operand.INT_REGISTER, number);
+			case 'f':	return Operand.of(Operand.FLOAT_REGISTER, number);
+			case 'c':	return Operand.of(Operand.CHAR_REGISTER, number);
+			case 's':	return Operand.of(Operand.STRING_REGISTER, number);
+			default:	return program.placeholder(name);
+		}
+	}
+	
+	/**
+	* Returns the label a name stands for.  LABEL&lt;n&gt; is the numbered label the code generator made, so the
+	* function cache renumbers it like the labels of code built in memory.
+	* @param name Label name.
+	* @return The label.
+	*/
+	private IrBuilder.Label label(String name) {
+		if(name.matches("LABEL[0-9]{1,9}"))
+			return program.label(Integer.parseInt(name.substring(5)));
+		return program.label(name);
+	}
+	
+	/**
+	* Makes the operand of an identifier: a numbered label, or a name such as a function's.
+	* @param name The identifier.
+	* @return A LABEL or NAME operand.
+	*/
+	private long identifier(String name) {
+		if(name.matches("LABEL[0-9]{1,9}"))
+			return label(name).operand();
+		return program.name(name);
+	}
+	
+	/**
+	* Returns what a literal holds between its quotes, without an L prefix.
+	* @param literal The literal as written.
+	* @param quote The quote character.
+	* @return The text between the quotes.
+	*/
+	private static String unquote(String literal, char quote) {
+		return literal.substring(literal.indexOf(quote) + 1, literal.length() - 1);
+	}
+	
+	/**
+	* Returns the text of a comment the way the code generator passed it, without the '#', the space after it
+	* and the padding to the comment column.
+	* @param text The comment as written.
+	* @return The comment text.
+	*/
+	private static String comment(String text) {
+		int start = (text.length() > 1 && text.charAt(1) == ' ') ? 2 : 1;
+		int end = text.length();
+		while(end > start && Character.isWhitespace(text.charAt(end - 1)))
+			end--;
+		return text.substring(start, end);
+	}
+	
+	/**
+	* Counts the leading white space of a line, tabs counting as 4.
+	* @param line The line.
+	* @return The column of the first character that is not white space.
+	*/
+	private static int indentation(String line) {
+		int count = 0;
+		for(int i = 0; i < line.length(); i++) {
+			if(line.charAt(i) == ' ') {
+				count++;
+			} else if(line.charAt(i) == '\t') {
+				count += 4;
+			} else
+				break;
+		}
+		return count;
+	}
+
+
+  /**
+   * Creates a new scanner
+   * There is also a java.io.InputStream version of this constructor.
+   *
+   * @param   in  the java.io.Reader to read input from.
+   */
+  public AssemblyScanner(java.io.Reader in) {
+    this.zzReader = in;
+  }
+
+  /**
+   * Creates a new scanner.
+   * There is also java.io.Reader version of this constructor.
+   *
+   * @param   in  the java.io.Inputstream to read input from.
+   */
+  public AssemblyScanner(java.io.InputStream in) {
+    this(new java.io.InputStreamReader(in));
+  }
+
+  /** 
+   * Unpacks the compressed character translation table.
+   *
+   * @param packed   the packed character translation table
+   * @return         the unpacked character translation table
+   */
+  private static char [] zzUnpackCMap(String packed) {
+    char [] map = new char[0x10000];
+    int i = 0;  /* index in packed string  */
+    int j = 0;  /* index in unpacked array */
+    while (i < 84) {
+      int  count = packed.charAt(i++);
+      char value = packed.charAt(i++);
+      do map[j++] = value; while (--count > 0);
+    }
+    return map;
+  }
+
+
+  /**
+   * Refills the input buffer.
+   *
+   * @return      <code>false</code>, iff there was new input.
+   * 
+   * @exception   java.io.IOException  if any I/O-Error occurs
+   */
+  private boolean zzRefill() throws java.io.IOException {
+
+    /* first: make room (if you can) */
+    if (zzStartRead > 0) {
+      System.arraycopy(zzBuffer, zzStartRead,
+                       zzBuffer, 0,
+                       zzEndRead-zzStartRead);
+
+      /* translate stored positions */
+      zzEndRead-= zzStartRead;
+      zzCurrentPos-= zzStartRead;
+      zzMarkedPos-= zzStartRead;
+      zzStartRead = 0;
+    }
+
+    /* is the buffer big enough? */
+    if (zzCurrentPos >= zzBuffer.length) {
+      /* if not: blow it up */
+      char newBuffer[] = new char[zzCurrentPos*2];
+      System.arraycopy(zzBuffer, 0, newBuffer, 0, zzBuffer.length);
+      zzBuffer = newBuffer;
+    }
+
+    /* finally: fill the buffer with new input */
+    int numRead = zzReader.read(zzBuffer, zzEndRead,
+                                            zzBuffer.length-zzEndRead);
+
+    if (numRead > 0) {
+      zzEndRead+= numRead;
+      return false;
+    }
+    // unlikely but not impossible: read 0 characters, but not at end of stream    
+    if (numRead == 0) {
+      int c = zzReader.read();
+      if (c == -1) {
+        return true;
+      } else {
+        zzBuffer[zzEndRead++] = (char) c;
+        return false;
+      }     
+    }
+
+	// numRead < 0
+    return true;
+  }
+
+    
+  /**
+   * Closes the input stream.
+   */
+  public final void yyclose() throws java.io.IOException {
+    zzAtEOF = true;            /* indicate end of file */
+    zzEndRead = zzStartRead;  /* invalidate buffer    */
+
+    if (zzReader != null)
+      zzReader.close();
+  }
+
+
+  /**
+   * Resets the scanner to read from a new input stream.
+   * Does not close the old reader.
+   *
+   * All internal variables are reset, the old input stream 
+   * <b>cannot</b> be reused (internal buffer is discarded and lost).
+   * Lexical state is set to <tt>ZZ_INITIAL</tt>.
+   *
+   * @param reader   the new input stream 
+   */
+  public final void yyreset(java.io.Reader reader) {
+    zzReader = reader;
+    zzAtBOL  = true;
+    zzAtEOF  = false;
+    zzEOFDone = false;
+    zzEndRead = zzStartRead = 0;
+    zzCurrentPos = zzMarkedPos = 0;
+    yyline = yychar = yycolumn = 0;
+    zzLexicalState = YYINITIAL;
+  }
+
+
+  /**
+   * Returns the current lexical state.
+   */
+  public final int yystate() {
+    return zzLexicalState;
+  }
+
+
+  /**
+   * Enters a new lexical state
+   *
+   * @param newState the new lexical state
+   */
+  public final void yybegin(int newState) {
+    zzLexicalState = newState;
+  }
+
+
+  /**
+   * Returns the text matched by the current regular expression.
+   */
+  public final String yytext() {
+    return new String( zzBuffer, zzStartRead, zzMarkedPos-zzStartRead );
+  }
+
+
+  /**
+   * Returns the character at position <tt>pos</tt> from the 
+   * matched text. 
+   * 
+   * It is equivalent to yytext().charAt(pos), but faster
+   *
+   * @param pos the position of the character to fetch. 
+   *            A value from 0 to yylength()-1.
+   *
+   * @return the character at position pos
+   */
+  public final char yycharat(int pos) {
+    return zzBuffer[zzStartRead+pos];
+  }
+
+
+  /**
+   * Returns the length of the matched text region.
+   */
+  public final int yylength() {
+    return zzMarkedPos-zzStartRead;
+  }
+
+
+  /**
+   * Reports an error that occured while scanning.
+   *
+   * In a wellformed scanner (no or only correct usage of 
+   * yypushback(int) and a match-all fallback rule) this method 
+   * will only be called with things that "Can't Possibly Happen".
+   * If this method is called, something is seriously wrong
+   * (e.g. a JFlex bug producing a faulty scanner etc.).
+   *
+   * Usual syntax/scanner level error handling should be done
+   * in error fallback rules.
+   *
+   * @param   errorCode  the code of the errormessage to display
+   */
+  private void zzScanError(int errorCode) {
+    String message;
+    try {
+      message = ZZ_ERROR_MSG[errorCode];
+    }
+    catch (ArrayIndexOutOfBoundsException e) {
+      message = ZZ_ERROR_MSG[ZZ_UNKNOWN_ERROR];
+    }
+
+    throw new Error(message);
+  } 
+
+
+  /**
+   * Pushes the specified amount of characters back into the input stream.
+   *
+   * They will be read again by then next call of the scanning method
+   *
+   * @param number  the number of characters to be read again.
+   *                This number must not be greater than yylength()!
+   */
+  public void yypushback(int number)  {
+    if ( number > yylength() )
+      zzScanError(ZZ_PUSHBACK_2BIG);
+
+    zzMarkedPos -= number;
+  }
+
+
+  /**
+   * Contains user EOF-code, which will be executed exactly once,
+   * when the end of file is reached
+   */
+  private void zzDoEOF() throws java.io.IOException {
+    if (!zzEOFDone) {
+      zzEOFDone = true;
+      yyclose();
+    }
+  }
+
+
+  /**
+   * Resumes scanning until the next regular expression is matched,
+   * the end of input is encountered or an I/O-Error occurs.
+   *
+   * @return      the next token
+   * @exception   java.io.IOException  if any I/O-Error occurs
+   */
+  public int scanToken() throws java.io.IOException {
+    int zzInput;
+    int zzAction;
+
+    // cached fields:
+    int zzCurrentPosL;
+    int zzMarkedPosL;
+    int zzEndReadL = zzEndRead;
+    char [] zzBufferL = zzBuffer;
+    char [] zzCMapL = ZZ_CMAP;
+
+    int [] zzTransL = ZZ_TRANS;
+    int [] zzRowMapL = ZZ_ROWMAP;
+    int [] zzAttrL = ZZ_ATTRIBUTE;
+
+    while (true) {
+      zzMarkedPosL = zzMarkedPos;
+
+      yychar+= zzMarkedPosL-zzStartRead;
+
+      boolean zzR = false;
+      for (zzCurrentPosL = zzStartRead; zzCurrentPosL < zzMarkedPosL;
+                                                             zzCurrentPosL++) {
+        switch (zzBufferL[zzCurrentPosL]) {
+        case '\u000B':
+        case '\u000C':
+        case '\u0085':
+        case '\u2028':
+        case '\u2029':
+          yyline++;
+          yycolumn = 0;
+          zzR = false;
+          break;
+        case '\r':
+          yyline++;
+          yycolumn = 0;
+          zzR = true;
+          break;
+        case '\n':
+          if (zzR)
+            zzR = false;
+          else {
+            yyline++;
+            yycolumn = 0;
+          }
+          break;
+        default:
+          zzR = false;
+          yycolumn++;
+        }
+      }
+
+      if (zzR) {
+        // peek one character ahead if it is \n (if we have counted one line too much)
+        boolean zzPeek;
+        if (zzMarkedPosL < zzEndReadL)
+          zzPeek = zzBufferL[zzMarkedPosL] == '\n';
+        else if (zzAtEOF)
+          zzPeek = false;
+        else {
+          boolean eof = zzRefill();
+          zzEndReadL = zzEndRead;
+          zzMarkedPosL = zzMarkedPos;
+          zzBufferL = zzBuffer;
+          if (eof) 
+            zzPeek = false;
+          else 
+            zzPeek = zzBufferL[zzMarkedPosL] == '\n';
+        }
+        if (zzPeek) yyline--;
+      }
+      zzAction = -1;
+
+      zzCurrentPosL = zzCurrentPos = zzStartRead = zzMarkedPosL;
+  
+      zzState = ZZ_LEXSTATE[zzLexicalState];
+
+
+      zzForAction: {
+        while (true) {
+    
+          if (zzCurrentPosL < zzEndReadL)
+            zzInput = zzBufferL[zzCurrentPosL++];
+          else if (zzAtEOF) {
+            zzInput = YYEOF;
+            break zzForAction;
+          }
+          else {
+            // store back cached positions
+            zzCurrentPos  = zzCurrentPosL;
+            zzMarkedPos   = zzMarkedPosL;
+            boolean eof = zzRefill();
+            // get translated positions and possibly new buffer
+            zzCurrentPosL  = zzCurrentPos;
+            zzMarkedPosL   = zzMarkedPos;
+            zzBufferL      = zzBuffer;
+            zzEndReadL     = zzEndRead;
+            if (eof) {
+              zzInput = YYEOF;
+              break zzForAction;
+            }
+            else {
+              zzInput = zzBufferL[zzCurrentPosL++];
+            }
+          }
+          int zzNext = zzTransL[ zzRowMapL[zzState] + zzCMapL[zzInput] ];
+          if (zzNext == -1) break zzForAction;
+          zzState = zzNext;
+
+          int zzAttributes = zzAttrL[zzState];
+          if ( (zzAttributes & 1) == 1 ) {
+            zzAction = zzState;
+            zzMarkedPosL = zzCurrentPosL;
+            if ( (zzAttributes & 8) == 8 ) break zzForAction;
+          }
+
+        }
+      }
+
+      // store back cached position
+      zzMarkedPos = zzMarkedPosL;
+
+      switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
+        case 2: 
+          { /* No action taken */
+          }
+        case 14: break;
+        case 3: 
+          { yylval = (yylength() < 19) ? program.immediate(Long.parseLong(yytext())) : program.placeholder(yytext()); return AssemblyParser.INT_LITERAL;
+          }
+        case 15: break;
+        case 11: 
+          { yylval = Operand.of(Operand.RETURN_VALUE, (yycharat(0) == 'i') ? 0 : 1); return AssemblyParser.RETVAL;
+          }
+        case 16: break;
+        case 9: 
+          { yylval = program.floatLiteral(yytext()); return AssemblyParser.FLOAT_LITERAL;
+          }
+        case 17: break;
+        case 1: 
+          { yyerror("unkown token " + yytext());
+          }
+        case 18: break;
+        case 5: 
+          { asm.lines.indexTo(yychar + 1); yylval = Integer.valueOf(yyline); return AssemblyParser.EOL;
+          }
+        case 19: break;
+        case 12: 
+          { yylval = Operand.of(Operand.FRAME, Integer.parseInt(yytext().substring(0, yylength() - 5))); return AssemblyParser.REGISTER;
+          }
+        case 20: break;
+        case 8: 
+          { yylval = program.stringLiteral(unquote(yytext(), '"')); return AssemblyParser.STRING_LITERAL;
+          }
+        case 21: break;
+        case 13: 
+          { yylval = register(yytext()); return AssemblyParser.REGISTER;
+          }
+        case 22: break;
+        case 7: 
+          { yylval = label(yytext().substring(0, yylength() - 1)); return AssemblyParser.LABEL;
+          }
+        case 23: break;
+        case 10: 
+          { yylval = program.charLiteral(unquote(yytext(), '\'')); return AssemblyParser.CHAR_LITERAL;
+          }
+        case 24: break;
+        case 6: 
+          { yylval = comment(yytext()); return AssemblyParser.COMMENT;
+          }
+        case 25: break;
+        case 4: 
+          { Opcode op = Opcode.of(yytext());
+						if(op != null) {
+							yylval = op;
+							return AssemblyParser.INSTRUCTION;
+						}
+						yylval = identifier(yytext());
+						return AssemblyParser.IDENTIFIER;
+          }
+        case 26: break;
+        default: 
+          if (zzInput == YYEOF && zzStartRead == zzCurrentPos) {
+            zzAtEOF = true;
+            zzDoEOF();
+              { return 0; }
+          } 
+          else {
+            zzScanError(ZZ_NO_MATCH);
+          }
+      }
+    }
+  }
+
+
+}
@@ -0,0 +1,29 @@
+package Assembly;
+
+/**
+* Store for generated code of single functions, used for incremental compilation.
+* Entries are plain text looked up by a hex digest; an implementation may keep them on disk between runs.
+*/
+public interface FragmentCache
+{
+	/** Kind of entries holding intermediate code.		*/
+	public static final String CODE = "3ac";
+	/** Kind of entries holding assembly.				*/
+	public static final String ASSEMBLY = "asm";
+
+	/**
+	* Looks up an entry.
+	* @param kind Kind of entry, {@link #CODE} or {@link #ASSEMBLY}.
+	* @param key Digest identifying the entry.
+	* @return The stored text, or null on a miss.
+	*/
+	public String load(String kind, String key);
+
+	/**
+	* Stores an entry, replacing any previous one with the same key.
+	* @param kind Kind of entry, {@link #CODE} or {@link #ASSEMBLY}.
+	* @param key Digest identifying the entry.
+	* @param value Text to store.
+	*/
+	public void store(String kind, String key, String value);
+}
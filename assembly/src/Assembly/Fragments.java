@@ -0,0 +1,250 @@
+package Assembly;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+* Helpers for caching the code of single functions.<br/>
+* Labels and temporaries are numbered across the whole file (LABEL7, i_temp12, ...), so the same function
+* gets different numbers when the code in front of it changes.  Cached fragments are therefore stored with
+* every number made relative to the function's first one and shifted back when they are reused.
+* Text inside string literals and comments is never renumbered.
+*/
+public class Fragments
+{
+	/** Name prefixes of the numbered names, in the order used by all count arrays.		*/
+	public static final String[] PREFIXES = { "LABEL", "i_temp", "f_temp", "c_temp", "s_temp" };
+
+	/**
+	* Adds an offset to every numbered name.
+	* @param code Intermediate code, assembly or register state.
+	* @param delta Offset for each entry of {@link #PREFIXES}.
+	* @return The renumbered text.
+	*/
+	public static String shift(String code, int[] delta)
+	{
+		return renumber(code, delta, null);
+	}
+
+	/**
+	* Finds the lowest number used by each kind of name, which is the first one the function allocated.
+	* @param code Intermediate code of one function.
+	* @return Lowest number for each entry of {@link #PREFIXES}, 0 for kinds that do not appear.
+	*/
+	public static int[] base(String code)
+	{
+		int[] minimum = new int[PREFIXES.length];
+
+		for(int i = 0; i < minimum.length; i++)
+			minimum[i] = Integer.MAX_VALUE;
+
+		renumber(code, new int[PREFIXES.length], minimum);
+
+		for(int i = 0; i < minimum.length; i++)
+			if(minimum[i] == Integer.MAX_VALUE)
+				minimum[i] = 0;
+
+		return minimum;
+	}
+
+	/**
+	* Negates every entry of a count array.
+	* @param values Array to negate.
+	* @return A new array.
+	*/
+	public static int[] negate(int[] values)
+	{
+		int[] ret = new int[values.length];
+
+		for(int i = 0; i < values.length; i++)
+			ret[i] = -values[i];
+
+		return ret;
+	}
+
+	/**
+	* Formats a count array as a single line.
+	* @param values Array to format.
+	* @return Space separated values.
+	*/
+	public static String format(int[] values)
+	{
+		StringBuilder sb = new StringBuilder();
+
+		for(int i = 0; i < values.length; i++)
+			sb.append((i == 0) ? "" : " ").append(values[i]);
+
+		return sb.toString();
+	}
+
+	/**
+	* Reads a count array written by {@link #format(int[])}.
+	* @param line Space separated values.
+	* @return The values.
+	*/
+	public static int[] parse(String line)
+	{
+		String[] fields = line.trim().split(" ");
+		int[] ret = new int[fields.length];
+
+		for(int i = 0; i < fields.length; i++)
+			ret[i] = Integer.parseInt(fields[i]);
+
+		return ret;
+	}
+
+	/**
+	* Creates a SHA-256 digest.
+	* @return A new digest.
+	*/
+	public static MessageDigest newDigest()
+	{
+		try
+		{
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch(NoSuchAlgorithmException e)
+		{
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	/**
+	* Hashes several strings into one cache key.
+	* @param parts Strings to hash, in order.
+	* @return Hex encoded SHA-256 digest.
+	*/
+	public static String digest(String... parts)
+	{
+		MessageDigest md = newDigest();
+
+		for(String part : parts)
+		{
+			md.update(part.getBytes(StandardCharsets.UTF_8));
+			md.update((byte) 0);
+		}
+
+		return toHex(md.digest());
+	}
+
+	/**
+	* Hex encodes a digest.
+	* @param bytes Digest bytes.
+	* @return Lower case hex string.
+	*/
+	public static String toHex(byte[] bytes)
+	{
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+
+		for(byte b : bytes)
+			sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+
+		return sb.toString();
+	}
+
+	/**
+	* Walks the text once, shifting numbered names and optionally recording the lowest number of each kind.
+	* String literals and everything after a '#' on a line are copied unchanged.
+	*/
+	private static String renumber(String code, int[] delta, int[] minimum)
+	{
+		StringBuilder sb = new StringBuilder(code.length() + 16);
+		int length = code.length();
+		boolean quoted = false;
+		boolean comment = false;
+		int i = 0;
+
+		while(i < length)
+		{
+			char c = code.charAt(i);
+
+			if(c == '\n')
+				quoted = comment = false;
+
+			else if(comment)
+				;
+
+			else if(quoted)
+			{
+				if(c == '\\' && i + 1 < length) {
+					sb.append(c);
+					c = code.charAt(++i);
+				}
+
+				else if(c == '"')
+					quoted = false;
+			}
+
+			else if(c == '"')
+				quoted = true;
+
+			else if(c == '#')
+				comment = true;
+
+			else if((i == 0 || !isNameChar(code.charAt(i - 1))) && kindAt(code, i) >= 0)
+			{
+				int kind = kindAt(code, i);
+				int start = i + PREFIXES[kind].length();
+				int end = numberEnd(code, start);
+				int number = Integer.parseInt(code.substring(start, end));
+
+				if(minimum != null)
+					minimum[kind] = Math.min(minimum[kind], number);
+
+				sb.append(PREFIXES[kind]).append(number + delta[kind]);
+				i = end;
+				continue;
+			}
+
+			sb.append(c);
+			i++;
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	* Finds which numbered name starts at a position.
+	* @return Index into {@link #PREFIXES}, or -1 if no numbered name starts there.
+	*/
+	private static int kindAt(String code, int i)
+	{
+		for(int kind = 0; kind < PREFIXES.length; kind++)
+		{
+			if(!code.startsWith(PREFIXES[kind], i))
+				continue;
+
+			int start = i + PREFIXES[kind].length();
+			int end = numberEnd(code, start);
+
+			if(end > start && code.charAt(end - 1) != '-' && (end == code.length() || !isNameChar(code.charAt(end))))
+				return kind;
+		}
+
+		return -1;
+	}
+
+	/**
+	* Skips an optionally negative number.
+	* @return Index of the first character after the number.
+	*/
+	private static int numberEnd(String code, int i)
+	{
+		if(i < code.length() && code.charAt(i) == '-')
+			i++;
+
+		while(i < code.length() && Character.isDigit(code.charAt(i)))
+			i++;
+
+		return i;
+	}
+
+	/**
+	* Tells if a character can be part of a name.
+	*/
+	private static boolean isNameChar(char c)
+	{
+		return Character.isLetterOrDigit(c) || c == '_';
+	}
+}
@@ -0,0 +1,491 @@
+package Assembly;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+*	Destination of the intermediate code as the code generator makes it: typed instructions, labels and comments.
+*	{@link IrProgram} keeps them for the assembly generator, {@link IrTextWriter} writes their text form.<br/>
+*	Operands are packed by {@link Operand}.  Registers, frame slots and immediates carry their numbers; the operands
+*	that need more (labels, names and literals) are made here, which pools them, and the builder spells them back
+*	in the text form.<br/>
+*	Code of single functions can be saved as a fragment, with label and temporary numbers made relative, and
+*	replayed into any builder by {@link #replay(CharSequence, int[])}.  A builder is used by one thread.
+*/
+public abstract class IrBuilder
+{
+	/**	Comment in front of every function.  The assembler cuts the text form at it.			*/
+	public static final String FUNCTION_COMMENT = "begin function: ";
+
+	/**	Labels by index.											*/
+	private ArrayList<Label> labels = new ArrayList<Label>();
+	/**	Labels by name.												*/
+	private HashMap<String, Label> labelsByName = new HashMap<String, Label>();
+	/**	Numbered labels by number, null where not made yet.			*/
+	private ArrayList<Label> labelsByNumber = new ArrayList<Label>();
+	/**	Names and literal spellings by index.						*/
+	private ArrayList<String> strings = new ArrayList<String>();
+	/**	Index of each pooled string.								*/
+	private HashMap<String, Integer> stringIndexes = new HashMap<String, Integer>();
+	/**	Float literal values, with their spellings at the same index in floatSpellings.	*/
+	private float[] floats = new float[16];
+	private ArrayList<String> floatSpellings = new ArrayList<String>();
+	/**	Temporary names by register kind and number, made on first use.	*/
+	private List<List<String>> registerNames = new ArrayList<List<String>>();
+
+	/**
+	*	A jump target.  Instructions refer to labels by index; the label's own line places it.  The labels the code
+	*	generator numbers are written LABEL&lt;n&gt; and renumbered when a function is cached, the others, which
+	*	name functions, are kept as they are.
+	*/
+	public static final class Label
+	{
+		/**	Name the label is written with.							*/
+		public final String name;
+		/**	Index in its builder.									*/
+		public final int index;
+		/**	Number of a numbered label, -1 for a named one.		*/
+		public final int number;
+
+		private Label(String _name, int _index, int _number)
+		{
+			name = _name;
+			index = _index;
+			number = _number;
+		}
+
+		/**
+		* Returns the operand referring to the label.
+		* @return A LABEL operand.
+		*/
+		public long operand()
+		{
+			return Operand.of(Operand.LABEL, index);
+		}
+
+		@Override public String toString()
+		{
+			return name;
+		}
+	}
+
+	/**
+	* Adds an instruction.
+	* @param op The instruction.
+	* @param a1 First operand, see {@link Operand}.
+	* @param a2 Second operand.
+	* @param a3 Third operand.
+	* @param comment Source line it was generated for, may be empty.
+	*/
+	public abstract void add(Opcode op, long a1, long a2, long a3, String comment);
+
+	/**
+	* Adds a label line.
+	* @param label A label of this builder.
+	*/
+	public abstract void addLabel(Label label);
+
+	/**
+	* Adds a comment line.  A comment starting with {@link #FUNCTION_COMMENT} starts a new function.
+	* @param text Comment text.  A trailing newline adds an empty line after it.
+	*/
+	public abstract void addComment(String text);
+
+	/**
+	* Returns the numbered label LABEL&lt;n&gt;, creating it on first use.
+	* @param number Label number, from the code generator's label counter.
+	* @return The label.
+	*/
+	public Label label(int number)
+	{
+		while(labelsByNumber.size() <= number)
+			labelsByNumber.add(null);
+
+		Label label = labelsByNumber.get(number);
+
+		if(label == null)
+		{
+			label = add(new Label("LABEL" + number, labels.size(), number));
+			labelsByNumber.set(number, label);
+		}
+
+		return label;
+	}
+
+	/**
+	* Returns the label of a function name, creating it on first use.
+	* @param name Label name.
+	* @return The label.
+	*/
+	public Label label(String name)
+	{
+		Label label = labelsByName.get(name);
+		return (label == null) ? add(new Label(name, labels.size(), -1)) : label;
+	}
+
+	/**
+	* Returns the label a LABEL operand refers to.
+	* @param operand The operand.
+	* @return The label.
+	*/
+	public Label labelOf(long operand)
+	{
+		return labels.get(Operand.value(operand));
+	}
+
+	private Label add(Label label)
+	{
+		labels.add(label);
+		labelsByName.put(label.name, label);
+		return label;
+	}
+
+	/**
+	* Makes an immediate operand.  Values beyond an int keep their spelling, which the assembler has no
+	* translation for, as it has none for them in the text form.
+	* @param value The value.
+	* @return An IMMEDIATE operand, or a TEXT operand for values out of range.
+	*/
+	public long immediate(long value)
+	{
+		if(value != (int) value)
+			return Operand.of(Operand.TEXT, pool(String.valueOf(value)));
+
+		return Operand.of(Operand.IMMEDIATE, (int) value);
+	}
+
+	/**
+	* Makes an operand that stands in for a value code generation does not produce yet.  It is written as
+	* spelled and the assembler rejects it, as it does the same word in the text form.
+	* @param spelling The word written in its place.
+	* @return A TEXT operand.
+	*/
+	public long placeholder(String spelling)
+	{
+		return Operand.of(Operand.TEXT, pool(spelling));
+	}
+
+	/**
+	* Makes a function name operand.
+	* @param name The name.
+	* @return A NAME operand.
+	*/
+	public long name(String name)
+	{
+		return Operand.of(Operand.NAME, pool(name));
+	}
+
+	/**
+	* Makes a float literal operand, spelled as Java prints the value.
+	* @param value The value.
+	* @return A FLOAT operand.
+	*/
+	public long floatLiteral(double value)
+	{
+		return floatLiteral(String.valueOf(value));
+	}
+
+	/**
+	* Makes a float literal operand as it is spelled in the text form.
+	* @param spelling The literal.
+	* @return A FLOAT operand.
+	* @throws NumberFormatException If the spelling is no number.
+	*/
+	public long floatLiteral(String spelling)
+	{
+		if(floatSpellings.size() == floats.length)
+			floats = Arrays.copyOf(floats, floats.length * 2);
+
+		floats[floatSpellings.size()] = Float.parseFloat(spelling);
+		floatSpellings.add(spelling);
+		return Operand.of(Operand.FLOAT, floatSpellings.size() - 1);
+	}
+
+	/**
+	* Makes a character literal operand.
+	* @param value What goes between the quotes.
+	* @return A CHAR operand.
+	*/
+	public long charLiteral(String value)
+	{
+		return Operand.of(Operand.CHAR, pool("'" + value + "'"));
+	}
+
+	/**
+	* Makes a string literal operand.
+	* @param value What goes between the quotes.
+	* @return A STRING operand.
+	*/
+	public long stringLiteral(String value)
+	{
+		return Operand.of(Operand.STRING, pool("\"" + value + "\""));
+	}
+
+	/**
+	* Returns a pooled name or literal spelling.
+	* @param index Pool index, the value of a NAME, CHAR, STRING or TEXT operand.
+	* @return The string.
+	*/
+	public String string(int index)
+	{
+		return strings.get(index);
+	}
+
+	/**
+	* Returns the value of a float literal.
+	* @param index The value of a FLOAT operand.
+	* @return The value.
+	*/
+	public float floatValue(int index)
+	{
+		return floats[index];
+	}
+
+	/**
+	* Returns the name of a temporary or return value, as the register allocator keys its tables.
+	* @param operand A register or RETURN_VALUE operand.
+	* @return The name.
+	*/
+	public String registerName(long operand)
+	{
+		int kind = Operand.kind(operand);
+		int number = Operand.value(operand);
+
+		if(kind == Operand.RETURN_VALUE)
+			return (number == 0) ? "i_ret" : "f_ret";
+
+		while(registerNames.size() <= kind)
+			registerNames.add(new ArrayList<String>());
+
+		List<String> names = registerNames.get(kind);
+
+		while(names.size() <= number)
+			names.add(null);
+
+		String name = names.get(number);
+
+		if(name == null)
+			names.set(number, name = Operand.PREFIXES[kind] + number);
+
+		return name;
+	}
+
+	/**
+	* Returns the text form of an operand.
+	* @param operand The operand.
+	* @return Its spelling, "" for none.
+	*/
+	public String text(long operand)
+	{
+		int value = Operand.value(operand);
+
+		switch(Operand.kind(operand))
+		{
+			case Operand.NONE:				return "";
+			case Operand.INT_REGISTER:
+			case Operand.FLOAT_REGISTER:
+			case Operand.CHAR_REGISTER:
+			case Operand.STRING_REGISTER:
+			case Operand.RETURN_VALUE:		return registerName(operand);
+			case Operand.IMMEDIATE:			return String.valueOf(value);
+			case Operand.FRAME:				return String.valueOf(value) + "(off)";
+			case Operand.LABEL:				return labels.get(value).name;
+			case Operand.FLOAT:				return floatSpellings.get(value);
+			default:						return strings.get(value);
+		}
+	}
+
+	/**
+	* Writes the text form of an instruction line, the way the code generator has always printed it.
+	*/
+	void write(PrintWriter fout, Opcode op, long a1, long a2, long a3, String comment)
+	{
+		if(comment != null && !comment.equals(""))
+			comment = "# " + comment;
+
+		fout.format("\t%-12s %-12s %-12s %-20s %-30s%n", op.spelling, text(a1), text(a2), text(a3), comment);
+	}
+
+	/**
+	* Adds the lines of a saved fragment, see {@link IrProgram#fragment(int[])}.
+	* @param fragment The fragment.
+	* @param delta Offset added to the label and temporary numbers, in the order of {@link Fragments#PREFIXES}.
+	* @throws IllegalArgumentException If the fragment is malformed.
+	*/
+	public void replay(CharSequence fragment, int[] delta)
+	{
+		FragmentReader in = new FragmentReader(fragment);
+
+		while(in.more())
+		{
+			Opcode op = Opcode.values()[in.number()];
+
+			if(op == Opcode.LABEL)
+				addLabel(labelOf(in.operand(delta)));
+
+			else if(op == Opcode.COMMENT)
+				addComment(in.string());
+
+			else
+				add(op, in.operand(delta), in.operand(delta), in.operand(delta), in.string());
+		}
+	}
+
+	/**
+	* Writes one operand of a fragment: its kind, then its value, the spelling of a pooled one or the number
+	* of a numbered label, renumbered by delta.
+	*/
+	void save(StringBuilder sb, long operand, int[] delta)
+	{
+		int kind = Operand.kind(operand);
+		int value = Operand.value(operand);
+
+		sb.append(kind).append(' ');
+
+		switch(kind)
+		{
+			case Operand.INT_REGISTER:
+			case Operand.FLOAT_REGISTER:
+			case Operand.CHAR_REGISTER:
+			case Operand.STRING_REGISTER:
+				sb.append(value + delta[kind]).append(' ');
+				break;
+
+			case Operand.NONE:
+			case Operand.RETURN_VALUE:
+			case Operand.IMMEDIATE:
+			case Operand.FRAME:
+				sb.append(value).append(' ');
+				break;
+
+			case Operand.LABEL:
+				Label label = labels.get(value);
+
+				if(label.number >= 0)
+					sb.append(label.number + delta[0]).append(' ');
+
+				else
+					save(sb.append("-1 "), label.name);
+				break;
+
+			case Operand.FLOAT:
+				save(sb, floatSpellings.get(value));
+				break;
+
+			default:
+				save(sb, strings.get(value));
+		}
+	}
+
+	/**
+	* Writes a string of a fragment as its length, a colon and its characters, so it may hold any character.
+	*/
+	static void save(StringBuilder sb, String s)
+	{
+		sb.append(s.length()).append(':').append(s).append(' ');
+	}
+
+	/**
+	* Returns the pool index of a string, adding it if it is new.
+	*/
+	private int pool(String s)
+	{
+		Integer index = stringIndexes.get(s);
+
+		if(index == null)
+		{
+			index = strings.size();
+			strings.add(s);
+			stringIndexes.put(s, index);
+		}
+
+		return index;
+	}
+
+	/**
+	*	Reads the fields of a fragment back, making its operands in the builder.
+	*/
+	private final class FragmentReader
+	{
+		private final CharSequence text;
+		private int position = 0;
+
+		FragmentReader(CharSequence _text)
+		{
+			text = _text;
+		}
+
+		boolean more()
+		{
+			return position < text.length();
+		}
+
+		int number()
+		{
+			int start = position;
+
+			while(position < text.length() && text.charAt(position) != ' ' && text.charAt(position) != ':')
+				position++;
+
+			if(position == text.length() || position == start)
+				throw new IllegalArgumentException("malformed intermediate code fragment at " + start);
+
+			return Integer.parseInt(text.subSequence(start, position++).toString());
+		}
+
+		String string()
+		{
+			int length = number();
+
+			if(text.charAt(position - 1) != ':' || position + length >= text.length())
+				throw new IllegalArgumentException("malformed intermediate code fragment at " + position);
+
+			String s = text.subSequence(position, position + length).toString();
+			position += length + 1;
+			return s;
+		}
+
+		long operand(int[] delta)
+		{
+			int kind = number();
+
+			switch(kind)
+			{
+				case Operand.INT_REGISTER:
+				case Operand.FLOAT_REGISTER:
+				case Operand.CHAR_REGISTER:
+				case Operand.STRING_REGISTER:
+					return Operand.of(kind, number() + delta[kind]);
+
+				case Operand.NONE:
+				case Operand.RETURN_VALUE:
+				case Operand.IMMEDIATE:
+				case Operand.FRAME:
+					return Operand.of(kind, number());
+
+				case Operand.LABEL:
+					int number = number();
+
+					if(number >= 0)
+						return label(number + delta[0]).operand();
+
+					return label(string()).operand();
+
+				case Operand.FLOAT:
+					return floatLiteral(string());
+
+				case Operand.NAME:
+				case Operand.CHAR:
+				case Operand.STRING:
+				case Operand.TEXT:
+					return Operand.of(kind, pool(string()));
+
+				default:
+					throw new IllegalArgumentException("unknown operand kind " + kind + " in intermediate code fragment");
+			}
+		}
+	}
+}
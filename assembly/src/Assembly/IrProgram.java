@@ -0,0 +1,349 @@
+package Assembly;
+
+import java.io.*;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+*	Intermediate code of one compilation held as typed instructions: an {@link Opcode}, up to three operands packed
+*	by {@link Operand} and the source line comment, in parallel arrays per function.  Labels are objects, and
+*	names and literals live in pools, so the assembly generator works on the instructions without scanning or
+*	parsing any text.<br/>
+*	The text form is written by {@link #write(PrintWriter)} exactly as {@link IrTextWriter} writes it, and the
+*	assembler parses text back into a program, so the assembly generator has nothing else to read.<br/>
+*	A program is built by one thread and not thread safe.
+*/
+public class IrProgram extends IrBuilder
+{
+	/**	Functions in order.  The first holds the code in front of the first function and has no name.	*/
+	private ArrayList<Function> functions = new ArrayList<Function>();
+	/**	Number of lines in all functions.							*/
+	private int size = 0;
+	/**	Line of the text form the next line is written on, counting from 0.	*/
+	private int line = 0;
+
+	/**
+	* Creates an empty program.
+	*/
+	public IrProgram()
+	{
+		functions.add(new Function(null));
+	}
+
+	/**
+	*	Instructions of one function in parallel arrays.  LABEL lines carry their label in the first operand and
+	*	COMMENT lines their text in the comment.
+	*/
+	public static final class Function
+	{
+		/**	Function name, or null for the code in front of the first function.	*/
+		public final String name;
+
+		private Opcode[] opcodes = new Opcode[32];
+		private long[] operands = new long[96];
+		private String[] comments = new String[32];
+		private int[] lines = new int[32];
+		private int size = 0;
+
+		private Function(String _name)
+		{
+			name = _name;
+		}
+
+		/**
+		* Returns the number of lines.
+		* @return Number of lines.
+		*/
+		public int size()
+		{
+			return size;
+		}
+
+		/**
+		* Returns the opcode of a line.
+		* @param i Line index.
+		* @return The opcode.
+		*/
+		public Opcode opcode(int i)
+		{
+			return opcodes[i];
+		}
+
+		/**
+		* Returns an operand of a line.
+		* @param i Line index.
+		* @param slot Operand slot, 0 to 2.
+		* @return The operand, see {@link Operand}.
+		*/
+		public long operand(int i, int slot)
+		{
+			return operands[3 * i + slot];
+		}
+
+		/**
+		* Returns the source line comment of a line, or the text of a COMMENT line.
+		* @param i Line index.
+		* @return The comment, possibly empty.
+		*/
+		public String comment(int i)
+		{
+			return comments[i];
+		}
+
+		/**
+		* Returns the line of the text form a line is written on, which diagnostics report.
+		* @param i Line index.
+		* @return Line number, counting from 0.
+		*/
+		public int line(int i)
+		{
+			return lines[i];
+		}
+
+		private void add(Opcode op, long a1, long a2, long a3, String comment, int line)
+		{
+			if(size == opcodes.length)
+			{
+				opcodes = Arrays.copyOf(opcodes, size * 2);
+				operands = Arrays.copyOf(operands, size * 6);
+				comments = Arrays.copyOf(comments, size * 2);
+				lines = Arrays.copyOf(lines, size * 2);
+			}
+
+			opcodes[size] = op;
+			operands[3 * size] = a1;
+			operands[3 * size + 1] = a2;
+			operands[3 * size + 2] = a3;
+			lines[size] = line;
+			comments[size++] = comment;
+		}
+	}
+
+	/**
+	* Returns the functions, the code in front of the first function coming first.
+	* @return The functions in order.
+	*/
+	public List<Function> functions()
+	{
+		return functions;
+	}
+
+	/**
+	* Returns the number of lines in the program.  Lines added later get this index.
+	* @return Number of lines.
+	*/
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	* Places the lines added next on a line of the text they were parsed from, for diagnostics.  Lines added
+	* without it are numbered as {@link #write(PrintWriter)} writes them.
+	* @param number Line number, counting from 0.
+	*/
+	public void setLine(int number)
+	{
+		line = number;
+	}
+
+	@Override public void add(Opcode op, long a1, long a2, long a3, String comment)
+	{
+		functions.get(functions.size() - 1).add(op, a1, a2, a3, comment, line);
+		size++;
+
+		// a comment takes one more line for every line break it holds, as "Program Start\n" does
+		line++;
+
+		if(op == Opcode.COMMENT)
+			for(int i = comment.indexOf('\n'); i >= 0; i = comment.indexOf('\n', i + 1))
+				line++;
+	}
+
+	@Override public void addLabel(Label label)
+	{
+		add(Opcode.LABEL, label.operand(), Operand.EMPTY, Operand.EMPTY, "");
+	}
+
+	/**
+	* Adds a comment line.  A comment starting with {@link #FUNCTION_COMMENT} starts a new function, as it starts a
+	* piece of the text form the assembler cuts at it.
+	* @param text Comment text.  A trailing newline adds an empty line after it.
+	*/
+	@Override public void addComment(String text)
+	{
+		if(text.startsWith(FUNCTION_COMMENT))
+			functions.add(new Function(text.substring(FUNCTION_COMMENT.length())));
+
+		add(Opcode.COMMENT, Operand.EMPTY, Operand.EMPTY, Operand.EMPTY, text);
+	}
+
+	/**
+	* Writes the text form of the whole program, the way the code generator used to print it.
+	* @param fout Destination.
+	*/
+	public void write(PrintWriter fout)
+	{
+		for(Function function : functions)
+			write(fout, function, 0, function.size);
+	}
+
+	/**
+	* Returns the text form of one line, for diagnostics.
+	* @param function A function of this program.
+	* @param i Line index in the function.
+	* @return The text without its line break.
+	*/
+	public String lineText(Function function, int i)
+	{
+		StringWriter buffer = new StringWriter();
+		PrintWriter fout = new PrintWriter(buffer);
+
+		write(fout, function, i, i + 1);
+		fout.flush();
+		String line = buffer.toString();
+		int end = line.indexOf('\n');
+		return (end < 0) ? line : line.substring(0, end);
+	}
+
+	/**
+	* Writes the lines of a function from one index up to another.
+	*/
+	private void write(PrintWriter fout, Function function, int from, int to)
+	{
+		for(int i = from; i < to; i++)
+		{
+			Opcode op = function.opcodes[i];
+
+			if(op == Opcode.LABEL)
+				fout.println(text(function.operand(i, 0)) + ":");
+
+			else if(op == Opcode.COMMENT)
+				fout.println("# " + function.comments[i]);
+
+			else
+				write(fout, op, function.operand(i, 0), function.operand(i, 1), function.operand(i, 2), function.comments[i]);
+		}
+	}
+
+	/**
+	* Saves the whole program as a fragment that {@link #replay(CharSequence, int[])} adds to a builder.  The
+	* function cache stores the code of single functions this way, for text and program compilations alike.
+	* @param delta Offset added to the label and temporary numbers, in the order of {@link Fragments#PREFIXES}.
+	* @return The fragment.
+	*/
+	public String fragment(int[] delta)
+	{
+		StringBuilder sb = new StringBuilder(size * 48);
+
+		for(Function function : functions)
+			for(int i = 0; i < function.size; i++)
+			{
+				Opcode op = function.opcodes[i];
+				sb.append(op.ordinal()).append(' ');
+
+				if(op == Opcode.LABEL)
+					save(sb, function.operand(i, 0), delta);
+
+				else if(op == Opcode.COMMENT)
+					save(sb, function.comments[i]);
+
+				else
+				{
+					for(int slot = 0; slot < 3; slot++)
+						save(sb, function.operand(i, slot), delta);
+
+					save(sb, function.comments[i]);
+				}
+			}
+
+		return sb.toString();
+	}
+
+	/**
+	* Finds the lowest number used by each kind of label and temporary in a function, which is the first one the
+	* function allocated.
+	* @param function A function of this program.
+	* @return Lowest number for each entry of {@link Fragments#PREFIXES}, 0 for kinds that do not appear.
+	*/
+	public int[] base(Function function)
+	{
+		int[] minimum = new int[Fragments.PREFIXES.length];
+		Arrays.fill(minimum, Integer.MAX_VALUE);
+
+		for(int i = 0; i < 3 * function.size; i++)
+		{
+			long operand = function.operands[i];
+
+			if(Operand.register(operand))
+				minimum[Operand.kind(operand)] = Math.min(minimum[Operand.kind(operand)], Operand.value(operand));
+
+			else if(Operand.kind(operand) == Operand.LABEL && labelOf(operand).number >= 0)
+				minimum[0] = Math.min(minimum[0], labelOf(operand).number);
+		}
+
+		for(int i = 0; i < minimum.length; i++)
+			if(minimum[i] == Integer.MAX_VALUE)
+				minimum[i] = 0;
+
+		return minimum;
+	}
+
+	/**
+	* Hashes the instructions of a function, renumbered, from its arrays: opcodes, operands and the pooled strings
+	* and comments.  Used to key the assembly of the function in the function cache.
+	* @param function A function of this program.
+	* @param delta Offset added to the label and temporary numbers, in the order of {@link Fragments#PREFIXES}.
+	* @param md Digest to update.
+	*/
+	public void digest(Function function, int[] delta, MessageDigest md)
+	{
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), md)));
+
+		try
+		{
+			for(int i = 0; i < function.size; i++)
+			{
+				out.writeByte(function.opcodes[i].ordinal());
+
+				for(int slot = 0; slot < 3; slot++)
+				{
+					long operand = function.operand(i, slot);
+					int kind = Operand.kind(operand);
+
+					out.writeByte(kind);
+
+					if(Operand.register(operand))
+						out.writeInt(Operand.value(operand) + delta[kind]);
+
+					else if(kind == Operand.LABEL && labelOf(operand).number >= 0)
+						out.writeInt(labelOf(operand).number + delta[0]);
+
+					else if(kind >= Operand.LABEL)
+						digest(out, text(operand));
+
+					else
+						out.writeInt(Operand.value(operand));
+				}
+
+				digest(out, function.comments[i]);
+			}
+
+			out.flush();
+		}
+		catch(IOException e)
+		{
+			// the stream writes to nothing but the digest
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void digest(DataOutputStream out, String s) throws IOException
+	{
+		out.writeInt(s.length());
+		out.writeChars(s);
+	}
+}
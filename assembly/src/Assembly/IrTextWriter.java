@@ -0,0 +1,37 @@
+package Assembly;
+
+import java.io.*;
+
+/**
+*	Writes the intermediate code in its text form as the code generator makes it, the form the assembler scans
+*	and parses.  Nothing is kept but the pools that spell the operands.
+*/
+public class IrTextWriter extends IrBuilder
+{
+	/**	Destination of the text.									*/
+	private final PrintWriter fout;
+
+	/**
+	* Creates a builder writing to the given writer, which is neither flushed nor closed.
+	* @param _fout Destination of the text.
+	*/
+	public IrTextWriter(PrintWriter _fout)
+	{
+		fout = _fout;
+	}
+
+	@Override public void add(Opcode op, long a1, long a2, long a3, String comment)
+	{
+		write(fout, op, a1, a2, a3, comment);
+	}
+
+	@Override public void addLabel(Label label)
+	{
+		fout.println(label.name + ":");
+	}
+
+	@Override public void addComment(String text)
+	{
+		fout.println("# " + text);
+	}
+}
@@ -0,0 +1,393 @@
+package Assembly;
+
+/**
+*	Translates the instructions of an {@link IrProgram} into assembly.  This is the only assembly generator: the
+*	code the compiler builds in memory comes here as it is, and the text form is parsed into a program first.<br/>
+*	Temporaries go to the register allocator in operand order before an instruction is matched, and each
+*	instruction carries its own source line as the comment.  The frame size, the pending parameter count and the
+*	current function are carried from line to line.
+*/
+class IrTranslator
+{
+	/**	Assembler writing the output.								*/
+	private final Assembler asm;
+	/**	Program being translated.									*/
+	private IrProgram program;
+
+	/**	Registers of the operands of the instruction being translated.	*/
+	private String[] registers = new String[3];
+	/**	Index of the next argument register for PARAM.				*/
+	int parameterIndex = 0;
+	/**	Frame size of the current function.							*/
+	private int frame;
+	/**	Name of the current function.								*/
+	private String lastFunction;
+	/**	Comment of the instruction being translated, as the assembly lines print it.	*/
+	private String comment;
+
+	/**
+	* Creates a translator writing through an assembler.
+	* @param _asm The assembler, with its register allocator set up.
+	*/
+	IrTranslator(Assembler _asm)
+	{
+		asm = _asm;
+	}
+
+	/**
+	* Translates the lines of a function.
+	* @param _program Program holding the function.
+	* @param function The function.
+	* @throws AssemblyError If an instruction has no translation.
+	*/
+	void translate(IrProgram _program, IrProgram.Function function)
+	{
+		program = _program;
+
+		for(int i = 0; i < function.size(); i++)
+		{
+			Opcode op = function.opcode(i);
+
+			if(op == Opcode.LABEL)
+				asm.outputAssemblyLabel(program.labelOf(function.operand(i, 0)).name + ":");
+
+			else if(op != Opcode.COMMENT)
+				instruction(function, i);
+		}
+	}
+
+	/**
+	* Returns the comment of an instruction as the assembly lines print it: its source line, spaced and padded the
+	* way it follows the '#' in the text form, or nothing.
+	*/
+	private static String comment(String text)
+	{
+		if(text == null || text.isEmpty())
+			return "";
+
+		// the code generator pads "# " and the comment to 30 characters
+		StringBuilder sb = new StringBuilder(30).append(' ').append(text);
+
+		while(sb.length() < 29)
+			sb.append(' ');
+
+		return sb.toString();
+	}
+
+	/**
+	* Translates one instruction.
+	*/
+	private void instruction(IrProgram.Function function, int i)
+	{
+		Opcode op = function.opcode(i);
+		long a1 = function.operand(i, 0);
+		long a2 = function.operand(i, 1);
+		long a3 = function.operand(i, 2);
+		int current = 0;
+
+		comment = comment(function.comment(i));
+
+		// registers are handed out in operand order before the instruction is matched
+		for(int slot = 0; slot < 3; slot++)
+		{
+			long operand = function.operand(i, slot);
+			int kind = Operand.kind(operand);
+
+			if(Operand.register(operand) || kind == Operand.RETURN_VALUE)
+				registers[current++] = asm.ra.getRegister(program.registerName(operand)).register;
+
+			else if(kind == Operand.FRAME)
+				registers[current++] = String.valueOf(Operand.value(operand)) + "($sp)";
+		}
+
+		switch(op)
+		{
+			case FUNC_BEGIN:
+				expect(function, i, ID, NONE, NONE);
+				lastFunction = name(a1);
+				asm.outputAssembly1(".ent", lastFunction, comment);
+				break;
+
+			case NUM_PARAMS:
+				expect(function, i, INT, NONE, NONE);
+
+				for(int n = 0; n < Operand.value(a1); n++)
+					asm.outputAssembly2("sw", "$a" + n, String.valueOf(4 * n) + "($sp)", "");
+
+				break;
+
+			case ALLOC_FRAME:
+				expect(function, i, INT, NONE, NONE);
+				frame = Operand.value(a1);
+
+				while(frame % 8 != 0)
+					frame++;
+
+				asm.outputAssembly3("subu", "$sp", "$sp", String.valueOf(frame), comment);
+				asm.outputAssembly2("sw", "$31", String.valueOf(frame-4) + "($sp)", comment);
+				asm.outputAssembly2(".mask","0x80000000", "-4", comment);
+				asm.outputAssembly3(".frame", "$sp", String.valueOf(frame), "$31", comment);
+				break;
+
+			case LOAD_S:
+				expect(function, i, REG, STRING, NONE);
+				break;
+
+			case LOAD_I:
+				expect(function, i, REG, INT, NONE);
+				asm.outputAssembly2("li", registers[0], String.valueOf(Operand.value(a2)), comment);
+				break;
+
+			case LOAD_C:
+				expect(function, i, REG, CHAR, NONE);
+				asm.outputAssembly2("li", registers[0], String.valueOf(character(program.text(a2))), comment);
+				break;
+
+			case LOAD_F:
+				expect(function, i, REG, FLOAT, NONE);
+				asm.outputAssembly2("li.s", registers[0], String.valueOf(program.floatValue(Operand.value(a2))), comment);
+				break;
+
+			case M_LOAD:
+				expect(function, i, REG, REG, NONE);
+
+				if(registers[1].charAt(0) == '$') {
+					asm.outputAssembly3("addu", registers[1], registers[1], "$sp", comment);
+					registers[1] = "0(" + registers[1] + ")";
+				}
+
+				asm.outputAssembly2("lw", registers[0], registers[1], comment);
+				asm.ra.freeRegister(registers[1]);
+				break;
+
+			case M_STORE:
+				expect(function, i, REG, REG, NONE);
+
+				if(registers[0].charAt(0) == '$') {
+					asm.outputAssembly3("addu", registers[0], registers[0], "$sp", comment);
+					registers[0] = "0(" + registers[0] + ")";
+				}
+
+				asm.outputAssembly2("sw", registers[1], registers[0], comment);
+				asm.ra.freeRegister(registers[1]);
+				break;
+
+			case ADD_I:		integer(function, i, "addu");	break;
+			case SUB_I:		integer(function, i, "subu");	break;
+			case MUL_I:		integer(function, i, "mulu");	break;
+			case ADD_F:		binary(function, i, "add.s");	break;
+			case SUB_F:		binary(function, i, "sub.s");	break;
+			case MUL_F:		binary(function, i, "mul.s");	break;
+			case L_OR:		binary(function, i, "or");		break;
+			case L_AND:		binary(function, i, "and");		break;
+			case OR:		binary(function, i, "or");		break;
+			case XOR:		binary(function, i, "xor");		break;
+			case AND:		binary(function, i, "and");		break;
+			case LT:		binary(function, i, "slt");		break;
+			case LE:		binary(function, i, "sle");		break;
+			case GT:		binary(function, i, "sgt");		break;
+			case GE:		binary(function, i, "sge");		break;
+			case EQ:		binary(function, i, "seq");		break;
+			case NE:		binary(function, i, "sne");		break;
+
+			case FUNC_END:
+				expect(function, i, ID, NONE, NONE);
+
+				if(lastFunction.equals("main")) {
+					asm.outputAssembly2("li", "$v0", "17", "Exit Program");
+					asm.outputAssembly("syscall", "Exit Program");
+				} else {
+					asm.outputAssembly2("lw", "$31", String.valueOf(frame-4) + "($sp)", comment);
+					asm.outputAssembly3("addu", "$sp", "$sp", String.valueOf(frame), comment);
+					asm.outputAssembly1("jr","$31",comment);
+					asm.outputAssembly1(".end", name(a1), comment + "\n\n");
+				}
+
+				break;
+
+			case BNZ:
+				expect(function, i, REG, ID, NONE);
+				asm.outputAssembly2("bnez", registers[0], name(a2), comment);
+				asm.ra.freeRegister(registers[0]);
+				break;
+
+			case BAL:
+				expect(function, i, ID, NONE, NONE);
+				asm.outputAssembly1("b", name(a1), comment);
+				break;
+
+			case JUMP:
+				expect(function, i, REG, NONE, NONE);
+				asm.outputAssembly1("j", registers[0], comment);
+				asm.ra.freeRegister(registers[0]);
+				break;
+
+			case CONTINUE:
+			case BREAK:
+				expect(function, i, NONE, NONE, NONE);
+				break;
+
+			case PARAM:
+				expect(function, i, REG, NONE, NONE);
+				asm.outputAssembly2("move", "$a" + parameterIndex, registers[0], comment);
+				parameterIndex++;
+				asm.ra.freeRegister(registers[0]);
+				break;
+
+			case CALL:
+				expect(function, i, ID, NONE, NONE);
+				asm.outputAssembly1("jal", name(a1), comment);
+				parameterIndex = 0;
+				break;
+
+			case RETURN:
+				if(Operand.kind(a1) != Operand.RETURN_VALUE)
+					expect(function, i, REG, NONE, NONE);
+
+				else
+					expect(function, i, RETVAL, NONE, NONE);
+
+				if(registers[0].charAt(1) == 't')
+					asm.outputAssembly2("move", "$v0", registers[0], comment);
+
+				else
+					asm.outputAssembly2("mov.s", "$f0", registers[0], comment);
+
+				break;
+
+			case MOV:
+				if(Operand.kind(a1) == Operand.RETURN_VALUE)
+					expect(function, i, RETVAL, REG, NONE);
+
+				else if(Operand.kind(a2) == Operand.RETURN_VALUE)
+					expect(function, i, REG, RETVAL, NONE);
+
+				else
+					expect(function, i, REG, REG, NONE);
+
+				// moving into a register looks at the source, moving out of the return value at the destination
+				String register = (Operand.kind(a2) == Operand.RETURN_VALUE) ? registers[0] : registers[1];
+				asm.outputAssembly2((register.charAt(1) == 't') ? "move" : "mov.s", registers[0], registers[1], comment);
+				asm.ra.freeRegister(registers[1]);
+				break;
+
+			default:
+				unsupported(function, i);
+		}
+	}
+
+	/**
+	* Translates an integer instruction whose second source may be an immediate.
+	*/
+	private void integer(IrProgram.Function function, int i, String command)
+	{
+		long a3 = function.operand(i, 2);
+
+		if(Operand.kind(a3) == Operand.IMMEDIATE) {
+			expect(function, i, REG, REG, INT);
+			asm.outputAssembly3(command, registers[0], registers[1], String.valueOf(Operand.value(a3)), comment);
+			asm.ra.freeRegister(registers[1]);
+		}
+
+		else
+			binary(function, i, command);
+	}
+
+	/**
+	* Translates a three register instruction.
+	*/
+	private void binary(IrProgram.Function function, int i, String command)
+	{
+		expect(function, i, REG, REG, REG);
+		asm.outputAssembly3(command, registers[0], registers[1], registers[2], comment);
+		asm.ra.freeRegister(registers[1]);
+		asm.ra.freeRegister(registers[2]);
+	}
+
+	// operand classes as the grammar's tokens tell them apart
+	private static final int NONE = 0, REG = 1, RETVAL = 2, INT = 3, FLOAT = 4, CHAR = 5, STRING = 6, ID = 7, OTHER = 8;
+
+	/**
+	* Returns the grammar token an operand is read as.
+	*/
+	private static int token(long operand)
+	{
+		switch(Operand.kind(operand))
+		{
+			case Operand.NONE:				return NONE;
+			case Operand.INT_REGISTER:
+			case Operand.FLOAT_REGISTER:
+			case Operand.CHAR_REGISTER:
+			case Operand.STRING_REGISTER:
+			case Operand.FRAME:				return REG;
+			case Operand.RETURN_VALUE:		return RETVAL;
+			case Operand.IMMEDIATE:			return INT;
+			case Operand.FLOAT:				return FLOAT;
+			case Operand.CHAR:				return CHAR;
+			case Operand.STRING:			return STRING;
+			case Operand.LABEL:
+			case Operand.NAME:				return ID;
+			default:						return OTHER;
+		}
+	}
+
+	/**
+	* Checks the operands of an instruction against the shape the grammar accepts.
+	*/
+	private void expect(IrProgram.Function function, int i, int t1, int t2, int t3)
+	{
+		if(token(function.operand(i, 0)) != t1 || token(function.operand(i, 1)) != t2 || token(function.operand(i, 2)) != t3)
+			unsupported(function, i);
+	}
+
+	/**
+	* Reports an instruction the assembler has no translation for, the way the parser reports a syntax error.  The
+	* line is the one of the text the program was parsed from, or of its text form.
+	*/
+	private void unsupported(IrProgram.Function function, int i)
+	{
+		String where = (function.name == null) ? "" : " in function " + function.name;
+		asm.err.println(asm.inFile + ": error on line " + String.valueOf(function.line(i) + 1) + where);
+		asm.err.println(((asm.lines != null) ? asm.lines.line(function.line(i)) : program.lineText(function, i)).trim());
+		asm.err.println("^ no translation for this instruction");
+		asm.err.println("\nfatal error. compilation terminated");
+		throw new AssemblyError("no translation for " + function.opcode(i).spelling);
+	}
+
+	/**
+	* Returns the code of the character a literal holds, such as 'a' or '\n'.
+	*/
+	private static int character(String literal)
+	{
+		String value = literal.substring(1, literal.length() - 1);
+
+		if(value.length() < 2 || value.charAt(0) != '\\')
+			return value.isEmpty() ? 0 : value.charAt(0);
+
+		switch(value.charAt(1))
+		{
+			case 'n':	return '\n';
+			case 't':	return '\t';
+			case 'r':	return '\r';
+			case 'b':	return '\b';
+			case 'f':	return '\f';
+			case 'v':	return 11;
+			case 'a':	return 7;
+			case 'x':	return Integer.parseInt(value.substring(2), 16);
+
+			default:
+				if(Character.isDigit(value.charAt(1)))
+					return Integer.parseInt(value.substring(1), 8);
+
+				return value.charAt(1);
+		}
+	}
+
+	/**
+	* Returns the name an identifier operand spells.
+	*/
+	private String name(long operand)
+	{
+		return program.text(operand);
+	}
+}
@@ -0,0 +1,106 @@
+package Assembly;
+
+/**
+* Start offsets of the lines of a source text held in memory, so diagnostics can slice out any line without
+* reading the file again.  The scanners grow the index as they pass each newline; lines further ahead are
+* indexed on demand.  Each character is searched for newlines once, however many lines are looked up.
+*/
+public class LineIndex
+{
+	/** Text being scanned.									*/
+	private CharSequence text;
+	/** Start offset of each line indexed so far.			*/
+	private int[] starts = new int[256];
+	/** Number of lines indexed.							*/
+	private int count = 1;
+	/** Offset up to which the text has been searched.		*/
+	private int scanned = 0;
+
+	/**
+	* Creates an index over a text.  Only the first line is indexed until the text is scanned.
+	* @param _text Source text.
+	*/
+	public LineIndex(CharSequence _text)
+	{
+		text = _text;
+	}
+
+	/**
+	* Returns the text being indexed.
+	* @return The whole text.
+	*/
+	public CharSequence text()
+	{
+		return text;
+	}
+
+	/**
+	* Indexes every line starting at or before an offset.  Scanners call this with the offset following each
+	* newline they match; calling it again for text already indexed costs nothing.
+	* @param offset Offset in the text.
+	*/
+	public void indexTo(int offset)
+	{
+		int end = Math.min(offset, text.length());
+
+		for(int i = scanned; i < end; i++)
+		{
+			if(text.charAt(i) != '\n')
+				continue;
+
+			if(count == starts.length)
+				starts = java.util.Arrays.copyOf(starts, count * 2);
+
+			starts[count++] = i + 1;
+		}
+
+		scanned = Math.max(scanned, end);
+	}
+
+	/**
+	* Finds the line containing an offset.
+	* @param offset Offset in the text.
+	* @return Line number, counting from 0.
+	*/
+	public int lineOf(int offset)
+	{
+		indexTo(offset);
+
+		int low = 0, high = count - 1;
+
+		while(low < high)
+		{
+			int mid = (low + high + 1) >>> 1;
+
+			if(starts[mid] <= offset)
+				low = mid;
+
+			else
+				high = mid - 1;
+		}
+
+		return low;
+	}
+
+	/**
+	* Returns the text of a line without its line terminator.
+	* @param line Line number, counting from 0.
+	* @return Line text, empty if the text has fewer lines.
+	*/
+	public String line(int line)
+	{
+		while(count <= line + 1 && scanned < text.length())
+			indexTo(scanned + 4096);
+
+		if(line < 0 || line >= count)
+			return "";
+
+		int start = starts[line];
+		int end = (line + 1 < count) ? starts[line + 1] - 1 : text.length();
+
+		if(end > start && text.charAt(end - 1) == '\r')
+			end--;
+
+		return text.subSequence(start, end).toString();
+	}
+}
@@ -0,0 +1,58 @@
+package Assembly;
+
+import java.util.HashMap;
+
+/**
+*	Instructions of the intermediate code, see {@link IrProgram}.  Each has the mnemonic it is written with in the
+*	text form.  LABEL and COMMENT are not instructions but lines of the text form, kept in the instruction stream
+*	so the text can be written back unchanged.
+*/
+public enum Opcode
+{
+	FUNC_BEGIN, FUNC_END, NUM_PARAMS, ALLOC_FRAME, ALLOC,
+	LOAD_I, LOAD_F, LOAD_C, LOAD_S, M_LOAD, M_STORE, MOV,
+	ADD_I, ADD_F, SUB_I, SUB_F, MUL_I, MUL_F, DIV_I, DIV_F, MOD_I,
+	LSHIFT, RSHIFT, L_OR, L_AND, OR, XOR, AND,
+	LT, LE, GT, GE, EQ, NE,
+	I_TO_F, F_TO_I,
+	BNZ, BAL, JUMP, CONTINUE, BREAK,
+	PARAM, CALL, RETURN,
+	LABEL("", false), COMMENT("", false);
+
+	/**	Mnemonic in the text form.									*/
+	public final String spelling;
+	/**	False for the lines that are no instruction.				*/
+	public final boolean instruction;
+
+	/**	Opcodes by mnemonic.										*/
+	private static final HashMap<String, Opcode> bySpelling = new HashMap<String, Opcode>();
+
+	static
+	{
+		for(Opcode op : values())
+			if(op.instruction)
+				bySpelling.put(op.spelling, op);
+	}
+
+	private Opcode()
+	{
+		spelling = name();
+		instruction = true;
+	}
+
+	private Opcode(String _spelling, boolean _instruction)
+	{
+		spelling = _spelling;
+		instruction = _instruction;
+	}
+
+	/**
+	* Returns the instruction a mnemonic spells.
+	* @param spelling Mnemonic.
+	* @return The opcode, or null if the mnemonic is no instruction.
+	*/
+	public static Opcode of(String spelling)
+	{
+		return bySpelling.get(spelling);
+	}
+}
@@ -0,0 +1,90 @@
+package Assembly;
+
+/**
+*	Operands of the intermediate code, packed into a long each: the kind in the low byte and an int value above
+*	it.  Registers carry their number, immediates and frame offsets their value, and the operands that need more
+*	than an int (labels, names, float, character and string literals) an index into their {@link IrBuilder}'s pools.
+*/
+public final class Operand
+{
+	/**	Empty operand slot.											*/
+	public static final int NONE = 0;
+	/**	Integer temporary, i_temp&lt;n&gt;.							*/
+	public static final int INT_REGISTER = 1;
+	/**	Floating point temporary, f_temp&lt;n&gt;.					*/
+	public static final int FLOAT_REGISTER = 2;
+	/**	Character temporary, c_temp&lt;n&gt;.						*/
+	public static final int CHAR_REGISTER = 3;
+	/**	String temporary, s_temp&lt;n&gt;.							*/
+	public static final int STRING_REGISTER = 4;
+	/**	Return value, i_ret (value 0) or f_ret (value 1).			*/
+	public static final int RETURN_VALUE = 5;
+	/**	Integer immediate.											*/
+	public static final int IMMEDIATE = 6;
+	/**	Stack frame slot, &lt;offset&gt;(off).						*/
+	public static final int FRAME = 7;
+	/**	Label, by index.											*/
+	public static final int LABEL = 8;
+	/**	Function name, by index.									*/
+	public static final int NAME = 9;
+	/**	Float literal, by index.									*/
+	public static final int FLOAT = 10;
+	/**	Character literal, by index of its spelling.				*/
+	public static final int CHAR = 11;
+	/**	String literal, by index of its spelling with the quotes.	*/
+	public static final int STRING = 12;
+	/**	A spelling the assembler has no translation for, by index.	*/
+	public static final int TEXT = 13;
+
+	/**	The operand of an empty slot.								*/
+	public static final long EMPTY = 0;
+
+	/**	Register name prefixes, indexed by register kind.			*/
+	static final String[] PREFIXES = { null, "i_temp", "f_temp", "c_temp", "s_temp" };
+
+	private Operand()
+	{
+	}
+
+	/**
+	* Packs an operand.
+	* @param kind One of the kinds above.
+	* @param value Register number, immediate, offset or pool index.
+	* @return The operand.
+	*/
+	public static long of(int kind, int value)
+	{
+		return ((long) value << 8) | kind;
+	}
+
+	/**
+	* Returns the kind of an operand.
+	* @param operand The operand.
+	* @return One of the kinds above.
+	*/
+	public static int kind(long operand)
+	{
+		return (int) operand & 0xff;
+	}
+
+	/**
+	* Returns the value of an operand.
+	* @param operand The operand.
+	* @return Register number, immediate, offset or pool index.
+	*/
+	public static int value(long operand)
+	{
+		return (int) (operand >> 8);
+	}
+
+	/**
+	* Returns whether an operand is one of the temporaries.
+	* @param operand The operand.
+	* @return True for the register kinds.
+	*/
+	public static boolean register(long operand)
+	{
+		int kind = kind(operand);
+		return kind >= INT_REGISTER && kind <= STRING_REGISTER;
+	}
+}
@@ -1,7 +1,6 @@
 
 package Assembly;
 
-import java.io.PrintWriter;
 import java.util.*;
 
 /**
@@ -13,12 +12,12 @@ public class RegisterAllocator
 	public RegisterEntry[] float_regTable;
 	public RegisterEntry[] addTable;
 	
-	private PrintWriter fout;
+	private Assembler asm;
 	private int currentSpillIndex = 0;
 	private int currentSpillAddress = 0;
 	private int currentTableIndex = 0;
 	
-	public RegisterAllocator()
+	public RegisterAllocator(Assembler _asm)
 	{
 		int_regTable = new RegisterEntry[8];
 		float_regTable = new RegisterEntry[4];
@@ -38,11 +37,33 @@ public class RegisterAllocator
 			
 		currentSpillAddress = 0;
 		
-		fout = AssemblyDriver.fout;
+		asm = _asm;
 	}
 	
-	//@SuppressWarnings("unchecked")
+	/**
+	* Finds or assigns the register holding a temporary, spilling one if the table is full.
+	* @param reg Temporary name.
+	* @return Register entry, marked new if the temporary was not in a register yet.
+	*/
 	public RegisterEntry getRegister(String reg)
+	{
+		if(asm.timeReport == null)
+			return allocate(reg);
+			
+		asm.timeReport.enter("register allocation");
+		
+		try
+		{
+			return allocate(reg);
+		}
+		finally
+		{
+			asm.timeReport.leave();
+		}
+	}
+	
+	//@SuppressWarnings("unchecked")
+	private RegisterEntry allocate(String reg)
 	{		
 		RegisterEntry[] table = (reg.charAt(0) == 'f') ? float_regTable : int_regTable;
 		
@@ -60,7 +81,7 @@ public class RegisterAllocator
 				entry.isNew = true;
 				return entry;
 			}
-		System.out.println("Reg: " + reg);
+		asm.out.println("Reg: " + reg);
 		// register not in table and table full -- spill
 		// check if in address table
 		for(int i = 0; i < addTable.length; i++) {
@@ -69,18 +90,18 @@ public class RegisterAllocator
 			
 			else {
 				// entry is in spill table
-				if(addTable[i].owner != null && addTable[i].owner.equals(reg)) { System.out.println("HERE!!!!");
+				if(addTable[i].owner != null && addTable[i].owner.equals(reg)) { asm.out.println("HERE!!!!");
 					RegisterEntry entry = table[currentTableIndex];
 					entry.address = currentSpillAddress;
 					
 					addTable[i+1] = entry;
 					String spillSpace = String.valueOf(entry.address) + "($s0)";
-					AssemblyDriver.outputAssembly2("sw", entry.register, spillSpace, " spill");
+					asm.outputAssembly2("sw", entry.register, spillSpace, " spill");
 					
 					table[currentTableIndex].owner = addTable[i].owner;
 					spillSpace = String.valueOf(addTable[i].address) + "($s0)";
 					
-					AssemblyDriver.outputAssembly2("lw", table[currentTableIndex].register, spillSpace, " spill");
+					asm.outputAssembly2("lw", table[currentTableIndex].register, spillSpace, " spill");
 					
 					currentSpillIndex++;
 					currentTableIndex++;
@@ -102,7 +123,7 @@ public class RegisterAllocator
 		
 		String spill = String.valueOf(addTable[currentSpillIndex].address) + "($s0)";
 		
-		AssemblyDriver.outputAssembly2("sw", table[currentTableIndex].register, spill, " spill");
+		asm.outputAssembly2("sw", table[currentTableIndex].register, spill, " spill");
 		
 		table[currentTableIndex].owner = reg;
 		
@@ -183,6 +204,66 @@ public class RegisterAllocator
 		
 	}
 	
+	/**
+	* Writes the register and spill tables to a single line, so they can be cached alongside the code of a function.
+	* @return State readable by {@link #restoreState(String)}.
+	*/
+	public String saveState()
+	{
+		StringBuilder sb = new StringBuilder();
+		
+		for(RegisterEntry entry : int_regTable)
+			sb.append((entry.owner == null) ? "-" : entry.owner).append(",");
+			
+		sb.append("|");
+		for(RegisterEntry entry : float_regTable)
+			sb.append((entry.owner == null) ? "-" : entry.owner).append(",");
+			
+		sb.append("|");
+		for(int i = 0; i < addTable.length; i++)
+			if(addTable[i].register != null)
+				sb.append(i + "/" + addTable[i].register + "/" + addTable[i].owner + "/" + addTable[i].address + ",");
+				
+		sb.append("|" + currentSpillIndex + "," + currentSpillAddress + "," + currentTableIndex);
+		
+		return sb.toString();
+	}
+	
+	/**
+	* Replaces the register and spill tables with a state written by {@link #saveState()}.
+	* @param state Saved state.
+	*/
+	public void restoreState(String state)
+	{
+		String[] parts = state.split("\\|", -1);
+		String[] owners = parts[0].split(",");
+		
+		for(int i = 0; i < int_regTable.length; i++)
+			int_regTable[i].owner = owners[i].equals("-") ? null : owners[i];
+			
+		owners = parts[1].split(",");
+		for(int i = 0; i < float_regTable.length; i++)
+			float_regTable[i].owner = owners[i].equals("-") ? null : owners[i];
+			
+		for(int i = 0; i < addTable.length; i++)
+			addTable[i] = new RegisterEntry(null,null);
+			
+		for(String spill : parts[2].split(","))
+		{
+			if(spill.isEmpty())
+				continue;
+				
+			String[] fields = spill.split("/");
+			String owner = fields[2].equals("null") ? null : fields[2];
+			addTable[Integer.parseInt(fields[0])] = new RegisterEntry(fields[1], owner, Integer.parseInt(fields[3]));
+		}
+		
+		String[] counters = parts[3].split(",");
+		currentSpillIndex = Integer.parseInt(counters[0]);
+		currentSpillAddress = Integer.parseInt(counters[1]);
+		currentTableIndex = Integer.parseInt(counters[2]);
+	}
+	
 	@Override
 	public String toString()
 	{
@@ -0,0 +1,173 @@
+package Assembly;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+* An input file held as bytes and read as text, for the scanners and the line index.<br/>
+* Files are memory mapped, so reading one costs no copy beyond the scanner's own buffer.  Source and
+* intermediate code are ASCII, which is read straight from the bytes without a charset decoder; only input
+* with other bytes is decoded with the platform charset, as a reader would.  Standard input cannot be mapped and
+* is read into memory instead.
+*/
+public class SourceText implements CharSequence
+{
+	/** Input name that reads standard input.				*/
+	public static final String STDIN = "-";
+
+	/** Bytes of the input, position 0.						*/
+	private ByteBuffer bytes;
+	/** Decoded text when the input is not ASCII, otherwise null.	*/
+	private String decoded;
+
+	/**
+	* Creates a text over the bytes of an input.
+	* @param _bytes Input bytes from position 0 to the limit.
+	*/
+	public SourceText(ByteBuffer _bytes)
+	{
+		bytes = _bytes;
+
+		for(int i = 0, n = bytes.limit(); i < n; i++)
+			if(bytes.get(i) < 0) {
+				decoded = Charset.defaultCharset().decode(bytes.duplicate()).toString();
+				break;
+			}
+	}
+
+	/**
+	* Maps an input file, or reads standard input.
+	* @param file File name, or {@link #STDIN}.
+	* @return The input.
+	* @throws IOException If the input cannot be read or is larger than 2 GB.
+	*/
+	public static SourceText read(String file) throws IOException
+	{
+		if(file.equals(STDIN))
+			return new SourceText(ByteBuffer.wrap(readAll(System.in)));
+
+		try(FileChannel channel = FileChannel.open(Paths.get(file), StandardOpenOption.READ))
+		{
+			long size = channel.size();
+
+			if(size > Integer.MAX_VALUE)
+				throw new IOException(file + ": input too large");
+
+			// the mapping stays valid after the channel is closed
+			return new SourceText(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+		}
+	}
+
+	/**
+	* Reads a stream to its end.
+	*/
+	private static byte[] readAll(InputStream in) throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[65536];
+		int count;
+
+		while((count = in.read(buffer)) > 0)
+			out.write(buffer, 0, count);
+
+		return out.toByteArray();
+	}
+
+	/**
+	* Returns the raw bytes of the input, for digests.
+	* @return A read only view of the bytes.
+	*/
+	public ByteBuffer bytes()
+	{
+		return bytes.asReadOnlyBuffer();
+	}
+
+	public int length()
+	{
+		return (decoded != null) ? decoded.length() : bytes.limit();
+	}
+
+	public char charAt(int index)
+	{
+		return (decoded != null) ? decoded.charAt(index) : (char) bytes.get(index);
+	}
+
+	public CharSequence subSequence(int start, int end)
+	{
+		if(decoded != null)
+			return decoded.substring(start, end);
+
+		char[] chars = new char[end - start];
+
+		for(int i = start; i < end; i++)
+			chars[i - start] = (char) bytes.get(i);
+
+		return new String(chars);
+	}
+
+	public String toString()
+	{
+		return subSequence(0, length()).toString();
+	}
+
+	/**
+	* Returns a reader over a text, for the scanners.  ASCII input read by {@link #read(String)} is copied from
+	* its bytes straight into the scanner's buffer.
+	* @param text Text to read.
+	* @return A new reader positioned at the start.
+	*/
+	public static Reader reader(CharSequence text)
+	{
+		return reader(text, 0, text.length());
+	}
+
+	/**
+	* Returns a reader over part of a text, so several scanners can each take a part of one input.
+	* @param text Text to read.
+	* @param start Offset of the first character read.
+	* @param end Offset after the last character read.
+	* @return A new reader positioned at start.
+	*/
+	public static Reader reader(final CharSequence text, final int start, final int end)
+	{
+		final ByteBuffer bytes = (text instanceof SourceText && ((SourceText) text).decoded == null) ?
+			((SourceText) text).bytes : null;
+		final String string = (text instanceof SourceText) ? ((SourceText) text).decoded :
+			(text instanceof String) ? (String) text : null;
+
+		return new Reader()
+		{
+			private int position = start;
+
+			public int read(char[] buffer, int offset, int length)
+			{
+				int count = Math.min(length, end - position);
+
+				if(count <= 0)
+					return (length == 0) ? 0 : -1;
+
+				if(bytes != null)
+					for(int i = 0; i < count; i++)
+						buffer[offset + i] = (char) bytes.get(position + i);
+
+				else if(string != null)
+					string.getChars(position, position + count, buffer, offset);
+
+				else
+					for(int i = 0; i < count; i++)
+						buffer[offset + i] = text.charAt(position + i);
+
+				position += count;
+				return count;
+			}
+
+			public void close()
+			{
+			}
+		};
+	}
+}
@@ -0,0 +1,258 @@
+package Assembly;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+* Collects the wall time, CPU time and allocated bytes of each compilation phase for --time-report.<br/>
+* Phases nest: {@link #enter(String)} pauses the phase that is running and {@link #leave()} resumes it, so
+* every phase is charged only for its own work (the symbol table lookups the scanner makes count as symbol
+* table time, not scanner time).  Time outside any phase shows up as "other".<br/>
+* Reading the CPU clock costs about as much as scanning a token, so it is only read when the outermost phase
+* starts and ends.  The CPU time in between is split among the phases that ran by their wall time.<br/>
+* A report belongs to one thread.  Reports of parallel compilations are combined with
+* {@link #merge(TimeReport, String)}.
+*/
+public class TimeReport
+{
+	/** Function column for intermediate code generation.		*/
+	public static final int CODE = 0;
+	/** Function column for assembly generation.				*/
+	public static final int ASSEMBLY = 1;
+
+	/** Source of the per thread CPU time and allocation counters.	*/
+	private static final com.sun.management.ThreadMXBean threads =
+		(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	/** Wall nanoseconds, CPU nanoseconds and bytes allocated per phase, in order of first use, followed by the
+		wall time since the outermost phase started.			*/
+	private LinkedHashMap<String, long[]> phases = new LinkedHashMap<String, long[]>();
+	/** Wall, CPU and bytes of the code and assembly generation of each function.				*/
+	private LinkedHashMap<String, long[]> functions = new LinkedHashMap<String, long[]>();
+	/** Totals of the running phases, innermost last.				*/
+	private ArrayList<long[]> stack = new ArrayList<long[]>();
+	/** Totals of the phases run since the outermost phase started.	*/
+	private ArrayList<long[]> span = new ArrayList<long[]>();
+	/** CPU time when the outermost phase started.					*/
+	private long spanCpu;
+	/** Wall time and bytes at the last phase change.				*/
+	private long lastWall, lastBytes;
+	/** Counters when the report was created.						*/
+	private long[] start;
+	/** Wall, CPU and bytes of the whole run, set by {@link #finish()}.	*/
+	private long[] total = new long[3];
+
+	/**
+	* Creates a report and starts its clock.
+	*/
+	public TimeReport()
+	{
+		start = sample();
+		lastWall = start[0];
+		lastBytes = start[2];
+	}
+
+	/**
+	* Reads the counters of the calling thread.
+	* @return Wall nanoseconds, CPU nanoseconds and bytes allocated so far.
+	*/
+	public static long[] sample()
+	{
+		return new long[] { System.nanoTime(), threads.getCurrentThreadCpuTime(),
+			threads.getCurrentThreadAllocatedBytes() };
+	}
+
+	/**
+	* Starts a phase, pausing the one that is running.
+	* @param phase Phase name as printed.
+	*/
+	public void enter(String phase)
+	{
+		charge();
+
+		long[] totals = phases.get(phase);
+
+		if(totals == null)
+			phases.put(phase, totals = new long[4]);
+
+		if(stack.isEmpty())
+			spanCpu = threads.getCurrentThreadCpuTime();
+
+		if(!span.contains(totals))
+			span.add(totals);
+
+		stack.add(totals);
+	}
+
+	/**
+	* Ends the innermost phase and resumes the one it interrupted.
+	*/
+	public void leave()
+	{
+		charge();
+		stack.remove(stack.size() - 1);
+
+		if(!stack.isEmpty())
+			return;
+
+		long cpu = threads.getCurrentThreadCpuTime() - spanCpu;
+		long wall = 0;
+
+		for(long[] totals : span)
+			wall += totals[3];
+
+		for(long[] totals : span)
+		{
+			if(wall > 0)
+				totals[1] += (long) ((double) cpu * totals[3] / wall);
+
+			totals[3] = 0;
+		}
+
+		span.clear();
+	}
+
+	/**
+	* Charges the wall time and allocations since the last phase change to the running phase.
+	*/
+	private void charge()
+	{
+		long wall = System.nanoTime();
+		long bytes = threads.getCurrentThreadAllocatedBytes();
+
+		if(!stack.isEmpty())
+		{
+			long[] totals = stack.get(stack.size() - 1);
+			totals[0] += wall - lastWall;
+			totals[2] += bytes - lastBytes;
+			totals[3] += wall - lastWall;
+		}
+
+		lastWall = wall;
+		lastBytes = bytes;
+	}
+
+	/**
+	* Charges the code or assembly generation of one function.  Functions are also part of the phases they
+	* run in.
+	* @param name Function name.
+	* @param kind {@link #CODE} or {@link #ASSEMBLY}.
+	* @param from Counters from {@link #sample()} when the function was started.
+	*/
+	public void function(String name, int kind, long[] from)
+	{
+		long[] totals = functions.get(name);
+
+		if(totals == null)
+			functions.put(name, totals = new long[6]);
+
+		add(totals, sample(), from, kind * 3);
+	}
+
+	/**
+	* Stops the clock of the whole run.  Reports are finished before they are merged or printed.
+	*/
+	public void finish()
+	{
+		// a phase left open by an error still gets its time
+		while(!stack.isEmpty())
+			leave();
+
+		long[] now = sample();
+		add(total, now, start, 0);
+		start = now;
+	}
+
+	/**
+	* Adds another finished report to this one.  Safe to call from several threads at once.
+	* @param other Report of another compilation.
+	* @param prefix Put in front of the other report's function names, so equal names from different files
+	*	stay apart.
+	*/
+	public synchronized void merge(TimeReport other, String prefix)
+	{
+		for(Map.Entry<String, long[]> phase : other.phases.entrySet())
+		{
+			long[] totals = phases.get(phase.getKey());
+
+			if(totals == null)
+				phases.put(phase.getKey(), totals = new long[4]);
+
+			add(totals, phase.getValue(), new long[3], 0);
+		}
+
+		for(Map.Entry<String, long[]> function : other.functions.entrySet())
+			functions.put(prefix + function.getKey(), function.getValue().clone());
+
+		add(total, other.total, new long[3], 0);
+	}
+
+	/**
+	* Adds the difference of two samples to a set of totals.
+	*/
+	private static void add(long[] totals, long[] to, long[] from, int offset)
+	{
+		for(int i = 0; i < 3; i++)
+			totals[offset + i] += to[i] - from[i];
+	}
+
+	/**
+	* Formats the phase table and the most expensive functions.  Totals are summed over threads, so after a
+	* parallel batch they exceed the elapsed time.
+	* @param title Printed above the table.
+	* @param top Number of functions listed.
+	* @return Printable report.
+	*/
+	public synchronized String format(String title, int top)
+	{
+		StringBuilder sb = new StringBuilder();
+		long[] other = total.clone();
+
+		sb.append(String.format("time report: %s%n", title));
+		sb.append(String.format("  %-22s %10s %10s %12s %7s%n", "phase", "wall ms", "cpu ms", "alloc KB", "wall %"));
+
+		for(Map.Entry<String, long[]> phase : phases.entrySet())
+		{
+			row(sb, phase.getKey(), phase.getValue());
+
+			for(int i = 0; i < 3; i++)
+				other[i] -= phase.getValue()[i];
+		}
+
+		row(sb, "other", other);
+		row(sb, "total", total);
+
+		if(functions.isEmpty() || top <= 0)
+			return sb.toString();
+
+		ArrayList<Map.Entry<String, long[]>> sorted = new ArrayList<Map.Entry<String, long[]>>(functions.entrySet());
+		Collections.sort(sorted, (a, b) -> Long.compare(b.getValue()[0] + b.getValue()[3], a.getValue()[0] + a.getValue()[3]));
+
+		sb.append(String.format("%n  top %d of %d function(s) by wall time%n", Math.min(top, sorted.size()), sorted.size()));
+		sb.append(String.format("  %-22s %10s %10s %12s %10s %10s %12s%n", "function", "3AC ms", "cpu ms", "alloc KB",
+			"asm ms", "cpu ms", "alloc KB"));
+
+		for(int i = 0; i < top && i < sorted.size(); i++)
+		{
+			long[] t = sorted.get(i).getValue();
+
+			sb.append(String.format("  %-22s %10.3f %10.3f %12.1f %10.3f %10.3f %12.1f%n", sorted.get(i).getKey(),
+				t[0] / 1e6, t[1] / 1e6, t[2] / 1024.0, t[3] / 1e6, t[4] / 1e6, t[5] / 1024.0));
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	* Formats one phase row.
+	*/
+	private void row(StringBuilder sb, String name, long[] t)
+	{
+		double share = (total[0] > 0) ? 100.0 * t[0] / total[0] : 0;
+
+		sb.append(String.format("  %-22s %10.3f %10.3f %12.1f %7.1f%n", name, t[0] / 1e6, t[1] / 1e6, t[2] / 1024.0, share));
+	}
+}
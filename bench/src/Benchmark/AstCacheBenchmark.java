@@ -0,0 +1,143 @@
+package Benchmark;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import Compiler.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+*	Loading a tree from the AST cache against parsing the same input.  Setup checks the round trip first: the
+*	intermediate code of the loaded tree must be identical to that of a fresh parse, for every input shape.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AstCacheBenchmark
+{
+	/**	Number of functions in the input.				*/
+	@Param({ "10", "100", "1000" })
+	public int functions;
+
+	/**	Input shape, see {@link Workload#SHAPES}.		*/
+	@Param({ "typical", "wide", "deep-expressions", "deep-nesting", "huge-function", "many-identifiers", "arrays" })
+	public String shape;
+
+	private File input;
+	private String source;
+	private AstCache cache = new AstCache();
+	private String key;
+	private PrintStream out;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		out = System.out;
+		System.setOut(BenchmarkSources.NULL);
+
+		source = Workload.shape(shape, functions).program();
+		input = File.createTempFile("ast-cache", ".c");
+		Files.write(input.toPath(), source.getBytes(StandardCharsets.UTF_8));
+		key = cache.key(input.getPath(), ByteBuffer.wrap(source.getBytes(StandardCharsets.UTF_8)));
+
+		Compilation parsed = parse();
+		String expected = generate(parsed);
+
+		Compilation previous = parsed.enter();
+
+		try
+		{
+			cache.store(parsed, key, new byte[0]);
+		}
+		finally
+		{
+			Compilation.leave(previous);
+		}
+
+		Compilation loaded = load();
+
+		if(loaded == null || !generate(loaded).equals(expected))
+			throw new IllegalStateException("tree loaded from the AST cache differs from a fresh parse of " + shape);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		AstCache.file(input.getPath()).delete();
+		input.delete();
+		System.setOut(out);
+	}
+
+	@Benchmark
+	public Compilation parse() throws IOException
+	{
+		Compilation compilation = compilation();
+		Compilation previous = compilation.enter();
+
+		try
+		{
+			BenchmarkSources.parse(compilation, source);
+		}
+		finally
+		{
+			Compilation.leave(previous);
+		}
+
+		return compilation;
+	}
+
+	@Benchmark
+	public Compilation load()
+	{
+		Compilation compilation = compilation();
+		Compilation previous = compilation.enter();
+
+		try
+		{
+			// the scanner only slices the comment lines
+			compilation.scanner = new Scanner(source);
+			return (cache.load(compilation, key) != null) ? compilation : null;
+		}
+		finally
+		{
+			Compilation.leave(previous);
+		}
+	}
+
+	/**
+	* Creates a compilation of the input file.
+	*/
+	private Compilation compilation()
+	{
+		Compilation compilation = BenchmarkSources.compilation();
+		compilation.inFile = input.getPath();
+		return compilation;
+	}
+
+	/**
+	* Generates the intermediate code of a compilation's tree.
+	*/
+	private static String generate(Compilation compilation) throws IOException
+	{
+		StringWriter code = new StringWriter();
+		Compilation previous = compilation.enter();
+
+		try
+		{
+			compilation.ast.write3AC(new PrintWriter(code));
+		}
+		finally
+		{
+			Compilation.leave(previous);
+		}
+
+		return code.toString();
+	}
+}
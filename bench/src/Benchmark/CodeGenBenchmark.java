@@ -0,0 +1,73 @@
+package Benchmark;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+import Compiler.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+*	Ast.write3AC on a tree built once during setup, writing into a null writer so only code generation is timed.
+*	Run it at an older commit for the before figure.  The dispatch benchmarks walk the same tree testing each node
+*	by class name and by kind.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodeGenBenchmark
+{
+	/**	Number of functions in the input.				*/
+	@Param({ "10", "100", "1000" })
+	public int functions;
+
+	/**	Input shape, see {@link Workload#SHAPES}.		*/
+	@Param({ "typical" })
+	public String shape;
+
+	private Compilation compilation;
+	private Compilation previous;
+	private PrintWriter sink;
+	private PrintStream out;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		out = System.out;
+		System.setOut(BenchmarkSources.NULL);
+
+		compilation = BenchmarkSources.compilation();
+		previous = compilation.enter();
+		BenchmarkSources.parse(compilation, Workload.shape(shape, functions).program());
+
+		sink = new PrintWriter(Writer.nullWriter());
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		Compilation.leave(previous);
+		System.setOut(out);
+	}
+
+	@Benchmark
+	public void write3AC() throws IOException
+	{
+		compilation.ast.write3AC(sink);
+	}
+
+	@Benchmark
+	public int dispatchByClassName()
+	{
+		return BenchmarkSources.identifiersByName(compilation.ast);
+	}
+
+	@Benchmark
+	public int dispatchByKind()
+	{
+		return BenchmarkSources.identifiersByKind(compilation.ast);
+	}
+}
@@ -0,0 +1,102 @@
+package Benchmark;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+import Assembly.AssemblyDriver;
+import Assembly.IrProgram;
+import Compiler.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+*	Intermediate code handed to the assembly generator as text, formatted by Ast.write3AC and scanned and parsed
+*	again, against the same code built as an IrProgram.  The generate benchmarks time the front half alone, the
+*	pipeline benchmarks code generation and assembly together.  Setup checks that both paths write the same
+*	assembly and that the program's text dump is the text the compiler used to write.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IrBenchmark
+{
+	/**	Number of functions in the input.				*/
+	@Param({ "10", "100", "1000" })
+	public int functions;
+
+	/**	Input shape, see {@link Workload#SHAPES}.		*/
+	@Param({ "typical" })
+	public String shape;
+
+	private Compilation compilation;
+	private Compilation previous;
+	private PrintWriter sink;
+	private PrintStream out;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		out = System.out;
+		System.setOut(BenchmarkSources.NULL);
+
+		compilation = BenchmarkSources.compilation();
+		previous = compilation.enter();
+		BenchmarkSources.parse(compilation, Workload.shape(shape, functions).program());
+
+		sink = new PrintWriter(Writer.nullWriter());
+
+		StringWriter text = new StringWriter();
+		compilation.ast.write3AC(new PrintWriter(text));
+
+		IrProgram code = compilation.ast.generateIr();
+		StringWriter dump = new StringWriter();
+		code.write(new PrintWriter(dump, true));
+
+		if(!dump.toString().equals(text.toString()))
+			throw new IllegalStateException("text dump of the intermediate program differs from write3AC for " + shape);
+
+		StringWriter fromText = new StringWriter();
+		StringWriter fromIr = new StringWriter();
+		AssemblyDriver.assemble("<benchmark>", new StringReader(text.toString()), new PrintWriter(fromText), null, null);
+		AssemblyDriver.assemble("<benchmark>", code, new PrintWriter(fromIr), null, null);
+
+		if(!fromIr.toString().equals(fromText.toString()))
+			throw new IllegalStateException("assembly of the intermediate program differs from that of its text for " + shape);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		Compilation.leave(previous);
+		System.setOut(out);
+	}
+
+	@Benchmark
+	public String generateText() throws IOException
+	{
+		StringWriter code = new StringWriter();
+		compilation.ast.write3AC(new PrintWriter(code));
+		return code.toString();
+	}
+
+	@Benchmark
+	public IrProgram generateIr() throws IOException
+	{
+		return compilation.ast.generateIr();
+	}
+
+	@Benchmark
+	public void textPipeline() throws IOException
+	{
+		AssemblyDriver.assemble("<benchmark>", new StringReader(generateText()), sink, null, null);
+	}
+
+	@Benchmark
+	public void irPipeline() throws IOException
+	{
+		AssemblyDriver.assemble("<benchmark>", compilation.ast.generateIr(), sink, null, null);
+	}
+}
@@ -0,0 +1,90 @@
+package Benchmark;
+
+import java.io.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import Compiler.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+*	Scanner throughput on input made only of constants separated by commas, so the time per token is dominated
+*	by converting literals.  The input is seeded, so every run scans the same constants.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LiteralBenchmark
+{
+	/**	Constants in the input.								*/
+	@Param({ "10000" })
+	public int constants;
+
+	/**	decimal, hex, octal, char, float, exponent or mixed.	*/
+	@Param({ "decimal", "float", "mixed" })
+	public String kind;
+
+	private String source;
+	private Compilation compilation;
+	private Compilation previous;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42);
+		StringBuilder sb = new StringBuilder();
+		String[] kinds = { "decimal", "hex", "octal", "char", "float", "exponent" };
+
+		for(int i = 0; i < constants; i++)
+		{
+			String k = kind.equals("mixed") ? kinds[random.nextInt(kinds.length)] : kind;
+
+			if(k.equals("decimal"))
+				sb.append(random.nextInt(Integer.MAX_VALUE));
+
+			else if(k.equals("hex"))
+				sb.append("0x").append(Integer.toHexString(random.nextInt()));
+
+			else if(k.equals("octal"))
+				sb.append('0').append(Integer.toOctalString(random.nextInt(Integer.MAX_VALUE) + 1));
+
+			else if(k.equals("char"))
+				sb.append('\'').append((char) ('a' + random.nextInt(26))).append('\'');
+
+			else if(k.equals("float"))
+				sb.append(random.nextInt(100000)).append('.').append(random.nextInt(1000000));
+
+			else
+				sb.append(random.nextInt(1000)).append('.').append(random.nextInt(1000)).append('e').append(random.nextInt(40) - 20);
+
+			sb.append((i % 8 == 7) ? ",\n" : ", ");
+		}
+
+		source = sb.toString();
+		compilation = BenchmarkSources.compilation();
+		previous = compilation.enter();
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		Compilation.leave(previous);
+	}
+
+	@Benchmark
+	public int scan(ScannerBenchmark.Tokens counter) throws IOException
+	{
+		Scanner scanner = new Scanner(source);
+		int count = 0;
+
+		while(scanner.yylex() > 0)
+			count++;
+
+		counter.tokens += count;
+		return count;
+	}
+}
@@ -0,0 +1,64 @@
+package Benchmark;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+import Compiler.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+*	Parser.parse() including scanning, symbol table work and AST construction.  Every invocation starts from
+*	a fresh compilation, as the driver does for each file.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark
+{
+	/**	Number of functions in the input.				*/
+	@Param({ "10", "100", "1000" })
+	public int functions;
+
+	/**	Input shape, see {@link Workload#SHAPES}.		*/
+	@Param({ "typical" })
+	public String shape;
+
+	private String source;
+	private PrintStream out;
+
+	@Setup
+	public void setup()
+	{
+		source = Workload.shape(shape, functions).program();
+		out = System.out;
+		System.setOut(BenchmarkSources.NULL);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		System.setOut(out);
+	}
+
+	@Benchmark
+	public Ast parse() throws IOException
+	{
+		Compilation compilation = BenchmarkSources.compilation();
+		Compilation previous = compilation.enter();
+
+		try
+		{
+			BenchmarkSources.parse(compilation, source);
+		}
+		finally
+		{
+			Compilation.leave(previous);
+		}
+
+		return compilation.ast;
+	}
+}
@@ -0,0 +1,61 @@
+package Benchmark;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+import Assembly.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+*	RegisterAllocator.getRegister/freeRegister with a given number of temporaries live at once.  With more than
+*	eight the allocator spills; spill slots are never reclaimed, so later iterations see a full spill table,
+*	as a long function would.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegisterAllocatorBenchmark
+{
+	/**	Temporaries live at once.						*/
+	@Param({ "4", "8", "12", "16" })
+	public int live;
+
+	private String[] temps;
+	private RegisterAllocator ra;
+	private PrintStream out;
+
+	@Setup
+	public void setup()
+	{
+		// the allocator still prints a line for every spill
+		out = System.out;
+		System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+		temps = new String[live];
+		for(int i = 0; i < live; i++)
+			temps[i] = "i_temp" + i;
+
+		ra = new RegisterAllocator(new Assembler("<benchmark>", new PrintWriter(Writer.nullWriter())));
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		System.setOut(out);
+	}
+
+	@Benchmark
+	public void allocate(Blackhole bh)
+	{
+		for(String temp : temps)
+			bh.consume(ra.getRegister(temp));
+
+		for(String temp : temps)
+			ra.freeRegister(temp);
+	}
+}
@@ -0,0 +1,92 @@
+package Benchmark;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+import Compiler.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+*	Scanner token throughput.  Every identifier is entered into the symbol table up front, so the scanner runs
+*	in lookup mode the whole time and no parser is involved.  The tokens counter reports the time per token.<br/>
+*	scanLines also asks for the current source line after every token, as the parser does for every AST node
+*	it builds, so it measures the cost of line tracking on top of plain scanning.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScannerBenchmark
+{
+	/**	Number of functions in the input.				*/
+	@Param({ "10", "100", "1000" })
+	public int functions;
+
+	/**	Input shape, see {@link Workload#SHAPES}.		*/
+	@Param({ "typical" })
+	public String shape;
+
+	private String source;
+	private Compilation compilation;
+	private Compilation previous;
+
+	/**
+	*	Tokens scanned, reported as a rate next to the timing.
+	*/
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Tokens
+	{
+		public long tokens;
+	}
+
+	@Setup
+	public void setup()
+	{
+		Workload workload = Workload.shape(shape, functions);
+
+		source = workload.program();
+		compilation = BenchmarkSources.compilation();
+		previous = compilation.enter();
+
+		for(String name : workload.identifiers())
+			BenchmarkSources.declare(compilation.st, name);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		Compilation.leave(previous);
+	}
+
+	@Benchmark
+	public int scan(Tokens counter) throws IOException
+	{
+		Scanner scanner = new Scanner(source);
+		int count = 0;
+
+		while(scanner.yylex() > 0)
+			count++;
+
+		counter.tokens += count;
+		return count;
+	}
+
+	@Benchmark
+	public int scanLines(Tokens counter) throws IOException
+	{
+		Scanner scanner = new Scanner(source);
+		int count = 0, length = 0;
+
+		while(scanner.yylex() > 0) {
+			length += scanner.currentLine().length();
+			count++;
+		}
+
+		counter.tokens += count;
+		return length;
+	}
+}
@@ -0,0 +1,152 @@
+package Benchmark;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+*	Measures compiler start up with and without class data sharing.  Launches the compiler jar repeatedly in
+*	three modes (sharing off, the JDK's default archive, and the application archive built by "ant cds") and
+*	reports the time until the first byte of output (--verbose prints right after option parsing) and the time
+*	until the process exits with its outputs written.<br/>
+*	Usage: StartupBenchmark &lt;jar&gt; &lt;archive&gt; &lt;input.c&gt; [runs] [compiler options...]
+*/
+public class StartupBenchmark
+{
+	/**	Launches per mode that are not measured.					*/
+	private static final int WARMUP = 2;
+
+	public static void main(String[] args) throws IOException, InterruptedException
+	{
+		if(args.length < 3)
+		{
+			System.err.println("Usage: StartupBenchmark <jar> <archive> <input.c> [runs] [compiler options...]");
+			System.exit(1);
+		}
+
+		// the archive only matches the jar path it was dumped with, which "ant cds" makes absolute
+		String jar = new File(args[0]).getAbsolutePath();
+		File archive = new File(args[1]).getAbsoluteFile();
+		String input = new File(args[2]).getAbsolutePath();
+		int runs = (args.length > 3) ? Integer.parseInt(args[3]) : 20;
+		String[] options = (args.length > 4) ? Arrays.copyOfRange(args, 4, args.length) : new String[0];
+
+		File workDir = Files.createTempDirectory("startup").toFile();
+
+		String[][] modes = {
+			{ "sharing off", "-Xshare:off" },
+			{ "JDK archive", "-Xshare:auto" },
+			{ "AppCDS", "-XX:SharedArchiveFile=" + archive.getPath() } };
+
+		System.out.printf("%s on %s, %d run(s) per mode%n%n", args[0], args[2], runs);
+		System.out.printf("%-12s %28s   %28s%n", "", "first output (ms)", "exit (ms)");
+		System.out.printf("%-12s %9s %9s %9s   %9s %9s %9s%n", "mode", "median", "mean", "min", "median", "mean", "min");
+
+		double[] medians = new double[modes.length];
+
+		for(int m = 0; m < modes.length; m++)
+		{
+			if(m == 2 && !archive.isFile())
+			{
+				System.out.printf("%-12s no archive at %s, run \"ant cds\" first%n", modes[m][0], archive);
+				continue;
+			}
+
+			long[] first = new long[runs];
+			long[] exit = new long[runs];
+
+			for(int i = -WARMUP; i < runs; i++)
+			{
+				long[] times = launch(modes[m][1], jar, input, options, workDir);
+
+				if(i >= 0) {
+					first[i] = times[0];
+					exit[i] = times[1];
+				}
+			}
+
+			medians[m] = median(first);
+
+			System.out.printf("%-12s %9.2f %9.2f %9.2f   %9.2f %9.2f %9.2f%n", modes[m][0],
+				medians[m] / 1e6, mean(first) / 1e6, min(first) / 1e6,
+				median(exit) / 1e6, mean(exit) / 1e6, min(exit) / 1e6);
+		}
+
+		if(medians[2] > 0)
+			System.out.printf("%nAppCDS first output: %.1f%% faster than the JDK archive, %.1f%% faster than sharing off%n",
+				100.0 * (1 - medians[2] / medians[1]), 100.0 * (1 - medians[2] / medians[0]));
+
+		for(File f : workDir.listFiles())
+			f.delete();
+
+		workDir.delete();
+	}
+
+	/**
+	* Runs the compiler once.
+	* @return Nanoseconds until the first byte on stdout and until exit.
+	*/
+	private static long[] launch(String sharing, String jar, String input, String[] options, File workDir)
+		throws IOException, InterruptedException
+	{
+		ArrayList<String> command = new ArrayList<String>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		command.add(sharing);
+		command.add("-jar");
+		command.add(jar);
+		command.add("--verbose");
+		command.addAll(Arrays.asList(options));
+		command.add(input);
+
+		ProcessBuilder pb = new ProcessBuilder(command);
+		pb.directory(workDir);
+		pb.redirectError(ProcessBuilder.Redirect.DISCARD);
+
+		long start = System.nanoTime();
+		Process p = pb.start();
+		InputStream out = p.getInputStream();
+
+		long first = (out.read() < 0) ? 0 : System.nanoTime() - start;
+
+		while(out.read() >= 0)
+			;
+
+		int status = p.waitFor();
+		long exit = System.nanoTime() - start;
+
+		if(status != 0)
+			throw new IOException("compiler exited with status " + status + ": " + command);
+
+		return new long[] { (first == 0) ? exit : first, exit };
+	}
+
+	private static double median(long[] values)
+	{
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		int n = sorted.length;
+
+		return (n % 2 == 1) ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0;
+	}
+
+	private static double mean(long[] values)
+	{
+		double sum = 0;
+
+		for(long v : values)
+			sum += v;
+
+		return sum / values.length;
+	}
+
+	private static double min(long[] values)
+	{
+		long ret = Long.MAX_VALUE;
+
+		for(long v : values)
+			ret = Math.min(ret, v);
+
+		return ret;
+	}
+}
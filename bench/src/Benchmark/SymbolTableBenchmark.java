@@ -0,0 +1,153 @@
+package Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import Compiler.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+*	SymbolTable under deep scope nesting.  insertScopes opens depth scopes, declares names in each and closes
+*	them again; findOuter looks up globals from the innermost scope, which has to walk every level.<br/>
+*	The *TreeMap benchmarks run the same work on {@link TreeMapSymbolTable}, the stack of TreeMaps SymbolTable
+*	replaced, for comparison.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SymbolTableBenchmark
+{
+	/**	Number of nested scopes.						*/
+	@Param({ "1", "8", "32" })
+	public int depth;
+
+	/**	Names declared in each scope.					*/
+	@Param({ "8", "64" })
+	public int names;
+
+	private String[][] keys;
+	/**	Identifier ids of the keys in the pool of nested.	*/
+	private int[][] ids;
+	private SymbolTable nested;
+	/**	Identifier ids of the keys in the pool of nestedTreeMap.	*/
+	private int[][] treeMapIds;
+	private TreeMapSymbolTable nestedTreeMap;
+
+	@Setup
+	public void setup()
+	{
+		keys = new String[depth + 1][names];
+
+		for(int level = 0; level <= depth; level++)
+			for(int i = 0; i < names; i++)
+				keys[level][i] = "v" + level + "_" + i;
+
+		nested = new SymbolTable();
+		fill(nested);
+
+		ids = new int[depth + 1][names];
+
+		for(int level = 0; level <= depth; level++)
+			for(int i = 0; i < names; i++)
+				ids[level][i] = nested.names.intern(keys[level][i]);
+
+		nestedTreeMap = new TreeMapSymbolTable();
+		fill(nestedTreeMap);
+
+		treeMapIds = new int[depth + 1][names];
+
+		for(int level = 0; level <= depth; level++)
+			for(int i = 0; i < names; i++)
+				treeMapIds[level][i] = nestedTreeMap.names.intern(keys[level][i]);
+	}
+
+	/**
+	* Declares all names, one scope per level on top of the globals.
+	*/
+	private void fill(SymbolTable st)
+	{
+		st.pushLevel();
+
+		for(int level = 0; level <= depth; level++)
+		{
+			if(level > 0)
+				st.pushLevel();
+
+			for(int i = 0; i < names; i++)
+				BenchmarkSources.declare(st, keys[level][i]);
+		}
+	}
+
+	/**
+	* Same as {@link #fill(SymbolTable)} on the baseline table.
+	*/
+	private void fill(TreeMapSymbolTable st)
+	{
+		st.pushLevel();
+
+		for(int level = 0; level <= depth; level++)
+		{
+			if(level > 0)
+				st.pushLevel();
+
+			for(int i = 0; i < names; i++)
+				st.declare(keys[level][i]);
+		}
+	}
+
+	@Benchmark
+	public SymbolTable insertScopes()
+	{
+		SymbolTable st = new SymbolTable();
+		fill(st);
+
+		for(int level = depth; level > 0; level--)
+			st.popLevel();
+
+		return st;
+	}
+
+	@Benchmark
+	public void findOuter(Blackhole bh)
+	{
+		for(int i = 0; i < names; i++)
+			bh.consume(nested.find(ids[0][i]));
+	}
+
+	@Benchmark
+	public void findInner(Blackhole bh)
+	{
+		for(int i = 0; i < names; i++)
+			bh.consume(nested.find(ids[depth][i]));
+	}
+
+	@Benchmark
+	public TreeMapSymbolTable insertScopesTreeMap()
+	{
+		TreeMapSymbolTable st = new TreeMapSymbolTable();
+		fill(st);
+
+		for(int level = depth; level > 0; level--)
+			st.popLevel();
+
+		return st;
+	}
+
+	@Benchmark
+	public void findOuterTreeMap(Blackhole bh)
+	{
+		for(int i = 0; i < names; i++)
+			bh.consume(nestedTreeMap.find(treeMapIds[0][i]));
+	}
+
+	@Benchmark
+	public void findInnerTreeMap(Blackhole bh)
+	{
+		for(int i = 0; i < names; i++)
+			bh.consume(nestedTreeMap.find(treeMapIds[depth][i]));
+	}
+}
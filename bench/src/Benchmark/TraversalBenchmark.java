@@ -0,0 +1,76 @@
+package Benchmark;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+import Compiler.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+*	Traversal throughput on trees built once during setup: Ast.size() on the explicit stack against the old
+*	recursive walk, and Ast.write3AC, which walks lists and operator chains on the same stack, into a null writer.
+*	The deep shapes are the ones that used to need the most thread stack.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraversalBenchmark
+{
+	/**	Number of functions in the input.				*/
+	@Param({ "10", "100", "1000" })
+	public int functions;
+
+	/**	Input shape, see {@link Workload#SHAPES}.		*/
+	@Param({ "typical", "deep-expressions", "deep-nesting", "huge-function" })
+	public String shape;
+
+	private Compilation compilation;
+	private Compilation previous;
+	private PrintWriter sink;
+	private PrintStream out;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		out = System.out;
+		System.setOut(BenchmarkSources.NULL);
+
+		compilation = BenchmarkSources.compilation();
+		previous = compilation.enter();
+		BenchmarkSources.parse(compilation, Workload.shape(shape, functions).program());
+
+		if(compilation.ast.size() != BenchmarkSources.recursiveSize(compilation.ast))
+			throw new IllegalStateException("explicit stack and recursive walk disagree on " + shape);
+
+		sink = new PrintWriter(Writer.nullWriter());
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		Compilation.leave(previous);
+		System.setOut(out);
+	}
+
+	@Benchmark
+	public int size()
+	{
+		return compilation.ast.size();
+	}
+
+	@Benchmark
+	public int recursiveSize()
+	{
+		return BenchmarkSources.recursiveSize(compilation.ast);
+	}
+
+	@Benchmark
+	public void write3AC() throws IOException
+	{
+		compilation.ast.write3AC(sink);
+	}
+}
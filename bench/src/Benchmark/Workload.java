@@ -0,0 +1,687 @@
+package Benchmark;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Random;
+
+/**
+*	Seeded generator of synthetic C programs for scale testing.  The programs stay inside the subset the compiler
+*	handles: int globals, multi-dimensional int arrays, int functions with two parameters, nested blocks with
+*	declarations, if/else, for, while and do loops, calls of earlier functions and int arithmetic.  Every
+*	identifier is declared before use and no name shadows another, so the compiler reports no diagnostics.<br/>
+*	The scanner enters every identifier it meets into the symbol table until the parser has seen the first token
+*	after a declaration list, so initializers are constants and every declaration list is followed by an empty
+*	statement, as in tests/test.c.<br/>
+*	The same seed and parameters always give the same program.  Output is written function by function, so
+*	corpora of hundreds of megabytes never sit in memory.<br/>
+*	Usage: Workload [--shape name] [--seed n] [--functions n] [--size n[K|M|G]] [--statements n]
+*	[--expression-depth n] [--loop-nesting n] [--identifiers n] [--scope-depth n] [--array-dimensions n]
+*	[--array-length n] [-o file]
+*/
+public class Workload
+{
+	/**	Named parameter sets accepted by {@link #shape(String)}.		*/
+	public static final String[] SHAPES = { "typical", "wide", "deep-expressions", "deep-nesting", "huge-function",
+		"many-identifiers", "arrays" };
+
+	/**	Seed of the random choices.										*/
+	public long seed = 1;
+	/**	Number of functions besides main.  Ignored when size is set.	*/
+	public int functions = 10;
+	/**	Approximate output size in bytes, or 0 to use functions.		*/
+	public long size = 0;
+	/**	Statements directly in each function body.						*/
+	public int statements = 12;
+	/**	Maximum depth of operator nesting in an expression.				*/
+	public int expressionDepth = 3;
+	/**	Maximum number of loops nested in each other.					*/
+	public int loopNesting = 2;
+	/**	Variables declared in every scope (globals, function, block).	*/
+	public int identifiers = 6;
+	/**	Maximum number of blocks with declarations nested in a body.	*/
+	public int scopeDepth = 2;
+	/**	Dimensions of the global arrays, 0 for none.					*/
+	public int arrayDimensions = 1;
+	/**	Extent of every array dimension, also the loop trip count.		*/
+	public int arrayLength = 16;
+
+	/**	Source of all random choices.									*/
+	private Random random;
+	/**	Scalars visible at the current point.							*/
+	private ArrayList<String> visible = new ArrayList<String>();
+	/**	Every name declared so far.										*/
+	private LinkedHashSet<String> declared = new LinkedHashSet<String>();
+	/**	Global array names.												*/
+	private ArrayList<String> arrays = new ArrayList<String>();
+	/**	Index of the function being generated.							*/
+	private int function;
+	/**	Loops enclosing the current point.								*/
+	private int loops;
+	/**	Blocks with declarations enclosing the current point.			*/
+	private int scopes;
+	/**	Blocks declared so far in the current function, for names.		*/
+	private int blocks;
+
+	/**
+	* Creates a generator with the typical parameters.
+	*/
+	public Workload()
+	{
+	}
+
+	/**
+	* Creates a generator with a named parameter set.  Only the shape of functions is set; the number of
+	* functions and the size are left to the caller.
+	* @param name One of {@link #SHAPES}.
+	* @return A new generator.
+	*/
+	public static Workload shape(String name)
+	{
+		Workload w = new Workload();
+
+		if(name.equals("wide")) {
+			w.statements = 4;
+			w.expressionDepth = 2;
+			w.loopNesting = 1;
+			w.scopeDepth = 0;
+		}
+		else if(name.equals("deep-expressions")) {
+			w.statements = 8;
+			w.expressionDepth = 40;
+		}
+		else if(name.equals("deep-nesting")) {
+			w.loopNesting = 12;
+			w.scopeDepth = 12;
+		}
+		else if(name.equals("huge-function")) {
+			w.statements = 20000;
+		}
+		else if(name.equals("many-identifiers")) {
+			w.identifiers = 500;
+		}
+		else if(name.equals("arrays")) {
+			w.arrayDimensions = 4;
+			w.arrayLength = 8;
+		}
+		else if(!name.equals("typical"))
+			throw new IllegalArgumentException("unknown shape: " + name);
+
+		return w;
+	}
+
+	/**
+	* Creates a generator with a named parameter set and a number of functions.
+	* @param name One of {@link #SHAPES}.
+	* @param functions Number of functions besides main.
+	* @return A new generator.
+	*/
+	public static Workload shape(String name, int functions)
+	{
+		Workload w = shape(name);
+		w.functions = functions;
+		return w;
+	}
+
+	/**
+	* Generates the whole program as a string, for benchmarks that keep their input in memory.
+	* @return C source text.
+	*/
+	public String program()
+	{
+		StringWriter sw = new StringWriter();
+
+		try
+		{
+			write(sw);
+		}
+		catch(IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+
+		return sw.toString();
+	}
+
+	/**
+	* Generates the program.
+	* @param out Destination of the source text.
+	* @return Number of characters written.
+	* @throws IOException This can be thrown from File IO features.
+	*/
+	public long write(Writer out) throws IOException
+	{
+		random = new Random(seed);
+		visible.clear();
+		declared.clear();
+		arrays.clear();
+
+		StringBuilder sb = new StringBuilder();
+		long written = 0;
+
+		globals(sb);
+		out.write(sb.toString());
+		written += sb.length();
+
+		for(function = 0; (size > 0) ? written < size : function < functions; function++)
+		{
+			sb.setLength(0);
+			function(sb);
+			out.write(sb.toString());
+			written += sb.length();
+		}
+
+		sb.setLength(0);
+		main(sb);
+		out.write(sb.toString());
+		written += sb.length();
+
+		out.flush();
+		return written;
+	}
+
+	/**
+	* Lists every identifier the program declares, in declaration order.  Used to fill a symbol table when the
+	* scanner is measured without the parser.
+	* @return Identifier names.
+	*/
+	public ArrayList<String> identifiers()
+	{
+		Workload copy = copy();
+
+		try
+		{
+			copy.write(Writer.nullWriter());
+		}
+		catch(IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+
+		return new ArrayList<String>(copy.declared);
+	}
+
+	/**
+	* Copies the parameters into a fresh generator.
+	*/
+	private Workload copy()
+	{
+		Workload w = new Workload();
+		w.seed = seed;
+		w.functions = functions;
+		w.size = size;
+		w.statements = statements;
+		w.expressionDepth = expressionDepth;
+		w.loopNesting = loopNesting;
+		w.identifiers = identifiers;
+		w.scopeDepth = scopeDepth;
+		w.arrayDimensions = arrayDimensions;
+		w.arrayLength = arrayLength;
+		return w;
+	}
+
+	/**
+	* Records a declared name and, for scalars, makes it visible.
+	*/
+	private void declare(String name, boolean scalar)
+	{
+		declared.add(name);
+
+		if(scalar)
+			visible.add(name);
+	}
+
+	/**
+	* Global scalars and arrays.
+	*/
+	private void globals(StringBuilder sb)
+	{
+		for(int i = 0; i < identifiers; i++)
+		{
+			sb.append("int g").append(i).append(";\n");
+			declare("g" + i, true);
+		}
+
+		if(arrayDimensions > 0)
+		{
+			for(int i = 0; i <= identifiers / 4; i++)
+			{
+				sb.append("int a").append(i);
+
+				for(int d = 0; d < arrayDimensions; d++)
+					sb.append('[').append(arrayLength).append(']');
+
+				sb.append(";\n");
+				declare("a" + i, false);
+				arrays.add("a" + i);
+			}
+		}
+
+		sb.append('\n');
+	}
+
+	/**
+	* One function with its locals, loop counters and body.
+	*/
+	private void function(StringBuilder sb)
+	{
+		int mark = visible.size();
+		loops = 0;
+		scopes = 0;
+		blocks = 0;
+
+		sb.append("int f").append(function).append("(int p0, int p1)\n{\n");
+		declare("f" + function, false);
+		declare("p0", true);
+		declare("p1", true);
+
+		for(int i = 0; i < identifiers; i++)
+		{
+			sb.append("\tint l").append(i).append(" = ").append(random.nextInt(100)).append(";\n");
+			declare("l" + i, true);
+		}
+
+		for(int i = 0; i < loopNesting; i++)
+		{
+			sb.append("\tint i").append(i).append(";\n");
+			declare("i" + i, false);
+		}
+
+		endDeclarations(sb, 1);
+
+		for(int i = 0; i < statements; i++)
+			statement(sb, 1);
+
+		sb.append("\treturn ");
+		expression(sb);
+		sb.append(";\n}\n\n");
+
+		shrink(mark);
+	}
+
+	/**
+	* main calls the last few functions, so every generated function is reachable through the call chains.
+	*/
+	private void main(StringBuilder sb)
+	{
+		sb.append("int main()\n{\n\tint r;\n");
+		endDeclarations(sb, 1);
+		sb.append("\tr = 0;\n");
+		declare("main", false);
+		declare("r", false);
+
+		for(int i = Math.max(0, function - 16); i < function; i++)
+			sb.append("\tr = r + f").append(i).append("(r, ").append(i).append(");\n");
+
+		sb.append("\treturn 0;\n}\n");
+	}
+
+	/**
+	* One statement, choosing among the kinds the nesting limits still allow.
+	*/
+	private void statement(StringBuilder sb, int indent)
+	{
+		int choice = random.nextInt(10);
+		boolean nest = indent <= loopNesting + scopeDepth + 1;
+
+		if(choice < 2 && nest && loops < loopNesting)
+			loop(sb, indent);
+
+		else if(choice < 3 && nest && scopes < scopeDepth)
+			block(sb, indent);
+
+		else if(choice < 5 && nest)
+			branch(sb, indent);
+
+		else if(choice < 6 && function > 0)
+		{
+			tab(sb, indent);
+			lvalue(sb);
+			sb.append(" = ");
+			call(sb);
+			sb.append(";\n");
+		}
+		else
+		{
+			tab(sb, indent);
+			lvalue(sb);
+			sb.append(random.nextInt(4) == 0 ? " += " : " = ");
+			expression(sb);
+			sb.append(";\n");
+		}
+	}
+
+	/**
+	* A for, while or do loop over the array extent.  The counter of the loop level is used as an array index
+	* inside the body.
+	*/
+	private void loop(StringBuilder sb, int indent)
+	{
+		String counter = "i" + loops;
+		int kind = random.nextInt(3);
+
+		loops++;
+
+		if(kind == 0)
+		{
+			tab(sb, indent).append("for(").append(counter).append(" = 0; ").append(counter).append(" < ")
+				.append(arrayLength).append("; ").append(counter).append(" = ").append(counter).append(" + 1)\n");
+			body(sb, indent, null);
+		}
+		else if(kind == 1)
+		{
+			tab(sb, indent).append(counter).append(" = 0;\n");
+			tab(sb, indent).append("while(").append(counter).append(" < ").append(arrayLength).append(")\n");
+			body(sb, indent, counter);
+		}
+		else
+		{
+			tab(sb, indent).append(counter).append(" = 0;\n");
+			tab(sb, indent).append("do\n");
+			body(sb, indent, counter);
+			tab(sb, indent).append("while(").append(counter).append(" < ").append(arrayLength).append(");\n");
+		}
+
+		loops--;
+	}
+
+	/**
+	* An if with an else half of the time.
+	*/
+	private void branch(StringBuilder sb, int indent)
+	{
+		tab(sb, indent).append("if(");
+		expression(sb, Math.min(expressionDepth, 2));
+		sb.append(")\n");
+		body(sb, indent, null);
+
+		if(random.nextBoolean())
+		{
+			tab(sb, indent).append("else\n");
+			body(sb, indent, null);
+		}
+	}
+
+	/**
+	* A block opening a new scope with its own declarations.  Names carry the block number, so nothing is
+	* shadowed.
+	*/
+	private void block(StringBuilder sb, int indent)
+	{
+		int mark = visible.size();
+		int number = blocks++;
+
+		scopes++;
+		tab(sb, indent).append("{\n");
+
+		for(int i = 0; i < identifiers; i++)
+		{
+			String name = "b" + number + "_" + i;
+			tab(sb, indent + 1).append("int ").append(name).append(" = ").append(random.nextInt(100)).append(";\n");
+			declare(name, true);
+		}
+
+		endDeclarations(sb, indent + 1);
+
+		int count = 1 + random.nextInt(2);
+		for(int i = 0; i < count; i++)
+			statement(sb, indent + 1);
+
+		tab(sb, indent).append("}\n");
+		scopes--;
+
+		shrink(mark);
+	}
+
+	/**
+	* Ends a declaration list with an empty statement.  The scanner stays in insert mode until the parser reduces
+	* the end of the list, which it does only after reading the next token, so that token must not be an identifier.
+	*/
+	private void endDeclarations(StringBuilder sb, int indent)
+	{
+		tab(sb, indent).append(";\n");
+	}
+
+	/**
+	* A braced body of one or two statements, ending with the increment of a while or do counter if given.
+	*/
+	private void body(StringBuilder sb, int indent, String counter)
+	{
+		tab(sb, indent).append("{\n");
+
+		// fewer than one nested construct per body on average, so deep limits do not blow up the output
+		int count = 1 + random.nextInt(2);
+		for(int i = 0; i < count; i++)
+			statement(sb, indent + 1);
+
+		if(counter != null)
+			tab(sb, indent + 1).append(counter).append(" = ").append(counter).append(" + 1;\n");
+
+		tab(sb, indent).append("}\n");
+	}
+
+	/**
+	* A variable or array element to assign to.
+	*/
+	private void lvalue(StringBuilder sb)
+	{
+		if(!arrays.isEmpty() && random.nextInt(3) == 0)
+			element(sb);
+
+		else
+			sb.append(visible.get(random.nextInt(visible.size())));
+	}
+
+	/**
+	* An array element indexed by constants and the counters of enclosing loops.
+	*/
+	private void element(StringBuilder sb)
+	{
+		sb.append(arrays.get(random.nextInt(arrays.size())));
+
+		for(int d = 0; d < arrayDimensions; d++)
+		{
+			sb.append('[');
+
+			if(loops > 0 && random.nextBoolean())
+				sb.append('i').append(random.nextInt(loops));
+
+			else
+				sb.append(random.nextInt(arrayLength));
+
+			sb.append(']');
+		}
+	}
+
+	/**
+	* A call of an earlier function with simple arguments.
+	*/
+	private void call(StringBuilder sb)
+	{
+		sb.append('f').append(random.nextInt(function)).append('(');
+		argument(sb);
+		sb.append(", ");
+		argument(sb);
+		sb.append(')');
+	}
+
+	/**
+	* A variable or a constant, the only arguments the parser can check against a parameter type.
+	*/
+	private void argument(StringBuilder sb)
+	{
+		if(random.nextInt(4) == 0)
+			sb.append(random.nextInt(100));
+
+		else
+			sb.append(visible.get(random.nextInt(visible.size())));
+	}
+
+	/**
+	* An expression of a random operator depth up to the limit.
+	*/
+	private void expression(StringBuilder sb)
+	{
+		expression(sb, (expressionDepth > 0) ? 1 + random.nextInt(expressionDepth) : 0);
+	}
+
+	/**
+	* An expression of exactly the given operator depth.  One operand of every operator is a leaf, so the size
+	* grows with the depth rather than doubling.
+	*/
+	private void expression(StringBuilder sb, int depth)
+	{
+		if(depth == 0)
+		{
+			leaf(sb);
+			return;
+		}
+
+		String[] operators = { "+", "-", "*", "<", ">", "<=", ">=", "==", "!=", "&&", "||", "&", "|", "^" };
+		int choice = random.nextInt(operators.length + 1);
+
+		sb.append('(');
+
+		if(choice == operators.length)
+		{
+			// division only by a non-zero constant
+			expression(sb, depth - 1);
+			sb.append(" / ").append(1 + random.nextInt(9));
+		}
+		else if(random.nextBoolean())
+		{
+			expression(sb, depth - 1);
+			sb.append(' ').append(operators[choice]).append(' ');
+			leaf(sb);
+		}
+		else
+		{
+			leaf(sb);
+			sb.append(' ').append(operators[choice]).append(' ');
+			expression(sb, depth - 1);
+		}
+
+		sb.append(')');
+	}
+
+	/**
+	* A constant, variable or array element.
+	*/
+	private void leaf(StringBuilder sb)
+	{
+		int choice = random.nextInt(8);
+
+		if(choice < 2)
+			sb.append(random.nextInt(100));
+
+		else if(choice < 3 && !arrays.isEmpty())
+			element(sb);
+
+		else
+			sb.append(visible.get(random.nextInt(visible.size())));
+	}
+
+	/**
+	* Forgets the names declared after a mark when their scope closes.
+	*/
+	private void shrink(int mark)
+	{
+		while(visible.size() > mark)
+			visible.remove(visible.size() - 1);
+	}
+
+	private StringBuilder tab(StringBuilder sb, int indent)
+	{
+		for(int i = 0; i < indent; i++)
+			sb.append('\t');
+
+		return sb;
+	}
+
+	/**
+	* Parses a size with an optional K, M or G suffix.
+	*/
+	private static long parseSize(String s)
+	{
+		char unit = Character.toUpperCase(s.charAt(s.length() - 1));
+		long scale = (unit == 'K') ? 1024L : (unit == 'M') ? 1048576L : (unit == 'G') ? 1073741824L : 1;
+
+		return Long.parseLong((scale == 1) ? s : s.substring(0, s.length() - 1)) * scale;
+	}
+
+	public static void main(String[] args) throws IOException
+	{
+		Workload w = new Workload();
+		String outFile = null;
+
+		// the shape goes first, so explicit parameters override it wherever they appear
+		for(int i = 0; i + 1 < args.length; i++)
+			if(args[i].equals("--shape"))
+				w = shape(args[i + 1]);
+
+		for(int i = 0; i < args.length; i++)
+		{
+			String option = args[i];
+
+			if(i + 1 >= args.length)
+			{
+				System.err.println("Usage: Workload [--shape " + String.join("|", SHAPES) + "] [--seed n] " +
+					"[--functions n] [--size n[K|M|G]] [--statements n] [--expression-depth n] [--loop-nesting n] " +
+					"[--identifiers n] [--scope-depth n] [--array-dimensions n] [--array-length n] [-o file]");
+				System.exit(1);
+			}
+
+			String value = args[++i];
+
+			if(option.equals("--shape"))
+				continue;
+
+			else if(option.equals("--seed"))
+				w.seed = Long.parseLong(value);
+
+			else if(option.equals("--functions"))
+				w.functions = Integer.parseInt(value);
+
+			else if(option.equals("--size"))
+				w.size = parseSize(value);
+
+			else if(option.equals("--statements"))
+				w.statements = Integer.parseInt(value);
+
+			else if(option.equals("--expression-depth"))
+				w.expressionDepth = Integer.parseInt(value);
+
+			else if(option.equals("--loop-nesting"))
+				w.loopNesting = Integer.parseInt(value);
+
+			else if(option.equals("--identifiers"))
+				w.identifiers = Math.max(1, Integer.parseInt(value));
+
+			else if(option.equals("--scope-depth"))
+				w.scopeDepth = Integer.parseInt(value);
+
+			else if(option.equals("--array-dimensions"))
+				w.arrayDimensions = Integer.parseInt(value);
+
+			else if(option.equals("--array-length"))
+				w.arrayLength = Math.max(1, Integer.parseInt(value));
+
+			else if(option.equals("-o"))
+				outFile = value;
+
+			else
+			{
+				System.err.println("Unknown option: " + option);
+				System.exit(1);
+			}
+		}
+
+		Writer out = new BufferedWriter((outFile == null) ? new OutputStreamWriter(System.out) : new FileWriter(outFile),
+			1 << 16);
+		long written = w.write(out);
+		out.close();
+
+		if(outFile != null)
+			System.err.printf("%s: %d function(s), %.1f KB%n", outFile, w.function, written / 1024.0);
+	}
+}
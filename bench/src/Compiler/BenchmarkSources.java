@@ -0,0 +1,107 @@
+package Compiler;
+
+import java.io.*;
+
+/**
+*	Inputs and helpers shared by the compiler benchmarks.
+*/
+public class BenchmarkSources
+{
+	/**	Stream that drops everything.  The code generator and register allocator still print debugging output,
+		which would otherwise end up in the measurements.				*/
+	public static final PrintStream NULL = new PrintStream(OutputStream.nullOutputStream());
+
+	/**
+	* Declares an int variable, as the parser does for a declaration.  Symbol nodes are package private, so
+	* benchmarks outside this package declare names through here.
+	* @param st Symbol table to declare the name in.
+	* @param name Identifier name.
+	*/
+	public static void declare(SymbolTable st, String name)
+	{
+		st.insert(name, new SymbolNode(Types.basic(TypeKind.INT, false), 0));
+	}
+
+	/**
+	* Counts the identifiers of a tree by testing class names, as code generation used to.  Nodes are package
+	* private, so benchmarks outside this package walk trees through here.
+	* @param ast The tree.
+	* @return Number of identifier nodes.
+	*/
+	public static int identifiersByName(Ast ast)
+	{
+		int[] count = new int[1];
+		ast.accept(node -> {
+			if(node.getClass().getName().toLowerCase().contains("identifier"))
+				count[0]++;
+			return true;
+		});
+		return count[0];
+	}
+
+	/**
+	* Counts the identifiers of a tree by their node kind.
+	* @param ast The tree.
+	* @return Number of identifier nodes.
+	*/
+	public static int identifiersByKind(Ast ast)
+	{
+		int[] count = new int[1];
+		ast.accept(node -> {
+			if(node.kind == NodeKind.IDENTIFIER)
+				count[0]++;
+			return true;
+		});
+		return count[0];
+	}
+
+	/**
+	* Counts the nodes of a tree recursing on the Java stack, as Ast.size() did before the traversal kept an
+	* explicit stack.  Baseline of TraversalBenchmark only.
+	* @param ast The tree.
+	* @return Number of nodes.
+	*/
+	public static int recursiveSize(Ast ast)
+	{
+		return recursiveSize(ast.root);
+	}
+
+	private static int recursiveSize(AST_node node)
+	{
+		if(node == null)
+			return 0;
+
+		int size = 1;
+
+		for(AST_node n : node.nodes)
+			size += recursiveSize(n);
+
+		return size;
+	}
+
+	/**
+	* Creates a compilation for in-memory input whose diagnostics are dropped.
+	* @return A new compilation.  It still has to be entered.
+	*/
+	public static Compilation compilation()
+	{
+		Compilation compilation = new Compilation("<benchmark>", null, null, null);
+		compilation.err = NULL;
+		return compilation;
+	}
+
+	/**
+	* Scans and parses a program into the given compilation, which must be the current one.
+	* @param compilation Current compilation.
+	* @param source C source text.
+	* @throws IOException This can be thrown from File IO features.
+	*/
+	public static void parse(Compilation compilation, String source) throws IOException
+	{
+		compilation.scanner = new Scanner(source);
+		compilation.parser = new Parser(compilation.scanner);
+
+		if(!compilation.parser.parse())
+			throw new IllegalStateException("benchmark program does not parse");
+	}
+}
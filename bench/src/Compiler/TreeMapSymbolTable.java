@@ -0,0 +1,117 @@
+package Compiler;
+
+import java.util.*;
+
+/**
+*	The symbol table as it was before the hash based one: a stack of TreeMaps, one per level, where a lookup that
+*	misses the top level pops every level onto a temporary stack and pushes them back.  Kept as the baseline of
+*	SymbolTableBenchmark only.
+*/
+public class TreeMapSymbolTable
+{
+	/** Stack containing nodes to Binary Search Trees.					*/
+	private Stack<TreeMap<Integer,SymbolNode>> stack = new Stack<TreeMap<Integer,SymbolNode>>();
+	/** Stack containing nodes to basic data types (for typedefs)		*/
+	private Stack<BasicDataType> typeTable = new Stack<BasicDataType>();
+	/** Binary Search Tree used when viewing the top of the stack. 		*/
+	private TreeMap<Integer,SymbolNode> bst;
+	/** Stack containing current total offset for allocation frame.		*/
+	private Stack<Integer> offsets = new Stack<Integer>();
+	/** Pool of the identifier ids the levels are keyed on.				*/
+	public Identifiers names = new Identifiers();
+
+	/**
+	* Pushes a new level onto all stacks.
+	*/
+	public void pushLevel()
+	{
+		// the typedef table used to be copied here; types are canonical now, so only the push is left
+		typeTable.push((typeTable.size() > 0) ? typeTable.peek() : Types.basic(TypeKind.VOID, false));
+
+		stack.push(new TreeMap<Integer,SymbolNode>());
+
+		if(offsets.size() > 1)
+			offsets.push(Integer.valueOf(offsets.peek().intValue()));
+
+		else
+			offsets.push(Integer.valueOf(0));
+	}
+
+	/**
+	* Removes the top level from all stacks.
+	*/
+	public void popLevel()
+	{
+		if(stack.size() > 0)
+		{
+			stack.pop();
+			typeTable.pop();
+			offsets.pop();
+		}
+	}
+
+	/**
+	* Declares an int variable in the top level, as the parser does for a declaration.
+	* @param key Identifier name.
+	*/
+	public void declare(String key)
+	{
+		if(stack.size() == 0)
+			pushLevel();
+
+		SymbolNode node = new SymbolNode(Types.basic(TypeKind.INT, false), 0);
+		bst = stack.peek();
+
+		Integer i = offsets.pop();
+		offsets.push(Integer.valueOf(node.origOffset + i.intValue()));
+		node.offset = i.intValue();
+
+		bst.put(names.intern(key), node);
+	}
+
+	/**
+	* Finds a node on any level.
+	* @param key Identifier id.
+	* @return Where the node was found; the node is null if it was not.
+	*/
+	public SymbolTable.FindReturn find(int key)
+	{
+		boolean found = false;
+		SymbolNode node = null;
+		int numLevels = 0;
+
+		Stack<TreeMap<Integer,SymbolNode>> tempStack = new Stack<TreeMap<Integer,SymbolNode>>();
+
+		if(stack.size() == 0)
+			return null;
+
+		bst = stack.peek();
+
+		if(bst.containsKey(key))
+			return new SymbolTable.FindReturn(bst.get(key), 0);
+
+		while(!found && stack.size() > 1)
+		{
+			tempStack.push(bst);
+			stack.pop();
+
+			bst = stack.peek();
+
+			if(bst.containsKey(key))
+			{
+				node = bst.get(key);
+				found = true;
+			}
+
+			numLevels++;
+		}
+
+		while(tempStack.size() > 0)
+		{
+			stack.push(tempStack.peek());
+			tempStack.pop();
+		}
+
+		return new SymbolTable.FindReturn(node,numLevels);
+	}
+}
@@ -14,17 +14,67 @@
 }
 
 %code {
+	/** Compilation this parser belongs to.						*/
+	private Compilation ctx = Compilation.current();
+	
 	public int arrayCount = 0;
 	public int stackSize = 0;
 	public int parameterSize = 0;
 	public int parameterCount = 0;
 	public int currentParameterCount = 0;
-	public String oldId = null;
-	public String functionComment = null;
+	public int oldId = -1;
+	public int functionLine = 0;
 	public int oldLineNum = 0;
 	
 	public ArrayList<String> parameterTypes = new ArrayList<String>();
 	public ArrayList<BasicDataType> typeList = new ArrayList<BasicDataType>();
+	
+	/**
+	* Returns the canonical type of a function from the type names of its declaration.
+	* @param returnType Name of the return type.
+	* @param count Number of parameters.
+	* @param params Names of the parameter types.
+	* @return The function type.
+	*/
+	private FunctionDataType functionType(String returnType, int count, String[] params) {
+		BasicDataType[] types = new BasicDataType[params.length];
+		for(int i = 0; i < params.length; i++)
+			types[i] = ctx.st.type(params[i], false);
+		return ctx.st.types.function(ctx.st.type(returnType, false).kind, count, types);
+	}
+	
+	/**
+	* Returns the type of an argument in a call, for checking it against the parameter.
+	* @param arg The argument expression.
+	* @return An identifier's type, or the type of a constant's value.
+	*/
+	private BasicDataType argumentType(AST_node arg) {
+		switch(arg.kind) {
+			case IDENTIFIER:
+				return ctx.st.type(((AST_identifier) arg).symbol_node.type.getType(), false);
+				
+			case CONSTANT:
+				switch(((AST_constant) arg).literal) {
+					case INTEGER:		return ctx.st.type(TypeKind.INT, false);
+					case FLOATING:		return ctx.st.type(TypeKind.DOUBLE, false);
+					case CHARACTER:		return ctx.st.type(TypeKind.CHAR, false);
+					default:			break;
+				}
+				break;
+				
+			default:
+				// an expression wrapping a single constant
+				Object data = arg.getData();
+				if(data instanceof Integer)
+					return ctx.st.type(TypeKind.INT, false);
+				else if(data instanceof Double)
+					return ctx.st.type(TypeKind.DOUBLE, false);
+				else if(data instanceof Character)
+					return ctx.st.type(TypeKind.CHAR, false);
+		}
+		
+		return ctx.st.type((TypeKind) null, false);
+	}
 }
 
 %debug
@@ -86,38 +136,38 @@
 %%
 
 translation_unit
-	: {Scanner.insertMode = true; } external_declaration {
-		Driver.ast.setRoot(new AST_translation_unit($2, null, Driver.scanner.lineBuffer));
-		$$ = new AST_translation_unit($2,null, Driver.scanner.lineBuffer);	
+	: {ctx.scanner.insertMode = true; } external_declaration {
+		ctx.ast.setRoot(new AST_translation_unit($2, null, ctx.scanner.getLineNo()));
+		$$ = new AST_translation_unit($2,null, ctx.scanner.getLineNo());	
 	}
-	| translation_unit {Scanner.insertMode = true; } external_declaration {
-		Driver.ast.setRoot(new AST_translation_unit($1, $3, Driver.scanner.lineBuffer));
-		$$ = new AST_translation_unit($1,$3, Driver.scanner.lineBuffer);
+	| translation_unit {ctx.scanner.insertMode = true; } external_declaration {
+		ctx.ast.setRoot(new AST_translation_unit($1, $3, ctx.scanner.getLineNo()));
+		$$ = new AST_translation_unit($1,$3, ctx.scanner.getLineNo());
 	}
 	;
 
 external_declaration
 	: function_definition {	
-	AST_node ret = new AST_external_declaration($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_external_declaration($1, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	}
 	| declaration {	
-	AST_node ret = new AST_external_declaration($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_external_declaration($1, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	;
 
-//FD1: {Scanner.functionType = true;};
-//FD2: {Driver.st.pushLevel();};
-FD3: {Scanner.functionType = false;};
+//FD1: {ctx.scanner.functionType = true;};
+//FD2: {ctx.st.pushLevel();};
+FD3: {ctx.scanner.functionType = false; stackSize = 0;};
 
 function_definition
 	: declarator FD3 compound_statement {	
-	functionComment = $1.currentLine;
-	AST_node ret = new AST_function_definition($1, $3, null, null,functionComment, stackSize + parameterSize);
+	functionLine = $1.lineNum;
+	AST_node ret = new AST_function_definition($1, $3, null, null,functionLine, stackSize + parameterSize);
 	
 	parameterSize = 0;
 	parameterCount = 0;
@@ -126,8 +176,8 @@ function_definition
 	
 	}
 	| declarator declaration_list FD3 compound_statement {
-	functionComment = $1.currentLine;
-	AST_node ret = new AST_function_definition($1, $2, $4, null, functionComment, stackSize + parameterSize);
+	functionLine = $1.lineNum;
+	AST_node ret = new AST_function_definition($1, $2, $4, null, functionLine, stackSize + parameterSize);
 	
 	parameterSize = 0;
 	parameterCount = 0;
@@ -136,18 +186,18 @@ function_definition
 	
 	}
 	| declaration_specifiers declarator FD3 compound_statement {
-	functionComment = $2.currentLine;
-	Driver.st.popLevel();	
+	functionLine = $2.lineNum;
+	ctx.st.popLevel();	
 	
 	
 	String retType = (String) $1.getData();
 	String funcID = null;
 	
-	if($2.getClass().getName().contains("identifier"))
+	if($2.kind == NodeKind.IDENTIFIER)
 		funcID = (String) $2.getData();
 		
 	else
-		funcID = (String) $2.nodes.get(0).getData();
+		funcID = (String) $2.nodes[0].getData();
 		
 	String[] params = parameterTypes.toArray(new String[0]);
 	
@@ -157,9 +207,9 @@ function_definition
 	//System.out.println($2.getClass().getName());
 	//System.out.println(retType + " " + funcID);
 	
-	SymbolNode funcNode = new SymbolNode(new FunctionDataType(retType,parameterCount, params), oldLineNum);	
-	Driver.st.insert(funcID, funcNode);
-	AST_node ret = new AST_function_definition($1, $2, $4, null, functionComment, stackSize + parameterSize, funcNode);
+	SymbolNode funcNode = new SymbolNode(functionType(retType, parameterCount, params), oldLineNum);	
+	ctx.st.insert(funcID, funcNode);
+	AST_node ret = new AST_function_definition($1, $2, $4, null, functionLine, stackSize + parameterSize, funcNode);
 	parameterSize = 0;
 	parameterCount = 0;
 	
@@ -170,17 +220,17 @@ function_definition
 	
 	}
 	| declaration_specifiers declarator declaration_list FD3 compound_statement {
-	functionComment = $2.currentLine;
-	Driver.st.popLevel();
+	functionLine = $2.lineNum;
+	ctx.st.popLevel();
 	
 	String retType = (String) $1.getData();
 	String funcID = (String) $2.getData();
 	
 	String[] params = parameterTypes.toArray(new String[0]);
 	
-	SymbolNode funcNode = new SymbolNode(new FunctionDataType(retType,parameterCount, params), oldLineNum);
-	Driver.st.insert(funcID, funcNode);
-	AST_node ret = new AST_function_definition($1, $2, $3, $5, functionComment, stackSize, funcNode);
+	SymbolNode funcNode = new SymbolNode(functionType(retType, parameterCount, params), oldLineNum);
+	ctx.st.insert(funcID, funcNode);
+	AST_node ret = new AST_function_definition($1, $2, $3, $5, functionLine, stackSize, funcNode);
 	parameterSize = 0;
 	parameterCount = 0;
 	
@@ -195,26 +245,26 @@ function_definition
 
 declaration
 	: declaration_specifiers SEMI {	
-	AST_node ret = new AST_declaration($1, null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_declaration($1, null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
-	//Scanner.insertMode = false;
+	//ctx.scanner.insertMode = false;
 	
 	}
 	| declaration_specifiers init_declarator_list SEMI {	
-	AST_node ret = new AST_declaration($1, $2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_declaration($1, $2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
-	//Scanner.insertMode = false;
+	//ctx.scanner.insertMode = false;
 	
 	}
 	;
 
 declaration_list
 	: declaration {	
-	AST_node ret = new AST_declaration_list($1, null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_declaration_list($1, null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -224,7 +274,7 @@ declaration_list
 	
 	}
 	| declaration_list declaration {	
-	AST_node ret = new AST_declaration_list($1, $2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_declaration_list($1, $2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -233,7 +283,7 @@ declaration_list
 
 declaration_specifiers
 	: storage_class_specifier {	
-	AST_node ret = new AST_declaration_specifiers($1, null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_declaration_specifiers($1, null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -243,14 +293,14 @@ declaration_specifiers
 	
 	}
 	| storage_class_specifier declaration_specifiers {	
-	AST_node ret = new AST_declaration_specifiers($1, $2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_declaration_specifiers($1, $2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	 
 	| type_specifier {	
-	AST_node ret = new AST_declaration_specifiers($1, null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_declaration_specifiers($1, null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -260,13 +310,13 @@ declaration_specifiers
 	
 	}
 	| type_specifier declaration_specifiers {	
-	AST_node ret = new AST_declaration_specifiers($1, $2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_declaration_specifiers($1, $2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| type_qualifier  {	
-	AST_node ret = new AST_declaration_specifiers($1, null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_declaration_specifiers($1, null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -275,7 +325,7 @@ declaration_specifiers
 		$$ = ret;
 	}
 	| type_qualifier declaration_specifiers {	
-	AST_node ret = new AST_declaration_specifiers($1, $2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_declaration_specifiers($1, $2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -284,31 +334,31 @@ declaration_specifiers
 
 storage_class_specifier
 	: AUTO {	
-	AST_node ret = new AST_storage_class_specifier(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_storage_class_specifier(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| REGISTER {	
-	AST_node ret = new AST_storage_class_specifier(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_storage_class_specifier(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| STATIC {	
-	AST_node ret = new AST_storage_class_specifier(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_storage_class_specifier(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| EXTERN {	
-	AST_node ret = new AST_storage_class_specifier(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_storage_class_specifier(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| TYPEDEF {	
-	AST_node ret = new AST_storage_class_specifier(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_storage_class_specifier(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -317,73 +367,73 @@ storage_class_specifier
 
 type_specifier
 	: VOID {	
-	AST_node ret = new AST_type_specifier(Driver.scanner.yytext(),null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| CHAR {	
-	AST_node ret = new AST_type_specifier(Driver.scanner.yytext(),null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| SHORT {	
-	AST_node ret = new AST_type_specifier(Driver.scanner.yytext(),null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| INT {	
-	AST_node ret = new AST_type_specifier(Driver.scanner.yytext(),null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| LONG {	
-	AST_node ret = new AST_type_specifier(Driver.scanner.yytext(),null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| FLOAT {	
-	AST_node ret = new AST_type_specifier(Driver.scanner.yytext(),null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	} 
 	| DOUBLE {	
-	AST_node ret = new AST_type_specifier(Driver.scanner.yytext(),null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| SIGNED {	
-	AST_node ret = new AST_type_specifier(Driver.scanner.yytext(),null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| UNSIGNED {	
-	AST_node ret = new AST_type_specifier(Driver.scanner.yytext(),null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| struct_or_union_specifier {	
-	AST_node ret = new AST_type_specifier("",$1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_specifier("",$1, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| enum_specifier {	
-	AST_node ret = new AST_type_specifier("",$1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_specifier("",$1, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| TYPEDEF_NAME {	
-	AST_node ret = new AST_type_specifier(Driver.scanner.yytext(),null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -392,13 +442,13 @@ type_specifier
 
 type_qualifier
 	: CONST {	
-	AST_node ret = new AST_type_qualifier(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_qualifier(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| VOLATILE {	
-	AST_node ret = new AST_type_qualifier(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_qualifier(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -407,19 +457,19 @@ type_qualifier
 
 struct_or_union_specifier
 	: struct_or_union identifier OPEN_BRACE struct_declaration_list CLOSE_BRACE {	
-	AST_node ret = new AST_struct_or_union_specifier($1,$2,$4, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_struct_or_union_specifier($1,$2,$4, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| struct_or_union OPEN_BRACE struct_declaration_list CLOSE_BRACE {	
-	AST_node ret = new AST_struct_or_union_specifier($1,$3,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_struct_or_union_specifier($1,$3,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| struct_or_union identifier {	
-	AST_node ret = new AST_struct_or_union_specifier($1,$2,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_struct_or_union_specifier($1,$2,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -428,13 +478,13 @@ struct_or_union_specifier
 
 struct_or_union
 	: STRUCT {	
-	AST_node ret = new AST_struct_or_union(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_struct_or_union(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| UNION {	
-	AST_node ret = new AST_struct_or_union(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_struct_or_union(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -443,7 +493,7 @@ struct_or_union
 
 struct_declaration_list
 	: struct_declaration {	
-	AST_node ret = new AST_struct_declaration_list($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_struct_declaration_list($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -453,7 +503,7 @@ struct_declaration_list
 	
 	}
 	| struct_declaration_list struct_declaration {	
-	AST_node ret = new AST_struct_declaration_list($1,$2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_struct_declaration_list($1,$2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -462,7 +512,7 @@ struct_declaration_list
 
 init_declarator_list
 	: init_declarator {	
-	AST_node ret = new AST_init_declarator_list($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_init_declarator_list($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -472,7 +522,7 @@ init_declarator_list
 	
 	}
 	| init_declarator_list COMMA init_declarator {	
-	AST_node ret = new AST_init_declarator_list($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_init_declarator_list($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -481,7 +531,7 @@ init_declarator_list
 
 init_declarator
 	: declarator {	
-	AST_node ret = new AST_init_declarator($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_init_declarator($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -491,7 +541,7 @@ init_declarator
 	
 	}
 	| declarator ASSIGN initializer {	
-	AST_node ret = new AST_init_declarator($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_init_declarator($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -500,7 +550,7 @@ init_declarator
 
 struct_declaration
 	: specifier_qualifier_list struct_declarator_list SEMI {	
-	AST_node ret = new AST_struct_declaration($1, $2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_struct_declaration($1, $2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -509,7 +559,7 @@ struct_declaration
 
 specifier_qualifier_list
 	: type_specifier {	
-	AST_node ret = new AST_specifier_qualifier_list($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_specifier_qualifier_list($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -519,13 +569,13 @@ specifier_qualifier_list
 	
 	}
 	| type_specifier specifier_qualifier_list {	
-	AST_node ret = new AST_specifier_qualifier_list($1,$2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_specifier_qualifier_list($1,$2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| type_qualifier {	
-	AST_node ret = new AST_specifier_qualifier_list($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_specifier_qualifier_list($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -535,7 +585,7 @@ specifier_qualifier_list
 	
 	}
 	| type_qualifier specifier_qualifier_list {	
-	AST_node ret = new AST_specifier_qualifier_list($1,$2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_specifier_qualifier_list($1,$2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -544,7 +594,7 @@ specifier_qualifier_list
 
 struct_declarator_list
 	: struct_declarator {	
-	AST_node ret = new AST_struct_declarator($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_struct_declarator($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -554,7 +604,7 @@ struct_declarator_list
 	
 	}
 	| struct_declarator_list COMMA struct_declarator {	
-	AST_node ret = new AST_struct_declarator($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_struct_declarator($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -563,7 +613,7 @@ struct_declarator_list
 
 struct_declarator
 	: declarator {	
-	AST_node ret = new AST_struct_declarator($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_struct_declarator($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -573,7 +623,7 @@ struct_declarator
 	
 	}
 	| COLON constant_expression {	
-	AST_node ret = new AST_struct_declarator($2,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_struct_declarator($2,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $2;
@@ -583,7 +633,7 @@ struct_declarator
 	
 	}
 	| declarator COLON constant_expression {	
-	AST_node ret = new AST_struct_declarator($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_struct_declarator($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -592,7 +642,7 @@ struct_declarator
 
 enum_specifier
 	: ENUM OPEN_BRACE enumerator_list CLOSE_BRACE {	
-	AST_node ret = new AST_enum_specifier($3,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_enum_specifier($3,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $3;
@@ -602,13 +652,13 @@ enum_specifier
 	
 	}
 	| ENUM identifier OPEN_BRACE enumerator_list CLOSE_BRACE {	
-	AST_node ret = new AST_enum_specifier($2,$4, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_enum_specifier($2,$4, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| ENUM identifier {	
-	AST_node ret = new AST_enum_specifier($2,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_enum_specifier($2,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $2;
@@ -621,7 +671,7 @@ enum_specifier
 
 enumerator_list
 	: enumerator {	
-	AST_node ret = new AST_enumerator_list($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_enumerator_list($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -631,7 +681,7 @@ enumerator_list
 	
 	}
 	| enumerator_list COMMA enumerator {	
-	AST_node ret = new AST_enumerator_list($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_enumerator_list($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -640,7 +690,7 @@ enumerator_list
 
 enumerator
 	: identifier {	
-	AST_node ret = new AST_enumerator($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_enumerator($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -650,7 +700,7 @@ enumerator
 	
 	}
 	| identifier ASSIGN constant_expression {	
-	AST_node ret = new AST_enumerator($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_enumerator($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -659,7 +709,7 @@ enumerator
 
 declarator
 	: direct_declarator {	
-	AST_node ret = new AST_declarator($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_declarator($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -669,7 +719,7 @@ declarator
 	
 	}
 	| pointer direct_declarator {	
-	AST_node ret = new AST_declarator($1,$2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_declarator($1,$2, ctx.scanner.getLineNo());
 
 	$$ = ret;
 	
@@ -678,7 +728,7 @@ declarator
 
 direct_declarator
 	: identifier { 	
-	AST_node ret = new AST_direct_declarator($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_direct_declarator($1,null, ctx.scanner.getLineNo());
 	
 	arrayCount = 0;
 	
@@ -690,7 +740,7 @@ direct_declarator
 	
 	}
 	| OPEN_PAREN declarator CLOSE_PAREN {	
-	AST_node ret = new AST_direct_declarator($2,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_direct_declarator($2,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $2;
@@ -699,8 +749,8 @@ direct_declarator
 		$$ = ret;
 	
 	}
-	| direct_declarator OPEN_BRACKET CLOSE_BRACKET {	Driver.scanner.yyerror("No array size given");
-	AST_node ret = new AST_direct_declarator($1,null, Driver.scanner.lineBuffer);
+	| direct_declarator OPEN_BRACKET CLOSE_BRACKET {	ctx.scanner.yyerror("No array size given");
+	AST_node ret = new AST_direct_declarator($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -717,36 +767,36 @@ direct_declarator
 	int size = (obj != null) ? obj.intValue() : 0;
 	
 	if(arrayCount == 0) {
-		String id = Scanner.typeStack.pop();
+		int id = ctx.scanner.typeStack.pop();
 		oldId = id;
 		
-		Driver.st.removeNode(id);
-		Driver.st.insert(id, new SymbolNode(new ArrayDataType(Driver.scanner.currentType, size)));
+		ctx.st.removeNode(id);
+		ctx.st.insert(id, new SymbolNode(ctx.st.types.array(ctx.scanner.currentType, size)));
 	}
 		
 	else {
-		//Driver.st.insert(oldId, new SymbolNode(new ArrayDataType(
-		SymbolNode oldValue = Driver.st.removeNode(oldId);
+		//ctx.st.insert(oldId, new SymbolNode(new ArrayDataType(
+		SymbolNode oldValue = ctx.st.removeNode(oldId);
 		
 		ArrayDataType oldType = (ArrayDataType) oldValue.type;
 		
-		oldType.addNestedArray(new ArrayDataType(Driver.scanner.currentType, size));
+		ArrayDataType newType = ctx.st.types.array(oldType, ctx.st.types.array(ctx.scanner.currentType, size));
 		
-		Driver.st.insert(oldId, new SymbolNode(oldType));
+		ctx.st.insert(oldId, new SymbolNode(newType));
 	}
 	
-	AST_node ret = new AST_direct_declarator("[]",$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_direct_declarator("[]",$1,$3, ctx.scanner.getLineNo());
 	
 	arrayCount++;
 	
 	$$ = ret;
 	
 	}
-	| direct_declarator OPEN_PAREN {Driver.st.pushLevel();} CLOSE_PAREN {	//System.out.println("Here: " + Driver.scanner.lineBuffer);
+	| direct_declarator OPEN_PAREN {ctx.st.pushLevel();} CLOSE_PAREN {	//System.out.println("Here: " + ctx.scanner.currentLine());
 	
-	//Driver.st.insert(Driver.scanner.lastID, new SymbolNode(new FunctionDataType(Driver.scanner.currentType,0), Driver.scanner.getLineNo()));
-	oldLineNum = Driver.scanner.getLineNo();
-	AST_node ret = new AST_direct_declarator($1,null, Driver.scanner.lineBuffer);
+	//ctx.st.insert(ctx.scanner.lastID, new SymbolNode(new FunctionDataType(ctx.scanner.currentType,0), ctx.scanner.getLineNo()));
+	oldLineNum = ctx.scanner.getLineNo();
+	AST_node ret = new AST_direct_declarator($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -755,17 +805,17 @@ direct_declarator
 		$$ = ret;
 	
 	}
-	| direct_declarator OPEN_PAREN {/*Driver.st.insert(Driver.scanner.lastID, new SymbolNode(new FunctionDataType(Driver.scanner.currentType,0), Driver.scanner.getLineNo())); */Driver.st.pushLevel();} parameter_type_list CLOSE_PAREN {	
+	| direct_declarator OPEN_PAREN {/*ctx.st.insert(ctx.scanner.lastID, new SymbolNode(new FunctionDataType(ctx.scanner.currentType,0), ctx.scanner.getLineNo())); */ctx.st.pushLevel();} parameter_type_list CLOSE_PAREN {	
 	
-	oldLineNum = Driver.scanner.getLineNo();
+	oldLineNum = ctx.scanner.getLineNo();
 	
-	AST_node ret = new AST_direct_declarator($1,$4, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_direct_declarator($1,$4, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
-	| direct_declarator OPEN_PAREN identifier_list CLOSE_PAREN {	//System.out.println("Here2: " + Driver.scanner.lineBuffer);
-	AST_node ret = new AST_direct_declarator($1,$3, Driver.scanner.lineBuffer);
+	| direct_declarator OPEN_PAREN identifier_list CLOSE_PAREN {	//System.out.println("Here2: " + ctx.scanner.currentLine());
+	AST_node ret = new AST_direct_declarator($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -774,13 +824,13 @@ direct_declarator
 
 pointer
 	: MUL_OP {	
-	AST_node ret = new AST_pointer(null,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_pointer(null,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| MUL_OP type_qualifier_list {	
-	AST_node ret = new AST_pointer($2,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_pointer($2,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $2;
@@ -790,13 +840,13 @@ pointer
 	
 	}
 	| MUL_OP pointer {	
-	AST_node ret = new AST_pointer($2,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_pointer($2,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| MUL_OP type_qualifier_list pointer {	
-	AST_node ret = new AST_pointer($2,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_pointer($2,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -805,7 +855,7 @@ pointer
 
 type_qualifier_list
 	: type_qualifier {	
-	AST_node ret = new AST_type_qualifier_list($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_qualifier_list($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -815,7 +865,7 @@ type_qualifier_list
 	
 	}
 	| type_qualifier_list type_qualifier {	
-	AST_node ret = new AST_type_qualifier_list($1,$2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_qualifier_list($1,$2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -824,7 +874,7 @@ type_qualifier_list
 
 parameter_type_list
 	: parameter_list {	
-	AST_node ret = new AST_parameter_type_list($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_parameter_type_list($1, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -834,7 +884,7 @@ parameter_type_list
 	
 	}
 	| parameter_list COMMA ELIPSIS {	
-	AST_node ret = new AST_parameter_type_list($1, true, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_parameter_type_list($1, true, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -848,9 +898,9 @@ parameter_type_list
 parameter_list
 	: parameter_declaration {	
 	
-	parameterSize = Driver.st.offsets.peek().intValue();
+	parameterSize = ctx.st.getOffset();
 	parameterCount++;
-	AST_node ret = new AST_parameter_list($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_parameter_list($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -861,10 +911,10 @@ parameter_list
 	}
 	| parameter_list COMMA parameter_declaration {	
 	
-	parameterSize = Driver.st.offsets.peek().intValue();
+	parameterSize = ctx.st.getOffset();
 	parameterCount++;
 	
-	AST_node ret = new AST_parameter_list($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_parameter_list($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -873,7 +923,7 @@ parameter_list
 
 parameter_declaration
 	: declaration_specifiers declarator {	
-	AST_node ret = new AST_parameter_declaration($1,$2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_parameter_declaration($1,$2, ctx.scanner.getLineNo());
 	
 	parameterTypes.add((String)$1.getData());
 	
@@ -881,7 +931,7 @@ parameter_declaration
 	
 	}
 	| declaration_specifiers {	
-	AST_node ret = new AST_parameter_declaration($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_parameter_declaration($1,null, ctx.scanner.getLineNo());
 	
 	parameterTypes.add((String)$1.getData());
 	
@@ -893,7 +943,7 @@ parameter_declaration
 	
 	}
 	| declaration_specifiers abstract_declarator {	
-	AST_node ret = new AST_parameter_declaration($1,$2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_parameter_declaration($1,$2, ctx.scanner.getLineNo());
 	
 	parameterTypes.add((String)$1.getData());
 	
@@ -904,7 +954,7 @@ parameter_declaration
 
 identifier_list
 	: identifier {	
-	AST_node ret = new AST_identifier_list($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_identifier_list($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -914,7 +964,7 @@ identifier_list
 	
 	}
 	| identifier_list COMMA identifier {	
-	AST_node ret = new AST_identifier_list($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_identifier_list($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -923,7 +973,7 @@ identifier_list
 
 initializer
 	: assignment_expression {	
-	AST_node ret = new AST_initializer($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_initializer($1, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -933,7 +983,7 @@ initializer
 	
 	}
 	| OPEN_BRACE initializer_list CLOSE_BRACE {	
-	AST_node ret = new AST_initializer($2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_initializer($2, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $2;
@@ -943,7 +993,7 @@ initializer
 	
 	}
 	| OPEN_BRACE initializer_list COMMA CLOSE_BRACE {	
-	AST_node ret = new AST_initializer($2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_initializer($2, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $2;
@@ -956,7 +1006,7 @@ initializer
 
 initializer_list
 	: initializer {	
-	AST_node ret = new AST_initializer_list($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_initializer_list($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -966,7 +1016,7 @@ initializer_list
 	
 	}
 	| initializer_list COMMA initializer {	
-	AST_node ret = new AST_initializer_list($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_initializer_list($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -975,7 +1025,7 @@ initializer_list
 
 type_name
 	: specifier_qualifier_list {	
-	AST_node ret = new AST_type_name($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_name($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -985,7 +1035,7 @@ type_name
 	
 	}
 	| specifier_qualifier_list abstract_declarator {	
-	AST_node ret = new AST_type_name($1,$2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_type_name($1,$2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -994,7 +1044,7 @@ type_name
 
 abstract_declarator
 	: pointer {	
-	AST_node ret = new AST_abstract_declarator($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_abstract_declarator($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1004,7 +1054,7 @@ abstract_declarator
 	
 	}
 	| direct_abstract_declarator {	
-	AST_node ret = new AST_abstract_declarator($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_abstract_declarator($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1014,7 +1064,7 @@ abstract_declarator
 	
 	}
 	| pointer direct_abstract_declarator {	
-	AST_node ret = new AST_abstract_declarator($1,$2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_abstract_declarator($1,$2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1023,7 +1073,7 @@ abstract_declarator
 
 direct_abstract_declarator
 	: OPEN_PAREN abstract_declarator CLOSE_PAREN {	
-	AST_node ret = new AST_direct_abstract_declarator($2,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_direct_abstract_declarator($2,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $2;
@@ -1033,13 +1083,13 @@ direct_abstract_declarator
 	
 	}
 	| OPEN_BRACKET CLOSE_BRACKET {	
-	AST_node ret = new AST_direct_abstract_declarator(null,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_direct_abstract_declarator(null,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| OPEN_BRACKET constant_expression CLOSE_BRACKET {	
-	AST_node ret = new AST_direct_abstract_declarator($2,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_direct_abstract_declarator($2,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $2;
@@ -1049,7 +1099,7 @@ direct_abstract_declarator
 	
 	}
 	| direct_abstract_declarator OPEN_BRACKET CLOSE_BRACKET {	
-	AST_node ret = new AST_direct_abstract_declarator($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_direct_abstract_declarator($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1059,19 +1109,19 @@ direct_abstract_declarator
 	
 	}
 	| direct_abstract_declarator OPEN_BRACKET constant_expression CLOSE_BRACKET {	
-	AST_node ret = new AST_direct_abstract_declarator($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_direct_abstract_declarator($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| OPEN_PAREN CLOSE_PAREN {	
-	AST_node ret = new AST_direct_abstract_declarator(null,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_direct_abstract_declarator(null,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| OPEN_PAREN parameter_type_list CLOSE_PAREN {	
-	AST_node ret = new AST_direct_abstract_declarator($2,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_direct_abstract_declarator($2,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $2;
@@ -1081,7 +1131,7 @@ direct_abstract_declarator
 	
 	}
 	| direct_abstract_declarator OPEN_PAREN CLOSE_PAREN {	
-	AST_node ret = new AST_direct_abstract_declarator($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_direct_abstract_declarator($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1091,7 +1141,7 @@ direct_abstract_declarator
 	
 	}
 	| direct_abstract_declarator OPEN_PAREN parameter_type_list CLOSE_PAREN {	
-	AST_node ret = new AST_direct_abstract_declarator($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_direct_abstract_declarator($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1100,7 +1150,7 @@ direct_abstract_declarator
 
 statement
 	: labeled_statement {	
-	AST_node ret = new AST_statement($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_statement($1, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1110,7 +1160,7 @@ statement
 	
 	}
 	| compound_statement {	
-	AST_node ret = new AST_statement($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_statement($1, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1120,7 +1170,7 @@ statement
 	
 	}
 	| expression_statement {	
-	AST_node ret = new AST_statement($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_statement($1, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1130,7 +1180,7 @@ statement
 	
 	}
 	| selection_statement {	
-	AST_node ret = new AST_statement($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_statement($1, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1140,7 +1190,7 @@ statement
 	
 	}
 	| iteration_statement {	
-	AST_node ret = new AST_statement($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_statement($1, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1150,7 +1200,7 @@ statement
 	
 	}
 	| jump_statement {	
-	AST_node ret = new AST_statement($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_statement($1, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1163,19 +1213,19 @@ statement
 
 labeled_statement
 	: identifier COLON statement {	
-	AST_node ret = new AST_labeled_statement("",$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_labeled_statement("",$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| CASE constant_expression COLON statement {	
-	AST_node ret = new AST_labeled_statement("case",$2,$4, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_labeled_statement("case",$2,$4, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| DEFAULT COLON statement {	
-	AST_node ret = new AST_labeled_statement("default",$3,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_labeled_statement("default",$3,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1184,13 +1234,13 @@ labeled_statement
 
 expression_statement
 	: SEMI {	
-	AST_node ret = new AST_expression_statement(null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_expression_statement(null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| expression SEMI {	
-	AST_node ret = new AST_expression_statement($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_expression_statement($1, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1201,25 +1251,25 @@ expression_statement
 	}
 	;
 
-CS1:  { Scanner.insertMode = true; Driver.st.pushLevel();};
+CS1:  { ctx.scanner.insertMode = true; ctx.st.pushLevel();};
 
-CS2:  {Scanner.insertMode = false;} ;
+CS2:  {ctx.scanner.insertMode = false;} ;
 
 compound_statement
 	: OPEN_BRACE CLOSE_BRACE {	
-	AST_node ret = new AST_compound_statement(null,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_compound_statement(null,null, ctx.scanner.getLineNo());
 	
-	//Driver.st.popLevel();
+	//ctx.st.popLevel();
 	
 	$$ = ret;
 	
 	}
-	//{$$= create_cs_node(NULL,NULL, Driver.scanner.lineBuffer); }
+	//{$$= create_cs_node(NULL,NULL, ctx.scanner.currentLine()); }
 	| OPEN_BRACE CS2 statement_list CLOSE_BRACE {	
-	AST_node ret = new AST_compound_statement($3,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_compound_statement($3,null, ctx.scanner.getLineNo());
 	
-	stackSize = Driver.st.offsets.peek().intValue();
-	//Driver.st.popLevel();
+	stackSize = ctx.st.getOffset();
+	//ctx.st.popLevel();
 	
 	if(Driver.reduceAST)
 		$$ = $3;
@@ -1228,15 +1278,15 @@ compound_statement
 		$$ = ret;
 	
 	}
-	//{$$ = create_cs_node(NULL,$2, Driver.scanner.lineBuffer);}
+	//{$$ = create_cs_node(NULL,$2, ctx.scanner.currentLine());}
 	
 	/********************************************** FIX *************************************/
 	| OPEN_BRACE CS1 declaration_list CS2 CLOSE_BRACE { 	
 	
-	stackSize = Driver.st.offsets.peek().intValue();
-	Driver.st.popLevel();
+	stackSize = ctx.st.getOffset();
+	ctx.st.popLevel();
 	
-	AST_node ret = new AST_compound_statement($3,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_compound_statement($3,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $3;
@@ -1249,20 +1299,20 @@ compound_statement
 	 /******************************************************************************************/
 	| OPEN_BRACE CS1 declaration_list CS2 statement_list CLOSE_BRACE {
 	
-	stackSize = Driver.st.offsets.peek().intValue();
-	Driver.st.popLevel();
+	stackSize = ctx.st.getOffset();
+	ctx.st.popLevel();
 	
-	AST_node ret = new AST_compound_statement($3,$5, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_compound_statement($3,$5, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
-	 // { $$= create_cs_node((decl_list *)($3, Driver.scanner.lineBuffer), $5, Driver.scanner.lineBuffer); }
+	 // { $$= create_cs_node((decl_list *)($3, ctx.scanner.currentLine()), $5, ctx.scanner.currentLine()); }
 	;
 
 statement_list
 	: statement {	
-	AST_node ret = new AST_statement_list($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_statement_list($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1272,7 +1322,7 @@ statement_list
 	
 	}
 	| statement_list statement {	
-	AST_node ret = new AST_statement_list($1,$2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_statement_list($1,$2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1281,19 +1331,19 @@ statement_list
 
 selection_statement
 	: IF OPEN_PAREN expression CLOSE_PAREN statement {	
-	AST_node ret = new AST_selection_statement("if",$3,$5,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_selection_statement("if",$3,$5,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| IF OPEN_PAREN expression CLOSE_PAREN statement ELSE statement {	
-	AST_node ret = new AST_selection_statement("if-else",$3,$5,$7, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_selection_statement("if-else",$3,$5,$7, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| SWITCH OPEN_PAREN expression CLOSE_PAREN statement {	
-	AST_node ret = new AST_selection_statement("switch",$3,$5,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_selection_statement("switch",$3,$5,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1302,61 +1352,61 @@ selection_statement
 
 iteration_statement
 	: WHILE OPEN_PAREN expression CLOSE_PAREN statement {	
-	AST_node ret = new AST_iteration_statement("while",$3,$5,null,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_iteration_statement("while",$3,$5,null,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| DO statement WHILE OPEN_PAREN expression CLOSE_PAREN SEMI {	
-	AST_node ret = new AST_iteration_statement("do-while",$2,$5,null,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_iteration_statement("do-while",$2,$5,null,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| FOR OPEN_PAREN SEMI SEMI CLOSE_PAREN statement {	
-	AST_node ret = new AST_iteration_statement("for1",$6,null,null,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_iteration_statement("for1",$6,null,null,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| FOR OPEN_PAREN SEMI SEMI expression CLOSE_PAREN statement {	
-	AST_node ret = new AST_iteration_statement("for2",$5,$7,null,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_iteration_statement("for2",$5,$7,null,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| FOR OPEN_PAREN SEMI expression SEMI CLOSE_PAREN statement {	
-	AST_node ret = new AST_iteration_statement("for3",$4,$7,null,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_iteration_statement("for3",$4,$7,null,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| FOR OPEN_PAREN SEMI expression SEMI expression CLOSE_PAREN statement {	
-	AST_node ret = new AST_iteration_statement("for4",$4,$6,$8,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_iteration_statement("for4",$4,$6,$8,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| FOR OPEN_PAREN expression SEMI SEMI CLOSE_PAREN statement {	
-	AST_node ret = new AST_iteration_statement("for5",$3,$7,null,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_iteration_statement("for5",$3,$7,null,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| FOR OPEN_PAREN expression SEMI SEMI expression CLOSE_PAREN statement {	
-	AST_node ret = new AST_iteration_statement("for6",$3,$6,$8,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_iteration_statement("for6",$3,$6,$8,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| FOR OPEN_PAREN expression SEMI expression SEMI CLOSE_PAREN statement {	
-	AST_node ret = new AST_iteration_statement("for7",$3,$5,$8,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_iteration_statement("for7",$3,$5,$8,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| FOR OPEN_PAREN expression SEMI expression SEMI expression CLOSE_PAREN statement {	
-	AST_node ret = new AST_iteration_statement("for8",$3,$5,$7,$9, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_iteration_statement("for8",$3,$5,$7,$9, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1365,31 +1415,31 @@ iteration_statement
 
 jump_statement
 	: GOTO identifier SEMI {	
-	AST_node ret = new AST_jump_statement("goto",$2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_jump_statement("goto",$2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| CONTINUE SEMI {	
-	AST_node ret = new AST_jump_statement("continue",null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_jump_statement("continue",null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| BREAK SEMI {	
-	AST_node ret = new AST_jump_statement("break",null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_jump_statement("break",null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| RETURN SEMI {	
-	AST_node ret = new AST_jump_statement("return",null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_jump_statement("return",null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| RETURN expression SEMI {	
-	AST_node ret = new AST_jump_statement("return",$2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_jump_statement("return",$2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1398,7 +1448,7 @@ jump_statement
 
 expression
 	: assignment_expression {	
-	AST_node ret = new AST_expression($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_expression($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1408,7 +1458,7 @@ expression
 	
 	}
 	| expression COMMA assignment_expression {	
-	AST_node ret = new AST_expression($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_expression($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1417,7 +1467,7 @@ expression
 
 assignment_expression
 	: conditional_expression {	
-	AST_node ret = new AST_assignment_expression($1,null,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_assignment_expression($1,null,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1428,13 +1478,13 @@ assignment_expression
 	}
 	| unary_expression {
 			//AST_node n = $1; 
-			if($1.getClass().getName().contains("constant")) {
-				Driver.scanner.decrementColumn(2);
-				Driver.scanner.yyerror("Can't assign to constant value");
+			if($1.kind == NodeKind.CONSTANT || $1.kind == NodeKind.CONSTANT_EXPRESSION) {
+				ctx.scanner.decrementColumn(2);
+				ctx.scanner.yyerror("Can't assign to constant value");
 			} 
 			} 
 			assignment_operator assignment_expression {	
-	AST_node ret = new AST_assignment_expression($1,$3,$4, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_assignment_expression($1,$3,$4, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1443,67 +1493,67 @@ assignment_expression
 
 assignment_operator
 	: ASSIGN {	
-	AST_node ret = new AST_assignment_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| MUL_ASSIGN {	
-	AST_node ret = new AST_assignment_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| DIV_ASSIGN {	
-	AST_node ret = new AST_assignment_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| MOD_ASSIGN {	
-	AST_node ret = new AST_assignment_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| ADD_ASSIGN {	
-	AST_node ret = new AST_assignment_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| SUB_ASSIGN {	
-	AST_node ret = new AST_assignment_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| LEFT_ASSIGN {	
-	AST_node ret = new AST_assignment_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| RIGHT_ASSIGN {	
-	AST_node ret = new AST_assignment_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| AND_ASSIGN {	
-	AST_node ret = new AST_assignment_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| XOR_ASSIGN {	
-	AST_node ret = new AST_assignment_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| OR_ASSIGN {	
-	AST_node ret = new AST_assignment_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1512,7 +1562,7 @@ assignment_operator
 
 conditional_expression
 	: logical_or_expression {	
-	AST_node ret = new AST_conditional_expression($1,null,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_conditional_expression($1,null,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1522,7 +1572,7 @@ conditional_expression
 	
 	}
 	| logical_or_expression QUESTION_MARK expression COLON conditional_expression {	
-	AST_node ret = new AST_conditional_expression($1,$3,$5, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_conditional_expression($1,$3,$5, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1531,7 +1581,7 @@ conditional_expression
 
 constant_expression
 	: conditional_expression {	
-	AST_node ret = new AST_constant_expression($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_constant_expression($1, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1544,7 +1594,7 @@ constant_expression
 
 logical_or_expression
 	: logical_and_expression {	
-	AST_node ret = new AST_logical_or_expression($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_logical_or_expression($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1554,7 +1604,7 @@ logical_or_expression
 	
 	}
 	| logical_or_expression L_OR_OP logical_and_expression {	
-	AST_node ret = new AST_logical_or_expression($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_logical_or_expression($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1563,7 +1613,7 @@ logical_or_expression
 
 logical_and_expression
 	: inclusive_or_expression {	
-	AST_node ret = new AST_logical_and_expression($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_logical_and_expression($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1573,7 +1623,7 @@ logical_and_expression
 	
 	}
 	| logical_and_expression L_AND_OP inclusive_or_expression {	
-	AST_node ret = new AST_logical_and_expression($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_logical_and_expression($1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1582,7 +1632,7 @@ logical_and_expression
 
 inclusive_or_expression
 	: exclusive_or_expression {	
-	AST_node ret = new AST_inclusive_or_expression($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_inclusive_or_expression($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1592,13 +1642,10 @@ inclusive_or_expression
 	
 	}
 	| inclusive_or_expression OR_OP exclusive_or_expression {	
-	AST_node ret = new AST_inclusive_or_expression($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_inclusive_or_expression($1,$3, ctx.scanner.getLineNo());
 	
-	String argType1 = $1.getClassType().toLowerCase();
-	String argType2 = $3.getClassType().toLowerCase();
-	
-	if(argType1.contains("double") || argType2.contains("double") || argType1.contains("float") || argType2.contains("float"))
-		Driver.scanner.yyerror("Cannot use bitwise OR on a floating point value");
+	if($1.isFloating() || $3.isFloating())
+		ctx.scanner.yyerror("Cannot use bitwise OR on a floating point value");
 	
 	$$ = ret;
 	
@@ -1607,7 +1654,7 @@ inclusive_or_expression
 
 exclusive_or_expression
 	: and_expression {	
-	AST_node ret = new AST_exclusive_or_expression($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_exclusive_or_expression($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1617,13 +1664,10 @@ exclusive_or_expression
 	
 	}
 	| exclusive_or_expression XOR_OP and_expression {	
-	AST_node ret = new AST_exclusive_or_expression($1,$3, Driver.scanner.lineBuffer);
-	
-	String argType1 = $1.getClassType().toLowerCase();
-	String argType2 = $3.getClassType().toLowerCase();
+	AST_node ret = new AST_exclusive_or_expression($1,$3, ctx.scanner.getLineNo());
 	
-	if(argType1.contains("double") || argType2.contains("double") || argType1.contains("float") || argType2.contains("float"))
-		Driver.scanner.yyerror("Cannot use bitwise XOR on a floating point value");
+	if($1.isFloating() || $3.isFloating())
+		ctx.scanner.yyerror("Cannot use bitwise XOR on a floating point value");
 	
 	$$ = ret;
 	
@@ -1632,7 +1676,7 @@ exclusive_or_expression
 
 and_expression
 	: equality_expression {	
-	AST_node ret = new AST_and_expression($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_and_expression($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1642,13 +1686,10 @@ and_expression
 	
 	}
 	| and_expression AND_OP equality_expression {	
-	AST_node ret = new AST_and_expression($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_and_expression($1,$3, ctx.scanner.getLineNo());
 	
-	String argType1 = $1.getClassType().toLowerCase();
-	String argType2 = $3.getClassType().toLowerCase();
-	
-	if(argType1.contains("double") || argType2.contains("double") || argType1.contains("float") || argType2.contains("float"))
-		Driver.scanner.yyerror("Cannot use bitwise AND on a floating point value");
+	if($1.isFloating() || $3.isFloating())
+		ctx.scanner.yyerror("Cannot use bitwise AND on a floating point value");
 	
 	$$ = ret;
 	
@@ -1657,7 +1698,7 @@ and_expression
 
 equality_expression
 	: relational_expression {	
-	AST_node ret = new AST_equality_expression("",$1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_equality_expression("",$1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1667,13 +1708,13 @@ equality_expression
 	
 	}
 	| equality_expression EQ_OP relational_expression {	
-	AST_node ret = new AST_equality_expression("==",$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_equality_expression("==",$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| equality_expression NE_OP relational_expression {	
-	AST_node ret = new AST_equality_expression("!=",$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_equality_expression("!=",$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1682,7 +1723,7 @@ equality_expression
 
 relational_expression
 	: shift_expression {	
-	AST_node ret = new AST_relational_expression("",$1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_relational_expression("",$1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1692,25 +1733,25 @@ relational_expression
 	
 	}
 	| relational_expression LT_OP shift_expression {	
-	AST_node ret = new AST_relational_expression("<",$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_relational_expression("<",$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| relational_expression GT_OP shift_expression {	
-	AST_node ret = new AST_relational_expression(">",$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_relational_expression(">",$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| relational_expression LE_OP shift_expression {	
-	AST_node ret = new AST_relational_expression("<=",$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_relational_expression("<=",$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| relational_expression GE_OP shift_expression {	
-	AST_node ret = new AST_relational_expression(">=",$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_relational_expression(">=",$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1719,7 +1760,7 @@ relational_expression
 
 shift_expression
 	: additive_expression {	
-	AST_node ret = new AST_shift_expression("",$1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_shift_expression("",$1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1729,26 +1770,20 @@ shift_expression
 	
 	}
 	| shift_expression LEFT_OP additive_expression {	
-	AST_node ret = new AST_shift_expression("<<",$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_shift_expression("<<",$1,$3, ctx.scanner.getLineNo());
 	
 	//System.out.println($1.getData().getClass().getName());
-	String argType1 = $1.getClassType().toLowerCase();
-	String argType2 = $3.getClassType().toLowerCase();
-	
-	if(argType1.contains("double") || argType2.contains("double") || argType1.contains("float") || argType2.contains("float"))
-		Driver.scanner.yyerror("Cannot Shift a floating point value");
+	if($1.isFloating() || $3.isFloating())
+		ctx.scanner.yyerror("Cannot Shift a floating point value");
 	
 	$$ = ret;
 	
 	}
 	| shift_expression RIGHT_OP additive_expression {	
-	AST_node ret = new AST_shift_expression(">>",$1,$3, Driver.scanner.lineBuffer);
-	
-	String argType1 = $1.getClassType().toLowerCase();
-	String argType2 = $3.getClassType().toLowerCase();
+	AST_node ret = new AST_shift_expression(">>",$1,$3, ctx.scanner.getLineNo());
 	
-	if(argType1.contains("double") || argType2.contains("double") || argType1.contains("float") || argType2.contains("float"))
-		Driver.scanner.yyerror("Cannot Shift a floating point value");
+	if($1.isFloating() || $3.isFloating())
+		ctx.scanner.yyerror("Cannot Shift a floating point value");
 	
 	$$ = ret;
 	
@@ -1757,7 +1792,7 @@ shift_expression
 
 additive_expression
 	: multiplicative_expression {	
-	AST_node ret = new AST_additive_expression('\0',$1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_additive_expression('\0',$1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1768,13 +1803,13 @@ additive_expression
 	}
 	| additive_expression ADD_OP multiplicative_expression {	
 	
-	AST_node ret = new AST_additive_expression('+',$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_additive_expression('+',$1,$3, ctx.scanner.getLineNo());
 /*	
 	Object arg1 = $1.getData();
 	Object arg2 = $3.getData();
 	
 	if(arg1 == null || arg2 == null) 
-		ret = new AST_additive_expression('+',$1,$3, Driver.scanner.lineBuffer);
+		ret = new AST_additive_expression('+',$1,$3, ctx.scanner.getLineNo());
 		
 		
 	else {
@@ -1782,17 +1817,17 @@ additive_expression
 		//System.out.println(arg2);
 	
 		if(arg1.getClass().equals(arg2.getClass()))
-			ret = new AST_additive_expression('+',$1,$3, Driver.scanner.lineBuffer);
+			ret = new AST_additive_expression('+',$1,$3, ctx.scanner.getLineNo());
 		
 		else
-			ret = new AST_additive_expression('+',new AST_int_to_float($1, Driver.scanner.lineBuffer),$3, Driver.scanner.lineBuffer);
+			ret = new AST_additive_expression('+',new AST_int_to_float($1, ctx.scanner.getLineNo()),$3, ctx.scanner.getLineNo());
 	}
 	*/
 	$$ = ret;
 	
 	}
 	| additive_expression SUB_OP multiplicative_expression {	
-	AST_node ret = new AST_additive_expression('-',$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_additive_expression('-',$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1801,7 +1836,7 @@ additive_expression
 
 multiplicative_expression
 	: cast_expression {	
-	AST_node ret = new AST_multiplicative_expression('\0',$1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_multiplicative_expression('\0',$1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1811,19 +1846,19 @@ multiplicative_expression
 	
 	}
 	| multiplicative_expression MUL_OP cast_expression {	
-	AST_node ret = new AST_multiplicative_expression('*',$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_multiplicative_expression('*',$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| multiplicative_expression DIV_OP cast_expression {	
-	AST_node ret = new AST_multiplicative_expression('/',$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_multiplicative_expression('/',$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| multiplicative_expression MOD_OP cast_expression {	
-	AST_node ret = new AST_multiplicative_expression('%',$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_multiplicative_expression('%',$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1832,7 +1867,7 @@ multiplicative_expression
 
 cast_expression
 	: unary_expression {	
-	AST_node ret = new AST_cast_expression($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_cast_expression($1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1842,7 +1877,7 @@ cast_expression
 	
 	}
 	| OPEN_PAREN type_name CLOSE_PAREN cast_expression {	
-	AST_node ret = new AST_cast_expression($2,$4, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_cast_expression($2,$4, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1851,7 +1886,7 @@ cast_expression
 
 unary_expression
 	: postfix_expression {	
-	AST_node ret = new AST_unary_expression("",$1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_unary_expression("",$1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1861,41 +1896,37 @@ unary_expression
 	
 	}
 	| INC_OP unary_expression {	
-	AST_node ret = new AST_unary_expression("++",$2,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_unary_expression("++",$2,null, ctx.scanner.getLineNo());
 	
-	String type = $2.getClassType().toLowerCase();
-	
-	if(type.contains("float") || type.contains("double"))
-		Driver.scanner.yywarning("using increment operator on floating point type");
+	if($2.isFloating())
+		ctx.scanner.yywarning("using increment operator on floating point type");
 	
 	$$ = ret;
 	
 	}
 	| DEC_OP unary_expression {	
-	AST_node ret = new AST_unary_expression("--",$2,null, Driver.scanner.lineBuffer);
-	
-	String type = $2.getClassType().toLowerCase();
+	AST_node ret = new AST_unary_expression("--",$2,null, ctx.scanner.getLineNo());
 	
-	if(type.contains("float") || type.contains("double"))
-		Driver.scanner.yywarning("using decrement operator on floating point type");
+	if($2.isFloating())
+		ctx.scanner.yywarning("using decrement operator on floating point type");
 	
 	$$ = ret;
 	
 	}
 	| unary_operator cast_expression {	
-	AST_node ret = new AST_unary_expression("",$1,$2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_unary_expression("",$1,$2, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| SIZEOF unary_expression {	
-	AST_node ret = new AST_unary_expression("sizeof",$2,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_unary_expression("sizeof",$2,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| SIZEOF OPEN_PAREN type_name CLOSE_PAREN {	
-	AST_node ret = new AST_unary_expression("sizeof",$3,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_unary_expression("sizeof",$3,null, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1904,37 +1935,37 @@ unary_expression
 
 unary_operator
 	: AND_OP {	
-	AST_node ret = new AST_unary_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_unary_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| MUL_OP {	
-	AST_node ret = new AST_unary_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_unary_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| ADD_OP {	
-	AST_node ret = new AST_unary_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_unary_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| SUB_OP {	
-	AST_node ret = new AST_unary_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_unary_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;	
 
 	}
 	| BIT_NOT_OP {	
-	AST_node ret = new AST_unary_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_unary_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| NOT_OP {	
-	AST_node ret = new AST_unary_operator(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_unary_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -1943,7 +1974,7 @@ unary_operator
 
 postfix_expression
 	: primary_expression {	
-	AST_node ret = new AST_postfix_expression("",$1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_postfix_expression("",$1,null, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -1953,23 +1984,23 @@ postfix_expression
 	
 	}
 	| postfix_expression OPEN_BRACKET expression CLOSE_BRACKET {	
-	AST_node ret = new AST_postfix_expression("[]",$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_postfix_expression("[]",$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| postfix_expression OPEN_PAREN CLOSE_PAREN {	// FUNCTION CALL
-	AST_node ret = new AST_postfix_expression("{}",$1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_postfix_expression("{}",$1,null, ctx.scanner.getLineNo());
 	
-	SymbolNode symbol = (Driver.st.find((String)$1.getData())).node;
+	SymbolNode symbol = (ctx.st.find((String)$1.getData())).node;
 	
-	if(!symbol.type.getClass().getName().toLowerCase().contains("function"))
-		Driver.scanner.yyerror(String.format("%s is not a function!", (String)$1.getData()));
+	if(!(symbol.type instanceof FunctionDataType))
+		ctx.scanner.yyerror(String.format("%s is not a function!", (String)$1.getData()));
 		
 	int params = ((FunctionDataType) symbol.type).numParameters;
 	
 	if(params != currentParameterCount)
-		Driver.scanner.yyerror("number of parameters do not match; expected " + 
+		ctx.scanner.yyerror("number of parameters do not match; expected " + 
 							String.valueOf(params) + " -- found " + currentParameterCount);
 	
 	currentParameterCount = 0;
@@ -1978,17 +2009,17 @@ postfix_expression
 	
 	}
 	| postfix_expression OPEN_PAREN argument_expression_list CLOSE_PAREN {	// FUNCTION CALL
-	AST_node ret = new AST_postfix_expression("{arg}",$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_postfix_expression("{arg}",$1,$3, ctx.scanner.getLineNo());
 	
-	SymbolNode symbol = (Driver.st.find((String)$1.getData())).node;
+	SymbolNode symbol = (ctx.st.find((String)$1.getData())).node;
 	
-	if(!symbol.type.getClass().getName().toLowerCase().contains("function"))
-		Driver.scanner.yyerror(String.format("%s is not a function!", (String)$1.getData()));
+	if(!(symbol.type instanceof FunctionDataType))
+		ctx.scanner.yyerror(String.format("%s is not a function!", (String)$1.getData()));
 		
 	int params = ((FunctionDataType) symbol.type).numParameters;
 	
 	if(params != currentParameterCount)
-		Driver.scanner.yyerror("number of parameters do not match; expected " + 
+		ctx.scanner.yyerror("number of parameters do not match; expected " + 
 							String.valueOf(params) + " -- found " + currentParameterCount);
 		
 		
@@ -2000,19 +2031,19 @@ postfix_expression
 	{
 		BasicDataType[] t = functionType.parameterTypes;
 		
-		if(t[i].type.equals("float") && typeList.get(i).type.equals("double")) {			
-			Driver.scanner.yywarning("implicit cast from double to float in function call");
+		if(t[i].kind == TypeKind.FLOAT && typeList.get(i).kind == TypeKind.DOUBLE) {			
+			ctx.scanner.yywarning("implicit cast from double to float in function call");
 			coersion = true;
 		}
 		
-		else if(t[i].type.equals("double") && typeList.get(i).type.equals("float"))
+		else if(t[i].kind == TypeKind.DOUBLE && typeList.get(i).kind == TypeKind.FLOAT)
 		{
-			Driver.scanner.yywarning("implicit cast from float to double in function call");
+			ctx.scanner.yywarning("implicit cast from float to double in function call");
 			coersion = true;
 		}
 		
 		if(!t[i].equals(typeList.get(i)) && !coersion)
-			Driver.scanner.yyerror("parameter types do no match; expected " + t[i].type + " -- found " + typeList.get(i).type);
+			ctx.scanner.yyerror("parameter types do no match; expected " + t[i].type + " -- found " + typeList.get(i).type);
 	}
 	
 	
@@ -2023,35 +2054,31 @@ postfix_expression
 	
 	}
 	| postfix_expression PERIOD identifier {	
-	AST_node ret = new AST_postfix_expression(".",$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_postfix_expression(".",$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| postfix_expression PTR_OP identifier {	
-	AST_node ret = new AST_postfix_expression("->",$1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_postfix_expression("->",$1,$3, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| postfix_expression INC_OP {	
-	AST_node ret = new AST_postfix_expression("++",$1,null, Driver.scanner.lineBuffer);
-	
-	String type = $1.getClassType().toLowerCase();
+	AST_node ret = new AST_postfix_expression("++",$1,null, ctx.scanner.getLineNo());
 	
-	if(type.contains("float") || type.contains("double"))
-		Driver.scanner.yywarning("using increment operator on floating point type");
+	if($1.isFloating())
+		ctx.scanner.yywarning("using increment operator on floating point type");
 	
 	$$ = ret;
 	
 	}
 	| postfix_expression DEC_OP {	
-	AST_node ret = new AST_postfix_expression("--",$1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_postfix_expression("--",$1,null, ctx.scanner.getLineNo());
 	
-	String type = $1.getClassType().toLowerCase();
-	
-	if(type.contains("float") || type.contains("double"))
-		Driver.scanner.yywarning("using decrement operator on floating point type");
+	if($1.isFloating())
+		ctx.scanner.yywarning("using decrement operator on floating point type");
 	
 	$$ = ret;
 	
@@ -2060,7 +2087,7 @@ postfix_expression
 
 primary_expression
 	: identifier {	
-	AST_node ret = new AST_primary_expression($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_primary_expression($1, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -2070,7 +2097,7 @@ primary_expression
 	
 	}
 	| constant {	
-	AST_node ret = new AST_primary_expression($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_primary_expression($1, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -2080,7 +2107,7 @@ primary_expression
 	
 	}
 	| string {	
-	AST_node ret = new AST_primary_expression($1, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_primary_expression($1, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -2090,7 +2117,7 @@ primary_expression
 	
 	}
 	| OPEN_PAREN expression CLOSE_PAREN {	
-	AST_node ret = new AST_primary_expression($2, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_primary_expression($2, ctx.scanner.getLineNo());
 	
 	if(Driver.reduceAST)
 		$$ = $2;
@@ -2103,39 +2130,12 @@ primary_expression
 
 argument_expression_list
 	: assignment_expression {	
-	AST_node ret = new AST_argument_expression_list($1,null, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_argument_expression_list($1,null, ctx.scanner.getLineNo());
 	
 	//parameterCount++;
 	currentParameterCount++;
 	
-	String s;
-	
-	if($1.getClass().getName().contains("identifier"))
-	{
-		s = ((AST_identifier) $1).symbol_node.type.getType();
-	}
-	
-	else
-	{
-		s = $1.getData().getClass().getName().toLowerCase();
-	
-		if(s.contains("integer"))
-			s = "int";
-		
-		else if(s.contains("float"))
-			s = "float";
-		
-		else if(s.contains("double"))
-			s = "double";
-		
-		else if(s.contains("char"))
-			s = "char";
-		
-		else if(s.contains("long"))
-			s = "long";
-	}
-
-	typeList.add(new BasicDataType(s));
+	typeList.add(argumentType($1));
 	
 	if(Driver.reduceAST)
 		$$ = $1;
@@ -2145,39 +2145,12 @@ argument_expression_list
 	
 	}
 	| argument_expression_list COMMA assignment_expression {	
-	AST_node ret = new AST_argument_expression_list($1,$3, Driver.scanner.lineBuffer);
+	AST_node ret = new AST_argument_expression_list($1,$3, ctx.scanner.getLineNo());
 	
 	//parameterCount++;
 	currentParameterCount++;
 	
-	String s;
-	
-	if($3.getClass().getName().contains("identifier"))
-	{
-		s = ((AST_identifier) $3).symbol_node.type.getType();
-	}
-	
-	else
-	{
-		s = $3.getData().getClass().getName().toLowerCase();
-	
-		if(s.contains("integer"))
-			s = "int";
-		
-		else if(s.contains("float"))
-			s = "float";
-		
-		else if(s.contains("double"))
-			s = "double";
-		
-		else if(s.contains("char"))
-			s = "char";
-		
-		else if(s.contains("long"))
-			s = "long";
-	}
-
-	typeList.add(new BasicDataType(s));
+	typeList.add(argumentType($3));
 	
 	$$ = ret;
 	
@@ -2186,25 +2159,25 @@ argument_expression_list
 
 constant
 	: INTEGER_CONSTANT {	
-	AST_node ret = new AST_constant(Driver.scanner.getLVal(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_constant(AST_constant.Literal.INTEGER, ctx.scanner.intValue, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| CHARACTER_CONSTANT {	
-	AST_node ret = new AST_constant(Driver.scanner.getLVal(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_constant(AST_constant.Literal.CHARACTER, ctx.scanner.intValue, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| FLOATING_CONSTANT {	
-	AST_node ret = new AST_constant(Driver.scanner.getLVal(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_constant(ctx.scanner.floatValue, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
 	}
 	| ENUMERATION_CONSTANT {	
-	AST_node ret = new AST_constant(Driver.scanner.yytext(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_constant(ctx.scanner.text(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -2213,8 +2186,8 @@ constant
 
 string
 	: STRING_LITERAL {	
-	String sBuffer = Driver.scanner.yytext().substring(1,Driver.scanner.yytext().length()-1);
-	AST_node ret = new AST_string(sBuffer, Driver.scanner.lineBuffer);
+	String sBuffer = ctx.scanner.text().substring(1,ctx.scanner.text().length()-1);
+	AST_node ret = new AST_string(sBuffer, ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
@@ -2223,7 +2196,7 @@ string
 
 identifier
 	: IDENTIFIER {	
-	AST_node ret = new AST_identifier(Driver.scanner.yytext(), (SymbolNode)Driver.scanner.getLVal(), Driver.scanner.lineBuffer);
+	AST_node ret = new AST_identifier(ctx.scanner.lastID, (SymbolNode)ctx.scanner.getLVal(), ctx.scanner.getLineNo());
 	
 	$$ = ret;
 	
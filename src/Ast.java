@@ -1,30 +1,48 @@
 
 package Compiler;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.io.*;
 
+import Assembly.FragmentCache;
+import Assembly.Fragments;
+import Assembly.IrBuilder;
+import Assembly.IrBuilder.Label;
+import Assembly.IrProgram;
+import Assembly.IrTextWriter;
+import Assembly.Opcode;
+import Assembly.Operand;
+import Assembly.TimeReport;
+
 /**
 	Abstract Syntax Tree.  Contains the root and methods for outputing the tree's state.
 */
 public class Ast
 {
+	/**
+	*	Deepest nesting of statements and unary operators the 3AC is checked to generate on the default 1 MB
+	*	thread stack, by NestingDepthTest.  See {@link #generate(AST_node, IrBuilder)}.
+	*/
+	public static final int NESTING_LIMIT = 1000;
 	/** Root node.								*/
 	protected AST_node root;
-	/** Reference to Symbol Table.				*/
-	protected SymbolTable st = Driver.st;
-	/** Used in writeDotFile function.			*/
+	/** Used in size function.					*/
 	protected int nodeCount;
 	/** Counter used for integer labels			*/
-	public static int integerLabelCounter;
+	public int integerLabelCounter;
 	/** Counter used for float labels			*/
-	public static int floatLabelCounter;
+	public int floatLabelCounter;
 	/** Counter used for counting labels		*/
-	public static int labelCounter;
+	public int labelCounter;
 	/** Counter used for string labels			*/
-	public static int stringLabelCounter;
+	public int stringLabelCounter;
 	/** Counter used for character labels		*/
-	public static int characterLabelCounter;
+	public int characterLabelCounter;
+	/** Number of the line in lineText, or 0.	*/
+	private int lineNumber;
+	/** Trimmed text of the last line asked for.	*/
+	private String lineText = "";
 	
 	/**
 	*	Default Constructor.  Sets root to null.
@@ -57,91 +75,161 @@ public class Ast
 	*/
 	public void print()
 	{
-		printNode(root);
+		accept(node -> { node.print(); return true; });
 	}
 	
 	/**
-	* Helper function for recursive printing.
-	* @param node The node to print.
+	* Runs a pass over the tree, visiting the nodes depth first in the order they were added.  Empty child slots
+	* are skipped.
+	* @param visitor The pass.
 	*/
-	private void printNode(AST_node node)
+	public void accept(Visitor visitor)
 	{
-		if(node == null)
-			return;
-			
-		node.print();
-		
-		for(AST_node n : node.nodes)
-			printNode(n);
+		visit(root, visitor);
 	}
 	
 	/**
-	* Function to output a graphviz dot file.  This will allow the tree to be visualized as an image.
-	* @param filename Name of output file.
+	* Runs a pass over a subtree.  The nodes waiting for their children are kept on an explicit stack, so the
+	* depth of the tree is bounded by the heap instead of the thread's stack.
+	* @param root Root of the subtree, may be null.
+	* @param visitor The pass.
+	* @see #accept(Visitor)
 	*/
-	public void writeDotFile(String filename)
+	static void visit(AST_node root, Visitor visitor)
 	{
-		PrintWriter fout;
+		if(root == null || !visitor.enter(root))
+			return;
+			
+		ArrayDeque<Frame> stack = new ArrayDeque<Frame>();
+		stack.push(new Frame(root));
 		
-		try
+		while(!stack.isEmpty())
 		{
-			fout = new PrintWriter(filename);
-			
-			nodeCount = 0;
-			
-			fout.println("strict digraph AST {");
-			fout.println("\tstart_node [shape=none label=\"\"];\n" + 
-				"\tstart_node -> node1;");
+			Frame frame = stack.peek();
 			
-			writeDotFileNode(null,root,fout,0);
-			
-			fout.println("}\n");
+			if(frame.next < frame.node.nodes.length)
+			{
+				AST_node child = frame.node.nodes[frame.next++];
+				
+				if(child != null && visitor.enter(child))
+					stack.push(new Frame(child));
+			}
 			
-			fout.close();
-		}
-		
-		catch(IOException e)
-		{
-			System.err.println("Critical IO Failure in Ast::writeDotFile");
-			System.exit(1);
+			else
+			{
+				stack.pop();
+				visitor.leave(frame.node);
+			}
 		}
+	}
+	
+	/**
+	* Generates the 3 address code of a subtree and returns the register holding its value.  Nodes that only pass
+	* their children through (the lists the left recursive rules chain up) and the binary operators, which
+	* generate both operands before themselves, are walked on an explicit stack; the other nodes generate
+	* themselves through {@link AST_node#gen3AC(IrBuilder)}, coming back here for their children.  Long
+	* statement lists and operator chains therefore do not grow the thread's stack, but every nested statement,
+	* unary operator, call or assignment still takes a few Java frames; {@link #NESTING_LIMIT} levels are known to
+	* fit, and about half as many again overflow.<br/>
+	* TODO: generate those kinds on the explicit stack too, as continuations of their frames, and drop the limit.
+	* @param root Root of the subtree.
+	* @param fout Destination for the 3 address code.
+	* @return Register holding the subtree's value, or {@link Operand#EMPTY}.
+	* @throws IOException This can be thrown from File IO features.
+	*/
+	static long generate(AST_node root, IrBuilder fout) throws IOException
+	{
+		ArrayDeque<Frame> stack = new ArrayDeque<Frame>();
+		long value = start(root, stack, fout);
 		
-		if(Driver.createImage)
+		while(!stack.isEmpty())
 		{
-			try
+			Frame frame = stack.peek();
+			AST_node node = frame.node;
+			
+			// the child generated last has just finished
+			if(frame.operands != null && frame.next > 0)
+				frame.operands[frame.next - 1] = value;
+				
+			if(frame.next < node.nodes.length)
 			{
-				String outFile = filename.substring(0,filename.lastIndexOf(".")) + ".png";
-				Runtime.getRuntime().exec("dot -Tpng " + filename + " -o " + outFile);
+				AST_node child = node.nodes[frame.next++];
+				value = (child == null) ? Operand.EMPTY : start(child, stack, fout);
 			}
 			
-			catch(IOException e)
+			else
 			{
-				System.err.println("Critical error in image creation within Ast");
-				System.exit(1);
+				stack.pop();
+				value = (frame.operands != null) ? node.emit(fout, frame.operands[0], frame.operands[1]) : Operand.EMPTY;
 			}
 		}
+		
+		return value;
 	}
 	
 	/**
-	* Helper function for writing the dot file.
-	* @throws IOException
+	* Starts generating a node: follows single child pass through nodes down to the node that has the value,
+	* generates it at once if it generates itself, or pushes it to have its children generated first.
+	* @return The node's register if it was generated at once, otherwise {@link Operand#EMPTY}.
 	*/
-	private void writeDotFileNode(AST_node parent, AST_node node, PrintWriter fout, int parentCount) throws IOException
+	private static long start(AST_node node, ArrayDeque<Frame> stack, IrBuilder fout) throws IOException
 	{
-		if(node != null)
-		{
-			nodeCount++;
+		while(!node.kind.binary() && !node.kind.generates() && node.nodes.length == 1 && node.nodes[0] != null)
+			node = node.nodes[0];
 			
-			fout.println("\tnode" + String.valueOf(nodeCount) + " [label = \"" + node.toString() + "\"];");
+		if(node.kind.binary())
+		{
+			Frame frame = new Frame(node);
+			frame.operands = new long[2];
+			stack.push(frame);
+		}
+		
+		else if(node.kind.generates())
+			return node.gen3AC(fout);
 			
-			if(parent != null)
-				fout.println("\tnode" + String.valueOf(parentCount) + " -> node" + String.valueOf(nodeCount) + ";");
-				
-			int count = nodeCount;
+		else
+			stack.push(new Frame(node));
 			
-			for(AST_node n : node.nodes)
-				writeDotFileNode(node,n,fout,count);
-
+		return Operand.EMPTY;
+	}
+	
+	/**
+	* A node on a traversal stack: the index of its next child and, for a binary operator, the registers of its
+	* operands.
+	*/
+	private static final class Frame
+	{
+		final AST_node node;
+		int next;
+		long[] operands;
+		
+		Frame(AST_node _node)
+		{
+			node = _node;
+		}
+	}
+	
+	/**
+	* Function to output graphviz dot files, cut and split as the --ast-* options ask.  This will allow the tree
+	* to be visualized as an image; with --ast-image each file is queued for {@link DotRenderer}.
+	* @param filename Name of output file.
+	* @see AstDot
+	*/
+	public void writeDotFile(String filename)
+	{
+		AstDot dot = new AstDot(Driver.astDepth, Driver.astMaxNodes, Driver.astFunction, Driver.astSplit);
+		
+		try
+		{
+			for(String file : dot.write(this, filename))
+				if(Driver.createImage)
+					DotRenderer.render(file);
+		}
+		
+		catch(IOException e)
+		{
+			Compilation.current().err.println("Critical IO Failure in Ast::writeDotFile");
+			throw new CompileError("critical IO failure in Ast::writeDotFile");
 		}
 	}
 	
@@ -151,29 +239,125 @@ public class Ast
 	*/
 	public void write3AC(String filename)
 	{
-		// init counters
-		integerLabelCounter = floatLabelCounter = stringLabelCounter = labelCounter = characterLabelCounter = 0;
-		
-		if(root == null)
-			return;
-			
 		try
 		{
 			PrintWriter fout = new PrintWriter(filename);
 			
-			fout.println("# Program Start\n");
-			
-			root.gen3AC(fout);
+			write3AC(fout);
 			
 			fout.close();
 		}
 		catch(IOException e)
 		{
-			System.err.println("Critical IO Failure in Ast::write3AC");
-			System.exit(1);
+			Compilation.current().err.println("Critical IO Failure in Ast::write3AC");
+			throw new CompileError("critical IO failure in Ast::write3AC");
 		}
 	}
 	
+	/**
+	* Outputs 3 address code to an open writer.  The writer is flushed but not closed.
+	* @param fout Destination for the 3 address code.
+	* @throws IOException This can be thrown from File IO features.
+	*/
+	public void write3AC(PrintWriter fout) throws IOException
+	{
+		generate3AC(new IrTextWriter(fout));
+		
+		fout.flush();
+	}
+	
+	/**
+	* Generates the 3 address code as an {@link IrProgram}, which the assembly generator takes without scanning
+	* any text.  Its text form is what {@link #write3AC(PrintWriter)} writes.
+	* @return The intermediate code.
+	* @throws IOException This can be thrown from File IO features.
+	*/
+	public IrProgram generateIr() throws IOException
+	{
+		IrProgram code = new IrProgram();
+		
+		generate3AC(code);
+		
+		return code;
+	}
+	
+	/**
+	* Generates the 3 address code into a builder.
+	* @param fout Destination for the 3 address code.
+	* @throws IOException This can be thrown from File IO features.
+	*/
+	public void generate3AC(IrBuilder fout) throws IOException
+	{
+		resetCounters();
+		
+		if(root == null)
+			return;
+			
+		fout.addComment("Program Start\n");
+		
+		root.gen3AC(fout);
+	}
+	
+	/**
+	* Returns the tree of the compilation running on the calling thread.  Used by the nodes to reach the label counters.
+	* @return The current compilation's tree.
+	*/
+	public static Ast current()
+	{
+		return Compilation.current().ast;
+	}
+	
+	/**
+	* Returns the trimmed text of a source line for the node comments.  Code generation asks for the lines of
+	* consecutive nodes, which are mostly the same, so the last one is kept.
+	* @param line Line number counting from 1, 0 for none.
+	* @return The line, or "" if there is none or no source to slice it from.
+	*/
+	public String sourceLine(int line)
+	{
+		if(line == lineNumber)
+			return lineText;
+			
+		Scanner scanner = Compilation.current().scanner;
+		
+		if(line <= 0 || scanner == null)
+			return "";
+			
+		lineNumber = line;
+		lineText = scanner.line(line - 1).trim();
+		return lineText;
+	}
+	
+	/**
+	* Resets all label counters.  Called before code generation.
+	*/
+	public void resetCounters()
+	{
+		integerLabelCounter = floatLabelCounter = stringLabelCounter = labelCounter = characterLabelCounter = 0;
+	}
+	
+	/**
+	* Returns the label counters in the order of {@link Assembly.Fragments#PREFIXES}.
+	* @return Current counter values.
+	*/
+	public int[] counters()
+	{
+		return new int[] { labelCounter, integerLabelCounter, floatLabelCounter, characterLabelCounter, stringLabelCounter };
+	}
+	
+	/**
+	* Advances the label counters past the names used by a cached function.
+	* @param used Names used for each entry of {@link Assembly.Fragments#PREFIXES}.
+	*/
+	public void advanceCounters(int[] used)
+	{
+		labelCounter += used[0];
+		integerLabelCounter += used[1];
+		floatLabelCounter += used[2];
+		characterLabelCounter += used[3];
+		stringLabelCounter += used[4];
+	}
+	
 	/**
 	* Calculates how many nodes are in the tree.
 	* @return Size of the tree.
@@ -181,22 +365,28 @@ public class Ast
 	public int size()
 	{
 		nodeCount = 0;
-		sizeRecursion(root);
+		accept(node -> { nodeCount++; return true; });
 		return nodeCount;
 	}
 	
 	/**
-	* Helper function for counting tree size.
-	* @see #size()
+		A pass over the tree.  Passes decide what to do with a node by switching on its {@link AST_node#kind}.
 	*/
-	private void sizeRecursion(AST_node node)
-	{
-		if(node != null)
+	public interface Visitor
+	{
+		/**
+		* Called before the children of a node are visited.
+		* @param node The node.
+		* @return Whether to visit the node's children.
+		*/
+		boolean enter(AST_node node);
+		
+		/**
+		* Called after the children of a node that was entered.
+		* @param node The node.
+		*/
+		default void leave(AST_node node)
 		{
-			nodeCount++;
-			
-			for(AST_node n : node.nodes)
-				sizeRecursion(n);
 		}
 	}
 }
@@ -206,43 +396,83 @@ public class Ast
 */
 class AST_node
 {
-	/** Linked List containing all children nodes.						*/
-	public LinkedList<AST_node> nodes = new LinkedList<AST_node>();
+	/** Children of every node without any.								*/
+	private static final AST_node[] LEAF = new AST_node[0];
+	/** Children nodes, possibly null, in an array of exactly their number.  Leaves share one empty array.	*/
+	public AST_node[] nodes = LEAF;
 	/** Name of the node.  (ie Node Type)								*/
 	public String name;
-	/** Original Line of code node defined on							*/
-	public String currentLine;
+	/** Source line the node was defined on, counting from 1, or 0.		*/
+	public int lineNum;
+	/** Kind of the node, one per node class.							*/
+	public final NodeKind kind;
 	
 	/**
-	* Will be used to create the 3 address code (3AC) for this node.
+	* Sets the kind of the node.  Every node class passes its own.
+	* @param _kind Kind of the node.
 	*/
-	public String gen3AC(PrintWriter fout) throws IOException
+	protected AST_node(NodeKind _kind)
 	{
-		if(nodes.size() == 1 && nodes.get(0) != null)
-			return nodes.get(0).gen3AC(fout);
-			
-		else
-			for(AST_node n : nodes)
-				if(n != null)
-					n.gen3AC(fout);
-		
-		return null;
+		kind = _kind;
+	}
+	
+	/**
+	* Will be used to create the 3 address code (3AC) for this node.  Nodes that do not override it pass their
+	* value through from a single child, or generate each child in turn; binary operators implement
+	* {@link #emit(IrBuilder, long, long)} instead.
+	* @see Ast#generate(AST_node, IrBuilder)
+	*/
+	public long gen3AC(IrBuilder fout) throws IOException
+	{
+		return Ast.generate(this, fout);
+	}
+	
+	/**
+	* Generates a binary operator once both operands have been generated, left first.
+	* @param reg1 Register of the left operand.
+	* @param reg2 Register of the right operand.
+	* @return Register holding the result.
+	*/
+	long emit(IrBuilder fout, long reg1, long reg2) throws IOException
+	{
+		throw new IllegalStateException(name + " is no binary operator");
 	}
 	
 	/**
 	* Used for identifier node.
 	*/
-	public String gen3AC(PrintWriter fout, Action action) throws IOException
+	public long gen3AC(IrBuilder fout, Action action) throws IOException
 	{
 		return gen3AC(fout);
 	}
 
+	/**
+	* Tells whether assignment and unary operators treat an operand as a float.  Besides float registers that
+	* includes frame slots, which these operators have always taken for floats.
+	* @param operand The operand.
+	* @return Whether it is treated as a float.
+	*/
+	static boolean floating(long operand)
+	{
+		return Operand.kind(operand) == Operand.FLOAT_REGISTER || Operand.kind(operand) == Operand.FRAME;
+	}
+
+	/**
+	* Returns the trimmed text of the source line the node was defined on.  Nodes keep only the line number; the
+	* text is sliced from the source when the intermediate code comment or a diagnostic needs it.
+	* @return The line, or "" if the node has none.
+	*/
+	public String currentLine()
+	{
+		return Ast.current().sourceLine(lineNum);
+	}
+	
 	/**
 	* Base function used to print output.
 	*/
 	public void print()
 	{
-		System.out.format("%20s %50s\n", name,currentLine);
+		Compilation.current().out.format("%20s %50s\n", name,currentLine());
 	}
 	
 	/**
@@ -257,20 +487,22 @@ class AST_node
 	
 	public Object getData()
 	{
-		if(nodes.size() == 1)
-			return nodes.get(0).getData();
+		if(nodes.length == 1)
+			return nodes[0].getData();
 			
 		else
 			return null;
 	}
 	
 	/**
-	* Adds a child node to this node.
+	* Adds a child node to this node.  Nodes get at most a few children, all while they are built, so the array
+	* grows by one each time and never holds spare slots.
 	* @param node Node to be added to the list of nodes.
 	*/
 	public void addNode(AST_node node)
 	{
-		nodes.add(node);
+		nodes = Arrays.copyOf(nodes, nodes.length + 1);
+		nodes[nodes.length - 1] = node;
 	}
 	
 	/**
@@ -280,12 +512,12 @@ class AST_node
 	*/
 	public void replaceNode(AST_node node, int index)
 	{
-		if(index < nodes.size() && index > 0)
-			nodes.set(index,node);
+		if(index < nodes.length && index > 0)
+			nodes[index] = node;
 			
 		else {
-			System.err.println("Out of Bounds in AST_node::replaceNode");
-			System.exit(1);
+			Compilation.current().err.println("Out of Bounds in AST_node::replaceNode");
+			throw new CompileError("out of bounds in AST_node::replaceNode");
 		}
 	}
 	
@@ -294,6 +526,15 @@ class AST_node
 		return getClass().getName();
 	}
 	
+	/**
+	* Returns whether the node's value is floating point, for the parser's type checks.
+	* @return True for float and double values.
+	*/
+	public boolean isFloating()
+	{
+		return false;
+	}
+	
 	/**
 	* Used to append values to node strings.  (used for printing purposes)
 	* @param n First Line of new String.
@@ -322,23 +563,20 @@ class AST_node
 			return appendValue(n,"");
 	}
 	
-	public static void output3AC(PrintWriter fout, String operand, String arg1, String arg2, String arg3, String comment) 
+	public static void output3AC(IrBuilder fout, Opcode operand, long arg1, long arg2, long arg3, String comment) 
 		throws IOException
 	{
-		if(comment != null && !comment.equals(""))
-			comment = "# " + comment;
-			
-		fout.format("\t%-12s %-12s %-12s %-20s %-30s%n", operand, arg1, arg2, arg3, comment);
+		fout.add(operand, arg1, arg2, arg3, comment);
 	}
 	
-	public static void output3ACLabel(PrintWriter fout, String label) throws IOException
+	public static void output3ACLabel(IrBuilder fout, Label label) throws IOException
 	{
-		fout.println(label + ":");
+		fout.addLabel(label);
 	}
 	
-	public static void output3ACComment(PrintWriter fout, String comment) throws IOException
+	public static void output3ACComment(IrBuilder fout, String comment) throws IOException
 	{
-		fout.println("# " + comment);
+		fout.addComment(comment);
 	}
 	
 	public enum Action {
@@ -352,13 +590,14 @@ class AST_node
 class AST_translation_unit extends AST_node
 {
 	public
-	AST_translation_unit(AST_node arg1, AST_node arg2, String line) 
+	AST_translation_unit(AST_node arg1, AST_node arg2, int line) 
 	{
-		currentLine = line.trim();
+		super(NodeKind.TRANSLATION_UNIT);
+		lineNum = line;
 		name = "Translation Unit";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -368,11 +607,12 @@ class AST_translation_unit extends AST_node
 class AST_external_declaration extends AST_node
 {
 	public
-	AST_external_declaration(AST_node arg1, String line) 
+	AST_external_declaration(AST_node arg1, int line) 
 	{
+		super(NodeKind.EXTERNAL_DECLARATION);
 		name = "External Declaration";
-		currentLine = line.trim();
-		nodes.add(arg1);
+		lineNum = line;
+		addNode(arg1);
 	}
 }
 
@@ -382,63 +622,150 @@ class AST_external_declaration extends AST_node
 class AST_function_definition extends AST_node
 {
 	public
-	AST_function_definition(AST_node arg1, AST_node arg2, AST_node arg3, AST_node arg4, String line, int size) 
+	AST_function_definition(AST_node arg1, AST_node arg2, AST_node arg3, AST_node arg4, int line, int size) 
 	{
+		super(NodeKind.FUNCTION_DEFINITION);
 		name = "Function Definition";
-		currentLine = line.trim();
+		lineNum = line;
 		stackSize = size;
-		nodes.add(arg1);
-		nodes.add(arg2);
-		nodes.add(arg3);
-		nodes.add(arg4);
+		
+		// the body was closed by the last token scanned, so the scanner still holds its key
+		Scanner scanner = Compilation.current().scanner;
+		if(scanner != null)
+			cacheKey = scanner.functionKey;
+			
+		addNode(arg1);
+		addNode(arg2);
+		addNode(arg3);
+		addNode(arg4);
 	}
 	
 	public
-	AST_function_definition(AST_node arg1, AST_node arg2, AST_node arg3, AST_node arg4, String line, int size, SymbolNode node)
+	AST_function_definition(AST_node arg1, AST_node arg2, AST_node arg3, AST_node arg4, int line, int size, SymbolNode node)
 	{
 		this(arg1,arg2,arg3,arg4,line,size);
 		func_node = node;
 	} 
 
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	/**
+	* Generates the function, timing it for the time report if one is running.
+	*/
+	@Override public long gen3AC(IrBuilder fout) throws IOException
+	{
+		TimeReport report = Compilation.current().timeReport;
+		
+		if(report == null)
+			return genCached(fout);
+			
+		long[] start = TimeReport.sample();
+		
+		try
+		{
+			return genCached(fout);
+		}
+		finally
+		{
+			report.function(functionName(), TimeReport.CODE, start);
+		}
+	}
+	
+	/**
+	* Generates the function, or replays it from the function cache when incremental compilation is on.
+	* Cached code is stored as a fragment of its instructions, with its label and temporary numbers made relative
+	* to the counters on entry, and replayed into text and program compilations alike.
+	*/
+	private long genCached(IrBuilder fout) throws IOException
+	{
+		FunctionCache cache = Compilation.current().functionCache;
+		
+		if(cache == null || cacheKey == null)
+			return genFunction(fout);
+			
+		Ast ast = Ast.current();
+		int[] base = ast.counters();
+		String entry = cache.load(FragmentCache.CODE, cacheKey);
+		
+		if(entry != null)
+		{
+			int split = entry.indexOf('\n');
+			
+			fout.replay(entry.substring(split + 1), base);
+			ast.advanceCounters(Fragments.parse(entry.substring(0, split)));
+			return Operand.EMPTY;
+		}
+		
+		IrProgram code = new IrProgram();
+		
+		genFunction(code);
+		
+		int[] used = ast.counters();
+		for(int i = 0; i < used.length; i++)
+			used[i] -= base[i];
+			
+		String fragment = code.fragment(Fragments.negate(base));
+		
+		fout.replay(fragment, base);
+		cache.store(FragmentCache.CODE, cacheKey, Fragments.format(used) + "\n" + fragment);
+		
+		return Operand.EMPTY;
+	}
+	
+	/**
+	* Gets the name of the function from its declarator.
+	* @return Function name.
+	*/
+	String functionName()
+	{
+		if(nodes[1].kind == NodeKind.IDENTIFIER)
+			return ((AST_identifier) nodes[1]).identifier;
+			
+		return ((AST_identifier) nodes[1].nodes[0]).identifier;
+	}
+	
+	/**
+	* Generates the 3AC for the function.
+	*/
+	private long genFunction(IrBuilder fout) throws IOException
 	{
 		String name = null;
 		int numParams;
 		
-		//System.out.println(nodes.get(1).getClassType());
-		if(nodes.get(1).getClass().getName().contains("identifier")) {
-			name = ((AST_identifier) nodes.get(1)).identifier;
-			//numParams = ((FunctionDataType) ((AST_identifier) nodes.get(1)).symbol_node.type).numParameters;
-			numParams = func_node.type.getParamCount();//((AST_identifier) nodes.get(1)).symbol_node.type.getParamCount();
+		//System.out.println(nodes[1].getClassType());
+		if(nodes[1].kind == NodeKind.IDENTIFIER) {
+			name = ((AST_identifier) nodes[1]).identifier;
+			//numParams = ((FunctionDataType) ((AST_identifier) nodes[1]).symbol_node.type).numParameters;
+			numParams = func_node.type.getParamCount();//((AST_identifier) nodes[1]).symbol_node.type.getParamCount();
 			
-			//System.out.println("Class1: " + ((AST_identifier) nodes.get(1)).symbol_node.type.getClass().getName());
+			//System.out.println("Class1: " + ((AST_identifier) nodes[1]).symbol_node.type.getClass().getName());
 		}
 			
 		else {
-			name = ((AST_identifier) nodes.get(1).nodes.get(0)).identifier;
-			//numParams = ((FunctionDataType) ((AST_identifier) nodes.get(1).nodes.get(0)).symbol_node.type).numParameters;
-			numParams = func_node.type.getParamCount();//((AST_identifier) nodes.get(1).nodes.get(0)).symbol_node.type.getParamCount();
+			name = ((AST_identifier) nodes[1].nodes[0]).identifier;
+			//numParams = ((FunctionDataType) ((AST_identifier) nodes[1].nodes[0]).symbol_node.type).numParameters;
+			numParams = func_node.type.getParamCount();//((AST_identifier) nodes[1].nodes[0]).symbol_node.type.getParamCount();
 			
-			//System.out.println("Class: " + ((AST_identifier) nodes.get(1).nodes.get(0)).symbol_node.type.getClass().getName());
+			//System.out.println("Class: " + ((AST_identifier) nodes[1].nodes[0]).symbol_node.type.getClass().getName());
 		}
 		
-		output3ACComment(fout, "begin function: " + name);
-		output3AC(fout, "FUNC_BEGIN",name,"","",currentLine);
-		output3ACLabel(fout,name);
-		output3AC(fout, "ALLOC_FRAME", String.valueOf(stackSize),"","","");
-		output3AC(fout, "NUM_PARAMS", String.valueOf(numParams), "","","");
+		output3ACComment(fout, IrBuilder.FUNCTION_COMMENT + name);
+		output3AC(fout, Opcode.FUNC_BEGIN, fout.name(name),Operand.EMPTY,Operand.EMPTY,currentLine());
+		output3ACLabel(fout,fout.label(name));
+		output3AC(fout, Opcode.ALLOC_FRAME, Operand.of(Operand.IMMEDIATE, stackSize),Operand.EMPTY,Operand.EMPTY,"");
+		output3AC(fout, Opcode.NUM_PARAMS, Operand.of(Operand.IMMEDIATE, numParams), Operand.EMPTY,Operand.EMPTY,"");
 			
-		nodes.get(2).gen3AC(fout);
+		nodes[2].gen3AC(fout);
 		
-		output3AC(fout,"FUNC_END", name,"","",currentLine);
+		output3AC(fout, Opcode.FUNC_END, fout.name(name),Operand.EMPTY,Operand.EMPTY,currentLine());
 		output3ACComment(fout, "end function: " + name + "\n");
 			
-		return null;
+		return Operand.EMPTY;
 	}
 	
 	public int stackSize;
 	public SymbolNode func_node;
+	/** Function cache key taken from the scanner, null if the function cannot be cached.	*/
+	public String cacheKey;
 }
 
 /**
@@ -447,19 +774,20 @@ class AST_function_definition extends AST_node
 class AST_declaration extends AST_node
 {
 	public
-	AST_declaration(AST_node arg1, AST_node arg2, String line) 
+	AST_declaration(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.DECLARATION);
 		name = "Declaration";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{
-		nodes.get(1).gen3AC(fout, Action.NONE);
+		nodes[1].gen3AC(fout, Action.NONE);
 		
-		return null;
+		return Operand.EMPTY;
 	}
 }
 
@@ -469,12 +797,13 @@ class AST_declaration extends AST_node
 class AST_declaration_list extends AST_node
 {
 	public
-	AST_declaration_list(AST_node arg1, AST_node arg2, String line) 
+	AST_declaration_list(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.DECLARATION_LIST);
 		name = "Declaration List";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -484,12 +813,13 @@ class AST_declaration_list extends AST_node
 class AST_declaration_specifiers extends AST_node
 {
 	public
-	AST_declaration_specifiers(AST_node arg1, AST_node arg2, String line) 
+	AST_declaration_specifiers(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.DECLARATION_SPECIFIERS);
 		name = "Declaration Specifiers";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -499,10 +829,11 @@ class AST_declaration_specifiers extends AST_node
 class AST_storage_class_specifier extends AST_node
 {
 	public
-	AST_storage_class_specifier(String _type, String line)
+	AST_storage_class_specifier(String _type, int line)
 	{
+		super(NodeKind.STORAGE_CLASS_SPECIFIER);
 		name = "Storage Class Specifier";
-		currentLine = line.trim();
+		lineNum = line;
 		type = _type;
 	}
 	
@@ -517,13 +848,14 @@ class AST_storage_class_specifier extends AST_node
 class AST_type_specifier extends AST_node
 {
 	public
-	AST_type_specifier(String _type, AST_node arg1, String line)
+	AST_type_specifier(String _type, AST_node arg1, int line)
 	{
+		super(NodeKind.TYPE_SPECIFIER);
 		name = "Type Specifier";
-		currentLine = line.trim();
+		lineNum = line;
 		type = _type;
 		
-		nodes.add(arg1);
+		addNode(arg1);
 	}
 	
 	@Override public String toString() {return appendValue(name,type);}
@@ -539,10 +871,11 @@ class AST_type_specifier extends AST_node
 class AST_type_qualifier extends AST_node
 {
 	public
-	AST_type_qualifier(String _type, String line)
+	AST_type_qualifier(String _type, int line)
 	{
+		super(NodeKind.TYPE_QUALIFIER);
 		name = "Type Qualifier";
-		currentLine = line.trim();
+		lineNum = line;
 		type = _type;
 	}
 	
@@ -557,14 +890,15 @@ class AST_type_qualifier extends AST_node
 class AST_struct_or_union_specifier extends AST_node
 {
 	public
-	AST_struct_or_union_specifier(AST_node arg1, AST_node arg2, AST_node arg3, String line) 
+	AST_struct_or_union_specifier(AST_node arg1, AST_node arg2, AST_node arg3, int line) 
 	
 	{
+		super(NodeKind.STRUCT_OR_UNION_SPECIFIER);
 		name = "Struct or Union Specifier";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
-		nodes.add(arg3);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
+		addNode(arg3);
 	}
 }
 
@@ -574,10 +908,11 @@ class AST_struct_or_union_specifier extends AST_node
 class AST_struct_or_union extends AST_node
 {
 	public
-	AST_struct_or_union(String _type, String line) 
+	AST_struct_or_union(String _type, int line) 
 	{
+		super(NodeKind.STRUCT_OR_UNION);
 		name = "Struct or Union";
-		currentLine = line.trim();
+		lineNum = line;
 		type = _type;
 	}
 	
@@ -591,12 +926,13 @@ class AST_struct_or_union extends AST_node
 class AST_struct_declaration_list extends AST_node
 {
 	public
-	AST_struct_declaration_list(AST_node arg1, AST_node arg2, String line) 
+	AST_struct_declaration_list(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.STRUCT_DECLARATION_LIST);
 		name = "Struct Declaration List";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -606,12 +942,13 @@ class AST_struct_declaration_list extends AST_node
 class AST_init_declarator_list extends AST_node
 {
 	public
-	AST_init_declarator_list(AST_node arg1, AST_node arg2, String line) 
+	AST_init_declarator_list(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.INIT_DECLARATOR_LIST);
 		name = "Init Declarator List";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -621,23 +958,24 @@ class AST_init_declarator_list extends AST_node
 class AST_init_declarator extends AST_node
 {
 	public
-	AST_init_declarator(AST_node arg1, AST_node arg2, String line) 
+	AST_init_declarator(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.INIT_DECLARATOR);
 		name = "Init Declarator";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{
-		String reg = nodes.get(0).gen3AC(fout, Action.NONE);
+		long reg = nodes[0].gen3AC(fout, Action.NONE);
 		
-		String val = nodes.get(1).gen3AC(fout);
+		long val = nodes[1].gen3AC(fout);
 		
-		output3AC(fout,"M_STORE", reg, val,"",currentLine);
+		output3AC(fout, Opcode.M_STORE, reg, val,Operand.EMPTY,currentLine());
 		
-		return null;
+		return Operand.EMPTY;
 	}
 }
 
@@ -647,12 +985,13 @@ class AST_init_declarator extends AST_node
 class AST_struct_declaration extends AST_node
 {
 	public
-	AST_struct_declaration(AST_node arg1, AST_node arg2, String line) 
+	AST_struct_declaration(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.STRUCT_DECLARATION);
 		name = "Struct Declaration";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -662,12 +1001,13 @@ class AST_struct_declaration extends AST_node
 class AST_specifier_qualifier_list extends AST_node
 {
 	public
-	AST_specifier_qualifier_list(AST_node arg1, AST_node arg2, String line) 
+	AST_specifier_qualifier_list(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.SPECIFIER_QUALIFIER_LIST);
 		name = "Specifier Qualifier List";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -677,12 +1017,13 @@ class AST_specifier_qualifier_list extends AST_node
 class AST_struct_declarator_list extends AST_node
 {
 	public
-	AST_struct_declarator_list(AST_node arg1, AST_node arg2, String line) 
+	AST_struct_declarator_list(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.STRUCT_DECLARATOR_LIST);
 		name = "Struct Declarator List";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -692,12 +1033,13 @@ class AST_struct_declarator_list extends AST_node
 class AST_struct_declarator extends AST_node
 {
 	public
-	AST_struct_declarator(AST_node arg1, AST_node arg2, String line) 
+	AST_struct_declarator(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.STRUCT_DECLARATOR);
 		name = "Struct Declarator";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -707,12 +1049,13 @@ class AST_struct_declarator extends AST_node
 class AST_enum_specifier extends AST_node
 {
 	public
-	AST_enum_specifier(AST_node arg1, AST_node arg2, String line) 
+	AST_enum_specifier(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.ENUM_SPECIFIER);
 		name = "Enum Specifier";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -722,12 +1065,13 @@ class AST_enum_specifier extends AST_node
 class AST_enumerator_list extends AST_node
 {
 	public
-	AST_enumerator_list(AST_node arg1, AST_node arg2, String line) 
+	AST_enumerator_list(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.ENUMERATOR_LIST);
 		name = "Enumerator List";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -737,12 +1081,13 @@ class AST_enumerator_list extends AST_node
 class AST_enumerator extends AST_node
 {
 	public
-	AST_enumerator(AST_node arg1, AST_node arg2, String line) 
+	AST_enumerator(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.ENUMERATOR);
 		name = "Enumerator";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -752,21 +1097,22 @@ class AST_enumerator extends AST_node
 class AST_declarator extends AST_node
 {
 	public
-	AST_declarator(AST_node arg1, AST_node arg2, String line) 
+	AST_declarator(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.DECLARATOR);
 		name = "Declarator";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{
-		if(nodes.get(1) == null)
-			return nodes.get(0).gen3AC(fout);
+		if(nodes[1] == null)
+			return nodes[0].gen3AC(fout);
 			
 		else
-			return nodes.get(1).gen3AC(fout);
+			return nodes[1].gen3AC(fout);
 	}
 }
 
@@ -776,35 +1122,36 @@ class AST_declarator extends AST_node
 class AST_direct_declarator extends AST_node
 {
 	public
-	AST_direct_declarator(AST_node arg1, AST_node arg2, String line) 
+	AST_direct_declarator(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.DIRECT_DECLARATOR);
 		name = "Direct Declarator";
-		currentLine = line.trim();
+		lineNum = line;
 		type = "";
-		nodes.add(arg1);
-		nodes.add(arg2);
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
 	public
-	AST_direct_declarator(String _type, AST_node arg1, AST_node arg2, String line)
+	AST_direct_declarator(String _type, AST_node arg1, AST_node arg2, int line)
 	{
 		this(arg1,arg2,line);
 		type = _type;
 	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{
-		String reg = null;
+		long reg = Operand.EMPTY;
 		
 		if(type.equals("[]"))
 		{
-			AST_node node = nodes.get(0);
+			AST_node node = nodes[0];
 			
-			if(node.getClassType().contains("declarator"))
-				node = node.nodes.get(0);
+			if(node.kind.declarator())
+				node = node.nodes[0];
 				
 			//while(node != null && !node.getClassType().contains("identifier"))
-				//node = node.nodes.get(0);
+				//node = node.nodes[0];
 				
 			reg = node.gen3AC(fout,Action.NONE);
 		}
@@ -826,12 +1173,13 @@ class AST_direct_declarator extends AST_node
 class AST_pointer extends AST_node
 {
 	public
-	AST_pointer(AST_node arg1, AST_node arg2, String line) 
+	AST_pointer(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.POINTER);
 		name = "Pointer";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -841,12 +1189,13 @@ class AST_pointer extends AST_node
 class AST_type_qualifier_list extends AST_node
 {
 	public
-	AST_type_qualifier_list(AST_node arg1, AST_node arg2, String line) 
+	AST_type_qualifier_list(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.TYPE_QUALIFIER_LIST);
 		name = "Type Qualifier List";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -855,21 +1204,23 @@ class AST_type_qualifier_list extends AST_node
 */
 class AST_parameter_type_list extends AST_node
 {
-	public AST_parameter_type_list(AST_node arg1, String line)
+	public AST_parameter_type_list(AST_node arg1, int line)
 	{
+		super(NodeKind.PARAMETER_TYPE_LIST);
 		name = "Parameter Type List";
-		currentLine = line.trim();
+		lineNum = line;
 		elipsis = false;
-		nodes.add(arg1);
+		addNode(arg1);
 	}
 	
 	public
-	AST_parameter_type_list(AST_node arg1, boolean _elipsis, String line) 
+	AST_parameter_type_list(AST_node arg1, boolean _elipsis, int line) 
 	{
+		super(NodeKind.PARAMETER_TYPE_LIST);
 		name = "Parameter Type List";
-		currentLine = line.trim();
+		lineNum = line;
 		elipsis = _elipsis;
-		nodes.add(arg1);
+		addNode(arg1);
 	}
 	
 	public boolean elipsis;
@@ -881,12 +1232,13 @@ class AST_parameter_type_list extends AST_node
 class AST_parameter_list extends AST_node
 {
 	public
-	AST_parameter_list(AST_node arg1, AST_node arg2, String line) 
+	AST_parameter_list(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.PARAMETER_LIST);
 		name = "Parameter List";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -896,12 +1248,13 @@ class AST_parameter_list extends AST_node
 class AST_parameter_declaration extends AST_node
 {
 	public
-	AST_parameter_declaration(AST_node arg1, AST_node arg2, String line) 
+	AST_parameter_declaration(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.PARAMETER_DECLARATION);
 		name = "Parameter Declaration";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -911,12 +1264,13 @@ class AST_parameter_declaration extends AST_node
 class AST_identifier_list extends AST_node
 {
 	public
-	AST_identifier_list(AST_node arg1, AST_node arg2, String line) 
+	AST_identifier_list(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.IDENTIFIER_LIST);
 		name = "Identifier List";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -926,11 +1280,12 @@ class AST_identifier_list extends AST_node
 class AST_initializer extends AST_node
 {
 	public
-	AST_initializer(AST_node arg1, String line) 
+	AST_initializer(AST_node arg1, int line) 
 	{
+		super(NodeKind.INITIALIZER);
 		name = "Initializer";
-		currentLine = line.trim();
-		nodes.add(arg1);
+		lineNum = line;
+		addNode(arg1);
 	}
 }
 
@@ -940,12 +1295,13 @@ class AST_initializer extends AST_node
 class AST_initializer_list extends AST_node
 {
 	public
-	AST_initializer_list(AST_node arg1, AST_node arg2, String line) 
+	AST_initializer_list(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.INITIALIZER_LIST);
 		name = "Initializer List";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -955,12 +1311,13 @@ class AST_initializer_list extends AST_node
 class AST_type_name extends AST_node
 {
 	public
-	AST_type_name(AST_node arg1, AST_node arg2, String line) 
+	AST_type_name(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.TYPE_NAME);
 		name = "Type Name";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -970,12 +1327,13 @@ class AST_type_name extends AST_node
 class AST_abstract_declarator extends AST_node
 {
 	public
-	AST_abstract_declarator(AST_node arg1, AST_node arg2, String line) 
+	AST_abstract_declarator(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.ABSTRACT_DECLARATOR);
 		name = "Abstract Declarator";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -985,12 +1343,13 @@ class AST_abstract_declarator extends AST_node
 class AST_direct_abstract_declarator extends AST_node
 {
 	public
-	AST_direct_abstract_declarator(AST_node arg1, AST_node arg2, String line) 
+	AST_direct_abstract_declarator(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.DIRECT_ABSTRACT_DECLARATOR);
 		name = "Direct Abstract Declarator";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -1000,11 +1359,12 @@ class AST_direct_abstract_declarator extends AST_node
 class AST_statement extends AST_node
 {
 	public
-	AST_statement(AST_node arg1, String line) 
+	AST_statement(AST_node arg1, int line) 
 	{
+		super(NodeKind.STATEMENT);
 		name = "Statement";
-		currentLine = line.trim();
-		nodes.add(arg1);
+		lineNum = line;
+		addNode(arg1);
 	}
 }
 
@@ -1014,14 +1374,15 @@ class AST_statement extends AST_node
 class AST_labeled_statement extends AST_node
 {
 	public
-	AST_labeled_statement(String label, AST_node arg1, AST_node arg2, String line) 
+	AST_labeled_statement(String label, AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.LABELED_STATEMENT);
 		name = "Labeled Statement";
-		currentLine = line.trim();
+		lineNum = line;
 		label_type = label;
 		 
-		nodes.add(arg1);
-		nodes.add(arg2);
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
 	@Override public String toString() {return appendValue(name,label_type);}
@@ -1035,11 +1396,12 @@ class AST_labeled_statement extends AST_node
 class AST_expression_statement extends AST_node
 {
 	public
-	AST_expression_statement(AST_node arg1, String line) 
+	AST_expression_statement(AST_node arg1, int line) 
 	{
+		super(NodeKind.EXPRESSION_STATEMENT);
 		name = "Expression Statement";
-		currentLine = line.trim();
-		nodes.add(arg1);
+		lineNum = line;
+		addNode(arg1);
 	}
 }
 
@@ -1049,12 +1411,13 @@ class AST_expression_statement extends AST_node
 class AST_compound_statement extends AST_node
 {
 	public
-	AST_compound_statement(AST_node arg1, AST_node arg2, String line) 
+	AST_compound_statement(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.COMPOUND_STATEMENT);
 		name = "Compound Statement";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -1064,12 +1427,13 @@ class AST_compound_statement extends AST_node
 class AST_statement_list extends AST_node
 {
 	public
-	AST_statement_list(AST_node arg1, AST_node arg2, String line) 
+	AST_statement_list(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.STATEMENT_LIST);
 		name = "Statement List";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 }
 
@@ -1079,60 +1443,61 @@ class AST_statement_list extends AST_node
 class AST_selection_statement extends AST_node
 {
 	public
-	AST_selection_statement(String type, AST_node arg1, AST_node arg2, AST_node arg3, String line) 
+	AST_selection_statement(String type, AST_node arg1, AST_node arg2, AST_node arg3, int line) 
 	{
+		super(NodeKind.SELECTION_STATEMENT);
 		name = "Selection Statement";
-		currentLine = line.trim();
+		lineNum = line;
 		selection_type = type;
 		 
-		nodes.add(arg1);
-		nodes.add(arg2);
-		nodes.add(arg3);
+		addNode(arg1);
+		addNode(arg2);
+		addNode(arg3);
 	}
 	
 	@Override public String toString() {return appendValue(name,selection_type);}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{	
-		String label1 = "LABEL" + String.valueOf(Ast.labelCounter++);
-		String label2 = "LABEL" + String.valueOf(Ast.labelCounter++);
+		Label label1 = fout.label(Ast.current().labelCounter++);
+		Label label2 = fout.label(Ast.current().labelCounter++);
 				
 		if(selection_type.equals("if"))
 		{
-			String expression = nodes.get(0).gen3AC(fout);
-			output3AC(fout,"BNZ",expression,label1,"",currentLine);
-			output3AC(fout,"BAL",label2,"","",currentLine);
-			output3ACLabel(fout,label1);
+			long expression = nodes[0].gen3AC(fout);
+			output3AC(fout, Opcode.BNZ, expression,label1.operand(),Operand.EMPTY,currentLine());
+			output3AC(fout, Opcode.BAL, label2.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label1);
 			
-			String statement1 = nodes.get(1).gen3AC(fout);
+			long statement1 = nodes[1].gen3AC(fout);
 			
-			output3ACLabel(fout,label2);
+			output3ACLabel(fout, label2);
 		}
 		
 		else if(selection_type.equals("if-else"))
 		{
-			String label3 = "LABEL" + String.valueOf(Ast.labelCounter++);
+			Label label3 = fout.label(Ast.current().labelCounter++);
 			
-			String expression = nodes.get(0).gen3AC(fout);
-			output3AC(fout,"BNZ",expression,label1,"",currentLine);
-			output3AC(fout,"BAL",label2,"","",currentLine);
-			output3ACLabel(fout,label1);
+			long expression = nodes[0].gen3AC(fout);
+			output3AC(fout, Opcode.BNZ, expression,label1.operand(),Operand.EMPTY,currentLine());
+			output3AC(fout, Opcode.BAL, label2.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label1);
 			
-			String statement1 = nodes.get(1).gen3AC(fout);
-			output3AC(fout,"BAL",label3,"","",currentLine);
-			output3ACLabel(fout,label2);
+			long statement1 = nodes[1].gen3AC(fout);
+			output3AC(fout, Opcode.BAL, label3.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label2);
 			
-			String statement2 = nodes.get(2).gen3AC(fout);
-			output3ACLabel(fout,label3);
+			long statement2 = nodes[2].gen3AC(fout);
+			output3ACLabel(fout, label3);
 		}
 		
 		else if(selection_type.equals("switch"))
 		{
-			String expression = nodes.get(0).gen3AC(fout);
+			long expression = nodes[0].gen3AC(fout);
 			
-			String statement = nodes.get(1).gen3AC(fout);
+			long statement = nodes[1].gen3AC(fout);
 		}
-		return null;
+		return Operand.EMPTY;
 	}
 	
 	public String selection_type;
@@ -1144,218 +1509,219 @@ class AST_selection_statement extends AST_node
 class AST_iteration_statement extends AST_node
 {
 	public
-	AST_iteration_statement(String loop, AST_node arg1, AST_node arg2, AST_node arg3, AST_node arg4, String line)  
+	AST_iteration_statement(String loop, AST_node arg1, AST_node arg2, AST_node arg3, AST_node arg4, int line)  
 	{
+		super(NodeKind.ITERATION_STATEMENT);
 		name = "Iteration Statement";
-		currentLine = line.trim();
+		lineNum = line;
 		loop_type = loop;
 		
-		nodes.add(arg1);
-		nodes.add(arg2);
-		nodes.add(arg3);
-		nodes.add(arg4);
+		addNode(arg1);
+		addNode(arg2);
+		addNode(arg3);
+		addNode(arg4);
 	}
 	
 	@Override public String toString() {return appendValue(name,loop_type);}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{
 	/*
-		String reg1 = nodes.get(0).gen3AC(fout);
-		String reg2 = (nodes.get(1) == null) ? "EMPTY" : nodes.get(1).gen3AC(fout);
-		String reg3 = (nodes.get(2) == null) ? "EMPTY" : nodes.get(2).gen3AC(fout);
-		String reg4 = (nodes.get(3) == null) ? "EMPTY" : nodes.get(3).gen3AC(fout);
+		String reg1 = nodes[0].gen3AC(fout);
+		String reg2 = (nodes[1] == null) ? "EMPTY" : nodes[1].gen3AC(fout);
+		String reg3 = (nodes[2] == null) ? "EMPTY" : nodes[2].gen3AC(fout);
+		String reg4 = (nodes[3] == null) ? "EMPTY" : nodes[3].gen3AC(fout);
 	*/
 		
 		if(loop_type.equals("while"))
 		{
-			String label1 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label2 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label3 = "LABEL" + String.valueOf(Ast.labelCounter++);
+			Label label1 = fout.label(Ast.current().labelCounter++);
+			Label label2 = fout.label(Ast.current().labelCounter++);
+			Label label3 = fout.label(Ast.current().labelCounter++);
 			
-			output3ACLabel(fout,label1);
+			output3ACLabel(fout, label1);
 			
-			String expression = nodes.get(0).gen3AC(fout);
+			long expression = nodes[0].gen3AC(fout);
 			
-			output3AC(fout,"BNZ", expression, label2,"",currentLine);
-			output3AC(fout,"BAL", label3,"","",currentLine);
-			output3ACLabel(fout,label2);
+			output3AC(fout, Opcode.BNZ, expression, label2.operand(),Operand.EMPTY,currentLine());
+			output3AC(fout, Opcode.BAL, label3.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label2);
 			
-			String statement = nodes.get(1).gen3AC(fout);
+			long statement = nodes[1].gen3AC(fout);
 			
-			output3AC(fout,"BAL",label1,"","",currentLine);
-			output3ACLabel(fout,label3);
+			output3AC(fout, Opcode.BAL, label1.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label3);
 		}
 		
 		else if(loop_type.equals("do-while"))
 		{
-			String label1 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label2 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label3 = "LABEL" + String.valueOf(Ast.labelCounter++);
+			Label label1 = fout.label(Ast.current().labelCounter++);
+			Label label2 = fout.label(Ast.current().labelCounter++);
+			Label label3 = fout.label(Ast.current().labelCounter++);
 			
-			output3ACLabel(fout,label1);
+			output3ACLabel(fout, label1);
 			
-			String statement1 = nodes.get(0).gen3AC(fout);
+			long statement1 = nodes[0].gen3AC(fout);
 			
-			String expression = nodes.get(1).gen3AC(fout);
+			long expression = nodes[1].gen3AC(fout);
 			
-			output3AC(fout,"BNZ", expression, label2,"",currentLine);
-			output3AC(fout,"BAL", label3,"","",currentLine);
-			output3ACLabel(fout,label2);
+			output3AC(fout, Opcode.BNZ, expression, label2.operand(),Operand.EMPTY,currentLine());
+			output3AC(fout, Opcode.BAL, label3.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label2);
 			
-			String statement = nodes.get(1).gen3AC(fout);
+			long statement = nodes[1].gen3AC(fout);
 			
-			output3AC(fout,"BAL",label1,"","",currentLine);
-			output3ACLabel(fout,label3);
+			output3AC(fout, Opcode.BAL, label1.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label3);
 		}
 		
 		else if(loop_type.contains("for1"))
 		{
-			String label1 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label2 = "LABEL" + String.valueOf(Ast.labelCounter++);
+			Label label1 = fout.label(Ast.current().labelCounter++);
+			Label label2 = fout.label(Ast.current().labelCounter++);
 			
-			output3ACLabel(fout,label1);
+			output3ACLabel(fout, label1);
 			
-			String statement = nodes.get(0).gen3AC(fout);
+			long statement = nodes[0].gen3AC(fout);
 			
-			output3AC(fout,"BAL",label1,"","",currentLine);
-			output3ACLabel(fout,label2);
+			output3AC(fout, Opcode.BAL, label1.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label2);
 		}
 		
 		else if(loop_type.contains("for2"))
 		{
-			String label1 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label2 = "LABEL" + String.valueOf(Ast.labelCounter++);
+			Label label1 = fout.label(Ast.current().labelCounter++);
+			Label label2 = fout.label(Ast.current().labelCounter++);
 			
-			output3ACLabel(fout,label1);
+			output3ACLabel(fout, label1);
 			
-			String statement = nodes.get(0).gen3AC(fout);
+			long statement = nodes[0].gen3AC(fout);
 			
-			String statement2 = nodes.get(1).gen3AC(fout);
+			long statement2 = nodes[1].gen3AC(fout);
 			
-			output3AC(fout,"BAL",label1,"","",currentLine);
-			output3ACLabel(fout,label2);
+			output3AC(fout, Opcode.BAL, label1.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label2);
 			
 		}
 		
 		else if(loop_type.contains("for3"))
 		{
-			String label1 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label2 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label3 = "LABEL" + String.valueOf(Ast.labelCounter++);
+			Label label1 = fout.label(Ast.current().labelCounter++);
+			Label label2 = fout.label(Ast.current().labelCounter++);
+			Label label3 = fout.label(Ast.current().labelCounter++);
 			
-			output3ACLabel(fout,label1);
+			output3ACLabel(fout, label1);
 			
-			String expression = nodes.get(0).gen3AC(fout);
+			long expression = nodes[0].gen3AC(fout);
 			
-			output3AC(fout,"BNZ", expression, label2,"",currentLine);
-			output3AC(fout,"BAL", label3,"","",currentLine);
-			output3ACLabel(fout,label2);
+			output3AC(fout, Opcode.BNZ, expression, label2.operand(),Operand.EMPTY,currentLine());
+			output3AC(fout, Opcode.BAL, label3.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label2);
 			
-			String statement = nodes.get(1).gen3AC(fout);
+			long statement = nodes[1].gen3AC(fout);
 			
-			output3AC(fout,"BAL",label1,"","",currentLine);
-			output3ACLabel(fout,label3);
+			output3AC(fout, Opcode.BAL, label1.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label3);
 		}
 		
 		else if(loop_type.contains("for4"))
 		{
-			String label1 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label2 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label3 = "LABEL" + String.valueOf(Ast.labelCounter++);
+			Label label1 = fout.label(Ast.current().labelCounter++);
+			Label label2 = fout.label(Ast.current().labelCounter++);
+			Label label3 = fout.label(Ast.current().labelCounter++);
 			
-			output3ACLabel(fout,label1);
+			output3ACLabel(fout, label1);
 			
-			String expression = nodes.get(0).gen3AC(fout);
+			long expression = nodes[0].gen3AC(fout);
 			
-			output3AC(fout,"BNZ", expression, label2,"",currentLine);
-			output3AC(fout,"BAL", label3,"","",currentLine);
-			output3ACLabel(fout,label2);
+			output3AC(fout, Opcode.BNZ, expression, label2.operand(),Operand.EMPTY,currentLine());
+			output3AC(fout, Opcode.BAL, label3.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label2);
 			
-			String statement = nodes.get(2).gen3AC(fout);
+			long statement = nodes[2].gen3AC(fout);
 			
-			String statement2 = nodes.get(1).gen3AC(fout);
-			output3AC(fout,"BAL",label1,"","",currentLine);
-			output3ACLabel(fout,label3);
+			long statement2 = nodes[1].gen3AC(fout);
+			output3AC(fout, Opcode.BAL, label1.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label3);
 		}		
 		
 		else if(loop_type.contains("for5"))
 		{
-			String label1 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label2 = "LABEL" + String.valueOf(Ast.labelCounter++);
+			Label label1 = fout.label(Ast.current().labelCounter++);
+			Label label2 = fout.label(Ast.current().labelCounter++);
 			
-			String expression = nodes.get(0).gen3AC(fout);
-			output3ACLabel(fout,label1);
+			long expression = nodes[0].gen3AC(fout);
+			output3ACLabel(fout, label1);
 			
-			String statement = nodes.get(1).gen3AC(fout);
-			output3AC(fout,"BAL", label1,"","",currentLine);
+			long statement = nodes[1].gen3AC(fout);
+			output3AC(fout, Opcode.BAL, label1.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
 			
-			output3ACLabel(fout,label2);
+			output3ACLabel(fout, label2);
 		}
 		
 		else if(loop_type.contains("for6"))
 		{
-			String label1 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label2 = "LABEL" + String.valueOf(Ast.labelCounter++);
+			Label label1 = fout.label(Ast.current().labelCounter++);
+			Label label2 = fout.label(Ast.current().labelCounter++);
 			
-			String expression = nodes.get(0).gen3AC(fout);
-			output3ACLabel(fout,label1);
+			long expression = nodes[0].gen3AC(fout);
+			output3ACLabel(fout, label1);
 			
-			String statement = nodes.get(2).gen3AC(fout);
+			long statement = nodes[2].gen3AC(fout);
 			
-			String statement2 = nodes.get(1).gen3AC(fout);
-			output3AC(fout,"BAL", label1,"","",currentLine);
+			long statement2 = nodes[1].gen3AC(fout);
+			output3AC(fout, Opcode.BAL, label1.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
 			
-			output3ACLabel(fout,label2);
+			output3ACLabel(fout, label2);
 		}
 		
 		else if(loop_type.contains("for7"))
 		{
-			String label1 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label2 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label3 = "LABEL" + String.valueOf(Ast.labelCounter++);
+			Label label1 = fout.label(Ast.current().labelCounter++);
+			Label label2 = fout.label(Ast.current().labelCounter++);
+			Label label3 = fout.label(Ast.current().labelCounter++);
 			
-			String statement1 = nodes.get(0).gen3AC(fout);
-			output3ACLabel(fout,label1);
+			long statement1 = nodes[0].gen3AC(fout);
+			output3ACLabel(fout, label1);
 			
-			String expression = nodes.get(1).gen3AC(fout);
+			long expression = nodes[1].gen3AC(fout);
 			
-			output3AC(fout,"BNZ", expression, label2,"",currentLine);
-			output3AC(fout,"BAL", label3,"","",currentLine);
-			output3ACLabel(fout,label2);
+			output3AC(fout, Opcode.BNZ, expression, label2.operand(),Operand.EMPTY,currentLine());
+			output3AC(fout, Opcode.BAL, label3.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label2);
 			
-			String statement = nodes.get(2).gen3AC(fout);
+			long statement = nodes[2].gen3AC(fout);
 			
-			output3AC(fout,"BAL",label1,"","",currentLine);
-			output3ACLabel(fout,label3);
+			output3AC(fout, Opcode.BAL, label1.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label3);
 		}
 		
 		else if(loop_type.contains("for8"))
 		{
-			String label1 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label2 = "LABEL" + String.valueOf(Ast.labelCounter++);
-			String label3 = "LABEL" + String.valueOf(Ast.labelCounter++);
+			Label label1 = fout.label(Ast.current().labelCounter++);
+			Label label2 = fout.label(Ast.current().labelCounter++);
+			Label label3 = fout.label(Ast.current().labelCounter++);
 			
-			String statement1 = nodes.get(0).gen3AC(fout);
-			output3ACLabel(fout,label1);
+			long statement1 = nodes[0].gen3AC(fout);
+			output3ACLabel(fout, label1);
 			
-			String expression = nodes.get(1).gen3AC(fout);
+			long expression = nodes[1].gen3AC(fout);
 			
-			output3AC(fout,"BNZ", expression, label2,"",currentLine);
-			output3AC(fout,"BAL", label3,"","",currentLine);
-			output3ACLabel(fout,label2);
+			output3AC(fout, Opcode.BNZ, expression, label2.operand(),Operand.EMPTY,currentLine());
+			output3AC(fout, Opcode.BAL, label3.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label2);
 			
-			String statement2 = nodes.get(3).gen3AC(fout);
+			long statement2 = nodes[3].gen3AC(fout);
 			
-			String statement3 = nodes.get(2).gen3AC(fout);
+			long statement3 = nodes[2].gen3AC(fout);
 			
-			output3AC(fout,"BAL",label1,"","",currentLine);
-			output3ACLabel(fout,label3);
+			output3AC(fout, Opcode.BAL, label1.operand(),Operand.EMPTY,Operand.EMPTY,currentLine());
+			output3ACLabel(fout, label3);
 			
-			System.out.println("Here!!!");
+			Compilation.current().out.println("Here!!!");
 		}
 				
-		return null;
+		return Operand.EMPTY;
 	}
 	public String loop_type;
 }
@@ -1366,44 +1732,45 @@ class AST_iteration_statement extends AST_node
 class AST_jump_statement extends AST_node
 {
 	public
-	AST_jump_statement(String op, AST_node arg1, String line)
+	AST_jump_statement(String op, AST_node arg1, int line)
 	{
+		super(NodeKind.JUMP_STATEMENT);
 		name = "Jump Statement";
-		currentLine = line.trim();
+		lineNum = line;
 		jump_op = op;
 		
-		nodes.add(arg1);
+		addNode(arg1);
 	}
 	
 	@Override public String toString() {return appendValue(name,jump_op);}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{
-		String reg1 = (nodes.get(0) == null) ? "EMPTY" : nodes.get(0).gen3AC(fout);
+		long reg1 = (nodes[0] == null) ? Operand.EMPTY : nodes[0].gen3AC(fout);
 		
 		if(jump_op.equals("goto"))
-			output3AC(fout,"JUMP", reg1, "", "", currentLine);
+			output3AC(fout, Opcode.JUMP, reg1, Operand.EMPTY, Operand.EMPTY, currentLine());
 		
 		else if(jump_op.equals("continue"))
-			output3AC(fout,"CONTINUE", "","","", currentLine);
+			output3AC(fout, Opcode.CONTINUE, Operand.EMPTY,Operand.EMPTY,Operand.EMPTY, currentLine());
 		
 		else if(jump_op.equals("break"))
-			output3AC(fout,"BREAK","","","", currentLine);
+			output3AC(fout, Opcode.BREAK, Operand.EMPTY,Operand.EMPTY,Operand.EMPTY, currentLine());
 			
 		else if(jump_op.equals("return"))
 		{
-			if(reg1.equals("EMPTY"))
-				output3AC(fout,"RETURN", "","","", currentLine);
+			if(reg1 == Operand.EMPTY)
+				output3AC(fout, Opcode.RETURN, Operand.EMPTY,Operand.EMPTY,Operand.EMPTY, currentLine());
 				
 			else {
-				String reg2 = (reg1.charAt(0) == 'f') ? "f_ret" : "i_ret";
+				long reg2 = Operand.of(Operand.RETURN_VALUE, (Operand.kind(reg1) == Operand.FLOAT_REGISTER) ? 1 : 0);
 				
-				output3AC(fout,"MOV", reg2, reg1, "", currentLine);
-				output3AC(fout,"RETURN", reg2, "","", currentLine);
+				output3AC(fout, Opcode.MOV, reg2, reg1, Operand.EMPTY, currentLine());
+				output3AC(fout, Opcode.RETURN, reg2, Operand.EMPTY,Operand.EMPTY, currentLine());
 			}
 		}
 		
-		return null;
+		return Operand.EMPTY;
 	}
 	
 	public String jump_op;
@@ -1415,18 +1782,19 @@ class AST_jump_statement extends AST_node
 class AST_expression extends AST_node
 {
 	public
-	AST_expression(AST_node arg1, AST_node arg2, String line) 
+	AST_expression(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.EXPRESSION);
 		name = "Expression";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 /*
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{
-		String reg1 = nodes.get(0).gen3AC(fout);
-		String reg2 = nodes.get(1).gen3AC(fout);
+		String reg1 = nodes[0].gen3AC(fout);
+		String reg2 = nodes[1].gen3AC(fout);
 		
 		
 	}
@@ -1439,258 +1807,259 @@ class AST_expression extends AST_node
 class AST_assignment_expression extends AST_node
 {
 	public
-	AST_assignment_expression(AST_node arg1, AST_node arg2, AST_node arg3, String line) 
+	AST_assignment_expression(AST_node arg1, AST_node arg2, AST_node arg3, int line) 
 	{
+		super(NodeKind.ASSIGNMENT_EXPRESSION);
 		name = "Assignment Expression";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
-		nodes.add(arg3);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
+		addNode(arg3);
 	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{
-		//String reg1 = nodes.get(0).gen3AC(fout);
-		String reg2 = nodes.get(2).gen3AC(fout);
-		String op = nodes.get(1).gen3AC(fout);
-		String reg3 = null;
-		String reg4 = null;
-		String offset;
+		//String reg1 = nodes[0].gen3AC(fout);
+		long reg2 = nodes[2].gen3AC(fout);
+		String op = ((AST_assignment_operator) nodes[1]).op;
+		long reg3 = Operand.EMPTY;
+		long reg4 = Operand.EMPTY;
+		long offset;
 		short flag = 0;
 		
-		//AST_identifier id = (AST_identifier) nodes.get(0);
-		if(nodes.get(0).getClass().getName().toLowerCase().contains("postfix"))
-			offset = nodes.get(0).gen3AC(fout);
+		//AST_identifier id = (AST_identifier) nodes[0];
+		if(nodes[0].kind == NodeKind.POSTFIX_EXPRESSION)
+			offset = nodes[0].gen3AC(fout);
 			
 		else
-			offset = ((AST_identifier) nodes.get(0)).gen3AC(fout,Action.NONE);
+			offset = ((AST_identifier) nodes[0]).gen3AC(fout,Action.NONE);
 		
 		if(op.equals("=")) {
-			String reg = reg2;
+			long reg = reg2;
 			
-			if(reg2.contains("off")) {
-				reg = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
-				output3AC(fout,"M_LOAD", reg, reg2, "", currentLine);
+			if(Operand.kind(reg2) == Operand.FRAME) {
+				reg = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
+				output3AC(fout, Opcode.M_LOAD, reg, reg2, Operand.EMPTY, currentLine());
 			}
 			
-			output3AC(fout,"M_STORE", offset, reg, "", currentLine);
-			return null;
+			output3AC(fout, Opcode.M_STORE, offset, reg, Operand.EMPTY, currentLine());
+			return Operand.EMPTY;
 		}
 		
-		String reg1 = nodes.get(0).gen3AC(fout);
+		long reg1 = nodes[0].gen3AC(fout);
 		
-		if(reg1.contains("i"))
+		if(Operand.kind(reg1) == Operand.INT_REGISTER)
 		{
-			reg3 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
-			reg4 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
+			reg3 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
+			reg4 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
 			
 			flag = 1;
 			
 		}
 			
-		else if(reg1.contains("f"))
+		else if(floating(reg1))
 		{
-			reg3 = "f_temp" + String.valueOf(Ast.floatLabelCounter++);
-			reg4 = "f_temp" + String.valueOf(Ast.floatLabelCounter++);
+			reg3 = Operand.of(Operand.FLOAT_REGISTER, Ast.current().floatLabelCounter++);
+			reg4 = Operand.of(Operand.FLOAT_REGISTER, Ast.current().floatLabelCounter++);
 			
 			flag = 2;
 		}
 			
-		else if(reg1.contains("c"))
+		else if(Operand.kind(reg1) == Operand.CHAR_REGISTER)
 		{
-			reg3 = "c_temp" + String.valueOf(Ast.characterLabelCounter++);
-			reg4 = "c_temp" + String.valueOf(Ast.characterLabelCounter++);
+			reg3 = Operand.of(Operand.CHAR_REGISTER, Ast.current().characterLabelCounter++);
+			reg4 = Operand.of(Operand.CHAR_REGISTER, Ast.current().characterLabelCounter++);
 			
 			flag = 3;
 		}
 		
-		else if(reg1.contains("s"))
+		else if(Operand.kind(reg1) == Operand.STRING_REGISTER)
 		{
-			reg3 = "s_temp" + String.valueOf(Ast.stringLabelCounter++);
+			reg3 = Operand.of(Operand.STRING_REGISTER, Ast.current().stringLabelCounter++);
 		}
 			
 		if(op.equals("*=")) {
 			switch(flag)
 			{
 				case 1:
-					output3AC(fout,"MUL_I", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.MUL_I, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 2:
-					output3AC(fout,"MUL_F", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.MUL_F, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 3:
-					System.err.println("Can't do chars yet!");
+					Compilation.current().err.println("Can't do chars yet!");
 					break;
 			}
-			output3AC(fout,"MOV",reg3, reg4, "", currentLine);
+			output3AC(fout, Opcode.MOV, reg3, reg4, Operand.EMPTY, currentLine());
 		}
 			
 		else if(op.equals("/=")) {
 			switch(flag)
 			{
 				case 1:
-					output3AC(fout,"DIV_I", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.DIV_I, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 2:
-					output3AC(fout,"DIV_F", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.DIV_F, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 3:
-					System.err.println("Can't do chars yet!");
+					Compilation.current().err.println("Can't do chars yet!");
 					break;
 			}
-			output3AC(fout,"MOV",reg3, reg4, "", currentLine);
+			output3AC(fout, Opcode.MOV, reg3, reg4, Operand.EMPTY, currentLine());
 		}
 			
 		else if(op.equals("%=")) {
 			switch(flag)
 			{
 				case 1:
-					output3AC(fout,"MOD_I", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.MOD_I, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 2:
-					System.err.println("Error in Assignment Expression!!!");
+					Compilation.current().err.println("Error in Assignment Expression!!!");
 					break;
 					
 				case 3:
-					System.err.println("Can't do chars yet!");
+					Compilation.current().err.println("Can't do chars yet!");
 					break;
 			}
-			output3AC(fout,"MOV",reg3, reg4, "", currentLine);
+			output3AC(fout, Opcode.MOV, reg3, reg4, Operand.EMPTY, currentLine());
 		}
 			
 		else if(op.equals("+=")) {
 			switch(flag)
 			{
 				case 1:
-					output3AC(fout,"ADD_I", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.ADD_I, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 2:
-					output3AC(fout,"ADD_F", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.ADD_F, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 3:
-					System.err.println("Can't do chars yet!");
+					Compilation.current().err.println("Can't do chars yet!");
 					break;
 			}
-			output3AC(fout,"MOV",reg3, reg4, "", currentLine);
+			output3AC(fout, Opcode.MOV, reg3, reg4, Operand.EMPTY, currentLine());
 		}
 			
 		else if(op.equals("-=")) {
 			switch(flag)
 			{
 				case 1:
-					output3AC(fout,"SUB_I", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.SUB_I, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 2:
-					output3AC(fout,"SUB_F", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.SUB_F, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 3:
-					System.err.println("Can't do chars yet!");
+					Compilation.current().err.println("Can't do chars yet!");
 					break;
 			}
-			output3AC(fout,"MOV",reg3, reg4, "", currentLine);
+			output3AC(fout, Opcode.MOV, reg3, reg4, Operand.EMPTY, currentLine());
 		}
 			
 		else if(op.equals("<<=")) {
 			switch(flag)
 			{
 				case 1:
-					output3AC(fout,"LSHIFT", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.LSHIFT, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 2:
-					System.err.println("Error in Assignment Expression!!!");
+					Compilation.current().err.println("Error in Assignment Expression!!!");
 					break;
 					
 				case 3:
-					System.err.println("Can't do chars yet!");
+					Compilation.current().err.println("Can't do chars yet!");
 					break;
 			}
-			output3AC(fout,"MOV",reg3, reg4, "", currentLine);
+			output3AC(fout, Opcode.MOV, reg3, reg4, Operand.EMPTY, currentLine());
 		}
 			
 		else if(op.equals(">>=")) {
 			switch(flag)
 			{
 				case 1:
-					output3AC(fout,"RSHIFT", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.RSHIFT, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 2:
-					System.err.println("Error in Assignment Expression!!!");
+					Compilation.current().err.println("Error in Assignment Expression!!!");
 					break;
 					
 				case 3:
-					System.err.println("Can't do chars yet!");
+					Compilation.current().err.println("Can't do chars yet!");
 					break;
 			}
-			output3AC(fout,"MOV",reg3, reg4, "", currentLine);
+			output3AC(fout, Opcode.MOV, reg3, reg4, Operand.EMPTY, currentLine());
 		}
 			
 		else if(op.equals("&=")) {
 			switch(flag)
 			{
 				case 1:
-					output3AC(fout,"AND", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.AND, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 2:
-					System.err.println("Error in Assignment Expression!!!");
+					Compilation.current().err.println("Error in Assignment Expression!!!");
 					break;
 					
 				case 3:
-					System.err.println("Can't do chars yet!");
+					Compilation.current().err.println("Can't do chars yet!");
 					break;
 			}
-			output3AC(fout,"MOV",reg3, reg4, "", currentLine);
+			output3AC(fout, Opcode.MOV, reg3, reg4, Operand.EMPTY, currentLine());
 		}
 			
 		else if(op.equals("^=")) {
 			switch(flag)
 			{
 				case 1:
-					output3AC(fout,"XOR", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.XOR, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 2:
-					System.err.println("Error in Assignment Expression!!!");
+					Compilation.current().err.println("Error in Assignment Expression!!!");
 					break;
 					
 				case 3:
-					System.err.println("Can't do chars yet!");
+					Compilation.current().err.println("Can't do chars yet!");
 					break;
 			}
-			output3AC(fout,"MOV",reg3, reg4, "", currentLine);
+			output3AC(fout, Opcode.MOV, reg3, reg4, Operand.EMPTY, currentLine());
 		}
 			
 		else if(op.equals("|=")) {
 			switch(flag)
 			{
 				case 1:
-					output3AC(fout,"OR", reg4, reg1, reg2, currentLine);
+					output3AC(fout, Opcode.OR, reg4, reg1, reg2, currentLine());
 					break;
 					
 				case 2:
-					System.err.println("Error in Assignment Expression!!!");
+					Compilation.current().err.println("Error in Assignment Expression!!!");
 					break;
 					
 				case 3:
-					System.err.println("Can't do chars yet!");
+					Compilation.current().err.println("Can't do chars yet!");
 					break;
 			}
-			output3AC(fout,"MOV",reg3, reg4, "", currentLine);
+			output3AC(fout, Opcode.MOV, reg3, reg4, Operand.EMPTY, currentLine());
 		}
 		
-		output3AC(fout,"M_STORE", offset,reg3,"",currentLine);
-		return null;
+		output3AC(fout, Opcode.M_STORE, offset,reg3,Operand.EMPTY,currentLine());
+		return Operand.EMPTY;
 	}
 }
 
@@ -1700,20 +2069,16 @@ class AST_assignment_expression extends AST_node
 class AST_assignment_operator extends AST_node
 {
 	public
-	AST_assignment_operator(String _op, String line)
+	AST_assignment_operator(String _op, int line)
 	{
+		super(NodeKind.ASSIGNMENT_OPERATOR);
 		name = "Assignment Operator";
-		currentLine = line.trim();
+		lineNum = line;
 		op = _op;
 	}
 	
 	@Override public String toString() {return appendValue(name,op);}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
-	{
-		return op;
-	}
-	
 	@Override public Object getData() {return op;}
 	
 	public String op;
@@ -1725,13 +2090,14 @@ class AST_assignment_operator extends AST_node
 class AST_conditional_expression extends AST_node
 {
 	public
-	AST_conditional_expression(AST_node arg1, AST_node arg2, AST_node arg3, String line) 
+	AST_conditional_expression(AST_node arg1, AST_node arg2, AST_node arg3, int line) 
 	{
+		super(NodeKind.CONDITIONAL_EXPRESSION);
 		name = "Conditional Expression";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
-		nodes.add(arg3);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
+		addNode(arg3);
 	}
 }
 
@@ -1741,11 +2107,12 @@ class AST_conditional_expression extends AST_node
 class AST_constant_expression extends AST_node
 {
 	public
-	AST_constant_expression(AST_node arg1, String line) 
+	AST_constant_expression(AST_node arg1, int line) 
 	{
+		super(NodeKind.CONSTANT_EXPRESSION);
 		name = "Constant Expression";
-		currentLine = line.trim();
-		nodes.add(arg1);
+		lineNum = line;
+		addNode(arg1);
 	}
 }
 
@@ -1755,21 +2122,20 @@ class AST_constant_expression extends AST_node
 class AST_logical_or_expression extends AST_node
 {
 	public
-	AST_logical_or_expression(AST_node arg1, AST_node arg2, String line) 
+	AST_logical_or_expression(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.LOGICAL_OR_EXPRESSION);
 		name = "Logical OR Expression";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override long emit(IrBuilder fout, long reg1, long reg2) throws IOException
 	{
-		String reg1 = nodes.get(0).gen3AC(fout);
-		String reg2 = nodes.get(1).gen3AC(fout);
-		String reg3 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
+		long reg3 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
 		
-		output3AC(fout, "L_OR", reg3, reg1, reg2, currentLine);
+		output3AC(fout, Opcode.L_OR, reg3, reg1, reg2, currentLine());
 		
 		return reg3;	
 	}
@@ -1781,21 +2147,20 @@ class AST_logical_or_expression extends AST_node
 class AST_logical_and_expression extends AST_node
 {
 	public
-	AST_logical_and_expression(AST_node arg1, AST_node arg2, String line) 
+	AST_logical_and_expression(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.LOGICAL_AND_EXPRESSION);
 		name = "Logical AND Expression";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override long emit(IrBuilder fout, long reg1, long reg2) throws IOException
 	{
-		String reg1 = nodes.get(0).gen3AC(fout);
-		String reg2 = nodes.get(1).gen3AC(fout);
-		String reg3 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
+		long reg3 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
 		
-		output3AC(fout, "L_AND", reg3, reg1, reg2, currentLine);
+		output3AC(fout, Opcode.L_AND, reg3, reg1, reg2, currentLine());
 		
 		return reg3;	
 	}
@@ -1807,21 +2172,20 @@ class AST_logical_and_expression extends AST_node
 class AST_inclusive_or_expression extends AST_node
 {
 	public
-	AST_inclusive_or_expression(AST_node arg1, AST_node arg2, String line) 
+	AST_inclusive_or_expression(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.INCLUSIVE_OR_EXPRESSION);
 		name = "Inclusive OR Expression";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override long emit(IrBuilder fout, long reg1, long reg2) throws IOException
 	{
-		String reg1 = nodes.get(0).gen3AC(fout);
-		String reg2 = nodes.get(1).gen3AC(fout);
-		String reg3 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
+		long reg3 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
 		
-		output3AC(fout, "OR", reg3, reg1, reg2, currentLine);
+		output3AC(fout, Opcode.OR, reg3, reg1, reg2, currentLine());
 		
 		return reg3;
 	}
@@ -1833,21 +2197,20 @@ class AST_inclusive_or_expression extends AST_node
 class AST_exclusive_or_expression extends AST_node
 {
 	public
-	AST_exclusive_or_expression(AST_node arg1, AST_node arg2, String line) 
+	AST_exclusive_or_expression(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.EXCLUSIVE_OR_EXPRESSION);
 		name = "Exclusive OR Expression";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override long emit(IrBuilder fout, long reg1, long reg2) throws IOException
 	{
-		String reg1 = nodes.get(0).gen3AC(fout);
-		String reg2 = nodes.get(1).gen3AC(fout);
-		String reg3 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
+		long reg3 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
 		
-		output3AC(fout, "XOR", reg3, reg1, reg2, currentLine);
+		output3AC(fout, Opcode.XOR, reg3, reg1, reg2, currentLine());
 		
 		return reg3;
 	}
@@ -1859,21 +2222,20 @@ class AST_exclusive_or_expression extends AST_node
 class AST_and_expression extends AST_node
 {
 	public
-	AST_and_expression(AST_node arg1, AST_node arg2, String line) 
+	AST_and_expression(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.AND_EXPRESSION);
 		name = "AND Expression";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override long emit(IrBuilder fout, long reg1, long reg2) throws IOException
 	{
-		String reg1 = nodes.get(0).gen3AC(fout);
-		String reg2 = nodes.get(1).gen3AC(fout);
-		String reg3 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
+		long reg3 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
 		
-		output3AC(fout,"AND", reg3, reg1, reg2, currentLine);
+		output3AC(fout, Opcode.AND, reg3, reg1, reg2, currentLine());
 		
 		return reg3;
 	}
@@ -1885,34 +2247,33 @@ class AST_and_expression extends AST_node
 class AST_equality_expression extends AST_node
 {
 	public
-	AST_equality_expression(String _op, AST_node arg1, AST_node arg2, String line) 
+	AST_equality_expression(String _op, AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.EQUALITY_EXPRESSION);
 		name = "Equality Expression";
-		currentLine = line.trim();
+		lineNum = line;
 		
 		op = _op;
-		nodes.add(arg1);
-		nodes.add(arg2);
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
 	@Override public String toString() {return appendValue(name,op);}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override long emit(IrBuilder fout, long reg1, long reg2) throws IOException
 	{
-		String reg1 = nodes.get(0).gen3AC(fout);
-		String reg2 = nodes.get(1).gen3AC(fout);
-		String reg3 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
-		String operand = null;
+		long reg3 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
+		Opcode operand = null;
 		
 		if(op.equals("==")) {
-			operand = "EQ";
+			operand = Opcode.EQ;
 		}
 			
 		else if(op.equals("!=")) {
-			operand = "NE";
+			operand = Opcode.NE;
 		}
 		
-		output3AC(fout,operand,reg3,reg1,reg2,currentLine);
+		output3AC(fout,operand,reg3,reg1,reg2,currentLine());
 		
 		return reg3;		
 	}
@@ -1926,42 +2287,41 @@ class AST_equality_expression extends AST_node
 class AST_relational_expression extends AST_node
 {
 	public
-	AST_relational_expression(String _op, AST_node arg1, AST_node arg2, String line) 
+	AST_relational_expression(String _op, AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.RELATIONAL_EXPRESSION);
 		name = "Relational Expression";
-		currentLine = line.trim();
+		lineNum = line;
 		
 		op = _op;
-		nodes.add(arg1);
-		nodes.add(arg2);
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
 	@Override public String toString() {return appendValue(name,op);}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override long emit(IrBuilder fout, long reg1, long reg2) throws IOException
 	{
-		String reg1 = nodes.get(0).gen3AC(fout);
-		String reg2 = nodes.get(1).gen3AC(fout);
-		String reg3 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
-		String operand = null;
+		long reg3 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
+		Opcode operand = null;
 		
 		if(op.equals("<")) {
-			operand = "LT";
+			operand = Opcode.LT;
 		}
 			
 		else if(op.equals("<=")) {
-			operand = "LE";
+			operand = Opcode.LE;
 		}
 			
 		else if(op.equals(">")) {
-			operand = "GT";
+			operand = Opcode.GT;
 		}
 			
 		else if(op.equals(">=")) {
-			operand = "GE";
+			operand = Opcode.GE;
 		}
 		
-		output3AC(fout,operand,reg3,reg1,reg2,currentLine);
+		output3AC(fout,operand,reg3,reg1,reg2,currentLine());
 		
 		return reg3;	
 	}
@@ -1975,25 +2335,24 @@ class AST_relational_expression extends AST_node
 class AST_shift_expression extends AST_node
 {
 	public
-	AST_shift_expression(String _op, AST_node arg1, AST_node arg2, String line) 
+	AST_shift_expression(String _op, AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.SHIFT_EXPRESSION);
 		name = "Shift Expression";
-		currentLine = line.trim();
+		lineNum = line;
 		op = _op;
-		nodes.add(arg1);
-		nodes.add(arg2);
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
 	@Override public String toString() {return appendValue(name,op);}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override long emit(IrBuilder fout, long reg1, long reg2) throws IOException
 	{
-		String reg1 = nodes.get(0).gen3AC(fout);
-		String reg2 = nodes.get(1).gen3AC(fout);
-		String reg3 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
-		String operand = (op.equals("<<")) ? "LSHIFT" : "RSHIFT";
+		long reg3 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
+		Opcode operand = (op.equals("<<")) ? Opcode.LSHIFT : Opcode.RSHIFT;
 		
-		output3AC(fout, operand, reg3, reg1, reg2, currentLine);
+		output3AC(fout, operand, reg3, reg1, reg2, currentLine());
 		
 		return reg3;
 		
@@ -2008,41 +2367,39 @@ class AST_shift_expression extends AST_node
 class AST_additive_expression extends AST_node
 {
 	public
-	AST_additive_expression(char _op, AST_node arg1, AST_node arg2, String line) 
+	AST_additive_expression(char _op, AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.ADDITIVE_EXPRESSION);
 		name = "Additive Expression";
-		currentLine = line.trim();
+		lineNum = line;
 		op = _op;
-		nodes.add(arg1);
-		nodes.add(arg2);
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
 	@Override public String toString() {return appendValue(name,op);}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override long emit(IrBuilder fout, long reg1, long reg2) throws IOException
 	{
-		String reg1 = nodes.get(0).gen3AC(fout);
-		String reg2 = nodes.get(1).gen3AC(fout);
-		String operand = (op == '+') ? "ADD" : "SUB";
-		String reg3;
+		long reg3;
 		boolean floatResult = false;
 
-		System.out.println(reg1);
-		System.out.println(reg2);
+		Compilation.current().out.println(fout.text(reg1));
+		Compilation.current().out.println(fout.text(reg2));
 		
-		if(reg1.contains("f_") || reg2.contains("f_"))
+		if(Operand.kind(reg1) == Operand.FLOAT_REGISTER || Operand.kind(reg2) == Operand.FLOAT_REGISTER)
 			floatResult = true;
 			
 		if(floatResult)
 		{
-			reg3 = "f_temp" + String.valueOf(Ast.floatLabelCounter++);
-			output3AC(fout, operand + "_F", reg3, reg1, reg2, currentLine);
+			reg3 = Operand.of(Operand.FLOAT_REGISTER, Ast.current().floatLabelCounter++);
+			output3AC(fout, (op == '+') ? Opcode.ADD_F : Opcode.SUB_F, reg3, reg1, reg2, currentLine());
 		}
 		
 		else
 		{
-			reg3 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
-			output3AC(fout, operand + "_I", reg3, reg1, reg2, currentLine);
+			reg3 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
+			output3AC(fout, (op == '+') ? Opcode.ADD_I : Opcode.SUB_I, reg3, reg1, reg2, currentLine());
 		}
 		
 		return reg3;
@@ -2058,38 +2415,36 @@ class AST_additive_expression extends AST_node
 class AST_multiplicative_expression extends AST_node
 {
 	public
-	AST_multiplicative_expression(char _op, AST_node arg1, AST_node arg2, String line) 
+	AST_multiplicative_expression(char _op, AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.MULTIPLICATIVE_EXPRESSION);
 		name = "Multiplicative Expression";
-		currentLine = line.trim();
+		lineNum = line;
 		op = _op;
-		nodes.add(arg1);
-		nodes.add(arg2);
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
 	@Override public String toString() {return appendValue(name,op);}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override long emit(IrBuilder fout, long reg1, long reg2) throws IOException
 	{
-		String reg1 = nodes.get(0).gen3AC(fout);
-		String reg2 = nodes.get(1).gen3AC(fout);
-		String operand = (op == '*') ? "MUL" : "DIV";
-		String reg3;
+		long reg3;
 		boolean floatResult = false;
 		
-		if(reg1.contains("f_") || reg2.contains("f_"))
+		if(Operand.kind(reg1) == Operand.FLOAT_REGISTER || Operand.kind(reg2) == Operand.FLOAT_REGISTER)
 			floatResult = true;
 			
 		if(floatResult)
 		{
-			reg3 = "f_temp" + String.valueOf(Ast.floatLabelCounter++);
-			output3AC(fout, operand + "_F", reg3, reg1, reg2, currentLine);
+			reg3 = Operand.of(Operand.FLOAT_REGISTER, Ast.current().floatLabelCounter++);
+			output3AC(fout, (op == '*') ? Opcode.MUL_F : Opcode.DIV_F, reg3, reg1, reg2, currentLine());
 		}
 		
 		else
 		{
-			reg3 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
-			output3AC(fout, operand + "_I", reg3, reg1, reg2, currentLine);
+			reg3 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
+			output3AC(fout, (op == '*') ? Opcode.MUL_I : Opcode.DIV_I, reg3, reg1, reg2, currentLine());
 		}
 		
 		return reg3;
@@ -2105,34 +2460,35 @@ class AST_multiplicative_expression extends AST_node
 class AST_cast_expression extends AST_node
 {
 	public
-	AST_cast_expression(AST_node arg1, AST_node arg2, String line) 
+	AST_cast_expression(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.CAST_EXPRESSION);
 		name = "Cast Expression";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{
-		String type = (String)nodes.get(0).getData();
-		String reg1 = nodes.get(1).gen3AC(fout);
-		String reg2;
-		String operator;
+		TypeKind type = TypeKind.of((String)nodes[0].getData());
+		long reg1 = nodes[1].gen3AC(fout);
+		long reg2;
+		Opcode operator;
 		
-		if(type.contains("float") || type.contains("double"))
+		if(type != null && type.floating())
 		{
-			reg2 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
-			operator = "F_TO_I";
+			reg2 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
+			operator = Opcode.F_TO_I;
 		}
 			
 		else
 		{
-			reg2 = "f_temp" + String.valueOf(Ast.floatLabelCounter++);
-			operator = "I_TO_F";
+			reg2 = Operand.of(Operand.FLOAT_REGISTER, Ast.current().floatLabelCounter++);
+			operator = Opcode.I_TO_F;
 		}
 		
-		output3AC(fout, operator, reg2, reg1, "", currentLine);
+		output3AC(fout, operator, reg2, reg1, Operand.EMPTY, currentLine());
 		
 		return reg2;		
 	}
@@ -2144,72 +2500,73 @@ class AST_cast_expression extends AST_node
 class AST_unary_expression extends AST_node
 {
 	public
-	AST_unary_expression(String _op, AST_node arg1, AST_node arg2, String line) 
+	AST_unary_expression(String _op, AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.UNARY_EXPRESSION);
 		name = "Unary Expression";
-		currentLine = line.trim();
+		lineNum = line;
 		op = _op;
 		
-		nodes.add(arg1);
-		nodes.add(arg2);
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
 	@Override public String toString() {return appendValue(name,op);}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{
-		String reg1 = nodes.get(0).gen3AC(fout);
-		//String reg2 = (nodes.get(1) == null) ? "EMPTY" : nodes.get(1).gen3AC(fout);
-		String reg3;
+		long reg1 = nodes[0].gen3AC(fout);
+		//String reg2 = (nodes[1] == null) ? "EMPTY" : nodes[1].gen3AC(fout);
+		long reg3;
 		boolean floatType = false;
 		
-		if(reg1.contains("f"))
+		if(floating(reg1))
 		{
-			reg3 = "f_temp" + String.valueOf(Ast.floatLabelCounter++);
+			reg3 = Operand.of(Operand.FLOAT_REGISTER, Ast.current().floatLabelCounter++);
 			floatType = true;
 		}
 		
-		else if(reg1.contains("i"))
-			reg3 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
+		else if(Operand.kind(reg1) == Operand.INT_REGISTER)
+			reg3 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
 			
 		else
-			reg3 = "c_temp" + String.valueOf(Ast.characterLabelCounter++);
+			reg3 = Operand.of(Operand.CHAR_REGISTER, Ast.current().characterLabelCounter++);
 			
 		if(op.equals("++")) {
 			if(floatType)
-				output3AC(fout,"ADD_F", reg3, reg1, "1.0", currentLine);
+				output3AC(fout, Opcode.ADD_F, reg3, reg1, fout.floatLiteral(1.0), currentLine());
 				
 			else
-				output3AC(fout,"ADD_I", reg3, reg1, "1", currentLine);
+				output3AC(fout, Opcode.ADD_I, reg3, reg1, Operand.of(Operand.IMMEDIATE, 1), currentLine());
 				
-			String offset = ((AST_identifier) nodes.get(0)).gen3AC(fout, Action.NONE);
+			long offset = ((AST_identifier) nodes[0]).gen3AC(fout, Action.NONE);
 			
-			output3AC(fout,"M_STORE", offset, reg3, "", currentLine);
+			output3AC(fout, Opcode.M_STORE, offset, reg3, Operand.EMPTY, currentLine());
 		}
 			
 		else if(op.equals("--")) {
 			if(floatType)
-				output3AC(fout, "SUB_F", reg3, reg1, "1.0", currentLine);
+				output3AC(fout, Opcode.SUB_F, reg3, reg1, fout.floatLiteral(1.0), currentLine());
 				
 			else
-				output3AC(fout, "SUB_I", reg3, reg1, "1", currentLine);
+				output3AC(fout, Opcode.SUB_I, reg3, reg1, Operand.of(Operand.IMMEDIATE, 1), currentLine());
 				
-			String offset = ((AST_identifier) nodes.get(0)).gen3AC(fout, Action.NONE);		
-			output3AC(fout,"M_STORE", offset, reg3, "", currentLine);
+			long offset = ((AST_identifier) nodes[0]).gen3AC(fout, Action.NONE);		
+			output3AC(fout, Opcode.M_STORE, offset, reg3, Operand.EMPTY, currentLine());
 		}
 			
 		else if(op.equals("sizeof")) {
-			String size = "0";
-			if(reg1.contains("f"))
-				size = "4";
+			int size = 0;
+			if(floating(reg1))
+				size = 4;
 				
-			else if(reg1.contains("i"))
-				size = "4";
+			else if(Operand.kind(reg1) == Operand.INT_REGISTER)
+				size = 4;
 				
-			else if(reg1.contains("c"))
-				size = "1";
+			else if(Operand.kind(reg1) == Operand.CHAR_REGISTER)
+				size = 1;
 				
-			output3AC(fout,"LOAD_I", reg3, size, "", currentLine);
+			output3AC(fout, Opcode.LOAD_I, reg3, Operand.of(Operand.IMMEDIATE, size), Operand.EMPTY, currentLine());
 		}
 		
 		return reg3;
@@ -2224,10 +2581,11 @@ class AST_unary_expression extends AST_node
 class AST_unary_operator extends AST_node
 {
 	public
-	AST_unary_operator(String _op, String line)
+	AST_unary_operator(String _op, int line)
 	{
+		super(NodeKind.UNARY_OPERATOR);
 		name = "Unary Operator";
-		currentLine = line.trim();
+		lineNum = line;
 		op = _op;
 	}
 	
@@ -2244,28 +2602,29 @@ class AST_unary_operator extends AST_node
 class AST_postfix_expression extends AST_node
 {
 	public
-	AST_postfix_expression(String _op, AST_node arg1, AST_node arg2, String line)
+	AST_postfix_expression(String _op, AST_node arg1, AST_node arg2, int line)
 	{
+		super(NodeKind.POSTFIX_EXPRESSION);
 		name = "Postfix Expression";
-		currentLine = line.trim();
+		lineNum = line;
 		op = _op;
 		
-		nodes.add(arg1);
-		nodes.add(arg2);
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
 	@Override public String toString() {return appendValue(name,op);}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{	
 	/*
 		String reg1;
-		//String reg1 = nodes.get(0).gen3AC(fout);
-		//String reg2 = (nodes.get(1) == null) ? "EMPTY" : nodes.get(1).gen3AC(fout);
+		//String reg1 = nodes[0].gen3AC(fout);
+		//String reg2 = (nodes[1] == null) ? "EMPTY" : nodes[1].gen3AC(fout);
 		String reg3;
 		boolean floatType = false;
 		
-		AST_identifier idNode = (AST_identifier) nodes.get(0);
+		AST_identifier idNode = (AST_identifier) nodes[0];
 		
 		reg1 = reg3 = idNode.gen3AC(fout);
 		
@@ -2281,33 +2640,31 @@ class AST_postfix_expression extends AST_node
 	
 		else if(reg1.contains("f") || reg2.contains("f"))
 		{
-			reg3 = "f_temp" + String.valueOf(Ast.floatLabelCounter++);
+			reg3 = "f_temp" + String.valueOf(Ast.current().floatLabelCounter++);
 			floatType = true;
 		}
 		
 		else
-			reg3 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
+			reg3 = "i_temp" + String.valueOf(Ast.current().integerLabelCounter++);
 	*/
-		String reg1 = null, reg2 = null, func_name = null;
-		String classType;
+		long reg1 = Operand.EMPTY, reg2 = Operand.EMPTY;
+		String func_name = null;
 		int arraySize = 0;
 		boolean floatType = false;
 		
-		if(!nodes.get(0).getClass().getName().toLowerCase().contains("identifier"))
-			return "FIXME";
+		if(nodes[0].kind != NodeKind.IDENTIFIER)
+			return fout.placeholder("FIXME");
 				
-		AST_identifier idNode = (AST_identifier) nodes.get(0);
-		
-		classType = idNode.symbol_node.type.getClass().getName().toLowerCase();
+		AST_identifier idNode = (AST_identifier) nodes[0];
 		
-		//System.out.println("Class Type: " + classType);
+		BasicDataType type = idNode.symbol_node.type;
 		
-		if(classType.contains("array"))
+		if(type instanceof ArrayDataType)
 		{
 			reg1 = idNode.gen3AC(fout,Action.NONE);
 		}
 		
-		else if(classType.contains("function"))
+		else if(type instanceof FunctionDataType)
 		{
 			//System.out.println("Here!!");
 			func_name = idNode.identifier;
@@ -2318,63 +2675,62 @@ class AST_postfix_expression extends AST_node
 			reg1 = idNode.gen3AC(fout);
 		}
 		
-		floatType = (idNode.symbol_node.type.getType().contains("float") || idNode.symbol_node.type.getType().contains("double"))
-			? true : false;
+		floatType = type.kind.floating();
 		
 		if(op.equals("++")) {
 			if(floatType) {
-				reg2 = "f_temp" + String.valueOf(Ast.floatLabelCounter++);
+				reg2 = Operand.of(Operand.FLOAT_REGISTER, Ast.current().floatLabelCounter++);
 				
-				output3AC(fout,"ADD_F", reg2, reg1, "1.0", currentLine);
+				output3AC(fout, Opcode.ADD_F, reg2, reg1, fout.floatLiteral(1.0), currentLine());
 			}
 				
 			else {
-				reg2 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
-				output3AC(fout,"ADD_I", reg2, reg1, "1", currentLine);
+				reg2 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
+				output3AC(fout, Opcode.ADD_I, reg2, reg1, Operand.of(Operand.IMMEDIATE, 1), currentLine());
 			}
 			
-			String offset = ((AST_identifier) nodes.get(0)).gen3AC(fout, Action.NONE);
-			System.out.println("THING: " + offset);
+			long offset = ((AST_identifier) nodes[0]).gen3AC(fout, Action.NONE);
+			Compilation.current().out.println("THING: " + fout.text(offset));
 			
-			output3AC(fout,"M_STORE", offset, reg2, "", currentLine);
+			output3AC(fout, Opcode.M_STORE, offset, reg2, Operand.EMPTY, currentLine());
 		}
 			
 		else if(op.equals("--")) {
 			if(floatType) {
-				reg2 = "f_temp" + String.valueOf(Ast.floatLabelCounter++);
-				output3AC(fout, "SUB_F", reg2, reg1, "1.0", currentLine);
+				reg2 = Operand.of(Operand.FLOAT_REGISTER, Ast.current().floatLabelCounter++);
+				output3AC(fout, Opcode.SUB_F, reg2, reg1, fout.floatLiteral(1.0), currentLine());
 			}
 				
 			else {
-				reg2 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
-				output3AC(fout, "SUB_I", reg2, reg1, "1", currentLine);
+				reg2 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
+				output3AC(fout, Opcode.SUB_I, reg2, reg1, Operand.of(Operand.IMMEDIATE, 1), currentLine());
 			}
 			
-			String offset = ((AST_identifier) nodes.get(0)).gen3AC(fout, Action.NONE);
-			System.out.println("THING: " + offset);
+			long offset = ((AST_identifier) nodes[0]).gen3AC(fout, Action.NONE);
+			Compilation.current().out.println("THING: " + fout.text(offset));
 			
-			output3AC(fout,"M_STORE", offset, reg2, "", currentLine);
+			output3AC(fout, Opcode.M_STORE, offset, reg2, Operand.EMPTY, currentLine());
 		}
 		
 		else if(op.equals("{}"))
 		{
-			output3AC(fout, "CALL", func_name,"","",currentLine);
+			output3AC(fout, Opcode.CALL, fout.name(func_name),Operand.EMPTY,Operand.EMPTY,currentLine());
 			
-			if(idNode.symbol_node.type.getType().equals("void"))
+			if(type.kind == TypeKind.VOID)
 				; // do nothing
 				
 			else if(floatType)
 			{
-				reg2 = "f_temp" + String.valueOf(Ast.floatLabelCounter++);
+				reg2 = Operand.of(Operand.FLOAT_REGISTER, Ast.current().floatLabelCounter++);
 				
-				output3AC(fout,"MOV", reg2, "f_ret", "", currentLine);
+				output3AC(fout, Opcode.MOV, reg2, Operand.of(Operand.RETURN_VALUE, 1), Operand.EMPTY, currentLine());
 			}
 			
 			else
 			{
-				reg2 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
+				reg2 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
 				
-				output3AC(fout,"MOV", reg2, "i_ret", "", currentLine);
+				output3AC(fout, Opcode.MOV, reg2, Operand.of(Operand.RETURN_VALUE, 0), Operand.EMPTY, currentLine());
 			}
 				
 			//else
@@ -2383,43 +2739,43 @@ class AST_postfix_expression extends AST_node
 		
 		else if(op.equals("{arg}"))
 		{
-			nodes.get(1).gen3AC(fout);
+			nodes[1].gen3AC(fout);
 			
-			output3AC(fout, "CALL", func_name,"","",currentLine);
+			output3AC(fout, Opcode.CALL, fout.name(func_name),Operand.EMPTY,Operand.EMPTY,currentLine());
 			
-			if(idNode.symbol_node.type.getType().equals("void"))
+			if(type.kind == TypeKind.VOID)
 				; // do nothing
 				
 			else if(floatType)
 			{
-				reg2 = "f_temp" + String.valueOf(Ast.floatLabelCounter++);
+				reg2 = Operand.of(Operand.FLOAT_REGISTER, Ast.current().floatLabelCounter++);
 				
-				output3AC(fout,"MOV", reg2, "f_ret", "", currentLine);
+				output3AC(fout, Opcode.MOV, reg2, Operand.of(Operand.RETURN_VALUE, 1), Operand.EMPTY, currentLine());
 			}
 			
 			else
 			{
-				reg2 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
+				reg2 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
 				
-				output3AC(fout,"MOV", reg2, "i_ret", "", currentLine);
+				output3AC(fout, Opcode.MOV, reg2, Operand.of(Operand.RETURN_VALUE, 0), Operand.EMPTY, currentLine());
 			}
 		}
 		
 		else if(op.equals("[]"))
 		{
-			if(nodes.get(0).getClass().getName().contains("postfix") && 
-					nodes.get(1).getClass().getName().contains("constant"))
+			if(nodes[0].kind == NodeKind.POSTFIX_EXPRESSION && 
+					(nodes[1].kind == NodeKind.CONSTANT || nodes[1].kind == NodeKind.CONSTANT_EXPRESSION))
 			{ /*
-				AST_identifier id = (AST_identifier) nodes.get(0).nodes.get(0);
+				AST_identifier id = (AST_identifier) nodes[0].nodes[0];
 				
 				java.util.Scanner scanner = new java.util.Scanner(reg1);
 				scanner.useDelimiter("\\(");
 				int typeOffset = ((ArrayDataType)id.symbol_node.type).nestedArray.typeOffset;
-				int offset = scanner.nextInt() - typeOffset;// - ((AST_identifier) nodes.get(0)).symbol_node.type.typeOffset;
-				int index = Integer.parseInt(nodes.get(1).getData().toString());
+				int offset = scanner.nextInt() - typeOffset;// - ((AST_identifier) nodes[0]).symbol_node.type.typeOffset;
+				int index = Integer.parseInt(nodes[1].getData().toString());
 				int arrayIndexOffset = index * typeOffset;
 				
-				System.out.println("Double Numbers: " + String.format("%d %d %d %d", typeOffset, offset, index, arrayIndexOffset));
+				Compilation.current().out.println("Double Numbers: " + String.format("%d %d %d %d", typeOffset, offset, index, arrayIndexOffset));
 							
 				offset += arrayIndexOffset;
 			
@@ -2428,35 +2784,35 @@ class AST_postfix_expression extends AST_node
 				*/
 			}
 			
-			else if(nodes.get(1).getClass().getName().contains("constant"))
+			else if(nodes[1].kind == NodeKind.CONSTANT || nodes[1].kind == NodeKind.CONSTANT_EXPRESSION)
 			{
-				int typeOffset = ((AST_identifier) nodes.get(0)).symbol_node.type.typeOffset;
-				int offset = ((AST_identifier) nodes.get(0)).symbol_node.offset;
-				int index = Integer.parseInt(nodes.get(1).getData().toString());
-				int arrayIndexOffset = Integer.parseInt(nodes.get(1).getData().toString()) * typeOffset;
+				int typeOffset = ((AST_identifier) nodes[0]).symbol_node.type.typeOffset;
+				int offset = ((AST_identifier) nodes[0]).symbol_node.offset;
+				int index = Integer.parseInt(nodes[1].getData().toString());
+				int arrayIndexOffset = Integer.parseInt(nodes[1].getData().toString()) * typeOffset;
 				
-				System.out.println("Numbers: " + String.format("%d %d %d %d", typeOffset, offset, index, arrayIndexOffset));
+				Compilation.current().out.println("Numbers: " + String.format("%d %d %d %d", typeOffset, offset, index, arrayIndexOffset));
 							
 				offset += arrayIndexOffset;
 			
-				reg2 = String.valueOf(offset) + "(off)";
+				reg2 = Operand.of(Operand.FRAME, offset);
 			}
 			
 			else
 			{
-				String reg4 = nodes.get(1).gen3AC(fout);
-				int offset = ((AST_identifier) nodes.get(0)).symbol_node.offset;
-				int typeOffset = ((AST_identifier) nodes.get(0)).symbol_node.type.typeOffset;
+				long reg4 = nodes[1].gen3AC(fout);
+				int offset = ((AST_identifier) nodes[0]).symbol_node.offset;
+				int typeOffset = ((AST_identifier) nodes[0]).symbol_node.type.typeOffset;
 				
-				String reg5 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
-				String reg6 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
+				long reg5 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
+				long reg6 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
 
-				output3AC(fout,"MUL_I", reg5, reg4, String.valueOf(typeOffset), currentLine);
-				output3AC(fout,"ADD_I", reg6, reg5, String.valueOf(offset), currentLine);
+				output3AC(fout, Opcode.MUL_I, reg5, reg4, Operand.of(Operand.IMMEDIATE, typeOffset), currentLine());
+				output3AC(fout, Opcode.ADD_I, reg6, reg5, Operand.of(Operand.IMMEDIATE, offset), currentLine());
 				
-				reg2 = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
+				reg2 = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
 				
-				output3AC(fout,"M_LOAD", reg2, reg6, "", currentLine);
+				output3AC(fout, Opcode.M_LOAD, reg2, reg6, Operand.EMPTY, currentLine());
 				//reg2 = reg6;
 				
 				
@@ -2476,11 +2832,12 @@ class AST_postfix_expression extends AST_node
 class AST_primary_expression extends AST_node
 {
 	public
-	AST_primary_expression(AST_node arg1, String line) 
+	AST_primary_expression(AST_node arg1, int line) 
 	{
+		super(NodeKind.PRIMARY_EXPRESSION);
 		name = "Primary Expression";
-		currentLine = line.trim();
-		nodes.add(arg1);
+		lineNum = line;
+		addNode(arg1);
 	}
 }
 
@@ -2490,30 +2847,31 @@ class AST_primary_expression extends AST_node
 class AST_argument_expression_list extends AST_node
 {
 	public
-	AST_argument_expression_list(AST_node arg1, AST_node arg2, String line) 
+	AST_argument_expression_list(AST_node arg1, AST_node arg2, int line) 
 	{
+		super(NodeKind.ARGUMENT_EXPRESSION_LIST);
 		name = "Argument Expression List";
-		currentLine = line.trim();
-		nodes.add(arg1);
-		nodes.add(arg2);
+		lineNum = line;
+		addNode(arg1);
+		addNode(arg2);
 	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{
 		for(AST_node n : nodes)
 			if(n != null)
 			{
-				if(n.getClass().getName().toLowerCase().contains("expression_list"))
+				if(n.kind == NodeKind.ARGUMENT_EXPRESSION_LIST)
 					n.gen3AC(fout);
 				
 				else {	
-					String reg = n.gen3AC(fout);
+					long reg = n.gen3AC(fout);
 				
-					output3AC(fout, "PARAM", reg, "", "", currentLine);
+					output3AC(fout, Opcode.PARAM, reg, Operand.EMPTY, Operand.EMPTY, currentLine());
 				}
 			}
 			
-		return null;
+		return Operand.EMPTY;
 	}
 }
 
@@ -2522,56 +2880,140 @@ class AST_argument_expression_list extends AST_node
 */
 class AST_constant extends AST_node
 {
+	/**
+	* Kinds of constants.  Each keeps its value in a primitive field.
+	*/
+	public enum Literal { INTEGER, FLOATING, CHARACTER, ENUMERATION }
+	
+	/**
+	* Creates an integer or character constant.
+	* @param _literal {@link Literal#INTEGER} or {@link Literal#CHARACTER}.
+	* @param value Value, or character code.
+	* @param line Source line.
+	*/
 	public
-	AST_constant(Object val, String line)
+	AST_constant(Literal _literal, long value, int line)
 	{
+		super(NodeKind.CONSTANT);
 		name = "Constant";
-		currentLine = line.trim();
-		const_val = val;
+		lineNum = line;
+		literal = _literal;
+		int_val = value;
 	}
 	
-	@Override public String toString() {return appendValue(name,const_val.toString());}
-	@Override public Object getData() {return const_val;}
+	/**
+	* Creates a floating constant.
+	* @param value Value.
+	* @param line Source line.
+	*/
+	public
+	AST_constant(double value, int line)
+	{
+		super(NodeKind.CONSTANT);
+		name = "Constant";
+		lineNum = line;
+		literal = Literal.FLOATING;
+		float_val = value;
+	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	/**
+	* Creates an enumeration constant.
+	* @param enumerator Enumerator name.
+	* @param line Source line.
+	*/
+	public
+	AST_constant(String enumerator, int line)
 	{
-		String reg;
-		
-		String type = (const_val == null) ? "ERROR" : const_val.getClass().getName();
-		
-		if(type.contains("Double") || type.contains("Float")) 
+		super(NodeKind.CONSTANT);
+		name = "Constant";
+		lineNum = line;
+		literal = Literal.ENUMERATION;
+		enum_val = enumerator;
+	}
+	
+	/**
+	* Formats the value as it appears in the intermediate code.
+	* @return The value.
+	*/
+	public String valueString()
+	{
+		switch(literal)
 		{
-			reg = "f_temp" + String.valueOf(Ast.floatLabelCounter++);
-			
-			output3AC(fout,"LOAD_F", reg, const_val.toString(), "", currentLine);
-			//fout.format("%-10s %-12s %-12s %-12s %30s%n", "LOAD_F", reg, const_val.toString(), "", "# " + currentLine);
+			case INTEGER:		return String.valueOf(int_val);
+			case FLOATING:		return String.valueOf(float_val);
+			case CHARACTER:		return String.valueOf((char) int_val);
+			default:			return enum_val;
 		}
-			
-		else if(type.contains("Integer"))
+	}
+	
+	@Override public String toString() {return appendValue(name,valueString());}
+	
+	/**
+	* Boxes the value for the callers that inspect constants generically.  The scanner and code generation
+	* use the primitive fields.
+	*/
+	@Override public Object getData()
+	{
+		switch(literal)
 		{
-			reg = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
-			
-			output3AC(fout,"LOAD_I", reg, const_val.toString(), "", currentLine);
-			//fout.format("%-10s %-12s %-12s %-12s %30s%n", "LOAD_F", reg, const_val.toString(), "", "# " + currentLine);
+			case INTEGER:		return Integer.valueOf((int) int_val);
+			case FLOATING:		return Double.valueOf(float_val);
+			case CHARACTER:		return Character.valueOf((char) int_val);
+			default:			return enum_val;
 		}
-			
-			
-			
-		else
+	}
+	
+	@Override public long gen3AC(IrBuilder fout) throws IOException
+	{
+		long reg;
+		
+		switch(literal)
 		{
-			reg = "c_temp" + String.valueOf(Ast.characterLabelCounter++);
-			output3AC(fout,"LOAD_C", reg, "'" + const_val.toString() + "'", "", currentLine);
+			case FLOATING:
+				reg = Operand.of(Operand.FLOAT_REGISTER, Ast.current().floatLabelCounter++);
+				output3AC(fout, Opcode.LOAD_F, reg, fout.floatLiteral(float_val), Operand.EMPTY, currentLine());
+				break;
+				
+			case INTEGER:
+				reg = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
+				output3AC(fout, Opcode.LOAD_I, reg, fout.immediate(int_val), Operand.EMPTY, currentLine());
+				break;
+				
+			default:
+				reg = Operand.of(Operand.CHAR_REGISTER, Ast.current().characterLabelCounter++);
+				output3AC(fout, Opcode.LOAD_C, reg, fout.charLiteral(valueString()), Operand.EMPTY, currentLine());
 		}
 			
 		return reg;
 	}
 	
+	/**
+	* Names the type the way the parser's type checks expect, after the class the value used to be boxed in.
+	*/
 	@Override public String getClassType()
 	{
-		return const_val.getClass().getName();
+		switch(literal)
+		{
+			case INTEGER:		return "java.lang.Integer";
+			case FLOATING:		return "java.lang.Double";
+			case CHARACTER:		return "java.lang.Character";
+			default:			return "java.lang.String";
+		}
+	}
+	
+	@Override public boolean isFloating()
+	{
+		return literal == Literal.FLOATING;
 	}
 	
-	public Object const_val;
+	/**	Kind of constant.									*/
+	public Literal literal;
+	/**	Value of an integer constant, or character code.	*/
+	public long int_val;
+	/**	Value of a floating constant.						*/
+	public double float_val;
+	/**	Name of an enumeration constant.					*/
+	public String enum_val;
 }
 
 /**
@@ -2580,21 +3022,22 @@ class AST_constant extends AST_node
 class AST_string extends AST_node
 {
 	public
-	AST_string(String literal, String line)
+	AST_string(String literal, int line)
 	{
+		super(NodeKind.STRING);
 		name = "String Literal";
-		currentLine = line.trim();
+		lineNum = line;
 		str_literal = literal;
 	}
 	
 	@Override public String toString() {return appendValue(name,str_literal);}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{
-		String reg = "s_temp" + String.valueOf(Ast.stringLabelCounter++);
+		long reg = Operand.of(Operand.STRING_REGISTER, Ast.current().stringLabelCounter++);
 		
-		output3AC(fout,"LOAD_S",reg, "\"" + str_literal + "\"","",currentLine);
-		//fout.format("%-10s %-12s %-12s %-12s %30s%n", "LOAD_S", reg, str_literal, "", "# " + currentLine);
+		output3AC(fout, Opcode.LOAD_S, reg, fout.stringLiteral(str_literal),Operand.EMPTY,currentLine());
+		//fout.format("%-10s %-12s %-12s %-12s %30s%n", "LOAD_S", reg, str_literal, "", "# " + currentLine());
 		
 		return reg;
 	}
@@ -2613,21 +3056,23 @@ class AST_string extends AST_node
 class AST_identifier extends AST_node
 {
 	public
-	AST_identifier(String identifier_name, SymbolNode node, String line)
+	AST_identifier(int identifier_id, SymbolNode node, int line)
 	{
+		super(NodeKind.IDENTIFIER);
 		name = "Identifier";
-		currentLine = line.trim();
-		identifier = identifier_name;
+		lineNum = line;
+		id = identifier_id;
+		identifier = Compilation.current().names.name(id);
 		symbol_node = node;
 	}
 	
 	@Override public String toString() {return appendValue(name,identifier);}
 	
-	@Override public String gen3AC(PrintWriter fout, Action action) throws IOException
+	@Override public long gen3AC(IrBuilder fout, Action action) throws IOException
 	{
-		String type = symbol_node.toString();
-		String offset = String.valueOf(symbol_node.offset);
-		String reg = null;
+		BasicDataType type = symbol_node.type;
+		long offset = Operand.of(Operand.FRAME, symbol_node.offset);
+		long reg = Operand.EMPTY;
 /*	
 		if(action ==  || symbol_node.type.getClass().getName().contains("Array")) {
 			reg = offset + "(off)";
@@ -2637,51 +3082,62 @@ class AST_identifier extends AST_node
 		switch(action)
 		{
 			case LOAD:		
-				if(type.equals("int") || type.equals("short") || type.equals("long") || type.equals("long long"))
-					reg = "i_temp" + String.valueOf(Ast.integerLabelCounter++);
-			
-				else if(type.equals("float") || type.equals("double"))
-					reg = "f_temp" + String.valueOf(Ast.floatLabelCounter++);
-			
-				else if(type.equals("char"))
-					reg = "c_temp" + String.valueOf(Ast.characterLabelCounter++);
-			
-				else
-					reg = "s_temp" + String.valueOf(Ast.stringLabelCounter++);
+				// arrays and functions are loaded as addresses
+				switch((type instanceof ArrayDataType || type instanceof FunctionDataType) ? TypeKind.STRUCT : type.kind)
+				{
+					case INT:
+					case SHORT:
+					case LONG:
+					case LONG_LONG:
+						reg = Operand.of(Operand.INT_REGISTER, Ast.current().integerLabelCounter++);
+						break;
+				
+					case FLOAT:
+					case DOUBLE:
+						reg = Operand.of(Operand.FLOAT_REGISTER, Ast.current().floatLabelCounter++);
+						break;
+				
+					case CHAR:
+						reg = Operand.of(Operand.CHAR_REGISTER, Ast.current().characterLabelCounter++);
+						break;
+				
+					default:
+						reg = Operand.of(Operand.STRING_REGISTER, Ast.current().stringLabelCounter++);
+				}
 			
-				output3AC(fout,"M_LOAD", reg,offset + "(off)","",currentLine);
+				output3AC(fout, Opcode.M_LOAD, reg,offset,Operand.EMPTY,currentLine());
 			break;
 			
 			case STORE:
-				reg = offset + "(off)";
-				//output3AC(fout,"M_STORE", offset + "(off)", reg,"",currentLine);
+				reg = offset;
+				//output3AC(fout,"M_STORE", offset + "(off)", reg,"",currentLine());
 			break;
 			
 			case ALLOC:
-				String alloc_size = String.valueOf(symbol_node.getOffset());
+				int alloc_size = symbol_node.getOffset();
 				
 				if(Driver.verbose || Driver.debugLevel > 0)
-					System.out.printf("Allocating %s byte(s) for id: %s\n", alloc_size, identifier, symbol_node.type.getClass().getName());
+					Compilation.current().out.printf("Allocating %s byte(s) for id: %s\n", alloc_size, identifier, symbol_node.type.getClass().getName());
 /*
-				if(symbol_node.type.getClass().getName().contains("Array")) { System.out.println("Here!!!");
+				if(symbol_node.type.getClass().getName().contains("Array")) { Compilation.current().out.println("Here!!!");
 					alloc_size = String.valueOf(symbol_node.type.offset);
 				}
 */				
-				reg = alloc_size + "(off)";
+				reg = Operand.of(Operand.FRAME, alloc_size);
 				
-				output3AC(fout,"ALLOC", alloc_size,"","",currentLine);
+				output3AC(fout, Opcode.ALLOC, Operand.of(Operand.IMMEDIATE, alloc_size),Operand.EMPTY,Operand.EMPTY,currentLine());
 			break;
 			
 			case NONE:
 				//System.out.println("Offset: " + offset);
-				reg = offset + "(off)";
+				reg = offset;
 			break;
 		}
 		
 		return reg;
 	}
 	
-	@Override public String gen3AC(PrintWriter fout) throws IOException
+	@Override public long gen3AC(IrBuilder fout) throws IOException
 	{	
 		return gen3AC(fout,Action.LOAD);
 	}
@@ -2691,31 +3147,41 @@ class AST_identifier extends AST_node
 		return symbol_node.toString();
 	}
 	
+	@Override public boolean isFloating()
+	{
+		return symbol_node.type.kind.floating();
+	}
+	
 	@Override public Object getData()
 	{
 		return identifier;
 	}
 	
+	/** Identifier id in the compilation's pool.				*/
+	public int id;
+	/** Canonical name of the id, shared by every use of it.	*/
 	public String identifier;
 	public SymbolNode symbol_node;
 }
 
 class AST_int_to_float extends AST_node
 {
-	public AST_int_to_float(AST_node arg1, String line)
+	public AST_int_to_float(AST_node arg1, int line)
 	{
+		super(NodeKind.INT_TO_FLOAT);
 		name = "Int to Float Cast";
-		currentLine = line.trim();
-		nodes.add(arg1);
+		lineNum = line;
+		addNode(arg1);
 	}
 }
 
 class AST_float_to_int extends AST_node
 {
-	public AST_float_to_int(AST_node arg1, String line)
+	public AST_float_to_int(AST_node arg1, int line)
 	{
+		super(NodeKind.FLOAT_TO_INT);
 		name = "Float to Int Cast";
-		currentLine = line.trim();
-		nodes.add(arg1);
+		lineNum = line;
+		addNode(arg1);
 	}
 }
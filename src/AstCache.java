@@ -0,0 +1,819 @@
+package Compiler;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import Assembly.Fragments;
+
+/**
+*	Binary copies of parsed trees, used by --ast-cache.  Each tree is stored next to its input (file.ast for
+*	file.c), together with the
+*	identifier names, symbols and types it refers to, under a digest of the input and the options that change the
+*	tree.  A later compilation of the unchanged input maps the file and rebuilds the tree from it instead of
+*	scanning and parsing, and goes straight to code generation.<br/>
+*	Strings, types and symbols are written once each into tables the nodes refer to by index, and numbers are
+*	written as variable length integers.  A node is written as its {@link NodeKind}, its line and the fields of its
+*	class, which are listed one by one for each kind; the node is made again through its constructor.  Adding,
+*	removing or reordering a stored field means changing both lists; files written before are misses for the new
+*	build.
+*/
+public class AstCache
+{
+	/**	File layout version.										*/
+	public static final int FORMAT = 2;
+	/**	Stamp at the start of every file and every key.  It names the build, see {@link BuildStamp}.	*/
+	public static final String STAMP = "ccompiler " + Driver.VERSION + " ast cache " + FORMAT + " " + BuildStamp.ID;
+
+	/**	Type table entry tags.										*/
+	private static final int BASIC = 0, ARRAY = 1, FUNCTION = 2, STRUCT = 3;
+
+	/**	Hits and misses.											*/
+	private AtomicLong hits = new AtomicLong(), misses = new AtomicLong();
+
+	/**
+	* Returns the cache file of an input.
+	* @param input Input file name.
+	* @return The input's name with the extension .ast.
+	*/
+	public static File file(String input)
+	{
+		int dot = input.lastIndexOf('.');
+
+		return new File(((dot > input.lastIndexOf(File.separatorChar)) ? input.substring(0, dot) : input) + ".ast");
+	}
+
+	/**
+	* Computes the key of a tree from its input and the options in {@link Driver} that change the tree.  The
+	* input's name is part of it, since the stored diagnostics print it.
+	* @param name Input file name, as diagnostics print it.
+	* @param input Bytes of the input file.
+	* @return Hex encoded digest.
+	*/
+	public String key(String name, ByteBuffer input)
+	{
+		MessageDigest md = Fragments.newDigest();
+		String flags = STAMP + " --no-reduce-ast=" + !Driver.reduceAST + " --incremental=" + Driver.incremental + " " +
+			name + "\0";
+
+		md.update(flags.getBytes(StandardCharsets.UTF_8));
+		md.update(input);
+
+		return Fragments.toHex(md.digest());
+	}
+
+	/**
+	* Loads the stored tree of a compilation's input.  Only the stamp and key are read unless they match.
+	* @param compilation Current compilation, which must not have interned any names yet.
+	* @param key Key from {@link #key(String, ByteBuffer)}.
+	* @return The diagnostics printed while the tree was parsed, or null on a miss.
+	*/
+	public byte[] load(Compilation compilation, String key)
+	{
+		File file = file(compilation.path);
+		byte[] diagnostics = null;
+
+		if(file.isFile())
+		{
+			try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+			{
+				// the mapping stays valid after the channel is closed
+				ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+				if(Decoder.string(in).equals(STAMP) && Decoder.string(in).equals(key))
+					diagnostics = new Decoder(compilation, in).read();
+			}
+			catch(IOException | RuntimeException e)
+			{
+				// damaged, stale or half written files count as misses and are rewritten
+				diagnostics = null;
+			}
+		}
+
+		if(diagnostics == null)
+			misses.incrementAndGet();
+
+		else
+			hits.incrementAndGet();
+
+		return diagnostics;
+	}
+
+	/**
+	* Stores the tree of a compilation next to its input.
+	* @param compilation Compilation whose tree was just parsed.
+	* @param key Key from {@link #key(String, ByteBuffer)}.
+	* @param diagnostics Diagnostics printed while parsing, repeated on every hit.
+	*/
+	public void store(Compilation compilation, String key, byte[] diagnostics)
+	{
+		File file = file(compilation.path);
+
+		try
+		{
+			byte[] data = new Encoder(compilation).write(key, diagnostics);
+			File temp = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+
+			Files.write(temp.toPath(), data);
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch(IOException e)
+		{
+			// a cache that cannot be written only costs speed
+			compilation.err.println("Warning: cannot write AST cache " + file + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	* Formats the hit and miss counts.
+	* @return Printable report.
+	*/
+	public String statistics()
+	{
+		return String.format("AST cache%n" +
+			"  files:    %6d hit(s) %6d miss(es)%n", hits.get(), misses.get());
+	}
+
+	/**
+	* Buffer with the variable length encodings used in the files.
+	*/
+	private static class Out extends ByteArrayOutputStream
+	{
+		/** Writes a non negative number, 7 bits a byte.	*/
+		void unsigned(long value)
+		{
+			while((value & ~0x7FL) != 0)
+			{
+				write((int) ((value & 0x7F) | 0x80));
+				value >>>= 7;
+			}
+
+			write((int) value);
+		}
+
+		/** Writes a number, small magnitudes in few bytes.	*/
+		void signed(long value)
+		{
+			unsigned((value << 1) ^ (value >> 63));
+		}
+
+		/** Writes a string in UTF-8 after its length.	*/
+		void string(String s)
+		{
+			byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+			unsigned(bytes.length);
+			write(bytes, 0, bytes.length);
+		}
+
+		/** Writes the contents of another buffer.	*/
+		void append(Out other)
+		{
+			write(other.buf, 0, other.count);
+		}
+
+		/** Writes a counted table.	*/
+		void table(int count, Out entries)
+		{
+			unsigned(count);
+			append(entries);
+		}
+	}
+
+	/**
+	* Writes the tree of a compilation.  Strings, types and symbols are numbered as the tree walk meets them, parts
+	* before the types and symbols made of them, and the tables are written ahead of the tree.
+	*/
+	private static class Encoder
+	{
+		private Compilation compilation;
+		private HashMap<String, Integer> strings = new HashMap<String, Integer>();
+		private IdentityHashMap<Object, Integer> types = new IdentityHashMap<Object, Integer>();
+		private IdentityHashMap<Object, Integer> symbols = new IdentityHashMap<Object, Integer>();
+		private Out stringTable = new Out(), typeTable = new Out(), symbolTable = new Out();
+		private Out tree = new Out();
+
+		Encoder(Compilation _compilation)
+		{
+			compilation = _compilation;
+
+			// the names come first, so their indexes are their ids
+			for(int id = 0; id < compilation.names.size(); id++)
+				string(compilation.names.name(id));
+		}
+
+		/**
+		* Encodes the whole file.
+		* @return File contents.
+		*/
+		byte[] write(String key, byte[] diagnostics)
+		{
+			node(compilation.ast.root);
+
+			Out out = new Out();
+			out.string(STAMP);
+			out.string(key);
+			out.unsigned(diagnostics.length);
+			out.write(diagnostics, 0, diagnostics.length);
+			out.unsigned(compilation.names.size());
+			out.table(strings.size(), stringTable);
+			out.table(types.size(), typeTable);
+			out.table(symbols.size(), symbolTable);
+			out.append(tree);
+
+			return out.toByteArray();
+		}
+
+		/** Writes a node and its children, depth first, from an explicit stack so deep trees do not recurse.	*/
+		private void node(AST_node root)
+		{
+			// a list, since empty child slots are written too
+			ArrayList<AST_node> pending = new ArrayList<AST_node>();
+			pending.add(root);
+
+			while(!pending.isEmpty())
+			{
+				AST_node node = pending.remove(pending.size() - 1);
+
+				if(node == null)
+				{
+					tree.unsigned(0);
+					continue;
+				}
+
+				tree.unsigned(node.kind.ordinal() + 1);
+				tree.signed(node.lineNum);
+				fields(node);
+				tree.unsigned(node.nodes.length);
+
+				for(int i = node.nodes.length - 1; i >= 0; i--)
+					pending.add(node.nodes[i]);
+			}
+		}
+
+		/**
+		* Writes the fields of a node besides its kind, line and children, in the order
+		* {@link Decoder#shallowNode()} passes them to the constructor.  The other fields are set by the
+		* constructors.
+		*/
+		private void fields(AST_node node)
+		{
+			switch(node.kind)
+			{
+				case FUNCTION_DEFINITION:
+					AST_function_definition function = (AST_function_definition) node;
+					tree.signed(function.stackSize);
+					tree.unsigned(symbol(function.func_node));
+					tree.unsigned(string(function.cacheKey));
+					break;
+
+				case STORAGE_CLASS_SPECIFIER:
+					tree.unsigned(string(((AST_storage_class_specifier) node).type));
+					break;
+
+				case TYPE_SPECIFIER:
+					tree.unsigned(string(((AST_type_specifier) node).type));
+					break;
+
+				case TYPE_QUALIFIER:
+					tree.unsigned(string(((AST_type_qualifier) node).type));
+					break;
+
+				case STRUCT_OR_UNION:
+					tree.unsigned(string(((AST_struct_or_union) node).type));
+					break;
+
+				case DIRECT_DECLARATOR:
+					tree.unsigned(string(((AST_direct_declarator) node).type));
+					break;
+
+				case PARAMETER_TYPE_LIST:
+					tree.write(((AST_parameter_type_list) node).elipsis ? 1 : 0);
+					break;
+
+				case LABELED_STATEMENT:
+					tree.unsigned(string(((AST_labeled_statement) node).label_type));
+					break;
+
+				case SELECTION_STATEMENT:
+					tree.unsigned(string(((AST_selection_statement) node).selection_type));
+					break;
+
+				case ITERATION_STATEMENT:
+					tree.unsigned(string(((AST_iteration_statement) node).loop_type));
+					break;
+
+				case JUMP_STATEMENT:
+					tree.unsigned(string(((AST_jump_statement) node).jump_op));
+					break;
+
+				case ASSIGNMENT_OPERATOR:
+					tree.unsigned(string(((AST_assignment_operator) node).op));
+					break;
+
+				case EQUALITY_EXPRESSION:
+					tree.unsigned(string(((AST_equality_expression) node).op));
+					break;
+
+				case RELATIONAL_EXPRESSION:
+					tree.unsigned(string(((AST_relational_expression) node).op));
+					break;
+
+				case SHIFT_EXPRESSION:
+					tree.unsigned(string(((AST_shift_expression) node).op));
+					break;
+
+				case ADDITIVE_EXPRESSION:
+					tree.unsigned(((AST_additive_expression) node).op);
+					break;
+
+				case MULTIPLICATIVE_EXPRESSION:
+					tree.unsigned(((AST_multiplicative_expression) node).op);
+					break;
+
+				case UNARY_EXPRESSION:
+					tree.unsigned(string(((AST_unary_expression) node).op));
+					break;
+
+				case UNARY_OPERATOR:
+					tree.unsigned(string(((AST_unary_operator) node).op));
+					break;
+
+				case POSTFIX_EXPRESSION:
+					tree.unsigned(string(((AST_postfix_expression) node).op));
+					break;
+
+				case CONSTANT:
+					AST_constant constant = (AST_constant) node;
+					tree.unsigned(constant.literal.ordinal());
+
+					if(constant.literal == AST_constant.Literal.FLOATING)
+						tree.signed(Double.doubleToRawLongBits(constant.float_val));
+
+					else if(constant.literal == AST_constant.Literal.ENUMERATION)
+						tree.unsigned(string(constant.enum_val));
+
+					else
+						tree.signed(constant.int_val);
+					break;
+
+				case STRING:
+					tree.unsigned(string(((AST_string) node).str_literal));
+					break;
+
+				case IDENTIFIER:
+					AST_identifier identifier = (AST_identifier) node;
+					tree.unsigned(identifier.id);
+					tree.unsigned(symbol(identifier.symbol_node));
+					break;
+
+				default:
+					// the other kinds have nothing but their children
+			}
+		}
+
+		/** Returns the index of a string plus one, or 0 for null.	*/
+		private int string(String s)
+		{
+			if(s == null)
+				return 0;
+
+			Integer index = strings.get(s);
+
+			if(index == null)
+			{
+				strings.put(s, index = strings.size());
+				stringTable.string(s);
+			}
+
+			return index + 1;
+		}
+
+		/** Returns the index of a symbol plus one, or 0 for null.	*/
+		private int symbol(SymbolNode symbol)
+		{
+			if(symbol == null)
+				return 0;
+
+			Integer index = symbols.get(symbol);
+
+			if(index == null)
+			{
+				int type = type(symbol.type);
+
+				symbolTable.unsigned(type);
+				symbolTable.signed(symbol.lineNum);
+				symbolTable.signed(symbol.offset);
+				symbolTable.signed(symbol.origOffset);
+
+				symbols.put(symbol, index = symbols.size());
+			}
+
+			return index + 1;
+		}
+
+		/** Returns the index of a type plus one, or 0 for null.	*/
+		private int type(BasicDataType type)
+		{
+			if(type == null)
+				return 0;
+
+			Integer index = types.get(type);
+
+			if(index != null)
+				return index + 1;
+
+			Out entry = new Out();
+
+			if(type instanceof ArrayDataType)
+			{
+				ArrayDataType array = (ArrayDataType) type;
+				int nested = type(array.nestedArray);
+
+				entry.unsigned(ARRAY);
+				entry.unsigned(array.kind.ordinal());
+				entry.signed(array.size);
+				entry.signed(array.totalSize);
+				entry.signed(array.offset);
+				entry.signed(array.typeOffset);
+				entry.signed(array.dataSize);
+				entry.unsigned(nested);
+			}
+
+			else if(type instanceof FunctionDataType)
+			{
+				FunctionDataType function = (FunctionDataType) type;
+				int[] parameters = new int[function.parameterTypes.length];
+
+				for(int i = 0; i < parameters.length; i++)
+					parameters[i] = type(function.parameterTypes[i]);
+
+				entry.unsigned(FUNCTION);
+				entry.unsigned(function.kind.ordinal());
+				entry.signed(function.numParameters);
+				entry.unsigned(parameters.length);
+
+				for(int parameter : parameters)
+					entry.unsigned(parameter);
+			}
+
+			else if(type instanceof StructDataType)
+			{
+				StructDataType struct = (StructDataType) type;
+				ArrayList<int[]> elements = new ArrayList<int[]>();
+
+				for(java.util.Map.Entry<Integer, BasicDataType> element : struct.elements.entrySet())
+					elements.add(new int[] { element.getKey(), type(element.getValue()) });
+
+				entry.unsigned(STRUCT);
+				entry.unsigned(struct.kind.ordinal());
+				entry.unsigned(elements.size());
+
+				for(int[] element : elements)
+				{
+					entry.unsigned(element[0]);
+					entry.unsigned(element[1]);
+				}
+			}
+
+			else
+			{
+				entry.unsigned(BASIC);
+				entry.unsigned(type.kind.ordinal());
+				entry.write(type.pointer ? 1 : 0);
+			}
+
+			typeTable.append(entry);
+			types.put(type, index = types.size());
+
+			return index + 1;
+		}
+	}
+
+	/**
+	* Reads a file written by {@link Encoder} from a mapped buffer.  The tree is handed to the compilation only
+	* once all of it was read.
+	*/
+	private static class Decoder
+	{
+		private Compilation compilation;
+		private ByteBuffer in;
+		private String[] strings;
+		private BasicDataType[] types;
+		private SymbolNode[] symbols;
+
+		Decoder(Compilation _compilation, ByteBuffer _in)
+		{
+			compilation = _compilation;
+			in = _in;
+		}
+
+		/**
+		* Reads everything after the key.
+		* @return The stored diagnostics, or null if the file does not fit this compiler or compilation.
+		*/
+		byte[] read()
+		{
+			byte[] diagnostics = new byte[count()];
+			in.get(diagnostics);
+
+			int names = count();
+			strings = new String[count()];
+
+			for(int i = 0; i < strings.length; i++)
+			{
+				strings[i] = string(in);
+
+				// the names must get the ids the tree was built with
+				if(i < names && compilation.names.intern(strings[i]) != i)
+					return null;
+			}
+
+			types = new BasicDataType[count()];
+
+			for(int i = 0; i < types.length; i++)
+				types[i] = readType();
+
+			symbols = new SymbolNode[count()];
+
+			for(int i = 0; i < symbols.length; i++)
+			{
+				SymbolNode symbol = new SymbolNode();
+				symbol.type = type();
+				symbol.lineNum = (int) signed(in);
+				symbol.offset = (int) signed(in);
+				symbol.origOffset = (int) signed(in);
+				symbols[i] = symbol;
+			}
+
+			AST_node root = node();
+
+			if(in.hasRemaining())
+				return null;
+
+			compilation.ast.setRoot(root);
+			return diagnostics;
+		}
+
+		/** Reads a type table entry.	*/
+		private BasicDataType readType()
+		{
+			int tag = count();
+			TypeKind kind = TypeKind.values()[count()];
+
+			switch(tag)
+			{
+				case ARRAY:
+					ArrayDataType array = new ArrayDataType(kind, (int) signed(in));
+					array.totalSize = (int) signed(in);
+					array.offset = (int) signed(in);
+					array.typeOffset = (int) signed(in);
+					array.dataSize = (int) signed(in);
+					array.nestedArray = (ArrayDataType) type();
+					return array;
+
+				case FUNCTION:
+					int numParameters = (int) signed(in);
+					BasicDataType[] parameters = new BasicDataType[count()];
+
+					for(int i = 0; i < parameters.length; i++)
+						parameters[i] = type();
+
+					return compilation.st.types.function(kind, numParameters, parameters);
+
+				case STRUCT:
+					StructDataType struct = compilation.st.types.struct();
+
+					for(int i = count(); i > 0; i--)
+						struct.addElement(count(), type());
+
+					return struct;
+
+				default:
+					return Types.basic(kind, in.get() != 0);
+			}
+		}
+
+		/** Reads a node and its children, keeping the nodes still missing children on an explicit stack.	*/
+		private AST_node node()
+		{
+			AST_node root = shallowNode();
+			AST_node[] parents = new AST_node[64];
+			int[] filled = new int[64];
+			int depth = 0;
+
+			if(root != null && root.nodes.length > 0)
+				parents[depth++] = root;
+
+			while(depth > 0)
+			{
+				AST_node parent = parents[depth - 1];
+
+				if(filled[depth - 1] == parent.nodes.length)
+				{
+					depth--;
+					continue;
+				}
+
+				AST_node child = shallowNode();
+				parent.nodes[filled[depth - 1]++] = child;
+
+				if(child != null && child.nodes.length > 0)
+				{
+					if(depth == parents.length)
+					{
+						parents = Arrays.copyOf(parents, depth * 2);
+						filled = Arrays.copyOf(filled, depth * 2);
+					}
+
+					parents[depth] = child;
+					filled[depth++] = 0;
+				}
+			}
+
+			return root;
+		}
+
+		/**
+		* Reads a node with the fields {@link Encoder#fields(AST_node)} wrote and makes it through its constructor,
+		* with an empty child array of the right size.
+		*/
+		private AST_node shallowNode()
+		{
+			int kind = count() - 1;
+
+			if(kind < 0)
+				return null;
+
+			int line = (int) signed(in);
+			AST_node node;
+
+			switch(NodeKind.values()[kind])
+			{
+				case TRANSLATION_UNIT:				node = new AST_translation_unit(null, null, line); break;
+				case EXTERNAL_DECLARATION:			node = new AST_external_declaration(null, line); break;
+
+				case FUNCTION_DEFINITION:
+					int stackSize = (int) signed(in);
+					SymbolNode function = symbol();
+					AST_function_definition definition = new AST_function_definition(null, null, null, null, line, stackSize, function);
+					definition.cacheKey = string();
+					node = definition;
+					break;
+
+				case DECLARATION:					node = new AST_declaration(null, null, line); break;
+				case DECLARATION_LIST:				node = new AST_declaration_list(null, null, line); break;
+				case DECLARATION_SPECIFIERS:		node = new AST_declaration_specifiers(null, null, line); break;
+				case STORAGE_CLASS_SPECIFIER:		node = new AST_storage_class_specifier(string(), line); break;
+				case TYPE_SPECIFIER:				node = new AST_type_specifier(string(), null, line); break;
+				case TYPE_QUALIFIER:				node = new AST_type_qualifier(string(), line); break;
+				case STRUCT_OR_UNION_SPECIFIER:		node = new AST_struct_or_union_specifier(null, null, null, line); break;
+				case STRUCT_OR_UNION:				node = new AST_struct_or_union(string(), line); break;
+				case STRUCT_DECLARATION_LIST:		node = new AST_struct_declaration_list(null, null, line); break;
+				case INIT_DECLARATOR_LIST:			node = new AST_init_declarator_list(null, null, line); break;
+				case INIT_DECLARATOR:				node = new AST_init_declarator(null, null, line); break;
+				case STRUCT_DECLARATION:			node = new AST_struct_declaration(null, null, line); break;
+				case SPECIFIER_QUALIFIER_LIST:		node = new AST_specifier_qualifier_list(null, null, line); break;
+				case STRUCT_DECLARATOR_LIST:		node = new AST_struct_declarator_list(null, null, line); break;
+				case STRUCT_DECLARATOR:				node = new AST_struct_declarator(null, null, line); break;
+				case ENUM_SPECIFIER:				node = new AST_enum_specifier(null, null, line); break;
+				case ENUMERATOR_LIST:				node = new AST_enumerator_list(null, null, line); break;
+				case ENUMERATOR:					node = new AST_enumerator(null, null, line); break;
+				case DECLARATOR:					node = new AST_declarator(null, null, line); break;
+				case DIRECT_DECLARATOR:				node = new AST_direct_declarator(string(), null, null, line); break;
+				case POINTER:						node = new AST_pointer(null, null, line); break;
+				case TYPE_QUALIFIER_LIST:			node = new AST_type_qualifier_list(null, null, line); break;
+				case PARAMETER_TYPE_LIST:			node = new AST_parameter_type_list(null, in.get() != 0, line); break;
+				case PARAMETER_LIST:				node = new AST_parameter_list(null, null, line); break;
+				case PARAMETER_DECLARATION:			node = new AST_parameter_declaration(null, null, line); break;
+				case IDENTIFIER_LIST:				node = new AST_identifier_list(null, null, line); break;
+				case INITIALIZER:					node = new AST_initializer(null, line); break;
+				case INITIALIZER_LIST:				node = new AST_initializer_list(null, null, line); break;
+				case TYPE_NAME:						node = new AST_type_name(null, null, line); break;
+				case ABSTRACT_DECLARATOR:			node = new AST_abstract_declarator(null, null, line); break;
+				case DIRECT_ABSTRACT_DECLARATOR:	node = new AST_direct_abstract_declarator(null, null, line); break;
+				case STATEMENT:						node = new AST_statement(null, line); break;
+				case LABELED_STATEMENT:				node = new AST_labeled_statement(string(), null, null, line); break;
+				case EXPRESSION_STATEMENT:			node = new AST_expression_statement(null, line); break;
+				case COMPOUND_STATEMENT:			node = new AST_compound_statement(null, null, line); break;
+				case STATEMENT_LIST:				node = new AST_statement_list(null, null, line); break;
+				case SELECTION_STATEMENT:			node = new AST_selection_statement(string(), null, null, null, line); break;
+				case ITERATION_STATEMENT:			node = new AST_iteration_statement(string(), null, null, null, null, line); break;
+				case JUMP_STATEMENT:				node = new AST_jump_statement(string(), null, line); break;
+				case EXPRESSION:					node = new AST_expression(null, null, line); break;
+				case ASSIGNMENT_EXPRESSION:			node = new AST_assignment_expression(null, null, null, line); break;
+				case ASSIGNMENT_OPERATOR:			node = new AST_assignment_operator(string(), line); break;
+				case CONDITIONAL_EXPRESSION:		node = new AST_conditional_expression(null, null, null, line); break;
+				case CONSTANT_EXPRESSION:			node = new AST_constant_expression(null, line); break;
+				case LOGICAL_OR_EXPRESSION:			node = new AST_logical_or_expression(null, null, line); break;
+				case LOGICAL_AND_EXPRESSION:		node = new AST_logical_and_expression(null, null, line); break;
+				case INCLUSIVE_OR_EXPRESSION:		node = new AST_inclusive_or_expression(null, null, line); break;
+				case EXCLUSIVE_OR_EXPRESSION:		node = new AST_exclusive_or_expression(null, null, line); break;
+				case AND_EXPRESSION:				node = new AST_and_expression(null, null, line); break;
+				case EQUALITY_EXPRESSION:			node = new AST_equality_expression(string(), null, null, line); break;
+				case RELATIONAL_EXPRESSION:			node = new AST_relational_expression(string(), null, null, line); break;
+				case SHIFT_EXPRESSION:				node = new AST_shift_expression(string(), null, null, line); break;
+				case ADDITIVE_EXPRESSION:			node = new AST_additive_expression((char) count(), null, null, line); break;
+				case MULTIPLICATIVE_EXPRESSION:		node = new AST_multiplicative_expression((char) count(), null, null, line); break;
+				case CAST_EXPRESSION:				node = new AST_cast_expression(null, null, line); break;
+				case UNARY_EXPRESSION:				node = new AST_unary_expression(string(), null, null, line); break;
+				case UNARY_OPERATOR:				node = new AST_unary_operator(string(), line); break;
+				case POSTFIX_EXPRESSION:			node = new AST_postfix_expression(string(), null, null, line); break;
+				case PRIMARY_EXPRESSION:			node = new AST_primary_expression(null, line); break;
+				case ARGUMENT_EXPRESSION_LIST:		node = new AST_argument_expression_list(null, null, line); break;
+
+				case CONSTANT:
+					AST_constant.Literal literal = AST_constant.Literal.values()[count()];
+
+					if(literal == AST_constant.Literal.FLOATING)
+						node = new AST_constant(Double.longBitsToDouble(signed(in)), line);
+
+					else if(literal == AST_constant.Literal.ENUMERATION)
+						node = new AST_constant(string(), line);
+
+					else
+						node = new AST_constant(literal, signed(in), line);
+					break;
+
+				case STRING:						node = new AST_string(string(), line); break;
+
+				case IDENTIFIER:
+					int id = count();
+					node = new AST_identifier(id, symbol(), line);
+					break;
+
+				case INT_TO_FLOAT:					node = new AST_int_to_float(null, line); break;
+				case FLOAT_TO_INT:					node = new AST_float_to_int(null, line); break;
+
+				default:
+					throw new IllegalStateException("AST cache cannot make a node of kind " + NodeKind.values()[kind]);
+			}
+
+			node.nodes = new AST_node[count()];
+			return node;
+		}
+
+		/** Reads a string reference.	*/
+		private String string()
+		{
+			int index = count();
+			return (index == 0) ? null : strings[index - 1];
+		}
+
+		/** Reads a symbol reference.	*/
+		private SymbolNode symbol()
+		{
+			int index = count();
+			return (index == 0) ? null : symbols[index - 1];
+		}
+
+		/** Reads a type reference.	*/
+		private BasicDataType type()
+		{
+			int index = count();
+			return (index == 0) ? null : types[index - 1];
+		}
+
+		/** Reads a count or index.	*/
+		private int count()
+		{
+			return (int) unsigned(in);
+		}
+
+		static long unsigned(ByteBuffer in)
+		{
+			long value = 0;
+
+			for(int shift = 0; ; shift += 7)
+			{
+				byte b = in.get();
+				value |= (long) (b & 0x7F) << shift;
+
+				if(b >= 0)
+					return value;
+			}
+		}
+
+		static long signed(ByteBuffer in)
+		{
+			long value = unsigned(in);
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+		static String string(ByteBuffer in)
+		{
+			byte[] bytes = new byte[(int) unsigned(in)];
+			in.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+}
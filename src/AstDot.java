@@ -0,0 +1,228 @@
+package Compiler;
+
+import java.io.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+/**
+*	Graphviz dot export of an AST, written by --ast-dot and --ast-image.<br/>
+*	Nodes are streamed through a buffered writer from an explicit stack, so deep trees do not recurse and nothing
+*	is held besides the pending siblings.  The output can be cut to a depth, to a number of nodes or to the
+*	functions of one name, and each function definition can go to a file of its own.  A subtree cut by the depth
+*	limit is drawn as one dashed node giving how many nodes it holds.
+*/
+public class AstDot
+{
+	/**	Deepest level written, the root being level 1.  0 writes every level.	*/
+	private final int maxDepth;
+	/**	Most nodes written per file.  0 writes every node.						*/
+	private final int maxNodes;
+	/**	Only function definitions of this name are written, or null.			*/
+	private final String function;
+	/**	Write each function definition to a file of its own.					*/
+	private final boolean split;
+
+	/**
+	* Sets up an export.
+	* @param _maxDepth Deepest level written, 0 for all.
+	* @param _maxNodes Most nodes written per file, 0 for all.
+	* @param _function Name of the only function written, or null.
+	* @param _split Write one file per function definition.
+	*/
+	public AstDot(int _maxDepth, int _maxNodes, String _function, boolean _split)
+	{
+		maxDepth = _maxDepth;
+		maxNodes = _maxNodes;
+		function = _function;
+		split = _split;
+	}
+
+	/**
+	* Writes the dot files of a tree.  Without a function name or split the whole tree goes to filename.  With a
+	* function name the matching definitions go to filename.  With split every selected definition goes to
+	* base.function.dot, base being filename without its extension.
+	* @param ast The tree.
+	* @param filename Dot file name.
+	* @return Names of the files written, in tree order.
+	* @throws IOException If a file could not be written.
+	*/
+	public ArrayList<String> write(Ast ast, String filename) throws IOException
+	{
+		ArrayList<String> files = new ArrayList<String>();
+
+		if(function == null && !split)
+		{
+			write(new AST_node[] { ast.root }, filename);
+			files.add(filename);
+			return files;
+		}
+
+		ArrayList<AST_function_definition> functions = new ArrayList<AST_function_definition>();
+
+		// definitions do not nest, so their bodies are not walked
+		ast.accept(node -> {
+			if(node.kind != NodeKind.FUNCTION_DEFINITION)
+				return true;
+
+			AST_function_definition definition = (AST_function_definition) node;
+
+			if(function == null || function.equals(definition.functionName()))
+				functions.add(definition);
+
+			return false;
+		});
+
+		if(functions.isEmpty())
+		{
+			Compilation.current().err.println("Warning: " + ((function == null) ? "no function definitions" : "no function named " + function) + " to write to " + filename);
+			return files;
+		}
+
+		if(!split)
+		{
+			write(functions.toArray(new AST_node[functions.size()]), filename);
+			files.add(filename);
+			return files;
+		}
+
+		int dot = filename.lastIndexOf('.');
+		String base = (dot > filename.lastIndexOf(File.separatorChar)) ? filename.substring(0, dot) : filename;
+
+		for(AST_function_definition definition : functions)
+		{
+			String file = base + "." + definition.functionName() + ".dot";
+			write(new AST_node[] { definition }, file);
+			files.add(file);
+		}
+
+		return files;
+	}
+
+	/**
+	* Writes one graph holding the given subtrees, preorder numbered as the recursive writer did.
+	*/
+	private void write(AST_node[] roots, String filename) throws IOException
+	{
+		try(PrintWriter fout = new PrintWriter(new BufferedWriter(new FileWriter(filename), 1 << 16)))
+		{
+			// ids are unique, so the graph has no duplicate edges for strict to merge
+			fout.println("digraph AST {");
+			fout.println("\tstart_node [shape=none label=\"\"];");
+
+			ArrayDeque<Pending> stack = new ArrayDeque<Pending>();
+			int count = 0;
+
+			for(int i = roots.length - 1; i >= 0; i--)
+				if(roots[i] != null)
+					stack.push(new Pending(roots[i], 0, 1));
+
+			while(!stack.isEmpty())
+			{
+				Pending entry = stack.pop();
+
+				if(maxNodes > 0 && count == maxNodes)
+				{
+					fout.println("\tcut [shape=none label=\"cut after " + String.valueOf(maxNodes) + " nodes\"];");
+					break;
+				}
+
+				int id = ++count;
+				AST_node node = entry.node;
+
+				fout.print("\tnode");
+				fout.print(id);
+				fout.print(" [label = \"");
+				escape(fout, String.valueOf(node.toString()));
+				fout.println("\"];");
+
+				fout.print((entry.parent == 0) ? "\tstart_node" : "\tnode" + String.valueOf(entry.parent));
+				fout.print(" -> node");
+				fout.print(id);
+				fout.println(";");
+
+				if(maxDepth > 0 && entry.depth == maxDepth)
+				{
+					int hidden = size(node) - 1;
+
+					if(hidden > 0)
+					{
+						fout.println("\tcut" + String.valueOf(id) + " [style=dashed label=\"" + String.valueOf(hidden) + " more\"];");
+						fout.println("\tnode" + String.valueOf(id) + " -> cut" + String.valueOf(id) + " [style=dashed];");
+					}
+
+					continue;
+				}
+
+				for(int i = node.nodes.length - 1; i >= 0; i--)
+					if(node.nodes[i] != null)
+						stack.push(new Pending(node.nodes[i], id, entry.depth + 1));
+			}
+
+			fout.println("}");
+
+			if(fout.checkError())
+				throw new IOException("could not write " + filename);
+		}
+	}
+
+	/**
+	* Counts the nodes of a subtree.
+	*/
+	private static int size(AST_node root)
+	{
+		ArrayDeque<AST_node> stack = new ArrayDeque<AST_node>();
+		int count = 0;
+
+		stack.push(root);
+
+		while(!stack.isEmpty())
+		{
+			AST_node node = stack.pop();
+			count++;
+
+			for(AST_node n : node.nodes)
+				if(n != null)
+					stack.push(n);
+		}
+
+		return count;
+	}
+
+	/**
+	* Writes a label inside its quotes.  Labels already use dot's \n for their line breaks, so only quotes, raw
+	* line breaks and a trailing backslash, which would swallow the closing quote, are escaped.
+	*/
+	private static void escape(PrintWriter fout, String label)
+	{
+		for(int i = 0; i < label.length(); i++)
+		{
+			char c = label.charAt(i);
+
+			if(c == '"' || (c == '\\' && i == label.length() - 1))
+				fout.print('\\');
+
+			if(c == '\n')
+				fout.print("\\n");
+
+			else if(c != '\r')
+				fout.print(c);
+		}
+	}
+
+	/**
+	*	A node waiting on the stack with the id of its parent (0 for a root) and its level.
+	*/
+	private static class Pending
+	{
+		final AST_node node;
+		final int parent;
+		final int depth;
+
+		Pending(AST_node _node, int _parent, int _depth)
+		{
+			node = _node;
+			parent = _parent;
+			depth = _depth;
+		}
+	}
+}
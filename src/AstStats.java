@@ -0,0 +1,236 @@
+package Compiler;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+*	Memory footprint and shape of an AST, printed by --ast-stats.<br/>
+*	Sizes are estimates for a 64 bit JVM with compressed references (12 byte object headers, 4 byte references,
+*	8 byte alignment), which is the default below 32 GB of heap.  Each node is charged for itself, its child list
+*	and every string and boxed constant it is the first to reference; strings shared between nodes (such as the
+*	node names, which are literals) are counted once.
+*/
+public class AstStats
+{
+	/**	Object header size.							*/
+	private static final int HEADER = 12;
+	/**	Reference size.								*/
+	private static final int REFERENCE = 4;
+	/**	Array header size, length included.			*/
+	private static final int ARRAY = 16;
+
+	/**	Shallow size of each node class.								*/
+	private static HashMap<Class<?>, Long> shallowSizes = new HashMap<Class<?>, Long>();
+
+	/**	Count, shallow, list, string and total bytes per node class.	*/
+	private HashMap<String, long[]> classes = new HashMap<String, long[]>();
+	/**	Strings and boxes charged so far.								*/
+	private IdentityHashMap<Object, Boolean> seen = new IdentityHashMap<Object, Boolean>();
+	/**	Source lines nodes were defined on.								*/
+	private BitSet lines = new BitSet();
+
+	private long nodes;
+	private int maxDepth;
+	private long innerNodes;
+	private long children;
+	private long nullChildren;
+	private long lineReferences;
+
+	/**
+	* Walks a tree once and collects the statistics.  The walk keeps its own stack, so deep trees do not
+	* overflow the thread's stack.
+	* @param ast Tree to measure.
+	*/
+	public AstStats(Ast ast)
+	{
+		ArrayDeque<AST_node> pending = new ArrayDeque<AST_node>();
+		ArrayDeque<Integer> depths = new ArrayDeque<Integer>();
+
+		if(ast.root != null) {
+			pending.push(ast.root);
+			depths.push(1);
+		}
+
+		while(!pending.isEmpty())
+		{
+			AST_node node = pending.pop();
+			int depth = depths.pop();
+
+			measure(node);
+			maxDepth = Math.max(maxDepth, depth);
+
+			if(node.nodes.length != 0)
+				innerNodes++;
+
+			for(AST_node child : node.nodes)
+			{
+				if(child == null) {
+					nullChildren++;
+					continue;
+				}
+
+				children++;
+				pending.push(child);
+				depths.push(depth + 1);
+			}
+		}
+	}
+
+	/**
+	* Charges one node to its class.
+	*/
+	private void measure(AST_node node)
+	{
+		String name = node.getClass().getSimpleName();
+		long[] totals = classes.get(name);
+
+		if(totals == null)
+			classes.put(name, totals = new long[5]);
+
+		long shallow = shallowSize(node.getClass());
+		// leaves share one empty child array
+		long list = (node.nodes.length == 0) ? 0 : align(ARRAY + (long) REFERENCE * node.nodes.length);
+		long strings = 0;
+
+		if(node.lineNum > 0)
+		{
+			lineReferences++;
+			lines.set(node.lineNum);
+		}
+
+		for(Class<?> c = node.getClass(); c != Object.class; c = c.getSuperclass())
+			for(Field f : c.getDeclaredFields())
+			{
+				if(Modifier.isStatic(f.getModifiers()) || f.getType().isPrimitive())
+					continue;
+
+				Object value;
+
+				try
+				{
+					f.setAccessible(true);
+					value = f.get(node);
+				}
+				catch(ReflectiveOperationException | RuntimeException e)
+				{
+					continue;
+				}
+
+				// symbol nodes belong to the symbol table and children are nodes of their own
+				if(value instanceof String && seen.put(value, Boolean.TRUE) == null)
+					strings += stringSize((String) value);
+
+				else if(value instanceof Number && seen.put(value, Boolean.TRUE) == null)
+					strings += 16;
+			}
+
+		nodes++;
+		totals[0]++;
+		totals[1] += shallow;
+		totals[2] += list;
+		totals[3] += strings;
+		totals[4] += shallow + list + strings;
+	}
+
+	/**
+	* Estimates the size of an object of a class from its fields.
+	*/
+	private static synchronized long shallowSize(Class<?> type)
+	{
+		Long size = shallowSizes.get(type);
+
+		if(size != null)
+			return size;
+
+		long bytes = HEADER;
+
+		for(Class<?> c = type; c != Object.class; c = c.getSuperclass())
+			for(Field f : c.getDeclaredFields())
+			{
+				if(Modifier.isStatic(f.getModifiers()))
+					continue;
+
+				Class<?> t = f.getType();
+
+				if(t == long.class || t == double.class)
+					bytes += 8;
+
+				else if(t == int.class || t == float.class)
+					bytes += 4;
+
+				else if(t == short.class || t == char.class)
+					bytes += 2;
+
+				else if(t == byte.class || t == boolean.class)
+					bytes += 1;
+
+				else
+					bytes += REFERENCE;
+			}
+
+		bytes = align(bytes);
+		shallowSizes.put(type, bytes);
+		return bytes;
+	}
+
+	/**
+	* Estimates the size of a string and its Latin-1 character array.
+	*/
+	private static long stringSize(String s)
+	{
+		return 24 + align(16 + s.length());
+	}
+
+	private static long align(long bytes)
+	{
+		return (bytes + 7) & ~7L;
+	}
+
+	/**
+	* Formats the report.
+	* @param title Printed above the report.
+	* @return Printable report.
+	*/
+	public String format(String title)
+	{
+		StringBuilder sb = new StringBuilder();
+		long[] all = new long[5];
+
+		ArrayList<Map.Entry<String, long[]>> sorted = new ArrayList<Map.Entry<String, long[]>>(classes.entrySet());
+		Collections.sort(sorted, (a, b) -> Long.compare(b.getValue()[4], a.getValue()[4]));
+
+		sb.append(String.format("AST statistics: %s%n", title));
+		sb.append(String.format("  %-34s %10s %12s %12s %12s %12s%n", "class", "nodes", "node KB", "list KB",
+			"strings KB", "total KB"));
+
+		for(Map.Entry<String, long[]> entry : sorted)
+		{
+			long[] t = entry.getValue();
+
+			for(int i = 0; i < all.length; i++)
+				all[i] += t[i];
+
+			sb.append(String.format("  %-34s %10d %12.1f %12.1f %12.1f %12.1f%n", entry.getKey(), t[0],
+				t[1] / 1024.0, t[2] / 1024.0, t[3] / 1024.0, t[4] / 1024.0));
+		}
+
+		sb.append(String.format("  %-34s %10d %12.1f %12.1f %12.1f %12.1f%n%n", "total", all[0],
+			all[1] / 1024.0, all[2] / 1024.0, all[3] / 1024.0, all[4] / 1024.0));
+
+		sb.append(String.format("  nodes:          %d, %.1f bytes each%n", nodes, (nodes > 0) ? (double) all[4] / nodes : 0));
+		sb.append(String.format("  max depth:      %d%n", maxDepth));
+		sb.append(String.format("  fan-out:        %.2f children per inner node, %d null child slot(s)%n",
+			(innerNodes > 0) ? (double) children / innerNodes : 0, nullChildren));
+		sb.append(String.format("  source lines:   %d reference(s) to %d line(s), kept as line numbers%n",
+			lineReferences, lines.cardinality()));
+
+		return sb.toString();
+	}
+}
@@ -0,0 +1,107 @@
+package Compiler;
+
+import java.io.*;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import Assembly.Assembler;
+import Assembly.Fragments;
+
+/**
+*	Identifies the build of the compiler that is running, for the stamps of the caches.  A version number only
+*	changes when someone remembers to change it; this is a digest of the code itself, so any rebuild that changes
+*	the code, and only such a rebuild, makes earlier cache entries misses.<br/>
+*	"ant build" writes a digest of the sources into the resource {@link #RESOURCE} next to this class.  Classes
+*	built some other way are hashed when a cache first asks: the jar the compiler and assembler were loaded from, or
+*	every class file under their class directories.  Code that cannot be read back gets a value of its own for every
+*	run, so its cache entries are never reused across runs.
+*/
+public final class BuildStamp
+{
+	/**	Resource holding the digest written at build time.			*/
+	public static final String RESOURCE = "build.stamp";
+	/**	Hex encoded digest of the running build.					*/
+	public static final String ID = compute();
+
+	private BuildStamp()
+	{
+	}
+
+	/**
+	* Reads the digest written at build time, or hashes the class locations of the compiler and the assembler.
+	*/
+	private static String compute()
+	{
+		try(InputStream in = BuildStamp.class.getResourceAsStream(RESOURCE))
+		{
+			String stamp = (in == null) ? "" : new String(in.readAllBytes(), "UTF-8").trim();
+
+			if(!stamp.isEmpty())
+				return stamp;
+		}
+		catch(IOException e)
+		{
+			// hashed below
+		}
+
+		Set<Path> locations = new LinkedHashSet<Path>();
+
+		try
+		{
+			for(Class<?> c : new Class<?>[] { BuildStamp.class, Assembler.class })
+			{
+				CodeSource source = c.getProtectionDomain().getCodeSource();
+
+				if(source == null || source.getLocation() == null)
+					return UUID.randomUUID().toString();
+
+				locations.add(Paths.get(source.getLocation().toURI()));
+			}
+
+			MessageDigest md = Fragments.newDigest();
+
+			for(Path location : locations)
+				for(Path file : files(location))
+				{
+					md.update(location.relativize(file).toString().getBytes("UTF-8"));
+					md.update((byte) 0);
+					md.update(Files.readAllBytes(file));
+				}
+
+			return Fragments.toHex(md.digest());
+		}
+		catch(IOException | URISyntaxException | IllegalArgumentException | SecurityException e)
+		{
+			return UUID.randomUUID().toString();
+		}
+	}
+
+	/**
+	* Lists the files a location contributes: a jar itself, or the class files under a directory in name order.
+	*/
+	private static List<Path> files(Path location) throws IOException
+	{
+		List<Path> files = new ArrayList<Path>();
+
+		if(!Files.isDirectory(location))
+			files.add(location);
+
+		else
+			try(Stream<Path> walk = Files.walk(location))
+			{
+				walk.filter(file -> file.toString().endsWith(".class")).sorted().forEach(files::add);
+			}
+
+		return files;
+	}
+}
@@ -0,0 +1,368 @@
+package Compiler;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import Assembly.Assembler;
+import Assembly.IrProgram;
+import Assembly.SourceText;
+import Assembly.TimeReport;
+
+/**
+*	Holds all state belonging to the compilation of one translation unit: file names, the symbol table,
+*	scanner, parser and AST.  Command line options stay in {@link Driver}; everything that changes while a
+*	file is compiled lives here, so several compilations can run at once on different threads.<br/>
+*	The scanner, parser actions and AST nodes reach their compilation through {@link #current()},
+*	which is set for the calling thread while {@link #run()} executes.
+*/
+public class Compilation
+{
+	/**	Compilation running on each thread.							*/
+	private static final ThreadLocal<Compilation> current = new ThreadLocal<Compilation>();
+
+	/**	Input file name, or "-" for standard input.  Diagnostics and cache keys use it as given.	*/
+	public String inFile;
+	/**	Path the input is read from.  The same as inFile unless the compile daemon resolved it.	*/
+	public String path;
+	/**	Assembly output file name. 									*/
+	public String outFile;
+	/**	Intermediate code file name.								*/
+	public String intermediateFile;
+	/**	AST dot file name.											*/
+	public String dotFile;
+	/**	Destination for verbose output and reports.					*/
+	public PrintStream out = System.out;
+	/**	Destination for diagnostics.								*/
+	public PrintStream err = System.err;
+
+	/**	Function cache for incremental compilation, null when off.	*/
+	public FunctionCache functionCache;
+	/**	Whole file output cache, null when off.						*/
+	public UnitCache unitCache;
+	/**	Parsed tree cache, null when off.							*/
+	public AstCache astCache;
+	/**	Phase timings for --time-report, null when off.  Created on the thread that runs the compilation.	*/
+	public TimeReport timeReport;
+
+	/**	Identifier pool shared by the scanner, symbol table and AST.	*/
+	public Identifiers names = new Identifiers();
+	/**	Symbol Table. 												*/
+	public SymbolTable st = new SymbolTable(names);
+	/**	Parser. 													*/
+	public Parser parser;
+	/**	Lexical Analyzer. 											*/
+	public Scanner scanner;
+	/**	Abstract Syntax Tree. 										*/
+	public Ast ast = new Ast();
+	/**	Input text, read once for the cache key and the scanner.	*/
+	public SourceText source;
+
+	/**
+	* Creates a compilation for one input file.
+	* @param _inFile Input file name.
+	* @param _outFile Assembly output file name.
+	* @param _intermediateFile Intermediate code file name.
+	* @param _dotFile AST dot file name.
+	*/
+	public Compilation(String _inFile, String _outFile, String _intermediateFile, String _dotFile)
+	{
+		inFile = path = _inFile;
+		outFile = _outFile;
+		intermediateFile = _intermediateFile;
+		dotFile = _dotFile;
+	}
+
+	/**
+	* Returns where the compilation running on the calling thread prints its diagnostics.
+	* @return Its err stream, or System.err outside of a compilation.
+	*/
+	public static PrintStream errors()
+	{
+		Compilation compilation = current.get();
+		return (compilation != null) ? compilation.err : System.err;
+	}
+
+	/**
+	* Returns the compilation running on the calling thread.
+	* @return The current compilation, or null outside of {@link #run()}.
+	*/
+	public static Compilation current()
+	{
+		return current.get();
+	}
+
+	/**
+	* Runs the scanner, parser and intermediate code generation using the options in {@link Driver}, followed by
+	* assembly generation when fullOutput is set.
+	* @throws IOException This can be thrown from File IO features.
+	* @throws CompileError If the input could not be compiled.
+	* @throws Assembly.AssemblyError If the generated intermediate code could not be assembled.
+	*/
+	public void run() throws IOException
+	{
+		Compilation previous = enter();
+
+		try
+		{
+			if(unitCache == null)
+				compile();
+				
+			else
+				compileCached();
+		}
+		finally
+		{
+			leave(previous);
+		}
+	}
+	
+	/**
+	* Makes this the current compilation of the calling thread without running it, for tools that drive the
+	* scanner, parser or tree directly.
+	* @return The compilation that was current before, to be passed to {@link #leave(Compilation)}.
+	*/
+	public Compilation enter()
+	{
+		Compilation previous = current.get();
+		current.set(this);
+		return previous;
+	}
+	
+	/**
+	* Restores the compilation that was current before {@link #enter()}.
+	* @param previous Value returned by {@link #enter()}.
+	*/
+	public static void leave(Compilation previous)
+	{
+		current.set(previous);
+	}
+
+	/**
+	* Runs the compilation through the unit cache.  A hit writes the stored outputs and repeats the stored
+	* diagnostics without scanning or parsing; a miss compiles and stores the outputs.  Failures are not stored.
+	*/
+	private void compileCached() throws IOException
+	{
+		source = SourceText.read(path);
+		String key = unitCache.key(inFile, source.bytes());
+		Map<String, byte[]> entry = unitCache.load(key);
+		
+		if(entry != null)
+		{
+			byte[] diagnostics = entry.get(UnitCache.DIAGNOSTICS);
+			
+			if(diagnostics != null) {
+				err.write(diagnostics, 0, diagnostics.length);
+				err.flush();
+			}
+			
+			if(entry.containsKey(UnitCache.CODE))
+				Files.write(new File(intermediateFile).toPath(), entry.get(UnitCache.CODE));
+				
+			if(entry.containsKey(UnitCache.ASSEMBLY))
+				Files.write(new File(outFile).toPath(), entry.get(UnitCache.ASSEMBLY));
+				
+			return;
+		}
+		
+		// capture diagnostics so warnings can be repeated on later hits
+		PrintStream original = err;
+		ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+		err = new PrintStream(diagnostics, true);
+		
+		try
+		{
+			compile();
+		}
+		finally
+		{
+			err = original;
+			err.print(diagnostics.toString());
+			err.flush();
+		}
+		
+		entry = new LinkedHashMap<String, byte[]>();
+		
+		if(diagnostics.size() > 0)
+			entry.put(UnitCache.DIAGNOSTICS, diagnostics.toByteArray());
+			
+		if(Driver.intermediateFlag && new File(intermediateFile).isFile())
+			entry.put(UnitCache.CODE, Files.readAllBytes(new File(intermediateFile).toPath()));
+			
+		if(Driver.fullOutput && new File(outFile).isFile())
+			entry.put(UnitCache.ASSEMBLY, Files.readAllBytes(new File(outFile).toPath()));
+			
+		unitCache.store(key, entry);
+	}
+	
+	/**
+	* Compilation pipeline.
+	* @see #run()
+	*/
+	private void compile() throws IOException
+	{
+		st.timeReport = timeReport;
+		
+		// create scanner from the mapped file, which lines are also sliced from
+		if(source == null)
+			source = SourceText.read(path);
+		scanner = new Scanner(source);
+
+		// an unchanged input is loaded from the AST cache instead of being parsed
+		String astKey = (astCache != null && !inFile.equals(SourceText.STDIN)) ? astCache.key(inFile, source.bytes()) : null;
+		byte[] diagnostics = null;
+
+		if(astKey != null) {
+			phase("AST cache");
+			diagnostics = astCache.load(this, astKey);
+			endPhase();
+		}
+
+		if(diagnostics != null) {
+			err.write(diagnostics, 0, diagnostics.length);
+			err.flush();
+		}
+
+		else
+			parse(astKey);
+
+		if(Driver.verbose)
+			out.println("AST contains " + String.valueOf(ast.size()) + " nodes.");
+
+		if(Driver.astStats)
+			out.print(new AstStats(ast).format(inFile));
+
+		if(Driver.createImage || Driver.astDot)
+		{
+			phase("AST image");
+			ast.writeDotFile(dotFile);
+			endPhase();
+		}
+
+		if(Driver.fullOutput)
+			assemble();
+
+		else if(Driver.intermediateFlag)
+		{
+			phase("3AC generation");
+			ast.write3AC(intermediateFile);
+			endPhase();
+		}
+	}
+
+	/**
+	* Scans and parses the input, storing the tree in the AST cache when there is a key for it.
+	* @param astKey Key of the input in the AST cache, or null.
+	* @throws IOException This can be thrown from File IO features.
+	*/
+	private void parse(String astKey) throws IOException
+	{
+		parser = new Parser(scanner);
+
+		if(Driver.prelex) {
+			phase("scanner");
+			scanner.prelex((Driver.jobs > 0) ? Driver.jobs : Runtime.getRuntime().availableProcessors());
+			endPhase();
+		}
+
+		// set debug level and appropriate output if > 0
+		PrintStream trace = (Driver.debugLevel > 0) ? new PrintStream(Driver.listFile) : null;
+		parser.setDebugLevel(Driver.debugLevel);
+		if(trace != null)
+			parser.setDebugStream(trace);
+
+		// capture diagnostics so warnings can be repeated on later hits
+		PrintStream original = err;
+		ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+
+		if(astKey != null)
+			err = new PrintStream(diagnostics, true);
+
+		// parse file
+		phase("parser");
+		boolean parsed;
+
+		try
+		{
+			parsed = parser.parse();
+		}
+		finally
+		{
+			endPhase();
+
+			if(trace != null)
+				trace.close();
+
+			if(astKey != null) {
+				err = original;
+				err.print(diagnostics.toString());
+				err.flush();
+			}
+		}
+
+		if(astKey != null && parsed) {
+			phase("AST cache");
+			astCache.store(this, astKey, diagnostics.toByteArray());
+			endPhase();
+		}
+	}
+
+	/**
+	* Generates the intermediate code in memory and hands it straight to the assembly generator, as an
+	* {@link IrProgram} that is neither formatted nor scanned.  Its text form is still written to the intermediate
+	* file when intermediateFlag is set.
+	* @throws IOException This can be thrown from File IO features.
+	*/
+	private void assemble() throws IOException
+	{
+		phase("3AC generation");
+		IrProgram code = ast.generateIr();
+		endPhase();
+
+		if(Driver.intermediateFlag)
+		{
+			phase("output");
+			PrintWriter fout = new PrintWriter(intermediateFile);
+			code.write(fout);
+			fout.close();
+			endPhase();
+		}
+
+		PrintWriter fout = new PrintWriter(outFile);
+
+		try
+		{
+			Assembler asm = new Assembler(intermediateFile, fout);
+			asm.cache = functionCache;
+			asm.timeReport = timeReport;
+			asm.out = out;
+			asm.err = err;
+			asm.assemble(code);
+		}
+		finally
+		{
+			fout.close();
+		}
+	}
+
+	/**
+	* Starts a phase of the time report, if there is one.
+	* @param name Phase name as printed.
+	*/
+	private void phase(String name)
+	{
+		if(timeReport != null)
+			timeReport.enter(name);
+	}
+
+	/**
+	* Ends the phase started last.
+	*/
+	private void endPhase()
+	{
+		if(timeReport != null)
+			timeReport.leave();
+	}
+}
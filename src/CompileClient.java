@@ -0,0 +1,134 @@
+package Compiler;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+/**
+*	Thin client for {@link CompileServer}.  Takes the same options as {@link Driver}, plus the client options below,
+*	sends them to the daemon and writes the returned output files into the current directory.<br/><br/>
+* <table align="left">
+*	<tr><th>Option</th><th>Effect</th></tr>
+*	<tr><td>--socket &lt;path&gt;</td>  <td>Connect to a daemon on a non default socket.</td></tr>
+*	<tr><td>--latency</td>              <td>Print the daemon side compile time of this file.</td></tr>
+*	<tr><td>--stats</td>                <td>Print the daemon request count and latency histogram.</td></tr>
+*	<tr><td>--shutdown</td>             <td>Stop the daemon.</td></tr>
+* </table>
+*/
+public class CompileClient
+{
+	/**
+	* Main Function for program start.
+	* @param args Array of command line arguments.
+	* @throws IOException This can be thrown from File IO features.
+	*/
+	public static void main(String[] args) throws IOException
+	{
+		String socketPath = CompileServer.DEFAULT_SOCKET;
+		int request = CompileServer.COMPILE;
+		boolean latency = false;
+		ArrayList<String> compilerArgs = new ArrayList<String>();
+
+		for(int i = 0; i < args.length; i++)
+		{
+			if(args[i].equals("--socket") && i + 1 < args.length)
+				socketPath = args[++i];
+
+			else if(args[i].equals("--stats"))
+				request = CompileServer.STATS;
+
+			else if(args[i].equals("--shutdown"))
+				request = CompileServer.SHUTDOWN;
+
+			else if(args[i].equals("--latency"))
+				latency = true;
+
+			else
+				compilerArgs.add(args[i]);
+		}
+
+		SocketChannel channel;
+
+		try
+		{
+			channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+			channel.connect(UnixDomainSocketAddress.of(socketPath));
+		}
+		catch(IOException e)
+		{
+			System.err.println("Error: No compile daemon listening on " + socketPath);
+			System.exit(1);
+			return;
+		}
+
+		int status = 0;
+
+		try
+		{
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+			DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+
+			out.writeInt(request);
+
+			if(request == CompileServer.COMPILE)
+			{
+				out.writeUTF(System.getProperty("user.dir"));
+				out.writeInt(compilerArgs.size());
+
+				for(String arg : compilerArgs)
+					out.writeUTF(arg);
+			}
+
+			out.flush();
+
+			if(request != CompileServer.COMPILE)
+			{
+				System.out.print(in.readUTF());
+				System.out.println();
+				return;
+			}
+
+			status = in.readInt();
+			long elapsed = in.readLong();
+
+			System.out.write(readBytes(in));
+			System.out.flush();
+			System.err.write(readBytes(in));
+			System.err.flush();
+
+			int fileCount = in.readInt();
+
+			for(int i = 0; i < fileCount; i++)
+			{
+				Path path = Paths.get(in.readUTF());
+				Files.write(path, readBytes(in));
+			}
+
+			if(latency)
+				System.err.printf("compile time: %.3f ms%n", elapsed / 1e6);
+		}
+		finally
+		{
+			channel.close();
+		}
+
+		if(status != 0)
+			System.exit(status);
+	}
+
+	/**
+	* Reads a length prefixed byte array.
+	*/
+	private static byte[] readBytes(DataInputStream in) throws IOException
+	{
+		byte[] data = new byte[in.readInt()];
+		in.readFully(data);
+		return data;
+	}
+}
@@ -0,0 +1,33 @@
+package Compiler;
+
+/**
+*	Thrown when a compilation cannot continue.  The diagnostic has already been printed by the time
+*	this is thrown, so callers only need to decide how to finish (exit the process, or answer a daemon request).
+*/
+public class CompileError extends RuntimeException
+{
+	private static final long serialVersionUID = 1L;
+
+	/**	Exit status the command line driver should terminate with.	*/
+	public final int status;
+
+	/**
+	* Creates an error with exit status 1.
+	* @param message Short description of the failure.
+	*/
+	public CompileError(String message)
+	{
+		this(message, 1);
+	}
+
+	/**
+	* Creates an error with an explicit exit status.
+	* @param message Short description of the failure.
+	* @param _status Exit status for the command line driver.
+	*/
+	public CompileError(String message, int _status)
+	{
+		super(message);
+		status = _status;
+	}
+}
@@ -0,0 +1,353 @@
+package Compiler;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+
+import Assembly.AssemblyDriver;
+import Assembly.AssemblyError;
+import Assembly.SourceText;
+
+/**
+*	Long running compile daemon.  Keeps one JVM (and its JIT compiled code) alive and serves compile requests
+*	sent by {@link CompileClient} over a local Unix domain socket.<br/>
+*	Requests are served one at a time because the command line options are static fields;
+*	{@link Driver#reset()} and {@link AssemblyDriver#reset()} restore them before every request.
+*	Output files, the parser trace of -d included, are written to a scratch directory and sent back to the client,
+*	which writes them relative to its own working directory.  A request's output and diagnostics go to its own
+*	streams through {@link Driver#out} and {@link Driver#err}; System.out and System.err stay the daemon's.
+*	With --full the assembly stage runs in the same JVM.
+*/
+public class CompileServer
+{
+	/**	Socket path used when none is given.						*/
+	public static final String DEFAULT_SOCKET = System.getProperty("java.io.tmpdir") + File.separator +
+		"ccompiler-" + System.getProperty("user.name") + ".sock";
+
+	/**	Request code: compile the files named by the arguments.		*/
+	public static final int COMPILE = 1;
+	/**	Request code: return the daemon statistics.					*/
+	public static final int STATS = 2;
+	/**	Request code: stop the daemon.								*/
+	public static final int SHUTDOWN = 3;
+
+	/**	Number of histogram buckets.  Bucket i holds requests that took less than 2^i ms.	*/
+	private static final int BUCKETS = 16;
+
+	/**	Number of compile requests served.							*/
+	private static long requestCount = 0;
+	/**	Number of compile requests that failed.						*/
+	private static long failedCount = 0;
+	/**	Latency histogram with power of two millisecond buckets.	*/
+	private static long[] histogram = new long[BUCKETS];
+	/**	Sum of all request latencies in nanoseconds.				*/
+	private static long totalNanos = 0;
+	/**	Fastest request in nanoseconds.								*/
+	private static long minNanos = Long.MAX_VALUE;
+	/**	Slowest request in nanoseconds.								*/
+	private static long maxNanos = 0;
+
+	/**
+	* Starts the daemon.
+	* @param args Optional socket path.
+	* @throws IOException If the socket cannot be created.
+	*/
+	public static void main(String[] args) throws IOException
+	{
+		serve((args.length > 0) ? args[0] : DEFAULT_SOCKET);
+	}
+
+	/**
+	* Accepts and serves requests until a shutdown request arrives.
+	* @param socketPath Path of the Unix domain socket to listen on.
+	* @throws IOException If the socket cannot be created.
+	*/
+	public static void serve(String socketPath) throws IOException
+	{
+		File socketFile = new File(socketPath);
+		Files.deleteIfExists(socketFile.toPath());
+
+		ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+
+		try
+		{
+			server.bind(UnixDomainSocketAddress.of(socketFile.toPath()));
+			System.out.println("Compile daemon listening on " + socketPath);
+
+			boolean running = true;
+
+			while(running)
+			{
+				SocketChannel channel = server.accept();
+
+				try
+				{
+					running = handle(channel);
+				}
+				catch(IOException e)
+				{
+					System.err.println("Error: lost connection to client: " + e.getMessage());
+				}
+				finally
+				{
+					channel.close();
+				}
+			}
+		}
+		finally
+		{
+			server.close();
+			Files.deleteIfExists(socketFile.toPath());
+		}
+	}
+
+	/**
+	* Reads one request from the channel and writes the reply.
+	* @param channel Connection to the client.
+	* @return False if the daemon should stop, true otherwise.
+	* @throws IOException If the connection fails.
+	*/
+	private static boolean handle(SocketChannel channel) throws IOException
+	{
+		DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+		boolean running = true;
+
+		switch(in.readInt())
+		{
+			case COMPILE:
+				compile(in, out);
+				break;
+
+			case STATS:
+				out.writeUTF(statistics());
+				break;
+
+			case SHUTDOWN:
+				out.writeUTF("compile daemon stopped after " + String.valueOf(requestCount) + " request(s)");
+				running = false;
+				break;
+
+			default:
+				out.writeUTF("unknown request");
+		}
+
+		out.flush();
+		return running;
+	}
+
+	/**
+	* Serves a compile request.<br/>
+	* Request: working directory, argument count, arguments.<br/>
+	* Reply: exit status, latency in nanoseconds, captured stdout, captured stderr, then the output files
+	* as (name, length, bytes) triples.
+	* @param in Request stream.
+	* @param out Reply stream.
+	* @throws IOException If the connection fails.
+	*/
+	private static void compile(DataInputStream in, DataOutputStream out) throws IOException
+	{
+		String cwd = in.readUTF();
+		String[] args = new String[in.readInt()];
+
+		for(int i = 0; i < args.length; i++)
+			args[i] = in.readUTF();
+
+		File workDir = Files.createTempDirectory("ccompiler").toFile();
+		File intermediate = new File(workDir, "3ac.s");
+		File dot = new File(workDir, "ast.dot");
+		File assembly = new File(workDir, "output.s");
+		File trace = new File(workDir, "list_file.txt");
+
+		ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+		ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+		PrintStream requestOut = new PrintStream(stdout, true);
+		PrintStream requestErr = new PrintStream(stderr, true);
+		String outName = null;
+		String dotName = "ast";
+		int status = 0;
+
+		long start = System.nanoTime();
+
+		try
+		{
+			Driver.reset();
+			AssemblyDriver.reset();
+			Driver.out = requestOut;
+			Driver.err = requestErr;
+			Driver.listFile = trace.getPath();
+
+			Driver.parseArgs(args);
+
+			if(Driver.batchFlag || Driver.inFiles.size() > 1)
+			{
+				requestErr.println("Error: The compile daemon takes one input file per request");
+				throw new CompileError("batch mode is not supported by the daemon");
+			}
+
+			if(SourceText.STDIN.equals(Driver.inFile))
+			{
+				requestErr.println("Error: The compile daemon cannot read standard input");
+				throw new CompileError("standard input is not supported by the daemon");
+			}
+
+			// the input is read from the client's directory, but named as the client gave it
+			Driver.inputDir = cwd;
+			
+			if(!new File(Driver.cacheDir).isAbsolute())
+				Driver.cacheDir = new File(cwd, Driver.cacheDir).getPath();
+
+			outName = Driver.outFile;
+			dotName = new File(Driver.dotFile).getName().replaceFirst("\\.dot$", "");
+			Driver.outFile = assembly.getPath();
+			Driver.intermediateFile = intermediate.getPath();
+			Driver.dotFile = dot.getPath();
+
+			Driver.compile();
+		}
+		catch(CompileError e)
+		{
+			status = e.status;
+		}
+		catch(AssemblyError e)
+		{
+			status = 1;
+		}
+		catch(IOException | RuntimeException e)
+		{
+			requestErr.println("Error: " + e);
+			status = 1;
+		}
+		finally
+		{
+			requestOut.flush();
+			requestErr.flush();
+			Driver.out = System.out;
+			Driver.err = System.err;
+		}
+
+		long elapsed = System.nanoTime() - start;
+		record(elapsed, status);
+
+		ArrayList<String> names = new ArrayList<String>();
+		ArrayList<File> files = new ArrayList<File>();
+
+		if(intermediate.exists()) {
+			names.add("3ac.s");
+			files.add(intermediate);
+		}
+
+		if(trace.exists()) {
+			names.add("list_file.txt");
+			files.add(trace);
+		}
+
+		// ast.dot, or ast.function.dot with --ast-split, and the images rendered from them
+		for(File f : workDir.listFiles())
+			if(f.getName().startsWith("ast.")) {
+				names.add(dotName + f.getName().substring(3));
+				files.add(f);
+			}
+
+		if(assembly.exists() && outName != null) {
+			names.add(outName);
+			files.add(assembly);
+		}
+
+		out.writeInt(status);
+		out.writeLong(elapsed);
+		writeBytes(out, stdout.toByteArray());
+		writeBytes(out, stderr.toByteArray());
+		out.writeInt(files.size());
+
+		for(int i = 0; i < files.size(); i++)
+		{
+			out.writeUTF(names.get(i));
+			writeBytes(out, Files.readAllBytes(files.get(i).toPath()));
+		}
+
+		for(File f : workDir.listFiles())
+			f.delete();
+
+		workDir.delete();
+	}
+
+	/**
+	* Writes a length prefixed byte array.
+	*/
+	private static void writeBytes(DataOutputStream out, byte[] data) throws IOException
+	{
+		out.writeInt(data.length);
+		out.write(data);
+	}
+
+	/**
+	* Adds a finished request to the statistics.
+	* @param nanos Request latency in nanoseconds.
+	* @param status Exit status of the request.
+	*/
+	private static void record(long nanos, int status)
+	{
+		requestCount++;
+
+		if(status != 0)
+			failedCount++;
+
+		totalNanos += nanos;
+		minNanos = Math.min(minNanos, nanos);
+		maxNanos = Math.max(maxNanos, nanos);
+
+		long millis = nanos / 1000000L;
+		int bucket = 64 - Long.numberOfLeadingZeros(millis);
+
+		histogram[Math.min(bucket, BUCKETS - 1)]++;
+	}
+
+	/**
+	* Formats the request count and latency histogram.
+	* @return Printable statistics.
+	*/
+	public static String statistics()
+	{
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(String.format("requests: %d (%d failed)%n", requestCount, failedCount));
+
+		if(requestCount == 0)
+			return sb.toString();
+
+		sb.append(String.format("latency:  min %.3f ms, mean %.3f ms, max %.3f ms%n",
+			minNanos / 1e6, totalNanos / 1e6 / requestCount, maxNanos / 1e6));
+
+		long largest = 0;
+		for(long count : histogram)
+			largest = Math.max(largest, count);
+
+		for(int i = 0; i < BUCKETS; i++)
+		{
+			if(histogram[i] == 0)
+				continue;
+
+			String range;
+
+			if(i == 0)
+				range = "< 1 ms";
+
+			else if(i == BUCKETS - 1)
+				range = ">= " + String.valueOf(1L << (i - 1)) + " ms";
+
+			else
+				range = String.valueOf(1L << (i - 1)) + " - " + String.valueOf(1L << i) + " ms";
+
+			int bar = (int) (40 * histogram[i] / largest);
+			sb.append(String.format("  %-16s %8d  %s%n", range, histogram[i], "#".repeat(Math.max(bar, 1))));
+		}
+
+		return sb.toString();
+	}
+}
@@ -0,0 +1,155 @@
+package Compiler;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+*	Renders dot files to png images with graphviz in the background, for --ast-image.<br/>
+*	At most {@link #PROCESSES} dot processes run at once, so a batch of large files does not start one process
+*	per file; the compilation carries on while they run.  {@link #await()} waits for every image asked for so far
+*	and reports the ones dot could not render.  Shared by every compilation of the JVM and thread safe.
+*/
+public class DotRenderer
+{
+	/**	Most dot processes running at once.								*/
+	public static final int PROCESSES = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+	/**	Seconds a dot process may run before it is killed.				*/
+	public static final int TIMEOUT = 300;
+
+	/**	Worker threads, one per process.  Daemons, so they never keep the JVM alive.	*/
+	private static final ExecutorService pool = Executors.newFixedThreadPool(PROCESSES, task -> {
+		Thread thread = new Thread(task, "dot renderer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**	Dot files of the renders not awaited yet.						*/
+	private static final ArrayList<String> files = new ArrayList<String>();
+	/**	Their failure messages, null on success.						*/
+	private static final ArrayList<Future<String>> results = new ArrayList<Future<String>>();
+
+	/**
+	* Queues a dot file to be rendered to a png image of the same base name.
+	* @param dotFile The dot file.
+	*/
+	public static synchronized void render(String dotFile)
+	{
+		files.add(dotFile);
+		results.add(pool.submit(() -> run(dotFile)));
+	}
+
+	/**
+	* Waits for every render queued so far and prints an error for each that failed.
+	* @param err Destination for the errors.
+	* @return Number of failed renders.
+	*/
+	public static int await(PrintStream err)
+	{
+		ArrayList<String> waiting;
+		ArrayList<Future<String>> pending;
+
+		synchronized(DotRenderer.class)
+		{
+			waiting = new ArrayList<String>(files);
+			pending = new ArrayList<Future<String>>(results);
+			files.clear();
+			results.clear();
+		}
+
+		int failed = 0;
+
+		for(int i = 0; i < pending.size(); i++)
+		{
+			String failure;
+
+			try
+			{
+				failure = pending.get(i).get();
+			}
+			catch(InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				failure = "interrupted";
+			}
+			catch(ExecutionException e)
+			{
+				failure = String.valueOf(e.getCause());
+			}
+
+			if(failure != null)
+			{
+				err.println("Error: Could not render " + waiting.get(i) + ": " + failure);
+				failed++;
+			}
+		}
+
+		return failed;
+	}
+
+	/**
+	* Runs dot on one file.
+	* @return Failure message, or null if the image was written.
+	*/
+	private static String run(String dotFile)
+	{
+		int dot = dotFile.lastIndexOf('.');
+		String image = ((dot > dotFile.lastIndexOf(File.separatorChar)) ? dotFile.substring(0, dot) : dotFile) + ".png";
+		ProcessBuilder builder = new ProcessBuilder("dot", "-Tpng", dotFile, "-o", image);
+		File log = null;
+		Process process;
+
+		try
+		{
+			// dot writes its messages to a file, so a chatty dot cannot block on a full pipe and the timeout holds
+			log = File.createTempFile("dot", ".log");
+			builder.redirectErrorStream(true);
+			builder.redirectOutput(log);
+			process = builder.start();
+		}
+		catch(IOException e)
+		{
+			if(log != null)
+				log.delete();
+
+			return "could not start dot (" + e.getMessage() + ")";
+		}
+
+		try
+		{
+			if(!process.waitFor(TIMEOUT, TimeUnit.SECONDS))
+			{
+				process.destroyForcibly();
+				return "dot ran longer than " + String.valueOf(TIMEOUT) + " seconds";
+			}
+
+			if(process.exitValue() != 0)
+			{
+				String output = new String(Files.readAllBytes(log.toPath()), StandardCharsets.UTF_8).trim();
+				return "dot exited with status " + String.valueOf(process.exitValue()) + (output.isEmpty() ? "" : "\n" + output);
+			}
+
+			return null;
+		}
+		catch(IOException e)
+		{
+			return e.getMessage();
+		}
+		catch(InterruptedException e)
+		{
+			process.destroyForcibly();
+			Thread.currentThread().interrupt();
+			return "interrupted";
+		}
+		finally
+		{
+			log.delete();
+		}
+	}
+}
@@ -2,6 +2,16 @@
 package Compiler;
 
 import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import Assembly.AssemblyError;
+import Assembly.SourceText;
+import Assembly.TimeReport;
 
 /**
 *	Main Driver for the Compiler.  This is a static class that acts as a holder for global data.<br/>
@@ -10,6 +20,9 @@ import java.io.*;
 */
 public class Driver
 {
+	/**	Compiler version.  Part of every cache key.					*/
+	public static final String VERSION = "1.0";
+	
 	/**	Input file name. 											*/
 	public static String inFile = null;	
 	/**	Output file name. 											*/
@@ -30,15 +43,57 @@ public class Driver
 	public static boolean reduceAST = true;
 	/** Run both Intermediate Generation and Assembly Generation 	*/
 	public static boolean fullOutput = false;
+	/**	Intermediate code file name.								*/
+	public static String intermediateFile = "3ac.s";
+	/**	AST dot file name.  Named after the input file when there is one.	*/
+	public static String dotFile = "ast.dot";
 	
-	/**	Symbol Table. 												*/
-	public static SymbolTable st = new SymbolTable();
-	/**	Parser. 													*/
-	public static Parser parser;
-	/**	Lexical Analyzer. 											*/
-	public static Scanner scanner;
-	/**	Abstract Syntax Tree. 										*/
-	public static Ast ast = new Ast();
+	/**	All input files.  More than one selects batch mode.		*/
+	public static ArrayList<String> inFiles = new ArrayList<String>();
+	/**	Directory relative input names are read from.  Null reads them from the working directory.	*/
+	public static String inputDir = null;
+	/**	Batch output directory.  Null writes next to each input.	*/
+	public static String outDir = null;
+	/**	Batch worker threads.  0 uses one per core.				*/
+	public static int jobs = 0;
+	/**	Set when a directory was given as input.					*/
+	public static boolean batchFlag = false;
+	/**	Reuse cached code for functions that did not change.		*/
+	public static boolean incremental = false;
+	/**	Print cache hits and misses when done.						*/
+	public static boolean cacheStats = false;
+	/**	Cache directory.											*/
+	public static String cacheDir = ".ccache";
+	/**	Reuse the outputs of unchanged files from cacheDir.			*/
+	public static boolean unitCacheFlag = false;
+	/**	Unit cache size limit in megabytes.							*/
+	public static int cacheSize = 256;
+	/**	Print the time spent in each phase when done.				*/
+	public static boolean timeReport = false;
+	/**	Number of functions listed in the time report.				*/
+	public static int timeReportTop = 10;
+	/**	Print the AST's memory footprint and shape after parsing.	*/
+	public static boolean astStats = false;
+	/**	Lex the whole source before parsing, in parallel for large files.	*/
+	public static boolean prelex = false;
+	/**	Load the trees of unchanged files from file.ast next to them.	*/
+	public static boolean astCacheFlag = false;
+	/**	Write the AST dot file without rendering it.				*/
+	public static boolean astDot = false;
+	/**	Deepest AST level written to dot files.  0 writes all.		*/
+	public static int astDepth = 0;
+	/**	Most nodes written per AST dot file.  0 writes all.		*/
+	public static int astMaxNodes = 0;
+	/**	Only function written to AST dot files, or null for all.	*/
+	public static String astFunction = null;
+	/**	Write one AST dot file per function definition.			*/
+	public static boolean astSplit = false;
+	/**	Parser trace file written with -d.							*/
+	public static String listFile = "list_file.txt";
+	/**	Destination for reports and verbose output.  The compile daemon points it at the request.	*/
+	public static PrintStream out = System.out;
+	/**	Destination for diagnostics.  The compile daemon points it at the request.	*/
+	public static PrintStream err = System.err;
 	
 
 	/**
@@ -48,64 +103,315 @@ public class Driver
 	*/
 	public static void main(String[] args) throws IOException
 	{
-		// parse all command line arguments and set appropriate flags
-		parseArgs(args);
-
+		try
+		{
+			// parse all command line arguments and set appropriate flags
+			parseArgs(args);
+			
+			if(batchFlag || inFiles.size() > 1)
+				batch();
+				
+			else
+				compile();
+		}
+		catch(CompileError e)
+		{
+			System.exit(e.status);
+		}
+		catch(AssemblyError e)
+		{
+			System.exit(1);
+		}
+	}
+	
+	/**
+	* Compiles inFile using the current settings, followed by assembly generation when fullOutput is set.
+	* Flags and file names must already be set, normally by {@link #parseArgs(String[])}.
+	* @throws IOException This can be thrown from File IO features.
+	* @throws CompileError If the input could not be compiled.
+	* @throws AssemblyError If the generated intermediate code could not be assembled.
+	*/
+	public static void compile() throws IOException
+	{
 		// report error in no input supplied
 		if(inFile == null)
 		{
-			System.err.println("Error: No input file supplied");
-			System.exit(1);
+			err.println("Error: No input file supplied");
+			throw new CompileError("no input file supplied");
 		}
 		
 		if(verbose)
 		{
-			System.out.println("Input File:        " + inFile);
-			System.out.println("Output File:       " + outFile);
-			System.out.println("Debug Level:       " + String.valueOf(debugLevel));
-			System.out.println("Compiler Flag:     " + String.valueOf(compileFlag));
-			System.out.println("Intermediate Flag: " + String.valueOf(intermediateFlag));
-			System.out.println("Assembly Flag:     " + String.valueOf(assemblyFlag));
-			System.out.println("Image Flag:        " + String.valueOf(createImage) + "\n");
+			out.println("Input File:        " + inFile);
+			out.println("Output File:       " + outFile);
+			out.println("Debug Level:       " + String.valueOf(debugLevel));
+			out.println("Compiler Flag:     " + String.valueOf(compileFlag));
+			out.println("Intermediate Flag: " + String.valueOf(intermediateFlag));
+			out.println("Assembly Flag:     " + String.valueOf(assemblyFlag));
+			out.println("Image Flag:        " + String.valueOf(createImage) + "\n");
 		}
 		
-		// create scanner and parser from file input
-		FileInputStream fin = new FileInputStream(inFile);
-		scanner = new Scanner(fin);
-		parser = new Parser(scanner);
+		Compilation compilation = new Compilation(inFile, outFile, intermediateFile, dotFile);
 		
-		// set debug level and appropriate output if > 0
-		parser.setDebugLevel(debugLevel);
-		if(debugLevel > 0)
-			parser.setDebugStream(new PrintStream("list_file.txt"));
+		if(inputDir != null && !inFile.equals(SourceText.STDIN) && !new File(inFile).isAbsolute())
+			compilation.path = new File(inputDir, inFile).getPath();
+			
+		compilation.out = out;
+		compilation.err = err;
+		compilation.functionCache = newFunctionCache();
+		compilation.unitCache = newUnitCache();
+		compilation.astCache = newAstCache();
+		compilation.timeReport = timeReport ? new TimeReport() : null;
+		int unrendered = 0;
+		
+		try
+		{
+			compilation.run();
+		}
+		finally
+		{
+			// the images are rendered in the background, so wait for them before reporting
+			unrendered = DotRenderer.await(err);
+			printCacheStats(compilation.functionCache, compilation.unitCache, compilation.astCache);
+			
+			if(timeReport) {
+				compilation.timeReport.finish();
+				out.print(compilation.timeReport.format(inFile, timeReportTop));
+			}
+		}
+		
+		if(unrendered > 0)
+			throw new CompileError(String.valueOf(unrendered) + " AST image(s) could not be rendered");
+	}
+	
+	/**
+	* Opens the function cache if incremental compilation is on.
+	* @return The cache, or null.
+	*/
+	private static FunctionCache newFunctionCache()
+	{
+		return incremental ? new FunctionCache(cacheDir) : null;
+	}
+	
+	/**
+	* Opens the unit cache if it is on.  Runs that print or write anything besides the outputs
+	* (--verbose, --ast-image, --ast-dot, -d, --time-report, --ast-stats) bypass it.
+	* @return The cache, or null.
+	*/
+	private static UnitCache newUnitCache()
+	{
+		if(!unitCacheFlag || verbose || createImage || astDot || debugLevel > 0 || timeReport || astStats)
+			return null;
+			
+		return new UnitCache(cacheDir, cacheSize * 1048576L);
+	}
+	
+	/**
+	* Opens the AST cache if it is on.  Runs that debug the parser (-d) bypass it.
+	* @return The cache, or null.
+	*/
+	private static AstCache newAstCache()
+	{
+		return (astCacheFlag && debugLevel == 0) ? new AstCache() : null;
+	}
+	
+	/**
+	* Prints the cache reports if they were asked for.
+	* @param functions Function cache used by the compilation, may be null.
+	* @param units Unit cache used by the compilation, may be null.
+	* @param trees AST cache used by the compilation, may be null.
+	*/
+	private static void printCacheStats(FunctionCache functions, UnitCache units, AstCache trees)
+	{
+		if(!cacheStats)
+			return;
+			
+		if(units != null)
+			out.print(units.statistics());
+			
+		if(trees != null)
+			out.print(trees.statistics());
+			
+		if(functions != null)
+			out.print(functions.statistics());
+	}
+	
+	/**
+	* Compiles every file in inFiles at the same time on a work stealing pool.  Each file gets its own
+	* outputs named after it (file.s, file.3ac.s, file.dot), next to the input or in outDir, which is created if
+	* missing.
+	* Diagnostics are buffered per file and printed in input order, followed by per file times and the
+	* aggregate throughput.
+	* @throws CompileError If any file failed to compile.
+	*/
+	public static void batch()
+	{
+		int count = inFiles.size();
+		int threads = (jobs > 0) ? jobs : Runtime.getRuntime().availableProcessors();
 		
-		// parse file
-		parser.parse();
+		if(count == 0)
+		{
+			err.println("Error: No input file supplied");
+			throw new CompileError("no input file supplied");
+		}
 		
-		fin.close();
+		// the outputs are opened in it from the workers, after the files are parsed
+		if(outDir != null && !new File(outDir).isDirectory() && !new File(outDir).mkdirs())
+		{
+			err.println("Error: Cannot create output directory " + outDir);
+			throw new CompileError("cannot create output directory " + outDir);
+		}
 		
-		if(verbose)
-			System.out.println("AST contains " + String.valueOf(ast.size()) + " nodes.");
+		ExecutorService pool = Executors.newWorkStealingPool(threads);
+		FunctionCache cache = newFunctionCache();
+		UnitCache unitCache = newUnitCache();
+		AstCache astCache = newAstCache();
+		TimeReport report = timeReport ? new TimeReport() : null;
+		ArrayList<Future<Object>> results = new ArrayList<Future<Object>>();
+		ByteArrayOutputStream[] diagnostics = new ByteArrayOutputStream[count];
+		long[] times = new long[count];
+		long start = System.nanoTime();
 		
-		if(createImage)
-			ast.writeDotFile("ast.dot");
+		for(int i = 0; i < count; i++)
+		{
+			String file = inFiles.get(i);
+			String base = file.substring(0, file.lastIndexOf("."));
+			
+			if(outDir != null)
+				base = new File(outDir, new File(base).getName()).getPath();
 			
-		if(intermediateFlag)
-			ast.write3AC("3ac.s");
+			final Compilation compilation = new Compilation(file, base + ".s", base + ".3ac.s", base + ".dot");
+			final int index = i;
 			
-		if(fullOutput)
+			compilation.functionCache = cache;
+			compilation.unitCache = unitCache;
+			compilation.astCache = astCache;
+			diagnostics[i] = new ByteArrayOutputStream();
+			compilation.out = out;
+			compilation.err = new PrintStream(diagnostics[i], true);
+			
+			results.add(pool.submit(() -> {
+				long fileStart = System.nanoTime();
+				
+				// the counters are per thread, so the report is started on the worker
+				if(report != null)
+					compilation.timeReport = new TimeReport();
+				
+				try
+				{
+					compilation.run();
+				}
+				finally
+				{
+					times[index] = System.nanoTime() - fileStart;
+					
+					if(report != null) {
+						compilation.timeReport.finish();
+						report.merge(compilation.timeReport, compilation.inFile + ": ");
+					}
+				}
+				
+				return null;
+			}));
+		}
+		
+		int failed = 0;
+		
+		for(int i = 0; i < count; i++)
 		{
+			String status = "";
+			
 			try
 			{
-				Runtime.getRuntime().exec("java -jar bin/Assembly.jar 3ac.s -o " + outFile);
+				results.get(i).get();
+			}
+			catch(ExecutionException e)
+			{
+				// the pool wraps exceptions thrown by the workers, so look for the original one
+				Throwable cause = e.getCause();
+				
+				while(cause.getCause() != null && !(cause instanceof CompileError) && !(cause instanceof AssemblyError))
+					cause = cause.getCause();
+				
+				if(!(cause instanceof CompileError) && !(cause instanceof AssemblyError))
+					err.println(inFiles.get(i) + ": " + cause);
+				
+				status = "  (failed)";
+				failed++;
 			}
-			catch(IOException e)
+			catch(InterruptedException e)
 			{
-				System.err.println("Error: Unable to run full assembly generation.");
-				System.exit(1);
+				Thread.currentThread().interrupt();
+				status = "  (interrupted)";
+				failed++;
 			}
+			
+			err.print(diagnostics[i].toString());
+			out.printf("%10.3f ms  %s%s%n", times[i] / 1e6, inFiles.get(i), status);
 		}
 		
+		pool.shutdown();
+		
+		int unrendered = DotRenderer.await(err);
+		
+		double seconds = (System.nanoTime() - start) / 1e9;
+		
+		out.printf("Compiled %d file(s) on %d thread(s) in %.3f s: %.1f files/sec, %d failed%n",
+			count, threads, seconds, count / seconds, failed);
+		
+		printCacheStats(cache, unitCache, astCache);
+		
+		if(report != null)
+			out.print(report.format(String.valueOf(count) + " file(s), summed over threads", timeReportTop));
+		
+		if(failed > 0)
+			throw new CompileError(String.valueOf(failed) + " file(s) failed");
+			
+		if(unrendered > 0)
+			throw new CompileError(String.valueOf(unrendered) + " AST image(s) could not be rendered");
+	}
+	
+	/**
+	* Restores every flag to the value a fresh JVM would start with.
+	* Used by the compile daemon between requests.
+	*/
+	public static void reset()
+	{
+		inFile = null;
+		outFile = null;
+		debugLevel = 0;
+		verbose = false;
+		compileFlag = false;
+		intermediateFlag = true;
+		assemblyFlag = false;
+		createImage = false;
+		reduceAST = true;
+		fullOutput = false;
+		intermediateFile = "3ac.s";
+		dotFile = "ast.dot";
+		inFiles = new ArrayList<String>();
+		inputDir = null;
+		outDir = null;
+		jobs = 0;
+		batchFlag = false;
+		incremental = false;
+		cacheStats = false;
+		cacheDir = ".ccache";
+		unitCacheFlag = false;
+		cacheSize = 256;
+		timeReport = false;
+		timeReportTop = 10;
+		astStats = false;
+		prelex = false;
+		astCacheFlag = false;
+		astDot = false;
+		astDepth = 0;
+		astMaxNodes = 0;
+		astFunction = null;
+		astSplit = false;
+		listFile = "list_file.txt";
+		out = System.out;
+		err = System.err;
 	}
 	
 	/**
@@ -140,7 +446,7 @@ public class Driver
 					outFile = cmdParser.next();
 					
 				else
-					System.out.println("No file specified for -o option.  Using default.");
+					out.println("No file specified for -o option.  Using default.");
 			}
 			
 			else if(currentToken.equals("-d"))
@@ -152,11 +458,82 @@ public class Driver
 					commandLineHelp("Invalid use of argument -d");
 					
 				else
-					System.out.println("No value specified for -d option.  Using default.");
+					out.println("No value specified for -d option.  Using default.");
+			}
+			
+			else if(currentToken.equals("-j") || currentToken.equals("--jobs"))
+			{	
+				if(cmdParser.hasNextInt())
+					jobs = cmdParser.nextInt();
+					
+				else
+					commandLineHelp("Invalid use of argument " + currentToken);
+			}
+			
+			else if(currentToken.equals("--out-dir"))
+			{
+				if(cmdParser.hasNext() && !cmdParser.hasNext("-.*"))
+					outDir = cmdParser.next();
+					
+				else
+					commandLineHelp("Invalid use of argument --out-dir");
+			}
+			
+			else if(currentToken.equals("--cache-dir"))
+			{
+				if(cmdParser.hasNext() && !cmdParser.hasNext("-.*"))
+					cacheDir = cmdParser.next();
+					
+				else
+					commandLineHelp("Invalid use of argument --cache-dir");
+					
+				unitCacheFlag = true;
+			}
+			
+			else if(currentToken.equals("--cache-size"))
+			{	
+				if(cmdParser.hasNextInt())
+					cacheSize = cmdParser.nextInt();
+					
+				else
+					commandLineHelp("Invalid use of argument --cache-size");
+			}
+			
+			else if(currentToken.equals("--incremental"))
+				incremental = true;
+				
+			else if(currentToken.equals("--cache-stats"))
+				cacheStats = true;
+				
+			else if(currentToken.equals("--ast-cache"))
+				astCacheFlag = true;
+				
+			else if(currentToken.equals("--time-report"))
+			{
+				timeReport = true;
+				
+				if(cmdParser.hasNextInt())
+					timeReportTop = cmdParser.nextInt();
+			}
+				
+			else if(new File(currentToken).isDirectory())
+			{
+				File[] sources = new File(currentToken).listFiles((dir, name) -> name.endsWith(".c"));
+				Arrays.sort(sources);
+				
+				for(File source : sources)
+					inFiles.add(source.getPath());
+					
+				batchFlag = true;
 			}
 			
 			else if(currentToken.contains(".c"))
 			{
+				inFiles.add(currentToken);
+				
+				if(inFile != null)
+					continue;
+					
 				inFile = currentToken;
 				
 				if(outFile == null)
@@ -166,6 +543,22 @@ public class Driver
 					if(outFile.contains("/"))
 						outFile = outFile.substring(outFile.lastIndexOf("/")+1, outFile.length());
 				}
+				
+				// named after the input like outFile, so dot files of different inputs do not overwrite each other
+				dotFile = new File(inFile.substring(0,inFile.lastIndexOf("."))).getName() + ".dot";
+			}
+			
+			else if(currentToken.equals(SourceText.STDIN))
+			{
+				inFiles.add(currentToken);
+				
+				if(inFile != null)
+					continue;
+					
+				inFile = currentToken;
+				
+				if(outFile == null)
+					outFile = "stdin.s";
 			}
 				
 			else if(currentToken.equals("--verbose"))
@@ -183,6 +576,45 @@ public class Driver
 			else if(currentToken.equals("--ast-image"))
 				createImage = true;
 				
+			else if(currentToken.equals("--ast-dot"))
+				astDot = true;
+				
+			else if(currentToken.equals("--ast-depth"))
+			{	
+				if(cmdParser.hasNextInt())
+					astDepth = cmdParser.nextInt();
+					
+				else
+					commandLineHelp("Invalid use of argument --ast-depth");
+			}
+			
+			else if(currentToken.equals("--ast-max-nodes"))
+			{	
+				if(cmdParser.hasNextInt())
+					astMaxNodes = cmdParser.nextInt();
+					
+				else
+					commandLineHelp("Invalid use of argument --ast-max-nodes");
+			}
+			
+			else if(currentToken.equals("--ast-function"))
+			{
+				if(cmdParser.hasNext() && !cmdParser.hasNext("-.*"))
+					astFunction = cmdParser.next();
+					
+				else
+					commandLineHelp("Invalid use of argument --ast-function");
+			}
+			
+			else if(currentToken.equals("--ast-split"))
+				astSplit = true;
+				
+			else if(currentToken.equals("--ast-stats"))
+				astStats = true;
+				
+			else if(currentToken.equals("--prelex"))
+				prelex = true;
+				
 			else if(currentToken.equals("-h") || currentToken.equals("--help"))
 				commandLineHelp(null);
 				
@@ -211,34 +643,67 @@ public class Driver
 	*	</tr>
 	*	<tr><td>-h, --help</td>       <td>Display this help message.</td></tr>
 	*	<tr><td>-o &lt;outputfile&gt;</td>      <td>Sets output file name.</td></tr>
+	*	<tr><td>-</td>                    <td>Read the source from standard input.</td></tr>
 	*	<tr><td>-d &lt;debugLevel&gt;</td>      <td>Sets debug level.</td></tr>
 	*	<tr><td>-c</td>                   <td>Compile only flag.</td></tr>
 	*	<tr><td>-q</td>                   <td>Output intermediade code.</td></tr>
 	*	<tr><td>-S</td>                   <td>Output assembly file.</td></tr>
 	*	<tr><td>--verbose</td>            <td>Generate verbose output.</td></tr>
-	*	<tr><td>--ast-image</td>          <td>Generate image representation of the AST.</td></tr>
+	*	<tr><td>--ast-image</td>          <td>Generate image representation of the AST (file.png), rendered in the background.</td></tr>
+	*	<tr><td>--ast-dot</td>            <td>Write the AST dot file (file.dot) without rendering it.</td></tr>
+	*	<tr><td>--ast-depth &lt;n&gt;</td>     <td>Write AST levels down to n only; deeper subtrees become one node.</td></tr>
+	*	<tr><td>--ast-max-nodes &lt;n&gt;</td> <td>Write at most n nodes per AST dot file.</td></tr>
+	*	<tr><td>--ast-function &lt;name&gt;</td> <td>Write the AST of the named function only.</td></tr>
+	*	<tr><td>--ast-split</td>          <td>Write one AST dot file per function (file.function.dot).</td></tr>
+	*	<tr><td>--ast-stats</td>          <td>Print node counts, estimated memory and shape of the AST.</td></tr>
 	*	<tr><td>--no-reduce-ast</td>      <td>Do not reduce AST Output. (WARNING: Currently Breaks Program)</td></tr>
 	*	<tr><td>--full</td>               <td>Generate Intermediate Code and Run Assembly Generator</td></tr>
+	*	<tr><td>--prelex</td>             <td>Lex the whole file before parsing, using -j threads for large files.</td></tr>
+	*	<tr><td>-j, --jobs &lt;n&gt;</td>      <td>Number of threads for batch mode (default: one per core).</td></tr>
+	*	<tr><td>--out-dir &lt;dir&gt;</td>     <td>Output directory for batch mode, created if missing.</td></tr>
+	*	<tr><td>--cache-dir &lt;dir&gt;</td>   <td>Reuse the outputs of unchanged files from a cache directory.</td></tr>
+	*	<tr><td>--cache-size &lt;MB&gt;</td>   <td>Cache size limit (default: 256).</td></tr>
+	*	<tr><td>--incremental</td>        <td>Reuse cached code for functions that did not change.</td></tr>
+	*	<tr><td>--cache-stats</td>        <td>Print cache hits and misses.</td></tr>
+	*	<tr><td>--ast-cache</td>          <td>Store parsed trees in file.ast and reuse them while the file is unchanged.</td></tr>
+	*	<tr><td>--time-report [n]</td>    <td>Print the time spent per phase and in the n slowest functions (default: 10).</td></tr>
 	* </table>
 	* @param error Error statement to be print.  If null no error is printed.
 	*/
 	public static void commandLineHelp(String error)
 	{
 		if(error != null)
-			System.err.println("\nError: " + error + "\n");
+			err.println("\nError: " + error + "\n");
 		
-		System.err.println("Compiler Options\n" +
+		err.println("Compiler Options\n" +
 		"\t-h, --help           Display this help message.\n" +
 		"\t-o <outputfile>      Sets output file name.\n" +
+		"\t-                    Read the source from standard input.\n" +
 		"\t-d <debugLevel>      Sets debug level.\n" +
 		"\t-c                   Compile only flag.\n" +
 		"\t-q                   Output intermediade code.\n" +
 		"\t-S                   Output assembly file.\n" +
 		"\t--verbose            Generate verbose output.\n" +
-		"\t--ast-image          Generate image representation of the AST.\n" +
+		"\t--ast-image          Generate image representation of the AST (file.png), rendered in the background.\n" +
+		"\t--ast-dot            Write the AST dot file (file.dot) without rendering it.\n" +
+		"\t--ast-depth <n>      Write AST levels down to n only; deeper subtrees become one node.\n" +
+		"\t--ast-max-nodes <n>  Write at most n nodes per AST dot file.\n" +
+		"\t--ast-function <name> Write the AST of the named function only.\n" +
+		"\t--ast-split          Write one AST dot file per function (file.function.dot).\n" +
+		"\t--ast-stats          Print node counts, estimated memory and shape of the AST.\n" +
 		"\t--no-reduce-ast      Do not reduce AST Output. (WARNING: Currently Breaks Program)\n" + 
-		"\t--full               Generate Intermediate Code and Run Assembly Generator\n");
+		"\t--full               Generate Intermediate Code and Run Assembly Generator\n" +
+		"\t--prelex             Lex the whole file before parsing, using -j threads for large files.\n" +
+		"\t-j, --jobs <n>       Number of threads for batch mode (default: one per core).\n" +
+		"\t--out-dir <dir>      Output directory for batch mode, created if missing.\n" +
+		"\t--cache-dir <dir>    Reuse the outputs of unchanged files from a cache directory.\n" +
+		"\t--cache-size <MB>    Cache size limit (default: 256).\n" +
+		"\t--incremental        Reuse cached code for functions that did not change.\n" +
+		"\t--cache-stats        Print cache hits and misses.\n" +
+		"\t--ast-cache          Store parsed trees in file.ast and reuse them while the file is unchanged.\n" +
+		"\t--time-report [n]    Print the time spent per phase and in the n slowest functions (default: 10).\n\n" +
+		"Giving several .c files or a directory compiles them all in parallel (batch mode).\n");
 		
-		System.exit(0);
+		throw new CompileError((error == null) ? "help" : error, (error == null) ? 0 : 1);
 	}
 }
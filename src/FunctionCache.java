@@ -0,0 +1,138 @@
+package Compiler;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.concurrent.atomic.AtomicLong;
+
+import Assembly.FragmentCache;
+import Assembly.Fragments;
+
+/**
+*	On-disk cache of the intermediate code and assembly of single functions, used by --incremental.<br/>
+*	Intermediate code is keyed by a digest of the function's tokens and source lines plus every global
+*	declaration in front of it (see the scanner).  Assembly is keyed by the function's intermediate code and the
+*	register allocator state on entry (see {@link Assembly.Assembler}).<br/>
+*	Every entry starts with {@link #STAMP}, so entries written by another build of the compiler are treated as misses.
+*	Entries are written to a temporary file and renamed, so parallel compilations can share one directory.
+*/
+public class FunctionCache implements FragmentCache
+{
+	/**	Entry layout version.										*/
+	public static final int FORMAT = 3;
+	/**	First line of every entry.  It names the build, see {@link BuildStamp}.	*/
+	public static final String STAMP = "ccompiler " + Driver.VERSION + " function cache " + FORMAT + " " + BuildStamp.ID;
+
+	/**	Directory holding one subdirectory per kind of entry.			*/
+	private File dir;
+	/**	Intermediate code hits and misses.								*/
+	private AtomicLong codeHits = new AtomicLong(), codeMisses = new AtomicLong();
+	/**	Assembly hits and misses.										*/
+	private AtomicLong assemblyHits = new AtomicLong(), assemblyMisses = new AtomicLong();
+
+	/**
+	* Creates a cache stored below the given directory.  Directories are created when the first entry is stored.
+	* @param _dir Cache directory.
+	*/
+	public FunctionCache(String _dir)
+	{
+		dir = new File(_dir, "functions");
+	}
+
+	/**
+	* Creates the digest the scanner fingerprints declarations with.  It is seeded with the stamp and the options
+	* that change the generated code.
+	* @return A new digest.
+	*/
+	public static MessageDigest newDigest()
+	{
+		MessageDigest md = Fragments.newDigest();
+		md.update((STAMP + " reduce " + Driver.reduceAST + "\0").getBytes(StandardCharsets.UTF_8));
+		return md;
+	}
+
+	/**
+	* Copies a digest, so a running fingerprint can be forked.
+	* @param md Digest to copy.
+	* @return Independent copy.
+	*/
+	public static MessageDigest copy(MessageDigest md)
+	{
+		try
+		{
+			return (MessageDigest) md.clone();
+		}
+		catch(CloneNotSupportedException e)
+		{
+			throw new IllegalStateException("digest cannot be copied", e);
+		}
+	}
+
+	@Override
+	public String load(String kind, String key)
+	{
+		File file = new File(new File(dir, kind), key);
+		String value = null;
+
+		if(file.isFile())
+		{
+			try
+			{
+				String text = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+				int split = text.indexOf('\n');
+
+				if(split > 0 && text.substring(0, split).equals(STAMP))
+					value = text.substring(split + 1);
+			}
+			catch(IOException e)
+			{
+				// unreadable entries count as misses and are rewritten
+			}
+		}
+
+		boolean code = kind.equals(CODE);
+
+		if(value == null)
+			(code ? codeMisses : assemblyMisses).incrementAndGet();
+
+		else
+			(code ? codeHits : assemblyHits).incrementAndGet();
+
+		return value;
+	}
+
+	@Override
+	public void store(String kind, String key, String value)
+	{
+		File kindDir = new File(dir, kind);
+
+		try
+		{
+			kindDir.mkdirs();
+
+			File temp = File.createTempFile(key, ".tmp", kindDir);
+			Files.write(temp.toPath(), (STAMP + "\n" + value).getBytes(StandardCharsets.UTF_8));
+			Files.move(temp.toPath(), new File(kindDir, key).toPath(),
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch(IOException e)
+		{
+			// a cache that cannot be written only costs speed
+			Compilation.errors().println("Warning: cannot write function cache entry: " + e.getMessage());
+		}
+	}
+
+	/**
+	* Formats the hit and miss counts.
+	* @return Printable report.
+	*/
+	public String statistics()
+	{
+		return String.format("function cache %s%n" +
+			"  3AC:      %6d hit(s) %6d miss(es)%n" +
+			"  assembly: %6d hit(s) %6d miss(es)%n",
+			dir.getParent(), codeHits.get(), codeMisses.get(), assemblyHits.get(), assemblyMisses.get());
+	}
+}
@@ -0,0 +1,162 @@
+package Compiler;
+
+import java.util.Arrays;
+
+/**
+*	Interning pool of the identifiers of one compilation.  Every distinct name gets a small int id and one
+*	canonical String, so the symbol table, type table, struct elements and AST key on the id and compare names
+*	with an int compare, and a large file holds each name once however often it is used.<br/>
+*	Names are looked up by the span of text they were scanned from, so a name already in the pool costs no String.<br/>
+*	A pool belongs to one compilation and is not thread safe.
+*/
+public class Identifiers
+{
+	/**	Canonical name of each id.									*/
+	private String[] names = new String[64];
+	/**	Hash of each id's name.										*/
+	private int[] hashes = new int[64];
+	/**	Open addressing table of id + 1, 0 for a free slot.			*/
+	private int[] table = new int[128];
+	/**	Number of ids.												*/
+	private int size = 0;
+
+	/**
+	* Returns the id of a name, adding it if it is new.
+	* @param name The name.
+	* @return Its id.
+	*/
+	public int intern(String name)
+	{
+		return intern(name, 0, name.length());
+	}
+
+	/**
+	* Returns the id of the name spanning part of a text, adding it if it is new.
+	* @param text Text holding the name.
+	* @param start Offset of the name.
+	* @param end Offset after the name.
+	* @return Its id.
+	*/
+	public int intern(CharSequence text, int start, int end)
+	{
+		int hash = 0;
+
+		for(int i = start; i < end; i++)
+			hash = 31 * hash + text.charAt(i);
+
+		int slot = hash & (table.length - 1);
+
+		for(int id; (id = table[slot] - 1) >= 0; slot = (slot + 1) & (table.length - 1))
+			if(hashes[id] == hash && matches(names[id], text, start, end))
+				return id;
+
+		return add(text.subSequence(start, end).toString(), hash, slot);
+	}
+
+	/**
+	* Returns the id of the name spanning part of a character array, adding it if it is new.  The scanner passes
+	* its buffer, so known names are found without slicing yytext().
+	* @param chars Characters holding the name.
+	* @param start Offset of the name.
+	* @param end Offset after the name.
+	* @return Its id.
+	*/
+	public int intern(char[] chars, int start, int end)
+	{
+		int hash = 0;
+
+		for(int i = start; i < end; i++)
+			hash = 31 * hash + chars[i];
+
+		int slot = hash & (table.length - 1);
+
+		for(int id; (id = table[slot] - 1) >= 0; slot = (slot + 1) & (table.length - 1))
+			if(hashes[id] == hash && matches(names[id], chars, start, end))
+				return id;
+
+		return add(new String(chars, start, end - start), hash, slot);
+	}
+
+	/**
+	* Returns the canonical name of an id.
+	* @param id The id.
+	* @return The name.
+	*/
+	public String name(int id)
+	{
+		return names[id];
+	}
+
+	/**
+	* Returns the number of names in the pool.
+	* @return Number of ids.
+	*/
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	* Adds a new name in a free slot, growing the table when it is half full.
+	*/
+	private int add(String name, int hash, int slot)
+	{
+		if(size == names.length)
+		{
+			names = Arrays.copyOf(names, size * 2);
+			hashes = Arrays.copyOf(hashes, size * 2);
+		}
+
+		int id = size++;
+		names[id] = name;
+		hashes[id] = hash;
+		table[slot] = id + 1;
+
+		if(size * 2 > table.length)
+			rehash();
+
+		return id;
+	}
+
+	/**
+	* Doubles the table and reinserts every id.
+	*/
+	private void rehash()
+	{
+		table = new int[table.length * 2];
+
+		for(int id = 0; id < size; id++)
+		{
+			int slot = hashes[id] & (table.length - 1);
+
+			while(table[slot] != 0)
+				slot = (slot + 1) & (table.length - 1);
+
+			table[slot] = id + 1;
+		}
+	}
+
+	private static boolean matches(String name, CharSequence text, int start, int end)
+	{
+		if(name.length() != end - start)
+			return false;
+
+		for(int i = 0; i < name.length(); i++)
+			if(name.charAt(i) != text.charAt(start + i))
+				return false;
+
+		return true;
+	}
+
+	private static boolean matches(String name, char[] chars, int start, int end)
+	{
+		if(name.length() != end - start)
+			return false;
+
+		for(int i = 0; i < name.length(); i++)
+			if(name.charAt(i) != chars[start + i])
+				return false;
+
+		return true;
+	}
+}
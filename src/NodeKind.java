@@ -0,0 +1,157 @@
+package Compiler;
+
+/**
+*	Kinds of AST nodes, one for each node class.  Passes switch on {@link AST_node#kind} instead of testing class
+*	names, see {@link Ast.Visitor}.
+*/
+public enum NodeKind
+{
+	TRANSLATION_UNIT,
+	EXTERNAL_DECLARATION,
+	FUNCTION_DEFINITION,
+	DECLARATION,
+	DECLARATION_LIST,
+	DECLARATION_SPECIFIERS,
+	STORAGE_CLASS_SPECIFIER,
+	TYPE_SPECIFIER,
+	TYPE_QUALIFIER,
+	STRUCT_OR_UNION_SPECIFIER,
+	STRUCT_OR_UNION,
+	STRUCT_DECLARATION_LIST,
+	INIT_DECLARATOR_LIST,
+	INIT_DECLARATOR,
+	STRUCT_DECLARATION,
+	SPECIFIER_QUALIFIER_LIST,
+	STRUCT_DECLARATOR_LIST,
+	STRUCT_DECLARATOR,
+	ENUM_SPECIFIER,
+	ENUMERATOR_LIST,
+	ENUMERATOR,
+	DECLARATOR,
+	DIRECT_DECLARATOR,
+	POINTER,
+	TYPE_QUALIFIER_LIST,
+	PARAMETER_TYPE_LIST,
+	PARAMETER_LIST,
+	PARAMETER_DECLARATION,
+	IDENTIFIER_LIST,
+	INITIALIZER,
+	INITIALIZER_LIST,
+	TYPE_NAME,
+	ABSTRACT_DECLARATOR,
+	DIRECT_ABSTRACT_DECLARATOR,
+	STATEMENT,
+	LABELED_STATEMENT,
+	EXPRESSION_STATEMENT,
+	COMPOUND_STATEMENT,
+	STATEMENT_LIST,
+	SELECTION_STATEMENT,
+	ITERATION_STATEMENT,
+	JUMP_STATEMENT,
+	EXPRESSION,
+	ASSIGNMENT_EXPRESSION,
+	ASSIGNMENT_OPERATOR,
+	CONDITIONAL_EXPRESSION,
+	CONSTANT_EXPRESSION,
+	LOGICAL_OR_EXPRESSION,
+	LOGICAL_AND_EXPRESSION,
+	INCLUSIVE_OR_EXPRESSION,
+	EXCLUSIVE_OR_EXPRESSION,
+	AND_EXPRESSION,
+	EQUALITY_EXPRESSION,
+	RELATIONAL_EXPRESSION,
+	SHIFT_EXPRESSION,
+	ADDITIVE_EXPRESSION,
+	MULTIPLICATIVE_EXPRESSION,
+	CAST_EXPRESSION,
+	UNARY_EXPRESSION,
+	UNARY_OPERATOR,
+	POSTFIX_EXPRESSION,
+	PRIMARY_EXPRESSION,
+	ARGUMENT_EXPRESSION_LIST,
+	CONSTANT,
+	STRING,
+	IDENTIFIER,
+	INT_TO_FLOAT,
+	FLOAT_TO_INT;
+
+	/**
+	* Returns whether the kind is one of the declarators, whose first child leads to the declared identifier.
+	* @return True for the declarator kinds.
+	*/
+	public boolean declarator()
+	{
+		switch(this)
+		{
+			case INIT_DECLARATOR_LIST:
+			case INIT_DECLARATOR:
+			case STRUCT_DECLARATOR_LIST:
+			case STRUCT_DECLARATOR:
+			case DECLARATOR:
+			case DIRECT_DECLARATOR:
+			case ABSTRACT_DECLARATOR:
+			case DIRECT_ABSTRACT_DECLARATOR:
+				return true;
+
+			default:
+				return false;
+		}
+	}
+
+	/**
+	* Returns whether the kind is a binary operator, which generates its two operands left to right before itself.
+	* @return True for the binary operator kinds.
+	*/
+	public boolean binary()
+	{
+		switch(this)
+		{
+			case LOGICAL_OR_EXPRESSION:
+			case LOGICAL_AND_EXPRESSION:
+			case INCLUSIVE_OR_EXPRESSION:
+			case EXCLUSIVE_OR_EXPRESSION:
+			case AND_EXPRESSION:
+			case EQUALITY_EXPRESSION:
+			case RELATIONAL_EXPRESSION:
+			case SHIFT_EXPRESSION:
+			case ADDITIVE_EXPRESSION:
+			case MULTIPLICATIVE_EXPRESSION:
+				return true;
+
+			default:
+				return false;
+		}
+	}
+
+	/**
+	* Returns whether nodes of the kind generate their own 3AC.  The node classes of these kinds override
+	* {@link AST_node#gen3AC(Assembly.IrBuilder)}; the others only generate their children in order.
+	* @return True for the kinds whose nodes generate themselves.
+	*/
+	public boolean generates()
+	{
+		switch(this)
+		{
+			case FUNCTION_DEFINITION:
+			case DECLARATION:
+			case INIT_DECLARATOR:
+			case DECLARATOR:
+			case DIRECT_DECLARATOR:
+			case SELECTION_STATEMENT:
+			case ITERATION_STATEMENT:
+			case JUMP_STATEMENT:
+			case ASSIGNMENT_EXPRESSION:
+			case CAST_EXPRESSION:
+			case UNARY_EXPRESSION:
+			case POSTFIX_EXPRESSION:
+			case ARGUMENT_EXPRESSION_LIST:
+			case CONSTANT:
+			case STRING:
+			case IDENTIFIER:
+				return true;
+
+			default:
+				return false;
+		}
+	}
+}
@@ -0,0 +1,3865 @@
+package Compiler;
+
+
+  import java.io.StreamTokenizer;
+  import java.io.InputStream;
+  import java.io.InputStreamReader;
+  import java.io.FileInputStream;
+  import java.io.Reader;
+  import java.io.IOException;
+  import java.util.ArrayList;
+
+
+/* LALR(1) parser generated from parser.y by a bison compatible table generator. */
+public class Parser
+{
+	public interface Lexer {
+		int IDENTIFIER = 258;
+		int INTEGER_CONSTANT = 259;
+		int FLOATING_CONSTANT = 260;
+		int CHARACTER_CONSTANT = 261;
+		int ENUMERATION_CONSTANT = 262;
+		int STRING_LITERAL = 263;
+		int SIZEOF = 264;
+		int PTR_OP = 265;
+		int INC_OP = 266;
+		int DEC_OP = 267;
+		int LEFT_OP = 268;
+		int RIGHT_OP = 269;
+		int LE_OP = 270;
+		int GE_OP = 271;
+		int EQ_OP = 272;
+		int NE_OP = 273;
+		int AND_OP = 274;
+		int OR_OP = 275;
+		int L_AND_OP = 276;
+		int L_OR_OP = 277;
+		int MUL_ASSIGN = 278;
+		int DIV_ASSIGN = 279;
+		int MOD_ASSIGN = 280;
+		int ADD_ASSIGN = 281;
+		int SUB_ASSIGN = 282;
+		int LEFT_ASSIGN = 283;
+		int RIGHT_ASSIGN = 284;
+		int AND_ASSIGN = 285;
+		int XOR_ASSIGN = 286;
+		int OR_ASSIGN = 287;
+		int TYPEDEF_NAME = 288;
+		int TYPEDEF = 289;
+		int EXTERN = 290;
+		int STATIC = 291;
+		int AUTO = 292;
+		int REGISTER = 293;
+		int CHAR = 294;
+		int SHORT = 295;
+		int INT = 296;
+		int LONG = 297;
+		int SIGNED = 298;
+		int UNSIGNED = 299;
+		int FLOAT = 300;
+		int DOUBLE = 301;
+		int CONST = 302;
+		int VOLATILE = 303;
+		int VOID = 304;
+		int STRUCT = 305;
+		int UNION = 306;
+		int ENUM = 307;
+		int ELIPSIS = 308;
+		int RANGE = 309;
+		int SEMI = 310;
+		int OPEN_BRACE = 311;
+		int CLOSE_BRACE = 312;
+		int COMMA = 313;
+		int ASSIGN = 314;
+		int COLON = 315;
+		int PERIOD = 316;
+		int OPEN_PAREN = 317;
+		int CLOSE_PAREN = 318;
+		int OPEN_BRACKET = 319;
+		int CLOSE_BRACKET = 320;
+		int QUESTION_MARK = 321;
+		int MUL_OP = 322;
+		int DIV_OP = 323;
+		int MOD_OP = 324;
+		int ADD_OP = 325;
+		int SUB_OP = 326;
+		int BIT_NOT_OP = 327;
+		int NOT_OP = 328;
+		int XOR_OP = 329;
+		int LT_OP = 330;
+		int GT_OP = 331;
+		int ERROR_TOK = 332;
+		int CASE = 333;
+		int DEFAULT = 334;
+		int IF = 335;
+		int ELSE = 336;
+		int SWITCH = 337;
+		int WHILE = 338;
+		int DO = 339;
+		int FOR = 340;
+		int GOTO = 341;
+		int CONTINUE = 342;
+		int BREAK = 343;
+		int RETURN = 344;
+		int EOF = 0;
+		Object getLVal();
+		int yylex() throws java.io.IOException;
+		void yyerror(String s);
+	}
+
+	public static final int IDENTIFIER = Lexer.IDENTIFIER;
+	public static final int INTEGER_CONSTANT = Lexer.INTEGER_CONSTANT;
+	public static final int FLOATING_CONSTANT = Lexer.FLOATING_CONSTANT;
+	public static final int CHARACTER_CONSTANT = Lexer.CHARACTER_CONSTANT;
+	public static final int ENUMERATION_CONSTANT = Lexer.ENUMERATION_CONSTANT;
+	public static final int STRING_LITERAL = Lexer.STRING_LITERAL;
+	public static final int SIZEOF = Lexer.SIZEOF;
+	public static final int PTR_OP = Lexer.PTR_OP;
+	public static final int INC_OP = Lexer.INC_OP;
+	public static final int DEC_OP = Lexer.DEC_OP;
+	public static final int LEFT_OP = Lexer.LEFT_OP;
+	public static final int RIGHT_OP = Lexer.RIGHT_OP;
+	public static final int LE_OP = Lexer.LE_OP;
+	public static final int GE_OP = Lexer.GE_OP;
+	public static final int EQ_OP = Lexer.EQ_OP;
+	public static final int NE_OP = Lexer.NE_OP;
+	public static final int AND_OP = Lexer.AND_OP;
+	public static final int OR_OP = Lexer.OR_OP;
+	public static final int L_AND_OP = Lexer.L_AND_OP;
+	public static final int L_OR_OP = Lexer.L_OR_OP;
+	public static final int MUL_ASSIGN = Lexer.MUL_ASSIGN;
+	public static final int DIV_ASSIGN = Lexer.DIV_ASSIGN;
+	public static final int MOD_ASSIGN = Lexer.MOD_ASSIGN;
+	public static final int ADD_ASSIGN = Lexer.ADD_ASSIGN;
+	public static final int SUB_ASSIGN = Lexer.SUB_ASSIGN;
+	public static final int LEFT_ASSIGN = Lexer.LEFT_ASSIGN;
+	public static final int RIGHT_ASSIGN = Lexer.RIGHT_ASSIGN;
+	public static final int AND_ASSIGN = Lexer.AND_ASSIGN;
+	public static final int XOR_ASSIGN = Lexer.XOR_ASSIGN;
+	public static final int OR_ASSIGN = Lexer.OR_ASSIGN;
+	public static final int TYPEDEF_NAME = Lexer.TYPEDEF_NAME;
+	public static final int TYPEDEF = Lexer.TYPEDEF;
+	public static final int EXTERN = Lexer.EXTERN;
+	public static final int STATIC = Lexer.STATIC;
+	public static final int AUTO = Lexer.AUTO;
+	public static final int REGISTER = Lexer.REGISTER;
+	public static final int CHAR = Lexer.CHAR;
+	public static final int SHORT = Lexer.SHORT;
+	public static final int INT = Lexer.INT;
+	public static final int LONG = Lexer.LONG;
+	public static final int SIGNED = Lexer.SIGNED;
+	public static final int UNSIGNED = Lexer.UNSIGNED;
+	public static final int FLOAT = Lexer.FLOAT;
+	public static final int DOUBLE = Lexer.DOUBLE;
+	public static final int CONST = Lexer.CONST;
+	public static final int VOLATILE = Lexer.VOLATILE;
+	public static final int VOID = Lexer.VOID;
+	public static final int STRUCT = Lexer.STRUCT;
+	public static final int UNION = Lexer.UNION;
+	public static final int ENUM = Lexer.ENUM;
+	public static final int ELIPSIS = Lexer.ELIPSIS;
+	public static final int RANGE = Lexer.RANGE;
+	public static final int SEMI = Lexer.SEMI;
+	public static final int OPEN_BRACE = Lexer.OPEN_BRACE;
+	public static final int CLOSE_BRACE = Lexer.CLOSE_BRACE;
+	public static final int COMMA = Lexer.COMMA;
+	public static final int ASSIGN = Lexer.ASSIGN;
+	public static final int COLON = Lexer.COLON;
+	public static final int PERIOD = Lexer.PERIOD;
+	public static final int OPEN_PAREN = Lexer.OPEN_PAREN;
+	public static final int CLOSE_PAREN = Lexer.CLOSE_PAREN;
+	public static final int OPEN_BRACKET = Lexer.OPEN_BRACKET;
+	public static final int CLOSE_BRACKET = Lexer.CLOSE_BRACKET;
+	public static final int QUESTION_MARK = Lexer.QUESTION_MARK;
+	public static final int MUL_OP = Lexer.MUL_OP;
+	public static final int DIV_OP = Lexer.DIV_OP;
+	public static final int MOD_OP = Lexer.MOD_OP;
+	public static final int ADD_OP = Lexer.ADD_OP;
+	public static final int SUB_OP = Lexer.SUB_OP;
+	public static final int BIT_NOT_OP = Lexer.BIT_NOT_OP;
+	public static final int NOT_OP = Lexer.NOT_OP;
+	public static final int XOR_OP = Lexer.XOR_OP;
+	public static final int LT_OP = Lexer.LT_OP;
+	public static final int GT_OP = Lexer.GT_OP;
+	public static final int ERROR_TOK = Lexer.ERROR_TOK;
+	public static final int CASE = Lexer.CASE;
+	public static final int DEFAULT = Lexer.DEFAULT;
+	public static final int IF = Lexer.IF;
+	public static final int ELSE = Lexer.ELSE;
+	public static final int SWITCH = Lexer.SWITCH;
+	public static final int WHILE = Lexer.WHILE;
+	public static final int DO = Lexer.DO;
+	public static final int FOR = Lexer.FOR;
+	public static final int GOTO = Lexer.GOTO;
+	public static final int CONTINUE = Lexer.CONTINUE;
+	public static final int BREAK = Lexer.BREAK;
+	public static final int RETURN = Lexer.RETURN;
+	public static final int EOF = 0;
+
+	/** Compilation this parser belongs to.						*/
+	private Compilation ctx = Compilation.current();
+	
+	public int arrayCount = 0;
+	public int stackSize = 0;
+	public int parameterSize = 0;
+	public int parameterCount = 0;
+	public int currentParameterCount = 0;
+	public int oldId = -1;
+	public int functionLine = 0;
+	public int oldLineNum = 0;
+	
+	public ArrayList<String> parameterTypes = new ArrayList<String>();
+	public ArrayList<BasicDataType> typeList = new ArrayList<BasicDataType>();
+	
+	/**
+	* Returns the canonical type of a function from the type names of its declaration.
+	* @param returnType Name of the return type.
+	* @param count Number of parameters.
+	* @param params Names of the parameter types.
+	* @return The function type.
+	*/
+	private FunctionDataType functionType(String returnType, int count, String[] params) {
+		BasicDataType[] types = new BasicDataType[params.length];
+		for(int i = 0; i < params.length; i++)
+			types[i] = ctx.st.type(params[i], false);
+		return ctx.st.types.function(ctx.st.type(returnType, false).kind, count, types);
+	}
+	
+	/**
+	* Returns the type of an argument in a call, for checking it against the parameter.
+	* @param arg The argument expression.
+	* @return An identifier's type, or the type of a constant's value.
+	*/
+	private BasicDataType argumentType(AST_node arg) {
+		switch(arg.kind) {
+			case IDENTIFIER:
+				return ctx.st.type(((AST_identifier) arg).symbol_node.type.getType(), false);
+				
+			case CONSTANT:
+				switch(((AST_constant) arg).literal) {
+					case INTEGER:		return ctx.st.type(TypeKind.INT, false);
+					case FLOATING:		return ctx.st.type(TypeKind.DOUBLE, false);
+					case CHARACTER:		return ctx.st.type(TypeKind.CHAR, false);
+					default:			break;
+				}
+				break;
+				
+			default:
+				// an expression wrapping a single constant
+				Object data = arg.getData();
+				if(data instanceof Integer)
+					return ctx.st.type(TypeKind.INT, false);
+				else if(data instanceof Double)
+					return ctx.st.type(TypeKind.DOUBLE, false);
+				else if(data instanceof Character)
+					return ctx.st.type(TypeKind.CHAR, false);
+		}
+		
+		return ctx.st.type((TypeKind) null, false);
+	}
+
+
+	private Lexer yylexer;
+	private int yydebug;
+	private java.io.PrintStream yyDebugStream = System.err;
+
+	public Parser(Lexer yylexer) { this.yylexer = yylexer; }
+	public void setDebugLevel(int level) { yydebug = level; }
+	public int getDebugLevel() { return yydebug; }
+	public void setDebugStream(java.io.PrintStream s) { yyDebugStream = s; }
+	public java.io.PrintStream getDebugStream() { return yyDebugStream; }
+
+	private static final class Stack {
+		int[] states = new int[256];
+		Object[] values = new Object[256];
+		int height = -1;
+		void push(int state, Object value) {
+			if(++height == states.length) {
+				states = java.util.Arrays.copyOf(states, height * 2);
+				values = java.util.Arrays.copyOf(values, height * 2);
+			}
+			states[height] = state;
+			values[height] = value;
+		}
+		void pop(int n) { height -= n; }
+		int stateAt(int i) { return states[height - i]; }
+		Object valueAt(int i) { return values[height - i]; }
+	}
+	private Stack yystack;
+
+	private static final String[] ACTIONS = {
+		"",
+		"3,4,33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24,62,25,67,26",
+		"0,59999",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"3,4,56,43",
+		"3,4,62,25,67,26",
+		"47,19,48,20,67,26",
+		"",
+		"3,4,55,49,62,25,67,26",
+		"33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24",
+		"62,57,64,58",
+		"",
+		"",
+		"",
+		"",
+		"3,4,62,25",
+		"33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24",
+		"3,4,56,61",
+		"",
+		"33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24",
+		"33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24",
+		"",
+		"3,4,33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24,62,25,67,26",
+		"3,4",
+		"56,69",
+		"63,70",
+		"",
+		"",
+		"47,19,48,20,67,26",
+		"",
+		"33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24,56,59991,59,73",
+		"",
+		"55,76,58,77",
+		"56,78",
+		"",
+		"33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24",
+		"3,4,55,49,62,25,67,26",
+		"3,4,63,59923",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,65,97,67,98,70,99,71,100,72,101,73,102",
+		"62,57,64,58",
+		"",
+		"33,5,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24",
+		"56,128",
+		"",
+		"",
+		"",
+		"",
+		"57,129,58,130",
+		"59,131",
+		"3,4",
+		"",
+		"",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,56,133,62,96,67,98,70,99,71,100,72,101,73,102",
+		"56,78",
+		"33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24",
+		"",
+		"3,4,62,25,67,26",
+		"33,59873,34,59873,35,59873,36,59873,37,59873,38,59873,39,59873,40,59873,41,59873,42,59873,43,59873,44,59873,45,59873,46,59873,47,59873,48,59873,49,59873,50,59873,51,59873,52,59873,57,141",
+		"",
+		"56,78",
+		"",
+		"59,73",
+		"63,145",
+		"33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24",
+		"",
+		"58,150,63,151",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,152,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,154,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,154,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,33,5,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24,62,96,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"70,161,71,162",
+		"19,163",
+		"",
+		"",
+		"",
+		"65,164",
+		"17,165,18,166",
+		"74,167",
+		"",
+		"20,168",
+		"21,169",
+		"22,170,66,171",
+		"67,172,68,173,69,174",
+		"10,175,11,176,12,177,61,178,62,179,64,180",
+		"",
+		"15,181,16,182,75,183,76,184",
+		"13,185,14,186",
+		"",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,60,188,62,25,67,26",
+		"",
+		"33,5,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24,57,192",
+		"33,5,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24",
+		"33,5,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24",
+		"33,5,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24",
+		"",
+		"3,4",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"57,199,58,130",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,56,133,62,96,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"",
+		"",
+		"23,59844,24,59844,25,59844,26,59844,27,59844,28,59844,29,59844,30,59844,31,59844,32,59844,59,59844",
+		"",
+		"56,78",
+		"",
+		"",
+		"33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"",
+		"",
+		"3,4,62,227,64,228,67,26",
+		"",
+		"58,233",
+		"63,234",
+		"3,4",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,33,5,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24,62,96,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"",
+		"",
+		"58,237,63,238",
+		"62,239,64,228,67,26",
+		"63,242",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4",
+		"",
+		"",
+		"3,4",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,63,258,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"60,269",
+		"",
+		"55,270,58,271",
+		"",
+		"",
+		"",
+		"",
+		"33,5,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24,57,272",
+		"",
+		"",
+		"",
+		"",
+		"57,273,58,274",
+		"23,275,24,276,25,277,26,278,27,279,28,280,29,281,30,282,31,283,32,284,59,285",
+		"",
+		"33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"60,289",
+		"62,290",
+		"62,291",
+		"62,292",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"62,294",
+		"3,4",
+		"55,296",
+		"55,297",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,298,62,96,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"55,300,58,237",
+		"",
+		"60,301",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,57,302,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"3,4,33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24,62,227,63,304,64,228,67,26",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,65,307,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"",
+		"62,309,64,310",
+		"3,4,62,227,64,228",
+		"33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24,53,312",
+		"",
+		"",
+		"63,314",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24,62,239,63,304,64,228,67,26",
+		"",
+		"62,239,64,228",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"67,172,68,173,69,174",
+		"67,172,68,173,69,174",
+		"17,165,18,166",
+		"15,181,16,182,75,183,76,184",
+		"15,181,16,182,75,183,76,184",
+		"19,163",
+		"74,167",
+		"20,168",
+		"21,169",
+		"58,237,60,317",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"58,318,63,319",
+		"",
+		"58,237,65,320",
+		"13,185,14,186",
+		"13,185,14,186",
+		"13,185,14,186",
+		"13,185,14,186",
+		"70,161,71,162",
+		"70,161,71,162",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"3,4,60,188,62,25,67,26",
+		"",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,56,133,57,323,62,96,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,57,326,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"60,328",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"83,333",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,334,62,96,67,98,70,99,71,100,72,101,73,102",
+		"55,336",
+		"",
+		"",
+		"",
+		"55,337,58,237",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"",
+		"",
+		"",
+		"63,339",
+		"63,340",
+		"",
+		"65,341",
+		"33,5,34,6,35,7,36,8,37,9,38,10,39,11,40,12,41,13,42,14,43,15,44,16,45,17,46,18,47,19,48,20,49,21,50,22,51,23,52,24,63,342",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,65,344,67,98,70,99,71,100,72,101,73,102",
+		"62,309,64,310",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,57,348,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"",
+		"58,237,63,350",
+		"58,237,63,351",
+		"58,237,63,352",
+		"62,353",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,354,62,96,67,98,70,99,71,100,72,101,73,102",
+		"55,356,58,237",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"",
+		"63,357",
+		"",
+		"65,358",
+		"",
+		"",
+		"",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,63,363,67,98,70,99,71,100,72,101,73,102",
+		"55,365,58,237",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,366,62,96,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"",
+		"81,368",
+		"",
+		"",
+		"58,237,63,369",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"58,237,63,371",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,63,372,67,98,70,99,71,100,72,101,73,102",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,63,374,67,98,70,99,71,100,72,101,73,102",
+		"55,376,58,237",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"55,378",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"58,237,63,381",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"58,237,63,383",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,62,96,63,384,67,98,70,99,71,100,72,101,73,102",
+		"",
+		"",
+		"",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"58,237,63,389",
+		"",
+		"",
+		"",
+		"3,4,4,87,5,88,6,89,7,90,8,91,9,92,11,93,12,94,19,95,55,205,56,78,62,96,67,98,70,99,71,100,72,101,73,102,78,206,79,207,80,208,82,209,83,210,84,211,85,212,86,213,87,214,88,215,89,216",
+		"",
+	};
+	private static final int[] DEFAULTS = { 1, -1, 3, 231, 38, 26, 25, 24, 22, 23, 28, 29, 30, 31, 34, 35, 32, 33, 39, 40, 27, 44, 45, -1, -1, 80, 6, -1, 7, 69, 37, 2, 5, 71, -1, 16, -1, 36, 20, 18, -1, -1, -1, 64, -1, 82, 84, 81, 12, 50, 48, -1, -1, 14, 7, -1, 77, -1, 70, 17, -1, 43, 21, 19, 4, 65, -1, 67, -1, 72, 83, 85, -1, -1, 7, 13, -1, 126, 8, -1, 15, 50, -1, -1, 93, -1, 226, 228, 227, 229, 230, -1, -1, -1, 206, -1, 73, 207, 208, 209, 210, 211, 188, 176, 194, 169, 221, -1, 178, 174, 220, 172, 170, 167, 191, 200, 212, 180, 183, 222, 198, -1, -1, 46, -1, 55, 53, -1, 62, -1, -1, -1, -1, 95, 153, 51, 198, 10, -1, 49, 127, -1, -1, 9, 76, 91, 88, 86, -1, -1, 79, -1, 204, -1, 201, 202, 151, -1, 100, -1, -1, -1, -1, 74, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 218, 219, -1, -1, -1, -1, -1, -1, -1, -1, -1, 203, -1, 59, 57, -1, 42, 47, 56, 54, -1, 66, 68, 63, 98, -1, -1, 11, 126, 123, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 115, -1, 116, 220, 118, 119, 114, 117, 131, -1, -1, -1, 92, 90, 103, 102, -1, 78, 94, -1, -1, 223, -1, 101, 102, -1, 192, 193, 179, 181, 182, 177, 175, 173, 171, -1, 195, 196, 197, 217, 216, 214, -1, 224, -1, 186, 187, 184, 185, 189, 190, 60, -1, 52, -1, 41, 96, -1, 157, 158, 159, 160, 161, 162, 163, 164, 165, 166, 156, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 147, 148, 149, -1, 124, -1, 128, 132, 110, -1, -1, 106, -1, -1, -1, 104, 87, 89, 205, 152, 199, -1, -1, 215, 213, 61, 58, 97, 99, 155, 129, -1, -1, 122, -1, -1, -1, -1, -1, -1, 146, 150, 120, 105, 111, 107, 112, -1, 108, -1, 168, 225, 130, 121, -1, -1, -1, -1, -1, -1, -1, 113, 109, 133, 135, 136, -1, -1, -1, -1, -1, -1, -1, -1, 138, -1, -1, -1, -1, -1, -1, 134, 137, 139, 140, -1, 142, -1, -1, -1, 141, 143, 144, -1, 145 };
+	private static final int[] RULE_LENGTHS = { 2, 0, 2, 0, 3, 1, 1, 0, 3, 4, 4, 5, 2, 3, 1, 2, 1, 2, 1, 2, 1, 2, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 5, 4, 2, 1, 1, 1, 2, 1, 3, 1, 3, 3, 1, 2, 1, 2, 1, 3, 1, 2, 3, 4, 5, 2, 1, 3, 1, 3, 1, 2, 1, 3, 3, 4, 0, 4, 0, 5, 4, 1, 2, 2, 3, 1, 2, 1, 3, 1, 3, 2, 1, 2, 1, 3, 1, 3, 4, 1, 3, 1, 2, 1, 1, 2, 3, 2, 3, 3, 4, 2, 3, 3, 4, 1, 1, 1, 1, 1, 1, 3, 4, 3, 1, 2, 0, 0, 2, 4, 5, 6, 1, 2, 5, 7, 5, 5, 7, 6, 7, 7, 8, 7, 8, 8, 9, 3, 2, 2, 2, 3, 1, 3, 1, 0, 4, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 5, 1, 1, 3, 1, 3, 1, 3, 1, 3, 1, 3, 1, 3, 3, 1, 3, 3, 3, 3, 1, 3, 3, 1, 3, 3, 1, 3, 3, 3, 1, 4, 1, 2, 2, 2, 2, 4, 1, 1, 1, 1, 1, 1, 1, 4, 3, 4, 3, 3, 2, 2, 1, 1, 1, 3, 1, 3, 1, 1, 1, 1, 1, 1 };
+	private static final int[] RULE_LHS = { -1, 0, 1, 2, 1, 3, 3, 4, 5, 5, 5, 5, 6, 6, 7, 7, 8, 8, 8, 8, 8, 8, 9, 9, 9, 9, 9, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 11, 11, 12, 12, 12, 13, 13, 14, 14, 15, 15, 16, 16, 17, 18, 18, 18, 18, 19, 19, 20, 20, 20, 21, 21, 21, 22, 22, 23, 23, 24, 24, 25, 25, 25, 25, 26, 25, 27, 25, 25, 28, 28, 28, 28, 29, 29, 30, 30, 31, 31, 32, 32, 32, 33, 33, 34, 34, 34, 35, 35, 36, 36, 37, 37, 37, 38, 38, 38, 38, 38, 38, 38, 38, 38, 39, 39, 39, 39, 39, 39, 40, 40, 40, 41, 41, 42, 43, 44, 44, 44, 44, 45, 45, 46, 46, 46, 47, 47, 47, 47, 47, 47, 47, 47, 47, 47, 48, 48, 48, 48, 48, 49, 49, 50, 51, 50, 52, 52, 52, 52, 52, 52, 52, 52, 52, 52, 52, 53, 53, 54, 55, 55, 56, 56, 57, 57, 58, 58, 59, 59, 60, 60, 60, 61, 61, 61, 61, 61, 62, 62, 62, 63, 63, 63, 64, 64, 64, 64, 65, 65, 66, 66, 66, 66, 66, 66, 67, 67, 67, 67, 67, 67, 68, 68, 68, 68, 68, 68, 68, 68, 69, 69, 69, 69, 70, 70, 71, 71, 71, 71, 72, 73 };
+	private static final String[] GOTOS = {
+		"0,1",
+		"0,2",
+		"2,41",
+		"1,31,41,64",
+		"28,52,49,73,54,79,74,138",
+		"1,32,41,32",
+		"1,26,28,53,41,26,49,53,54,80,74,80,141,53,203,80",
+		"28,54,49,74,141,203",
+		"1,27,28,55,35,59,38,62,39,63,41,27,49,55,54,55,74,55,83,145,141,55,203,55,226,145,232,145,238,145,308,145",
+		"1,35,28,35,35,35,38,35,39,35,41,35,49,35,54,35,74,35,83,35,141,35,203,35,226,35,232,35,238,35,308,35",
+		"1,39,28,39,35,39,38,39,39,39,41,39,49,39,54,39,60,126,74,39,83,39,95,126,124,126,125,126,126,126,127,126,141,39,151,126,195,126,203,39,226,39,232,39,238,39,308,39",
+		"1,38,25,46,28,38,35,38,38,38,39,38,41,38,47,71,49,38,54,38,60,125,74,38,83,38,95,125,124,125,125,125,126,125,127,125,141,38,151,125,195,125,203,38,226,38,232,38,238,38,308,38",
+		"1,37,28,37,35,37,38,37,39,37,41,37,49,37,54,37,60,37,74,37,83,37,95,37,124,37,125,37,126,37,127,37,141,37,151,37,195,37,203,37,226,37,232,37,238,37,308,37",
+		"1,36,28,36,35,36,38,36,39,36,41,36,49,36,54,36,60,36,74,36,83,36,95,36,124,36,125,36,126,36,127,36,141,36,151,36,195,36,203,36,226,36,232,36,238,36,308,36",
+		"60,124,127,195",
+		"27,51,55,51",
+		"27,50,55,50,76,139",
+		"60,123,124,192,127,123,195,192",
+		"60,122,95,158,124,122,125,193,126,194,127,122,151,158,195,122",
+		"122,190",
+		"122,189,270,321",
+		"1,30,28,30,35,30,38,30,39,30,41,30,49,30,54,30,60,30,74,30,83,30,95,30,124,30,125,30,126,30,127,30,141,30,151,30,195,30,203,30,226,30,232,30,238,30,308,30",
+		"42,66,68,131",
+		"42,65,68,65,129,196",
+		"1,28,24,44,27,49,41,28,55,81,76,81,122,188,145,229,226,44,270,188",
+		"1,29,24,29,27,29,34,58,41,29,55,29,76,29,122,29,145,29,226,29,231,58,270,29",
+		"56,82",
+		"56,83",
+		"1,34,24,34,25,45,27,34,41,34,47,70,55,34,76,34,122,34,145,231,158,240,226,231,238,240,270,34",
+		"25,47",
+		"83,148,226,305,238,305,308,342",
+		"83,147,226,147,238,147,308,147",
+		"83,146,226,146,232,312,238,146,308,146",
+		"56,85",
+		"72,135,132,199,273,323",
+		"132,200",
+		"95,159,151,235",
+		"145,228,158,239,226,304,238,304",
+		"145,230,158,230,226,230,231,310,238,230,240,310",
+		"142,224,210,292,225,302,286,224,288,328,300,337,326,302,327,348,349,358,350,359,351,360,362,369,367,376,370,378,371,379,373,381,380,385,382,386,383,387,388,389",
+		"142,222,210,222,225,222,286,222,288,222,300,222,326,222,327,222,349,222,350,222,351,222,362,222,367,222,370,222,371,222,373,222,380,222,382,222,383,222,388,222",
+		"142,218,210,218,225,218,286,218,288,218,300,218,326,218,327,218,349,218,350,218,351,218,362,218,367,218,370,218,371,218,373,218,380,218,382,218,383,218,388,218",
+		"77,141",
+		"77,142,203,286",
+		"52,78,73,137,79,143,138,202,142,216,210,216,225,216,286,216,288,216,300,216,326,216,327,216,349,216,350,216,351,216,362,216,367,216,370,216,371,216,373,216,380,216,382,216,383,216,388,216",
+		"142,225,286,326",
+		"142,223,210,223,225,223,286,223,288,223,300,223,326,223,327,223,349,223,350,223,351,223,362,223,367,223,370,223,371,223,373,223,380,223,382,223,383,223,388,223",
+		"142,220,210,220,225,220,286,220,288,220,300,220,326,220,327,220,349,220,350,220,351,220,362,220,367,220,370,220,371,220,373,220,380,220,382,220,383,220,388,220",
+		"142,221,210,221,225,221,286,221,288,221,300,221,326,221,327,221,349,221,350,221,351,221,362,221,367,221,370,221,371,221,373,221,380,221,382,221,383,221,388,221",
+		"95,157,142,217,151,157,153,157,170,251,179,260,210,217,215,298,225,217,286,217,288,217,289,329,290,330,291,331,293,334,300,217,326,217,327,217,333,354,349,217,350,217,351,217,352,361,353,363,355,366,362,217,364,372,365,374,367,217,370,217,371,217,373,217,375,384,380,217,382,217,383,217,388,217",
+		"72,133,95,156,132,133,142,156,151,156,153,156,170,156,178,259,179,156,210,156,215,156,225,156,236,314,273,133,285,324,286,156,288,156,289,156,290,156,291,156,293,156,300,156,317,346,326,156,327,156,333,156,349,156,350,156,351,156,352,156,353,156,355,156,362,156,364,156,365,156,367,156,370,156,371,156,373,156,375,156,380,156,382,156,383,156,388,156",
+		"136,201",
+		"201,285",
+		"57,105,72,134,95,134,130,105,132,134,142,134,151,134,153,134,170,134,178,134,179,134,187,105,205,105,210,134,215,134,225,134,227,105,236,134,268,105,273,134,285,134,286,134,288,134,289,134,290,134,291,134,293,134,300,134,309,105,316,345,317,134,326,134,327,134,333,134,349,134,350,134,351,134,352,134,353,134,355,134,362,134,364,134,365,134,367,134,370,134,371,134,373,134,375,134,380,134,382,134,383,134,388,134",
+		"57,107,130,197,187,267,205,287,227,307,268,320,309,344",
+		"57,113,72,113,95,113,130,113,132,113,142,113,151,113,153,113,170,113,178,113,179,113,187,113,205,113,210,113,215,113,225,113,227,113,236,113,268,113,273,113,285,113,286,113,288,113,289,113,290,113,291,113,293,113,300,113,309,113,316,113,317,113,326,113,327,113,333,113,349,113,350,113,351,113,352,113,353,113,355,113,362,113,364,113,365,113,367,113,370,113,371,113,373,113,375,113,380,113,382,113,383,113,388,113",
+		"57,112,72,112,95,112,130,112,132,112,142,112,151,112,153,112,169,250,170,112,178,112,179,112,187,112,205,112,210,112,215,112,225,112,227,112,236,112,268,112,273,112,285,112,286,112,288,112,289,112,290,112,291,112,293,112,300,112,309,112,316,112,317,112,326,112,327,112,333,112,349,112,350,112,351,112,352,112,353,112,355,112,362,112,364,112,365,112,367,112,370,112,371,112,373,112,375,112,380,112,382,112,383,112,388,112",
+		"57,111,72,111,95,111,130,111,132,111,142,111,151,111,153,111,168,249,169,111,170,111,178,111,179,111,187,111,205,111,210,111,215,111,225,111,227,111,236,111,268,111,273,111,285,111,286,111,288,111,289,111,290,111,291,111,293,111,300,111,309,111,316,111,317,111,326,111,327,111,333,111,349,111,350,111,351,111,352,111,353,111,355,111,362,111,364,111,365,111,367,111,370,111,371,111,373,111,375,111,380,111,382,111,383,111,388,111",
+		"57,109,72,109,95,109,130,109,132,109,142,109,151,109,153,109,167,248,168,109,169,109,170,109,178,109,179,109,187,109,205,109,210,109,215,109,225,109,227,109,236,109,268,109,273,109,285,109,286,109,288,109,289,109,290,109,291,109,293,109,300,109,309,109,316,109,317,109,326,109,327,109,333,109,349,109,350,109,351,109,352,109,353,109,355,109,362,109,364,109,365,109,367,109,370,109,371,109,373,109,375,109,380,109,382,109,383,109,388,109",
+		"57,103,72,103,95,103,130,103,132,103,142,103,151,103,153,103,166,247,167,103,168,103,169,103,170,103,178,103,179,103,187,103,205,103,210,103,215,103,225,103,227,103,236,103,268,103,273,103,285,103,286,103,288,103,289,103,290,103,291,103,293,103,300,103,309,103,316,103,317,103,326,103,327,103,333,103,349,103,350,103,351,103,352,103,353,103,355,103,362,103,364,103,365,103,367,103,370,103,371,103,373,103,375,103,380,103,382,103,383,103,388,103",
+		"57,108,72,108,95,108,130,108,132,108,142,108,151,108,153,108,162,244,166,108,167,108,168,108,169,108,170,108,178,108,179,108,187,108,205,108,210,108,215,108,225,108,227,108,236,108,268,108,273,108,285,108,286,108,288,108,289,108,290,108,291,108,293,108,300,108,309,108,316,108,317,108,326,108,327,108,333,108,349,108,350,108,351,108,352,108,353,108,355,108,362,108,364,108,365,108,367,108,370,108,371,108,373,108,375,108,380,108,382,108,383,108,388,108",
+		"57,117,72,117,95,117,130,117,132,117,142,117,151,117,153,117,162,117,164,245,165,246,166,117,167,117,168,117,169,117,170,117,178,117,179,117,187,117,205,117,210,117,215,117,225,117,227,117,236,117,268,117,273,117,285,117,286,117,288,117,289,117,290,117,291,117,293,117,300,117,309,117,316,117,317,117,326,117,327,117,333,117,349,117,350,117,351,117,352,117,353,117,355,117,362,117,364,117,365,117,367,117,370,117,371,117,373,117,375,117,380,117,382,117,383,117,388,117",
+		"57,118,72,118,95,118,130,118,132,118,142,118,151,118,153,118,162,118,164,118,165,118,166,118,167,118,168,118,169,118,170,118,178,118,179,118,180,261,181,262,182,263,183,264,187,118,205,118,210,118,215,118,225,118,227,118,236,118,268,118,273,118,285,118,286,118,288,118,289,118,290,118,291,118,293,118,300,118,309,118,316,118,317,118,326,118,327,118,333,118,349,118,350,118,351,118,352,118,353,118,355,118,362,118,364,118,365,118,367,118,370,118,371,118,373,118,375,118,380,118,382,118,383,118,388,118",
+		"57,102,72,102,95,102,130,102,132,102,142,102,151,102,153,102,162,102,164,102,165,102,166,102,167,102,168,102,169,102,170,102,178,102,179,102,180,102,181,102,182,102,183,102,184,265,185,266,187,102,205,102,210,102,215,102,225,102,227,102,236,102,268,102,273,102,285,102,286,102,288,102,289,102,290,102,291,102,293,102,300,102,309,102,316,102,317,102,326,102,327,102,333,102,349,102,350,102,351,102,352,102,353,102,355,102,362,102,364,102,365,102,367,102,370,102,371,102,373,102,375,102,380,102,382,102,383,102,388,102",
+		"57,114,72,114,95,114,130,114,132,114,142,114,151,114,153,114,160,242,161,243,162,114,164,114,165,114,166,114,167,114,168,114,169,114,170,114,178,114,179,114,180,114,181,114,182,114,183,114,184,114,185,114,187,114,205,114,210,114,215,114,225,114,227,114,236,114,268,114,273,114,285,114,286,114,288,114,289,114,290,114,291,114,293,114,300,114,309,114,316,114,317,114,326,114,327,114,333,114,349,114,350,114,351,114,352,114,353,114,355,114,362,114,364,114,365,114,367,114,370,114,371,114,373,114,375,114,380,114,382,114,383,114,388,114",
+		"57,104,72,104,95,104,121,186,130,104,132,104,142,104,151,104,153,104,160,104,161,104,162,104,164,104,165,104,166,104,167,104,168,104,169,104,170,104,171,252,172,253,173,254,178,104,179,104,180,104,181,104,182,104,183,104,184,104,185,104,187,104,205,104,210,104,215,104,225,104,227,104,236,104,241,315,268,104,273,104,285,104,286,104,288,104,289,104,290,104,291,104,293,104,300,104,309,104,316,104,317,104,326,104,327,104,333,104,349,104,350,104,351,104,352,104,353,104,355,104,362,104,364,104,365,104,367,104,370,104,371,104,373,104,375,104,380,104,382,104,383,104,388,104",
+		"57,120,72,136,91,152,92,154,93,155,95,136,121,120,130,120,132,136,142,136,151,136,153,136,160,120,161,120,162,120,164,120,165,120,166,120,167,120,168,120,169,120,170,136,171,120,172,120,173,120,178,136,179,136,180,120,181,120,182,120,183,120,184,120,185,120,187,120,205,120,210,136,215,136,225,136,227,120,236,136,241,120,268,120,273,136,285,136,286,136,288,136,289,136,290,136,291,136,293,136,300,136,309,120,316,120,317,136,326,136,327,136,333,136,349,136,350,136,351,136,352,136,353,136,355,136,362,136,364,136,365,136,367,136,370,136,371,136,373,136,375,136,380,136,382,136,383,136,388,136",
+		"57,121,72,121,91,121,92,121,93,121,95,121,121,121,130,121,132,121,142,121,151,121,153,121,160,121,161,121,162,121,164,121,165,121,166,121,167,121,168,121,169,121,170,121,171,121,172,121,173,121,178,121,179,121,180,121,181,121,182,121,183,121,184,121,185,121,187,121,205,121,210,121,215,121,225,121,227,121,236,121,241,121,268,121,273,121,285,121,286,121,288,121,289,121,290,121,291,121,293,121,300,121,309,121,316,121,317,121,326,121,327,121,333,121,349,121,350,121,351,121,352,121,353,121,355,121,362,121,364,121,365,121,367,121,370,121,371,121,373,121,375,121,380,121,382,121,383,121,388,121",
+		"57,115,72,115,91,115,92,115,93,115,95,115,121,115,130,115,132,115,142,115,151,115,153,115,160,115,161,115,162,115,164,115,165,115,166,115,167,115,168,115,169,115,170,115,171,115,172,115,173,115,178,115,179,115,180,115,181,115,182,115,183,115,184,115,185,115,187,115,205,115,210,115,215,115,225,115,227,115,236,115,241,115,268,115,273,115,285,115,286,115,288,115,289,115,290,115,291,115,293,115,300,115,309,115,316,115,317,115,326,115,327,115,333,115,349,115,350,115,351,115,352,115,353,115,355,115,362,115,364,115,365,115,367,115,370,115,371,115,373,115,375,115,380,115,382,115,383,115,388,115",
+		"57,116,72,116,91,116,92,116,93,116,95,116,121,116,130,116,132,116,142,116,151,116,153,116,160,116,161,116,162,116,164,116,165,116,166,116,167,116,168,116,169,116,170,116,171,116,172,116,173,116,178,116,179,116,180,116,181,116,182,116,183,116,184,116,185,116,187,116,205,116,210,116,215,116,225,116,227,116,236,116,241,116,268,116,273,116,285,116,286,116,288,116,289,116,290,116,291,116,293,116,300,116,309,116,316,116,317,116,326,116,327,116,333,116,349,116,350,116,351,116,352,116,353,116,355,116,362,116,364,116,365,116,367,116,370,116,371,116,373,116,375,116,380,116,382,116,383,116,388,116",
+		"178,258",
+		"57,106,72,106,91,106,92,106,93,106,95,106,121,106,130,106,132,106,142,106,151,106,153,106,160,106,161,106,162,106,164,106,165,106,166,106,167,106,168,106,169,106,170,106,171,106,172,106,173,106,178,106,179,106,180,106,181,106,182,106,183,106,184,106,185,106,187,106,205,106,210,106,215,106,225,106,227,106,236,106,241,106,268,106,273,106,285,106,286,106,288,106,289,106,290,106,291,106,293,106,300,106,309,106,316,106,317,106,326,106,327,106,333,106,349,106,350,106,351,106,352,106,353,106,355,106,362,106,364,106,365,106,367,106,370,106,371,106,373,106,375,106,380,106,382,106,383,106,388,106",
+		"57,119,72,119,91,119,92,119,93,119,95,119,121,119,130,119,132,119,142,119,151,119,153,119,160,119,161,119,162,119,164,119,165,119,166,119,167,119,168,119,169,119,170,119,171,119,172,119,173,119,178,119,179,119,180,119,181,119,182,119,183,119,184,119,185,119,187,119,205,119,210,119,215,119,225,119,227,119,236,119,241,119,268,119,273,119,285,119,286,119,288,119,289,119,290,119,291,119,293,119,300,119,309,119,316,119,317,119,326,119,327,119,333,119,349,119,350,119,351,119,352,119,353,119,355,119,362,119,364,119,365,119,367,119,370,119,371,119,373,119,375,119,380,119,382,119,383,119,388,119",
+		"1,33,23,43,24,33,27,33,34,33,36,61,41,33,42,67,55,33,56,84,57,110,68,67,72,110,76,33,91,110,92,110,93,110,95,110,121,110,122,33,129,67,130,110,132,110,142,219,145,33,149,234,151,110,153,110,160,110,161,110,162,110,164,110,165,110,166,110,167,110,168,110,169,110,170,110,171,110,172,110,173,110,174,255,177,256,178,110,179,110,180,110,181,110,182,110,183,110,184,110,185,110,187,110,205,110,210,219,212,294,215,110,225,219,226,33,227,110,231,33,236,110,241,110,268,110,270,33,273,110,285,110,286,219,288,219,289,110,290,110,291,110,293,110,300,219,309,110,316,110,317,110,326,219,327,219,333,110,349,219,350,219,351,219,352,110,353,110,355,110,362,219,364,110,365,110,367,219,370,219,371,219,373,219,375,110,380,219,382,219,383,219,388,219",
+	};
+	private static final String[] TOKEN_NAMES = { "$end", "error", "$undefined", "IDENTIFIER", "INTEGER_CONSTANT", "FLOATING_CONSTANT", "CHARACTER_CONSTANT", "ENUMERATION_CONSTANT", "STRING_LITERAL", "SIZEOF", "PTR_OP", "INC_OP", "DEC_OP", "LEFT_OP", "RIGHT_OP", "LE_OP", "GE_OP", "EQ_OP", "NE_OP", "AND_OP", "OR_OP", "L_AND_OP", "L_OR_OP", "MUL_ASSIGN", "DIV_ASSIGN", "MOD_ASSIGN", "ADD_ASSIGN", "SUB_ASSIGN", "LEFT_ASSIGN", "RIGHT_ASSIGN", "AND_ASSIGN", "XOR_ASSIGN", "OR_ASSIGN", "TYPEDEF_NAME", "TYPEDEF", "EXTERN", "STATIC", "AUTO", "REGISTER", "CHAR", "SHORT", "INT", "LONG", "SIGNED", "UNSIGNED", "FLOAT", "DOUBLE", "CONST", "VOLATILE", "VOID", "STRUCT", "UNION", "ENUM", "ELIPSIS", "RANGE", "SEMI", "OPEN_BRACE", "CLOSE_BRACE", "COMMA", "ASSIGN", "COLON", "PERIOD", "OPEN_PAREN", "CLOSE_PAREN", "OPEN_BRACKET", "CLOSE_BRACKET", "QUESTION_MARK", "MUL_OP", "DIV_OP", "MOD_OP", "ADD_OP", "SUB_OP", "BIT_NOT_OP", "NOT_OP", "XOR_OP", "LT_OP", "GT_OP", "ERROR_TOK", "CASE", "DEFAULT", "IF", "ELSE", "SWITCH", "WHILE", "DO", "FOR", "GOTO", "CONTINUE", "BREAK", "RETURN" };
+
+	private static int tokenNumber(int token) {
+		return (token <= 0) ? 0 : (token >= 258 && token - 255 < TOKEN_NAMES.length) ? token - 255 : 2;
+	}
+
+	private static int[][] decode(String[] rows) {
+		int[][] t = new int[rows.length][];
+		for(int i = 0; i < rows.length; i++) {
+			String[] f = rows[i].isEmpty() ? new String[0] : rows[i].split(",");
+			t[i] = new int[f.length];
+			for(int j = 0; j < f.length; j++)
+				t[i][j] = Integer.parseInt(f[j]);
+		}
+		return t;
+	}
+	private static final int[][] ACTION_TABLE = decode(ACTIONS);
+	private static final int[][] GOTO_TABLE = decode(GOTOS);
+
+	private int action(int state, int token) {
+		int[] row = ACTION_TABLE[state];
+		for(int i = 0; i < row.length; i += 2)
+			if(row[i] == token) {
+				int v = row[i + 1];
+				return (v >= 30000) ? v - 60000 : v;
+			}
+		return 0;
+	}
+
+	private int gotoState(int state, int lhs) {
+		int[] row = GOTO_TABLE[lhs];
+		for(int i = 0; i < row.length; i += 2)
+			if(row[i] == state)
+				return row[i + 1];
+		throw new IllegalStateException("no goto");
+	}
+
+	public boolean parse() throws java.io.IOException {
+		yystack = new Stack();
+		yystack.push(0, null);
+		int token = -1;
+		Object lval = null;
+		while(true) {
+			int state = yystack.stateAt(0);
+			int rule;
+			if(ACTION_TABLE[state].length == 0 && DEFAULTS[state] >= 0)
+				rule = DEFAULTS[state];
+			else {
+				if(token < 0) {
+					token = tokenNumber(yylexer.yylex());
+					lval = yylexer.getLVal();
+					if(yydebug > 0)
+						yyDebugStream.println("Next token is " + TOKEN_NAMES[token]);
+				}
+				int a = action(state, token);
+				if(a == -1)
+					return true;
+				if(a > 0) {
+					if(yydebug > 0)
+						yyDebugStream.println("Shifting token " + TOKEN_NAMES[token]);
+					yystack.push(a - 1, lval);
+					token = -1;
+					continue;
+				}
+				if(a < -1)
+					rule = -a - 2;
+				else if(DEFAULTS[state] >= 0)
+					rule = DEFAULTS[state];
+				else {
+					yylexer.yyerror("syntax error, unexpected " + TOKEN_NAMES[token]);
+					return false;
+				}
+			}
+			int len = RULE_LENGTHS[rule];
+			Object yyval = yystack.valueAt((len > 0) ? len - 1 : 0);
+			if(yydebug > 0)
+				yyDebugStream.println("Reducing stack by rule " + rule);
+			yyval = yyaction(rule, yyval);
+			yystack.pop(len);
+			yystack.push(gotoState(yystack.stateAt(0), RULE_LHS[rule]), yyval);
+		}
+	}
+
+	private Object yyaction(int rule, Object yyval) throws java.io.IOException {
+		switch(rule) {
+			case 1: return yyrule1(yyval);
+			case 2: return yyrule2(yyval);
+			case 3: return yyrule3(yyval);
+			case 4: return yyrule4(yyval);
+			case 5: return yyrule5(yyval);
+			case 6: return yyrule6(yyval);
+			case 7: return yyrule7(yyval);
+			case 8: return yyrule8(yyval);
+			case 9: return yyrule9(yyval);
+			case 10: return yyrule10(yyval);
+			case 11: return yyrule11(yyval);
+			case 12: return yyrule12(yyval);
+			case 13: return yyrule13(yyval);
+			case 14: return yyrule14(yyval);
+			case 15: return yyrule15(yyval);
+			case 16: return yyrule16(yyval);
+			case 17: return yyrule17(yyval);
+			case 18: return yyrule18(yyval);
+			case 19: return yyrule19(yyval);
+			case 20: return yyrule20(yyval);
+			case 21: return yyrule21(yyval);
+			case 22: return yyrule22(yyval);
+			case 23: return yyrule23(yyval);
+			case 24: return yyrule24(yyval);
+			case 25: return yyrule25(yyval);
+			case 26: return yyrule26(yyval);
+			case 27: return yyrule27(yyval);
+			case 28: return yyrule28(yyval);
+			case 29: return yyrule29(yyval);
+			case 30: return yyrule30(yyval);
+			case 31: return yyrule31(yyval);
+			case 32: return yyrule32(yyval);
+			case 33: return yyrule33(yyval);
+			case 34: return yyrule34(yyval);
+			case 35: return yyrule35(yyval);
+			case 36: return yyrule36(yyval);
+			case 37: return yyrule37(yyval);
+			case 38: return yyrule38(yyval);
+			case 39: return yyrule39(yyval);
+			case 40: return yyrule40(yyval);
+			case 41: return yyrule41(yyval);
+			case 42: return yyrule42(yyval);
+			case 43: return yyrule43(yyval);
+			case 44: return yyrule44(yyval);
+			case 45: return yyrule45(yyval);
+			case 46: return yyrule46(yyval);
+			case 47: return yyrule47(yyval);
+			case 48: return yyrule48(yyval);
+			case 49: return yyrule49(yyval);
+			case 50: return yyrule50(yyval);
+			case 51: return yyrule51(yyval);
+			case 52: return yyrule52(yyval);
+			case 53: return yyrule53(yyval);
+			case 54: return yyrule54(yyval);
+			case 55: return yyrule55(yyval);
+			case 56: return yyrule56(yyval);
+			case 57: return yyrule57(yyval);
+			case 58: return yyrule58(yyval);
+			case 59: return yyrule59(yyval);
+			case 60: return yyrule60(yyval);
+			case 61: return yyrule61(yyval);
+			case 62: return yyrule62(yyval);
+			case 63: return yyrule63(yyval);
+			case 64: return yyrule64(yyval);
+			case 65: return yyrule65(yyval);
+			case 66: return yyrule66(yyval);
+			case 67: return yyrule67(yyval);
+			case 68: return yyrule68(yyval);
+			case 69: return yyrule69(yyval);
+			case 70: return yyrule70(yyval);
+			case 71: return yyrule71(yyval);
+			case 72: return yyrule72(yyval);
+			case 73: return yyrule73(yyval);
+			case 74: return yyrule74(yyval);
+			case 75: return yyrule75(yyval);
+			case 76: return yyrule76(yyval);
+			case 77: return yyrule77(yyval);
+			case 78: return yyrule78(yyval);
+			case 79: return yyrule79(yyval);
+			case 80: return yyrule80(yyval);
+			case 81: return yyrule81(yyval);
+			case 82: return yyrule82(yyval);
+			case 83: return yyrule83(yyval);
+			case 84: return yyrule84(yyval);
+			case 85: return yyrule85(yyval);
+			case 86: return yyrule86(yyval);
+			case 87: return yyrule87(yyval);
+			case 88: return yyrule88(yyval);
+			case 89: return yyrule89(yyval);
+			case 90: return yyrule90(yyval);
+			case 91: return yyrule91(yyval);
+			case 92: return yyrule92(yyval);
+			case 93: return yyrule93(yyval);
+			case 94: return yyrule94(yyval);
+			case 95: return yyrule95(yyval);
+			case 96: return yyrule96(yyval);
+			case 97: return yyrule97(yyval);
+			case 98: return yyrule98(yyval);
+			case 99: return yyrule99(yyval);
+			case 100: return yyrule100(yyval);
+			case 101: return yyrule101(yyval);
+			case 102: return yyrule102(yyval);
+			case 103: return yyrule103(yyval);
+			case 104: return yyrule104(yyval);
+			case 105: return yyrule105(yyval);
+			case 106: return yyrule106(yyval);
+			case 107: return yyrule107(yyval);
+			case 108: return yyrule108(yyval);
+			case 109: return yyrule109(yyval);
+			case 110: return yyrule110(yyval);
+			case 111: return yyrule111(yyval);
+			case 112: return yyrule112(yyval);
+			case 113: return yyrule113(yyval);
+			case 114: return yyrule114(yyval);
+			case 115: return yyrule115(yyval);
+			case 116: return yyrule116(yyval);
+			case 117: return yyrule117(yyval);
+			case 118: return yyrule118(yyval);
+			case 119: return yyrule119(yyval);
+			case 120: return yyrule120(yyval);
+			case 121: return yyrule121(yyval);
+			case 122: return yyrule122(yyval);
+			case 123: return yyrule123(yyval);
+			case 124: return yyrule124(yyval);
+			case 125: return yyrule125(yyval);
+			case 126: return yyrule126(yyval);
+			case 127: return yyrule127(yyval);
+			case 128: return yyrule128(yyval);
+			case 129: return yyrule129(yyval);
+			case 130: return yyrule130(yyval);
+			case 131: return yyrule131(yyval);
+			case 132: return yyrule132(yyval);
+			case 133: return yyrule133(yyval);
+			case 134: return yyrule134(yyval);
+			case 135: return yyrule135(yyval);
+			case 136: return yyrule136(yyval);
+			case 137: return yyrule137(yyval);
+			case 138: return yyrule138(yyval);
+			case 139: return yyrule139(yyval);
+			case 140: return yyrule140(yyval);
+			case 141: return yyrule141(yyval);
+			case 142: return yyrule142(yyval);
+			case 143: return yyrule143(yyval);
+			case 144: return yyrule144(yyval);
+			case 145: return yyrule145(yyval);
+			case 146: return yyrule146(yyval);
+			case 147: return yyrule147(yyval);
+			case 148: return yyrule148(yyval);
+			case 149: return yyrule149(yyval);
+			case 150: return yyrule150(yyval);
+			case 151: return yyrule151(yyval);
+			case 152: return yyrule152(yyval);
+			case 153: return yyrule153(yyval);
+			case 154: return yyrule154(yyval);
+			case 155: return yyrule155(yyval);
+			case 156: return yyrule156(yyval);
+			case 157: return yyrule157(yyval);
+			case 158: return yyrule158(yyval);
+			case 159: return yyrule159(yyval);
+			case 160: return yyrule160(yyval);
+			case 161: return yyrule161(yyval);
+			case 162: return yyrule162(yyval);
+			case 163: return yyrule163(yyval);
+			case 164: return yyrule164(yyval);
+			case 165: return yyrule165(yyval);
+			case 166: return yyrule166(yyval);
+			case 167: return yyrule167(yyval);
+			case 168: return yyrule168(yyval);
+			case 169: return yyrule169(yyval);
+			case 170: return yyrule170(yyval);
+			case 171: return yyrule171(yyval);
+			case 172: return yyrule172(yyval);
+			case 173: return yyrule173(yyval);
+			case 174: return yyrule174(yyval);
+			case 175: return yyrule175(yyval);
+			case 176: return yyrule176(yyval);
+			case 177: return yyrule177(yyval);
+			case 178: return yyrule178(yyval);
+			case 179: return yyrule179(yyval);
+			case 180: return yyrule180(yyval);
+			case 181: return yyrule181(yyval);
+			case 182: return yyrule182(yyval);
+			case 183: return yyrule183(yyval);
+			case 184: return yyrule184(yyval);
+			case 185: return yyrule185(yyval);
+			case 186: return yyrule186(yyval);
+			case 187: return yyrule187(yyval);
+			case 188: return yyrule188(yyval);
+			case 189: return yyrule189(yyval);
+			case 190: return yyrule190(yyval);
+			case 191: return yyrule191(yyval);
+			case 192: return yyrule192(yyval);
+			case 193: return yyrule193(yyval);
+			case 194: return yyrule194(yyval);
+			case 195: return yyrule195(yyval);
+			case 196: return yyrule196(yyval);
+			case 197: return yyrule197(yyval);
+			case 198: return yyrule198(yyval);
+			case 199: return yyrule199(yyval);
+			case 200: return yyrule200(yyval);
+			case 201: return yyrule201(yyval);
+			case 202: return yyrule202(yyval);
+			case 203: return yyrule203(yyval);
+			case 204: return yyrule204(yyval);
+			case 205: return yyrule205(yyval);
+			case 206: return yyrule206(yyval);
+			case 207: return yyrule207(yyval);
+			case 208: return yyrule208(yyval);
+			case 209: return yyrule209(yyval);
+			case 210: return yyrule210(yyval);
+			case 211: return yyrule211(yyval);
+			case 212: return yyrule212(yyval);
+			case 213: return yyrule213(yyval);
+			case 214: return yyrule214(yyval);
+			case 215: return yyrule215(yyval);
+			case 216: return yyrule216(yyval);
+			case 217: return yyrule217(yyval);
+			case 218: return yyrule218(yyval);
+			case 219: return yyrule219(yyval);
+			case 220: return yyrule220(yyval);
+			case 221: return yyrule221(yyval);
+			case 222: return yyrule222(yyval);
+			case 223: return yyrule223(yyval);
+			case 224: return yyrule224(yyval);
+			case 225: return yyrule225(yyval);
+			case 226: return yyrule226(yyval);
+			case 227: return yyrule227(yyval);
+			case 228: return yyrule228(yyval);
+			case 229: return yyrule229(yyval);
+			case 230: return yyrule230(yyval);
+			case 231: return yyrule231(yyval);
+		}
+		return yyval;
+	}
+
+	private Object yyrule1(Object yyval) throws java.io.IOException {
+		{ctx.scanner.insertMode = true; }
+		return yyval;
+	}
+
+	private Object yyrule2(Object yyval) throws java.io.IOException {
+		{
+		ctx.ast.setRoot(new AST_translation_unit(((AST_node)(yystack.valueAt(2 - (2)))), null, ctx.scanner.getLineNo()));
+		yyval = new AST_translation_unit(((AST_node)(yystack.valueAt(2 - (2)))),null, ctx.scanner.getLineNo());	
+	}
+		return yyval;
+	}
+
+	private Object yyrule3(Object yyval) throws java.io.IOException {
+		{ctx.scanner.insertMode = true; }
+		return yyval;
+	}
+
+	private Object yyrule4(Object yyval) throws java.io.IOException {
+		{
+		ctx.ast.setRoot(new AST_translation_unit(((AST_node)(yystack.valueAt(3 - (1)))), ((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo()));
+		yyval = new AST_translation_unit(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	}
+		return yyval;
+	}
+
+	private Object yyrule5(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_external_declaration(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	}
+		return yyval;
+	}
+
+	private Object yyrule6(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_external_declaration(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule7(Object yyval) throws java.io.IOException {
+		{ctx.scanner.functionType = false; stackSize = 0;}
+		return yyval;
+	}
+
+	private Object yyrule8(Object yyval) throws java.io.IOException {
+		{	
+	functionLine = ((AST_node)(yystack.valueAt(3 - (1)))).lineNum;
+	AST_node ret = new AST_function_definition(((AST_node)(yystack.valueAt(3 - (1)))), ((AST_node)(yystack.valueAt(3 - (3)))), null, null,functionLine, stackSize + parameterSize);
+	
+	parameterSize = 0;
+	parameterCount = 0;
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule9(Object yyval) throws java.io.IOException {
+		{
+	functionLine = ((AST_node)(yystack.valueAt(4 - (1)))).lineNum;
+	AST_node ret = new AST_function_definition(((AST_node)(yystack.valueAt(4 - (1)))), ((AST_node)(yystack.valueAt(4 - (2)))), ((AST_node)(yystack.valueAt(4 - (4)))), null, functionLine, stackSize + parameterSize);
+	
+	parameterSize = 0;
+	parameterCount = 0;
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule10(Object yyval) throws java.io.IOException {
+		{
+	functionLine = ((AST_node)(yystack.valueAt(4 - (2)))).lineNum;
+	ctx.st.popLevel();	
+	
+	
+	String retType = (String) ((AST_node)(yystack.valueAt(4 - (1)))).getData();
+	String funcID = null;
+	
+	if(((AST_node)(yystack.valueAt(4 - (2)))).kind == NodeKind.IDENTIFIER)
+		funcID = (String) ((AST_node)(yystack.valueAt(4 - (2)))).getData();
+		
+	else
+		funcID = (String) ((AST_node)(yystack.valueAt(4 - (2)))).nodes[0].getData();
+		
+	String[] params = parameterTypes.toArray(new String[0]);
+	
+	//for(String s : params)
+		//System.out.println(s);
+	
+	//System.out.println($2.getClass().getName());
+	//System.out.println(retType + " " + funcID);
+	
+	SymbolNode funcNode = new SymbolNode(functionType(retType, parameterCount, params), oldLineNum);	
+	ctx.st.insert(funcID, funcNode);
+	AST_node ret = new AST_function_definition(((AST_node)(yystack.valueAt(4 - (1)))), ((AST_node)(yystack.valueAt(4 - (2)))), ((AST_node)(yystack.valueAt(4 - (4)))), null, functionLine, stackSize + parameterSize, funcNode);
+	parameterSize = 0;
+	parameterCount = 0;
+	
+	parameterTypes.clear();
+	
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule11(Object yyval) throws java.io.IOException {
+		{
+	functionLine = ((AST_node)(yystack.valueAt(5 - (2)))).lineNum;
+	ctx.st.popLevel();
+	
+	String retType = (String) ((AST_node)(yystack.valueAt(5 - (1)))).getData();
+	String funcID = (String) ((AST_node)(yystack.valueAt(5 - (2)))).getData();
+	
+	String[] params = parameterTypes.toArray(new String[0]);
+	
+	SymbolNode funcNode = new SymbolNode(functionType(retType, parameterCount, params), oldLineNum);
+	ctx.st.insert(funcID, funcNode);
+	AST_node ret = new AST_function_definition(((AST_node)(yystack.valueAt(5 - (1)))), ((AST_node)(yystack.valueAt(5 - (2)))), ((AST_node)(yystack.valueAt(5 - (3)))), ((AST_node)(yystack.valueAt(5 - (5)))), functionLine, stackSize, funcNode);
+	parameterSize = 0;
+	parameterCount = 0;
+	
+	parameterTypes.clear();
+	
+
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule12(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_declaration(((AST_node)(yystack.valueAt(2 - (1)))), null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	//ctx.scanner.insertMode = false;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule13(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_declaration(((AST_node)(yystack.valueAt(3 - (1)))), ((AST_node)(yystack.valueAt(3 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	//ctx.scanner.insertMode = false;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule14(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_declaration_list(((AST_node)(yystack.valueAt(1 - (1)))), null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule15(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_declaration_list(((AST_node)(yystack.valueAt(2 - (1)))), ((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule16(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_declaration_specifiers(((AST_node)(yystack.valueAt(1 - (1)))), null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule17(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_declaration_specifiers(((AST_node)(yystack.valueAt(2 - (1)))), ((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule18(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_declaration_specifiers(((AST_node)(yystack.valueAt(1 - (1)))), null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule19(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_declaration_specifiers(((AST_node)(yystack.valueAt(2 - (1)))), ((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule20(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_declaration_specifiers(((AST_node)(yystack.valueAt(1 - (1)))), null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else
+		yyval = ret;
+	}
+		return yyval;
+	}
+
+	private Object yyrule21(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_declaration_specifiers(((AST_node)(yystack.valueAt(2 - (1)))), ((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule22(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_storage_class_specifier(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule23(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_storage_class_specifier(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule24(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_storage_class_specifier(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule25(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_storage_class_specifier(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule26(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_storage_class_specifier(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule27(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule28(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule29(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule30(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule31(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule32(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule33(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule34(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule35(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule36(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_specifier("",((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule37(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_specifier("",((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule38(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_specifier(ctx.scanner.text(),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule39(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_qualifier(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule40(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_qualifier(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule41(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_struct_or_union_specifier(((AST_node)(yystack.valueAt(5 - (1)))),((AST_node)(yystack.valueAt(5 - (2)))),((AST_node)(yystack.valueAt(5 - (4)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule42(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_struct_or_union_specifier(((AST_node)(yystack.valueAt(4 - (1)))),((AST_node)(yystack.valueAt(4 - (3)))),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule43(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_struct_or_union_specifier(((AST_node)(yystack.valueAt(2 - (1)))),((AST_node)(yystack.valueAt(2 - (2)))),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule44(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_struct_or_union(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule45(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_struct_or_union(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule46(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_struct_declaration_list(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule47(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_struct_declaration_list(((AST_node)(yystack.valueAt(2 - (1)))),((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule48(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_init_declarator_list(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule49(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_init_declarator_list(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule50(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_init_declarator(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule51(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_init_declarator(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule52(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_struct_declaration(((AST_node)(yystack.valueAt(3 - (1)))), ((AST_node)(yystack.valueAt(3 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule53(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_specifier_qualifier_list(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule54(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_specifier_qualifier_list(((AST_node)(yystack.valueAt(2 - (1)))),((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule55(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_specifier_qualifier_list(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule56(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_specifier_qualifier_list(((AST_node)(yystack.valueAt(2 - (1)))),((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule57(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_struct_declarator(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule58(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_struct_declarator(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule59(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_struct_declarator(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule60(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_struct_declarator(((AST_node)(yystack.valueAt(2 - (2)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(2 - (2))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule61(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_struct_declarator(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule62(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_enum_specifier(((AST_node)(yystack.valueAt(4 - (3)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(4 - (3))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule63(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_enum_specifier(((AST_node)(yystack.valueAt(5 - (2)))),((AST_node)(yystack.valueAt(5 - (4)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule64(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_enum_specifier(((AST_node)(yystack.valueAt(2 - (2)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(2 - (2))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule65(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_enumerator_list(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule66(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_enumerator_list(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule67(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_enumerator(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule68(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_enumerator(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule69(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_declarator(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule70(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_declarator(((AST_node)(yystack.valueAt(2 - (1)))),((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule71(Object yyval) throws java.io.IOException {
+		{ 	
+	AST_node ret = new AST_direct_declarator(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	arrayCount = 0;
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule72(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_direct_declarator(((AST_node)(yystack.valueAt(3 - (2)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(3 - (2))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule73(Object yyval) throws java.io.IOException {
+		{	ctx.scanner.yyerror("No array size given");
+	AST_node ret = new AST_direct_declarator(((AST_node)(yystack.valueAt(3 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(3 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule74(Object yyval) throws java.io.IOException {
+		{
+	
+	Integer obj = (Integer)((AST_node)(yystack.valueAt(4 - (3)))).getData();
+	
+	int size = (obj != null) ? obj.intValue() : 0;
+	
+	if(arrayCount == 0) {
+		int id = ctx.scanner.typeStack.pop();
+		oldId = id;
+		
+		ctx.st.removeNode(id);
+		ctx.st.insert(id, new SymbolNode(ctx.st.types.array(ctx.scanner.currentType, size)));
+	}
+		
+	else {
+		//ctx.st.insert(oldId, new SymbolNode(new ArrayDataType(
+		SymbolNode oldValue = ctx.st.removeNode(oldId);
+		
+		ArrayDataType oldType = (ArrayDataType) oldValue.type;
+		
+		ArrayDataType newType = ctx.st.types.array(oldType, ctx.st.types.array(ctx.scanner.currentType, size));
+		
+		ctx.st.insert(oldId, new SymbolNode(newType));
+	}
+	
+	AST_node ret = new AST_direct_declarator("[]",((AST_node)(yystack.valueAt(4 - (1)))),((AST_node)(yystack.valueAt(4 - (3)))), ctx.scanner.getLineNo());
+	
+	arrayCount++;
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule75(Object yyval) throws java.io.IOException {
+		{ctx.st.pushLevel();}
+		return yyval;
+	}
+
+	private Object yyrule76(Object yyval) throws java.io.IOException {
+		{	//System.out.println("Here: " + ctx.scanner.currentLine());
+	
+	//ctx.st.insert(ctx.scanner.lastID, new SymbolNode(new FunctionDataType(ctx.scanner.currentType,0), ctx.scanner.getLineNo()));
+	oldLineNum = ctx.scanner.getLineNo();
+	AST_node ret = new AST_direct_declarator(((AST_node)(yystack.valueAt(4 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(4 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule77(Object yyval) throws java.io.IOException {
+		{/*ctx.st.insert(ctx.scanner.lastID, new SymbolNode(new FunctionDataType(ctx.scanner.currentType,0), ctx.scanner.getLineNo())); */ctx.st.pushLevel();}
+		return yyval;
+	}
+
+	private Object yyrule78(Object yyval) throws java.io.IOException {
+		{	
+	
+	oldLineNum = ctx.scanner.getLineNo();
+	
+	AST_node ret = new AST_direct_declarator(((AST_node)(yystack.valueAt(5 - (1)))),((AST_node)(yystack.valueAt(5 - (4)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule79(Object yyval) throws java.io.IOException {
+		{	//System.out.println("Here2: " + ctx.scanner.currentLine());
+	AST_node ret = new AST_direct_declarator(((AST_node)(yystack.valueAt(4 - (1)))),((AST_node)(yystack.valueAt(4 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule80(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_pointer(null,null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule81(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_pointer(((AST_node)(yystack.valueAt(2 - (2)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(2 - (2))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule82(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_pointer(((AST_node)(yystack.valueAt(2 - (2)))),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule83(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_pointer(((AST_node)(yystack.valueAt(3 - (2)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule84(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_qualifier_list(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule85(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_qualifier_list(((AST_node)(yystack.valueAt(2 - (1)))),((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule86(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_parameter_type_list(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule87(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_parameter_type_list(((AST_node)(yystack.valueAt(3 - (1)))), true, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(3 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule88(Object yyval) throws java.io.IOException {
+		{	
+	
+	parameterSize = ctx.st.getOffset();
+	parameterCount++;
+	AST_node ret = new AST_parameter_list(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule89(Object yyval) throws java.io.IOException {
+		{	
+	
+	parameterSize = ctx.st.getOffset();
+	parameterCount++;
+	
+	AST_node ret = new AST_parameter_list(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule90(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_parameter_declaration(((AST_node)(yystack.valueAt(2 - (1)))),((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	parameterTypes.add((String)((AST_node)(yystack.valueAt(2 - (1)))).getData());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule91(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_parameter_declaration(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	parameterTypes.add((String)((AST_node)(yystack.valueAt(1 - (1)))).getData());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule92(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_parameter_declaration(((AST_node)(yystack.valueAt(2 - (1)))),((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	parameterTypes.add((String)((AST_node)(yystack.valueAt(2 - (1)))).getData());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule93(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_identifier_list(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule94(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_identifier_list(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule95(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_initializer(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule96(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_initializer(((AST_node)(yystack.valueAt(3 - (2)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(3 - (2))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule97(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_initializer(((AST_node)(yystack.valueAt(4 - (2)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(4 - (2))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule98(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_initializer_list(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule99(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_initializer_list(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule100(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_name(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule101(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_type_name(((AST_node)(yystack.valueAt(2 - (1)))),((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule102(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_abstract_declarator(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule103(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_abstract_declarator(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule104(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_abstract_declarator(((AST_node)(yystack.valueAt(2 - (1)))),((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule105(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_direct_abstract_declarator(((AST_node)(yystack.valueAt(3 - (2)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(3 - (2))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule106(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_direct_abstract_declarator(null,null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule107(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_direct_abstract_declarator(((AST_node)(yystack.valueAt(3 - (2)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(3 - (2))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule108(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_direct_abstract_declarator(((AST_node)(yystack.valueAt(3 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(3 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule109(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_direct_abstract_declarator(((AST_node)(yystack.valueAt(4 - (1)))),((AST_node)(yystack.valueAt(4 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule110(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_direct_abstract_declarator(null,null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule111(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_direct_abstract_declarator(((AST_node)(yystack.valueAt(3 - (2)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(3 - (2))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule112(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_direct_abstract_declarator(((AST_node)(yystack.valueAt(3 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(3 - (1))));
+		
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule113(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_direct_abstract_declarator(((AST_node)(yystack.valueAt(4 - (1)))),((AST_node)(yystack.valueAt(4 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule114(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_statement(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule115(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_statement(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule116(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_statement(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule117(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_statement(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule118(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_statement(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule119(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_statement(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule120(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_labeled_statement("",((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule121(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_labeled_statement("case",((AST_node)(yystack.valueAt(4 - (2)))),((AST_node)(yystack.valueAt(4 - (4)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule122(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_labeled_statement("default",((AST_node)(yystack.valueAt(3 - (3)))),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule123(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_expression_statement(null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule124(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_expression_statement(((AST_node)(yystack.valueAt(2 - (1)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(2 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule125(Object yyval) throws java.io.IOException {
+		{ ctx.scanner.insertMode = true; ctx.st.pushLevel();}
+		return yyval;
+	}
+
+	private Object yyrule126(Object yyval) throws java.io.IOException {
+		{ctx.scanner.insertMode = false;}
+		return yyval;
+	}
+
+	private Object yyrule127(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_compound_statement(null,null, ctx.scanner.getLineNo());
+	
+	//ctx.st.popLevel();
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule128(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_compound_statement(((AST_node)(yystack.valueAt(4 - (3)))),null, ctx.scanner.getLineNo());
+	
+	stackSize = ctx.st.getOffset();
+	//ctx.st.popLevel();
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(4 - (3))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule129(Object yyval) throws java.io.IOException {
+		{ 	
+	
+	stackSize = ctx.st.getOffset();
+	ctx.st.popLevel();
+	
+	AST_node ret = new AST_compound_statement(((AST_node)(yystack.valueAt(5 - (3)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(5 - (3))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule130(Object yyval) throws java.io.IOException {
+		{
+	
+	stackSize = ctx.st.getOffset();
+	ctx.st.popLevel();
+	
+	AST_node ret = new AST_compound_statement(((AST_node)(yystack.valueAt(6 - (3)))),((AST_node)(yystack.valueAt(6 - (5)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule131(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_statement_list(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule132(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_statement_list(((AST_node)(yystack.valueAt(2 - (1)))),((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule133(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_selection_statement("if",((AST_node)(yystack.valueAt(5 - (3)))),((AST_node)(yystack.valueAt(5 - (5)))),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule134(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_selection_statement("if-else",((AST_node)(yystack.valueAt(7 - (3)))),((AST_node)(yystack.valueAt(7 - (5)))),((AST_node)(yystack.valueAt(7 - (7)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule135(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_selection_statement("switch",((AST_node)(yystack.valueAt(5 - (3)))),((AST_node)(yystack.valueAt(5 - (5)))),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule136(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_iteration_statement("while",((AST_node)(yystack.valueAt(5 - (3)))),((AST_node)(yystack.valueAt(5 - (5)))),null,null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule137(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_iteration_statement("do-while",((AST_node)(yystack.valueAt(7 - (2)))),((AST_node)(yystack.valueAt(7 - (5)))),null,null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule138(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_iteration_statement("for1",((AST_node)(yystack.valueAt(6 - (6)))),null,null,null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule139(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_iteration_statement("for2",((AST_node)(yystack.valueAt(7 - (5)))),((AST_node)(yystack.valueAt(7 - (7)))),null,null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule140(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_iteration_statement("for3",((AST_node)(yystack.valueAt(7 - (4)))),((AST_node)(yystack.valueAt(7 - (7)))),null,null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule141(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_iteration_statement("for4",((AST_node)(yystack.valueAt(8 - (4)))),((AST_node)(yystack.valueAt(8 - (6)))),((AST_node)(yystack.valueAt(8 - (8)))),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule142(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_iteration_statement("for5",((AST_node)(yystack.valueAt(7 - (3)))),((AST_node)(yystack.valueAt(7 - (7)))),null,null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule143(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_iteration_statement("for6",((AST_node)(yystack.valueAt(8 - (3)))),((AST_node)(yystack.valueAt(8 - (6)))),((AST_node)(yystack.valueAt(8 - (8)))),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule144(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_iteration_statement("for7",((AST_node)(yystack.valueAt(8 - (3)))),((AST_node)(yystack.valueAt(8 - (5)))),((AST_node)(yystack.valueAt(8 - (8)))),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule145(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_iteration_statement("for8",((AST_node)(yystack.valueAt(9 - (3)))),((AST_node)(yystack.valueAt(9 - (5)))),((AST_node)(yystack.valueAt(9 - (7)))),((AST_node)(yystack.valueAt(9 - (9)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule146(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_jump_statement("goto",((AST_node)(yystack.valueAt(3 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule147(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_jump_statement("continue",null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule148(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_jump_statement("break",null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule149(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_jump_statement("return",null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule150(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_jump_statement("return",((AST_node)(yystack.valueAt(3 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule151(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_expression(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule152(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_expression(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule153(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_assignment_expression(((AST_node)(yystack.valueAt(1 - (1)))),null,null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule154(Object yyval) throws java.io.IOException {
+		{
+			//AST_node n = $1; 
+			if(((AST_node)(yystack.valueAt(1 - (1)))).kind == NodeKind.CONSTANT || ((AST_node)(yystack.valueAt(1 - (1)))).kind == NodeKind.CONSTANT_EXPRESSION) {
+				ctx.scanner.decrementColumn(2);
+				ctx.scanner.yyerror("Can't assign to constant value");
+			} 
+			}
+		return yyval;
+	}
+
+	private Object yyrule155(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_assignment_expression(((AST_node)(yystack.valueAt(4 - (1)))),((AST_node)(yystack.valueAt(4 - (3)))),((AST_node)(yystack.valueAt(4 - (4)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule156(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule157(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule158(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule159(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule160(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule161(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule162(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule163(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule164(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule165(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule166(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_assignment_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule167(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_conditional_expression(((AST_node)(yystack.valueAt(1 - (1)))),null,null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule168(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_conditional_expression(((AST_node)(yystack.valueAt(5 - (1)))),((AST_node)(yystack.valueAt(5 - (3)))),((AST_node)(yystack.valueAt(5 - (5)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule169(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_constant_expression(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule170(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_logical_or_expression(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule171(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_logical_or_expression(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule172(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_logical_and_expression(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule173(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_logical_and_expression(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule174(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_inclusive_or_expression(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule175(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_inclusive_or_expression(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	if(((AST_node)(yystack.valueAt(3 - (1)))).isFloating() || ((AST_node)(yystack.valueAt(3 - (3)))).isFloating())
+		ctx.scanner.yyerror("Cannot use bitwise OR on a floating point value");
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule176(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_exclusive_or_expression(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule177(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_exclusive_or_expression(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	if(((AST_node)(yystack.valueAt(3 - (1)))).isFloating() || ((AST_node)(yystack.valueAt(3 - (3)))).isFloating())
+		ctx.scanner.yyerror("Cannot use bitwise XOR on a floating point value");
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule178(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_and_expression(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule179(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_and_expression(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	if(((AST_node)(yystack.valueAt(3 - (1)))).isFloating() || ((AST_node)(yystack.valueAt(3 - (3)))).isFloating())
+		ctx.scanner.yyerror("Cannot use bitwise AND on a floating point value");
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule180(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_equality_expression("",((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule181(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_equality_expression("==",((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule182(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_equality_expression("!=",((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule183(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_relational_expression("",((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule184(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_relational_expression("<",((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule185(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_relational_expression(">",((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule186(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_relational_expression("<=",((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule187(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_relational_expression(">=",((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule188(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_shift_expression("",((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule189(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_shift_expression("<<",((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	//System.out.println($1.getData().getClass().getName());
+	if(((AST_node)(yystack.valueAt(3 - (1)))).isFloating() || ((AST_node)(yystack.valueAt(3 - (3)))).isFloating())
+		ctx.scanner.yyerror("Cannot Shift a floating point value");
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule190(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_shift_expression(">>",((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	if(((AST_node)(yystack.valueAt(3 - (1)))).isFloating() || ((AST_node)(yystack.valueAt(3 - (3)))).isFloating())
+		ctx.scanner.yyerror("Cannot Shift a floating point value");
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule191(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_additive_expression('\0',((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule192(Object yyval) throws java.io.IOException {
+		{	
+	
+	AST_node ret = new AST_additive_expression('+',((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+/*	
+	Object arg1 = $1.getData();
+	Object arg2 = $3.getData();
+	
+	if(arg1 == null || arg2 == null) 
+		ret = new AST_additive_expression('+',$1,$3, ctx.scanner.getLineNo());
+		
+		
+	else {
+		//System.out.println(arg1);
+		//System.out.println(arg2);
+	
+		if(arg1.getClass().equals(arg2.getClass()))
+			ret = new AST_additive_expression('+',$1,$3, ctx.scanner.getLineNo());
+		
+		else
+			ret = new AST_additive_expression('+',new AST_int_to_float($1, ctx.scanner.getLineNo()),$3, ctx.scanner.getLineNo());
+	}
+	*/
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule193(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_additive_expression('-',((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule194(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_multiplicative_expression('\0',((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule195(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_multiplicative_expression('*',((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule196(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_multiplicative_expression('/',((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule197(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_multiplicative_expression('%',((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule198(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_cast_expression(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule199(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_cast_expression(((AST_node)(yystack.valueAt(4 - (2)))),((AST_node)(yystack.valueAt(4 - (4)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule200(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_unary_expression("",((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule201(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_unary_expression("++",((AST_node)(yystack.valueAt(2 - (2)))),null, ctx.scanner.getLineNo());
+	
+	if(((AST_node)(yystack.valueAt(2 - (2)))).isFloating())
+		ctx.scanner.yywarning("using increment operator on floating point type");
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule202(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_unary_expression("--",((AST_node)(yystack.valueAt(2 - (2)))),null, ctx.scanner.getLineNo());
+	
+	if(((AST_node)(yystack.valueAt(2 - (2)))).isFloating())
+		ctx.scanner.yywarning("using decrement operator on floating point type");
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule203(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_unary_expression("",((AST_node)(yystack.valueAt(2 - (1)))),((AST_node)(yystack.valueAt(2 - (2)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule204(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_unary_expression("sizeof",((AST_node)(yystack.valueAt(2 - (2)))),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule205(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_unary_expression("sizeof",((AST_node)(yystack.valueAt(4 - (3)))),null, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule206(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_unary_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule207(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_unary_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule208(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_unary_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule209(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_unary_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;	
+
+	}
+		return yyval;
+	}
+
+	private Object yyrule210(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_unary_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule211(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_unary_operator(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule212(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_postfix_expression("",((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule213(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_postfix_expression("[]",((AST_node)(yystack.valueAt(4 - (1)))),((AST_node)(yystack.valueAt(4 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule214(Object yyval) throws java.io.IOException {
+		{	// FUNCTION CALL
+	AST_node ret = new AST_postfix_expression("{}",((AST_node)(yystack.valueAt(3 - (1)))),null, ctx.scanner.getLineNo());
+	
+	SymbolNode symbol = (ctx.st.find((String)((AST_node)(yystack.valueAt(3 - (1)))).getData())).node;
+	
+	if(!(symbol.type instanceof FunctionDataType))
+		ctx.scanner.yyerror(String.format("%s is not a function!", (String)((AST_node)(yystack.valueAt(3 - (1)))).getData()));
+		
+	int params = ((FunctionDataType) symbol.type).numParameters;
+	
+	if(params != currentParameterCount)
+		ctx.scanner.yyerror("number of parameters do not match; expected " + 
+							String.valueOf(params) + " -- found " + currentParameterCount);
+	
+	currentParameterCount = 0;
+		
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule215(Object yyval) throws java.io.IOException {
+		{	// FUNCTION CALL
+	AST_node ret = new AST_postfix_expression("{arg}",((AST_node)(yystack.valueAt(4 - (1)))),((AST_node)(yystack.valueAt(4 - (3)))), ctx.scanner.getLineNo());
+	
+	SymbolNode symbol = (ctx.st.find((String)((AST_node)(yystack.valueAt(4 - (1)))).getData())).node;
+	
+	if(!(symbol.type instanceof FunctionDataType))
+		ctx.scanner.yyerror(String.format("%s is not a function!", (String)((AST_node)(yystack.valueAt(4 - (1)))).getData()));
+		
+	int params = ((FunctionDataType) symbol.type).numParameters;
+	
+	if(params != currentParameterCount)
+		ctx.scanner.yyerror("number of parameters do not match; expected " + 
+							String.valueOf(params) + " -- found " + currentParameterCount);
+		
+		
+	// check types
+	FunctionDataType functionType = (FunctionDataType) symbol.type;
+	boolean coersion = false;
+	
+	for(int i = 0; i < functionType.numParameters; i++)
+	{
+		BasicDataType[] t = functionType.parameterTypes;
+		
+		if(t[i].kind == TypeKind.FLOAT && typeList.get(i).kind == TypeKind.DOUBLE) {			
+			ctx.scanner.yywarning("implicit cast from double to float in function call");
+			coersion = true;
+		}
+		
+		else if(t[i].kind == TypeKind.DOUBLE && typeList.get(i).kind == TypeKind.FLOAT)
+		{
+			ctx.scanner.yywarning("implicit cast from float to double in function call");
+			coersion = true;
+		}
+		
+		if(!t[i].equals(typeList.get(i)) && !coersion)
+			ctx.scanner.yyerror("parameter types do no match; expected " + t[i].type + " -- found " + typeList.get(i).type);
+	}
+	
+	
+	currentParameterCount = 0;
+	typeList.clear();
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule216(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_postfix_expression(".",((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule217(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_postfix_expression("->",((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule218(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_postfix_expression("++",((AST_node)(yystack.valueAt(2 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(((AST_node)(yystack.valueAt(2 - (1)))).isFloating())
+		ctx.scanner.yywarning("using increment operator on floating point type");
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule219(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_postfix_expression("--",((AST_node)(yystack.valueAt(2 - (1)))),null, ctx.scanner.getLineNo());
+	
+	if(((AST_node)(yystack.valueAt(2 - (1)))).isFloating())
+		ctx.scanner.yywarning("using decrement operator on floating point type");
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule220(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_primary_expression(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule221(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_primary_expression(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule222(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_primary_expression(((AST_node)(yystack.valueAt(1 - (1)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule223(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_primary_expression(((AST_node)(yystack.valueAt(3 - (2)))), ctx.scanner.getLineNo());
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(3 - (2))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule224(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_argument_expression_list(((AST_node)(yystack.valueAt(1 - (1)))),null, ctx.scanner.getLineNo());
+	
+	//parameterCount++;
+	currentParameterCount++;
+	
+	typeList.add(argumentType(((AST_node)(yystack.valueAt(1 - (1))))));
+	
+	if(Driver.reduceAST)
+		yyval = ((AST_node)(yystack.valueAt(1 - (1))));
+	
+	else	
+		yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule225(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_argument_expression_list(((AST_node)(yystack.valueAt(3 - (1)))),((AST_node)(yystack.valueAt(3 - (3)))), ctx.scanner.getLineNo());
+	
+	//parameterCount++;
+	currentParameterCount++;
+	
+	typeList.add(argumentType(((AST_node)(yystack.valueAt(3 - (3))))));
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule226(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_constant(AST_constant.Literal.INTEGER, ctx.scanner.intValue, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule227(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_constant(AST_constant.Literal.CHARACTER, ctx.scanner.intValue, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule228(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_constant(ctx.scanner.floatValue, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule229(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_constant(ctx.scanner.text(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule230(Object yyval) throws java.io.IOException {
+		{	
+	String sBuffer = ctx.scanner.text().substring(1,ctx.scanner.text().length()-1);
+	AST_node ret = new AST_string(sBuffer, ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+	private Object yyrule231(Object yyval) throws java.io.IOException {
+		{	
+	AST_node ret = new AST_identifier(ctx.scanner.lastID, (SymbolNode)ctx.scanner.getLVal(), ctx.scanner.getLineNo());
+	
+	yyval = ret;
+	
+	}
+		return yyval;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,2504 @@
+/* The following code was generated by JFlex 1.4.3 on 10/17/26, 7:19 AM */
+
+package Compiler;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.*;
+
+
+/**
+ * This class is a scanner generated by 
+ * <a href="http://www.jflex.de/">JFlex</a> 1.4.3
+ * on 10/17/26, 7:19 AM from the specification file
+ * <tt>/root/project/scanner.lex</tt>
+ */
+public class Scanner implements Parser.Lexer {
+
+  /** This character denotes the end of file */
+  public static final int YYEOF = -1;
+
+  /** initial size of the lookahead buffer */
+  private static final int ZZ_BUFFERSIZE = 16384;
+
+  /** lexical states */
+  public static final int YYINITIAL = 0;
+
+  /**
+   * ZZ_LEXSTATE[l] is the state in the DFA for the lexical state l
+   * ZZ_LEXSTATE[l+1] is the state in the DFA for the lexical state l
+   *                  at the beginning of a line
+   * l is of the form l = 2*k, k a non negative integer
+   */
+  private static final int ZZ_LEXSTATE[] = { 
+     0, 0
+  };
+
+  /** 
+   * Translates characters to character classes
+   */
+  private static final String ZZ_CMAP_PACKED = 
+    "\11\0\1\26\1\16\25\0\1\1\1\64\1\25\2\0\1\60\1\61"+
+    "\1\22\1\72\1\73\1\17\1\57\1\70\1\6\1\24\1\15\1\20"+
+    "\11\2\1\71\1\65\1\56\1\55\1\54\1\77\1\0\4\4\1\5"+
+    "\1\10\5\3\1\12\6\3\1\100\1\3\1\14\2\3\1\21\2\3"+
+    "\1\74\1\23\1\75\1\62\1\3\1\0\1\27\1\32\1\36\1\43"+
+    "\1\34\1\7\1\46\1\40\1\42\1\3\1\35\1\11\1\44\1\41"+
+    "\1\31\1\52\1\3\1\33\1\37\1\30\1\13\1\53\1\50\1\45"+
+    "\1\51\1\47\1\66\1\63\1\67\1\76\uff81\0";
+
+  /** 
+   * Translates characters to character classes
+   */
+  private static final char [] ZZ_CMAP = zzUnpackCMap(ZZ_CMAP_PACKED);
+
+  /** 
+   * Translates DFA states to action switch labels.
+   */
+  private static final int [] ZZ_ACTION = zzUnpackAction();
+
+  private static final String ZZ_ACTION_PACKED_0 =
+    "\1\0\1\1\1\2\1\3\1\4\1\5\4\4\1\6"+
+    "\1\7\1\10\1\3\1\1\1\11\1\1\1\12\14\4"+
+    "\1\13\1\14\1\15\1\16\1\17\1\20\1\21\1\22"+
+    "\1\23\1\24\1\25\1\26\1\27\1\30\1\31\1\32"+
+    "\1\33\1\34\1\35\1\36\1\0\1\3\1\37\1\40"+
+    "\1\41\1\42\3\4\2\0\1\4\1\2\1\0\1\43"+
+    "\1\44\1\45\5\0\1\46\16\4\1\47\1\4\1\50"+
+    "\4\4\1\51\1\52\1\53\1\54\1\55\1\56\1\57"+
+    "\1\60\1\61\1\62\1\63\1\64\1\65\1\66\1\0"+
+    "\1\37\1\0\1\37\1\4\1\67\3\4\2\2\2\0"+
+    "\1\45\1\70\1\71\1\72\21\4\1\73\6\4\1\74"+
+    "\1\75\1\76\1\77\1\4\1\100\2\4\1\0\1\70"+
+    "\1\101\4\4\1\102\1\103\1\4\1\104\2\4\1\105"+
+    "\10\4\1\106\2\4\1\107\1\110\1\4\1\111\1\4"+
+    "\1\112\4\4\1\113\2\4\1\114\5\4\1\115\3\4"+
+    "\1\116\1\4\1\117\1\4\1\120\1\121\1\122\1\123"+
+    "\1\124\1\125\3\4\1\126\2\4\1\127\1\4\1\130"+
+    "\1\131\1\132\1\133";
+
+  private static int [] zzUnpackAction() {
+    int [] result = new int[227];
+    int offset = 0;
+    offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackAction(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      do result[j++] = value; while (--count > 0);
+    }
+    return j;
+  }
+
+
+  /** 
+   * Translates a state to a row index in the transition table
+   */
+  private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
+
+  private static final String ZZ_ROWMAP_PACKED_0 =
+    "\0\0\0\101\0\202\0\303\0\u0104\0\u0145\0\u0186\0\u01c7"+
+    "\0\u0208\0\u0249\0\u028a\0\101\0\u02cb\0\u030c\0\u034d\0\u038e"+
+    "\0\u03cf\0\101\0\u0410\0\u0451\0\u0492\0\u04d3\0\u0514\0\u0555"+
+    "\0\u0596\0\u05d7\0\u0618\0\u0659\0\u069a\0\u06db\0\u071c\0\u075d"+
+    "\0\u079e\0\u07df\0\u0820\0\u0861\0\u08a2\0\u08e3\0\u0924\0\101"+
+    "\0\101\0\101\0\101\0\101\0\101\0\101\0\101\0\101"+
+    "\0\101\0\101\0\u0965\0\u09a6\0\u09e7\0\101\0\101\0\101"+
+    "\0\u0a28\0\u0a69\0\u0aaa\0\u034d\0\u03cf\0\u0aeb\0\u0b2c\0\u0b6d"+
+    "\0\101\0\101\0\u0bae\0\u0bef\0\u0c30\0\u0c71\0\u0cb2\0\u0cf3"+
+    "\0\101\0\u0d34\0\u0d75\0\u0db6\0\u0df7\0\u0e38\0\u0e79\0\u0eba"+
+    "\0\u0efb\0\u0f3c\0\u0f7d\0\u0fbe\0\u0fff\0\u1040\0\u1081\0\u0104"+
+    "\0\u10c2\0\u1103\0\u1144\0\u1185\0\u11c6\0\u1207\0\u1248\0\101"+
+    "\0\101\0\101\0\u1289\0\101\0\101\0\101\0\101\0\101"+
+    "\0\101\0\101\0\101\0\101\0\u12ca\0\u130b\0\u134c\0\101"+
+    "\0\u138d\0\u0104\0\u13ce\0\u140f\0\u1450\0\u1491\0\101\0\u14d2"+
+    "\0\u1513\0\u1554\0\u1595\0\101\0\101\0\u15d6\0\u1617\0\u1658"+
+    "\0\u1699\0\u16da\0\u171b\0\u175c\0\u179d\0\u17de\0\u181f\0\u1860"+
+    "\0\u18a1\0\u18e2\0\u1923\0\u1964\0\u19a5\0\u19e6\0\u0104\0\u1a27"+
+    "\0\u1a68\0\u1aa9\0\u1aea\0\u1b2b\0\u1b6c\0\101\0\101\0\101"+
+    "\0\u1bad\0\u1bee\0\u0104\0\u1c2f\0\u1c70\0\u1cb1\0\u1cf2\0\u0104"+
+    "\0\u1d33\0\u1d74\0\u1db5\0\u1df6\0\u0104\0\u0104\0\u1e37\0\u0104"+
+    "\0\u1e78\0\u1eb9\0\u0104\0\u1efa\0\u1f3b\0\u1f7c\0\u1fbd\0\u1ffe"+
+    "\0\u203f\0\u2080\0\u20c1\0\u0104\0\u2102\0\u2143\0\u0104\0\u0104"+
+    "\0\u2184\0\u0104\0\u21c5\0\u0104\0\u2206\0\u2247\0\u2288\0\u22c9"+
+    "\0\u0104\0\u230a\0\u234b\0\u0104\0\u238c\0\u23cd\0\u240e\0\u244f"+
+    "\0\u2490\0\u0104\0\u24d1\0\u2512\0\u2553\0\u0104\0\u2594\0\u0104"+
+    "\0\u25d5\0\u0104\0\u0104\0\u0104\0\u0104\0\u0104\0\u0104\0\u2616"+
+    "\0\u2657\0\u2698\0\u0104\0\u26d9\0\u271a\0\u0104\0\u275b\0\u0104"+
+    "\0\u0104\0\u0104\0\u0104";
+
+  private static int [] zzUnpackRowMap() {
+    int [] result = new int[227];
+    int offset = 0;
+    offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackRowMap(String packed, int offset, int [] result) {
+    int i = 0;  /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int high = packed.charAt(i++) << 16;
+      result[j++] = high | packed.charAt(i++);
+    }
+    return j;
+  }
+
+  /** 
+   * The transition table of the DFA
+   */
+  private static final int ZZ_TRANS [] = {
+    1, 2, 3, 4, 4, 4, 5, 6, 4, 7, 
+    8, 9, 4, 10, 11, 12, 13, 4, 14, 1, 
+    15, 16, 17, 18, 19, 4, 20, 21, 22, 4, 
+    23, 24, 4, 4, 25, 26, 4, 4, 27, 4, 
+    28, 4, 4, 29, 30, 31, 32, 33, 34, 35, 
+    36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 
+    46, 47, 48, 49, 4, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, 2, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, 3, -1, -1, 
+    50, -1, -1, -1, 51, 51, 51, 51, -1, -1, 
+    -1, 3, -1, -1, -1, 52, -1, -1, -1, -1, 
+    -1, -1, -1, 50, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, -1, -1, -1, 
+    -1, 53, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 54, 
+    55, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 56, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 57, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    58, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, 59, -1, 
+    -1, 60, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 61, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, 62, -1, 63, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, 64, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    65, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, 66, -1, -1, 50, -1, -1, -1, 51, 
+    51, 51, 51, -1, -1, -1, 66, 67, -1, -1, 
+    52, -1, -1, -1, -1, -1, -1, -1, 50, -1, 
+    -1, -1, -1, -1, -1, -1, -1, 67, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, -1, 69, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    -1, -1, 52, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, 52, -1, -1, -1, 
+    70, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, 60, 60, 60, 60, 60, 
+    60, 60, 60, 60, 60, 60, 60, 60, 60, -1, 
+    60, 60, 60, 60, 71, 60, 72, 60, 60, 60, 
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 73, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 74, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 75, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 76, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 77, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 78, 4, 4, 4, 79, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 80, 4, 
+    81, 4, 4, 4, 4, 4, 4, 82, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 83, 4, 4, 4, 4, 4, 
+    4, 4, 84, 4, 85, 4, 4, 4, 4, 4, 
+    86, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 87, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 88, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 89, 4, 4, 90, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    91, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 92, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    93, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 94, 95, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    96, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, 97, 98, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    99, -1, 100, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, 101, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    102, -1, -1, -1, 103, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, 104, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    105, -1, -1, -1, -1, -1, 106, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, 107, -1, -1, -1, -1, 
+    -1, -1, 108, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, 109, -1, -1, 
+    -1, 110, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, 109, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, 110, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 51, 
+    51, 51, 51, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, 52, -1, -1, 
+    50, -1, 111, 111, 111, 111, -1, -1, -1, -1, 
+    -1, 52, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, 50, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 112, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 113, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 114, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 115, 4, 4, 116, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    117, 117, 117, 117, 117, 117, 117, 117, 117, 117, 
+    117, 117, 117, 117, 118, 117, 117, 117, 117, 117, 
+    117, 117, 117, 117, 117, 117, 117, 117, 117, 117, 
+    117, 117, 117, 117, 117, 117, 117, 117, 117, 117, 
+    117, 117, 117, 117, 117, 117, 117, 117, 117, 117, 
+    117, 117, 117, 117, 117, 117, 117, 117, 117, 117, 
+    117, 117, 117, 117, 117, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    120, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    -1, -1, 66, -1, -1, 50, -1, -1, -1, 121, 
+    121, 121, 121, -1, -1, -1, 66, -1, -1, -1, 
+    52, -1, -1, -1, -1, -1, -1, -1, 50, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, 122, -1, 122, 
+    122, -1, 122, 122, -1, -1, -1, -1, -1, -1, 
+    -1, 122, -1, -1, -1, -1, -1, -1, 122, -1, 
+    -1, 122, -1, 122, -1, 122, -1, -1, -1, -1, 
+    122, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 123, 69, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, -1, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    68, 68, 68, 68, 68, 68, 68, 68, 68, 68, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    124, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 60, 
+    -1, -1, -1, -1, -1, 60, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 125, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 126, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 127, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 128, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 129, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 130, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 131, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 132, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 133, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 134, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 135, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 136, 4, 4, 4, 137, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    138, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 139, 140, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 141, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 142, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 143, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 144, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 145, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 146, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 147, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 148, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, 149, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    150, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    151, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 152, -1, -1, 109, -1, -1, 
+    -1, -1, 111, 111, 111, 111, -1, -1, -1, -1, 
+    -1, 109, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, 109, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, 109, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 153, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 154, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 155, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 156, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, 117, 117, 117, 117, 117, 
+    117, 117, 117, 117, 117, 117, 117, 117, 117, -1, 
+    117, 117, 117, 117, 117, 117, 117, 117, 117, 117, 
+    117, 117, 117, 117, 117, 117, 117, 117, 117, 117, 
+    117, 117, 117, 117, 117, 117, 117, 117, 117, 117, 
+    117, 117, 117, 117, 117, 117, 117, 117, 117, 117, 
+    117, 117, 117, 117, 117, 117, 117, 117, 117, 117, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 157, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, 118, -1, 
+    120, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 121, 
+    121, 121, 121, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, 122, -1, 122, 
+    122, -1, 122, 122, 158, 158, 158, 158, -1, -1, 
+    -1, 122, -1, -1, -1, -1, -1, -1, 122, -1, 
+    -1, 122, -1, 122, -1, 122, -1, -1, -1, -1, 
+    122, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 159, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 160, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 161, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 162, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 163, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 164, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 165, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 166, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 167, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 168, 
+    4, 4, 4, 4, 4, 4, 169, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 170, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 171, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 172, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 173, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 174, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 175, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 176, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 177, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 178, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    179, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 180, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 181, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 182, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 152, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, 152, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 183, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 184, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 185, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 118, 119, 
+    157, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 158, 
+    158, 158, 158, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    186, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 187, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 188, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 189, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 190, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 191, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 192, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 193, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 194, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 195, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 196, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 197, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 198, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 199, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 200, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 201, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 202, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 203, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 204, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 205, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 206, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 207, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 208, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    209, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 210, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 211, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 212, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 213, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 214, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 215, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 216, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 217, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 218, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 219, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 220, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 221, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 222, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 223, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 224, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+    -1, -1, 4, 4, 4, 4, -1, 4, 4, 4, 
+    4, 4, 4, -1, -1, -1, 4, 4, -1, -1, 
+    -1, -1, -1, 4, 4, 4, 4, 4, 225, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, 4, -1, -1, 4, 4, 4, 
+    4, -1, 4, 4, 4, 4, 4, 4, -1, -1, 
+    -1, 4, 4, -1, -1, -1, -1, -1, 4, 4, 
+    4, 4, 4, 226, 4, 4, 4, 4, 4, 4, 
+    4, 4, 4, 4, 4, 4, 4, 4, 4, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, 4, 
+  };
+
+  /* error codes */
+  private static final int ZZ_UNKNOWN_ERROR = 0;
+  private static final int ZZ_NO_MATCH = 1;
+  private static final int ZZ_PUSHBACK_2BIG = 2;
+
+  /* error messages for the codes above */
+  private static final String ZZ_ERROR_MSG[] = {
+    "Unkown internal scanner error",
+    "Error: could not match input",
+    "Error: pushback value was too large"
+  };
+
+  /**
+   * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+   */
+  private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
+
+  private static final String ZZ_ATTRIBUTE_PACKED_0 =
+    "\1\0\1\11\11\1\1\11\5\1\1\11\25\1\13\11"+
+    "\1\0\2\1\3\11\3\1\2\0\2\1\1\0\2\11"+
+    "\1\1\5\0\1\11\26\1\3\11\1\1\11\11\1\0"+
+    "\1\1\1\0\1\11\6\1\1\11\2\0\2\1\2\11"+
+    "\30\1\3\11\5\1\1\0\105\1";
+
+  private static int [] zzUnpackAttribute() {
+    int [] result = new int[227];
+    int offset = 0;
+    offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackAttribute(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      do result[j++] = value; while (--count > 0);
+    }
+    return j;
+  }
+
+  /** the input device */
+  private java.io.Reader zzReader;
+
+  /** the current state of the DFA */
+  private int zzState;
+
+  /** the current lexical state */
+  private int zzLexicalState = YYINITIAL;
+
+  /** this buffer contains the current text to be matched and is
+      the source of the yytext() string */
+  private char zzBuffer[] = new char[ZZ_BUFFERSIZE];
+
+  /** the textposition at the last accepting state */
+  private int zzMarkedPos;
+
+  /** the current text position in the buffer */
+  private int zzCurrentPos;
+
+  /** startRead marks the beginning of the yytext() string in the buffer */
+  private int zzStartRead;
+
+  /** endRead marks the last character in the buffer, that has been read
+      from input */
+  private int zzEndRead;
+
+  /** number of newlines encountered up to the start of the matched text */
+  private int yyline;
+
+  /** the number of characters up to the start of the matched text */
+  private int yychar;
+
+  /**
+   * the number of characters from the last newline up to the start of the 
+   * matched text
+   */
+  private int yycolumn;
+
+  /** 
+   * zzAtBOL == true <=> the scanner is currently at the beginning of a line
+   */
+  private boolean zzAtBOL = true;
+
+  /** zzAtEOF == true <=> the scanner is at the EOF */
+  private boolean zzAtEOF;
+
+  /** denotes if the user-EOF-code has already been executed */
+  private boolean zzEOFDone;
+
+  /* user code: */
+	/**	Compilation this scanner belongs to.						*/
+	private Compilation ctx = Compilation.current();
+	/**	Start offsets of the source lines, or null until a scanner created over a stream needs them.	*/
+	private Assembly.LineIndex lines = null;
+	/**	Number of the line in lineText, or -1.						*/
+	private int lineNumber = -1;
+	/**	Text of the last line asked for.							*/
+	private String lineText = "";
+	/**	Object for holding semantic values.							*/
+	private Object yylval;
+	/**	Value of the last integer constant, or code of the last character constant.	*/
+	public long intValue;
+	/**	Value of the last floating constant.						*/
+	public double floatValue;
+	/**	Flag to tell us to insert or lookup from Symbol Table.		*/
+	public boolean insertMode = false;
+	public boolean functionType = false;
+	public boolean arrayType = false;
+	public boolean structType = false;
+	public boolean pointerType = false;
+	/**	Holder of the current node for the parser.					*/
+	public SymbolNode currentNode = null;
+	/**	Kind of the current identifier type.						*/
+	public TypeKind currentType;
+	/**	Identifier id of the last identifier, or -1.				*/
+	public int lastID = -1;
+	/** Stack of identifier ids for evaluating type of identifier	*/
+	public Stack<Integer> typeStack = new Stack<Integer>();
+	
+	/**	Fingerprint of every token outside function bodies so far, i.e. the global declarations.
+		Null unless incremental compilation is on.					*/
+	private MessageDigest globalDigest = (ctx.functionCache != null) ? FunctionCache.newDigest() : null;
+	/**	Fingerprint of the current top level declaration.  Starts as a copy of globalDigest.	*/
+	private MessageDigest declarationDigest = null;
+	/**	Nesting depth of braces.									*/
+	private int braceDepth = 0;
+	/**	Set while scanning a function body.							*/
+	private boolean inFunctionBody = false;
+	/**	Last token returned.										*/
+	private int lastToken = 0;
+	/**	Function cache key of the last function body closed.  Null if it cannot be cached.	*/
+	public String functionKey = null;
+	/**	Last line added to declarationDigest, or -1.				*/
+	private int fingerprintLine = -1;
+	/**	Phase timings for --time-report, or null.					*/
+	private Assembly.TimeReport timeReport = ctx.timeReport;
+	
+	/**	Source text, when the scanner was created over one.			*/
+	private CharSequence source = null;
+	/**	Tokens lexed up front by prelex() and replayed by yylex(), or null.	*/
+	private TokenBuffer tokens = null;
+	/**	Index of the token replayed last.							*/
+	private int replayed = -1;
+	/**	Set while lexing ahead into a token buffer, which leaves the semantic actions to the replay.	*/
+	private boolean lexOnly = false;
+	/**	First error of the token being lexed ahead, reported when the parser reaches it.	*/
+	private String pendingError = null;
+	
+	/**
+	* Returns the next token, fingerprinting it when incremental compilation is on.
+	* @return The token.
+	* @throws IOException This can be thrown from File IO features.
+	*/
+	public int yylex() throws IOException {
+		if(timeReport != null)
+			timeReport.enter("scanner");
+		int token = (tokens != null) ? replay() : scanToken();
+		if(timeReport != null)
+			timeReport.leave();
+		if(globalDigest != null && token > 0)
+			fingerprint(token);
+		return token;
+	}
+	
+	/**
+	* Adds a token to the fingerprints.  A function's key covers its own tokens and source lines (the lines end
+	* up as comments in the intermediate code) plus every token outside function bodies in front of it, which is
+	* everything its symbol table lookups and offsets can depend on.
+	* @param token The token just scanned.
+	*/
+	private void fingerprint(int token) {
+		if(declarationDigest == null) {
+			declarationDigest = FunctionCache.copy(globalDigest);
+			fingerprintLine = -1;
+		}
+		if(yyline != fingerprintLine) {
+			// the parser takes the line of each token as the node's source line
+			addToFingerprint(declarationDigest, currentLine());
+			fingerprintLine = yyline;
+		}
+		if(token == Parser.OPEN_BRACE && braceDepth == 0) {
+			// only a brace right after a declarator opens a function body we know how to key
+			inFunctionBody = (lastToken == Parser.CLOSE_PAREN);
+			if(!inFunctionBody)
+				functionKey = null;
+		}
+		if(!inFunctionBody)
+			addToFingerprint(globalDigest, text());
+		addToFingerprint(declarationDigest, text());
+		
+		if(token == Parser.OPEN_BRACE)
+			braceDepth++;
+		else if(token == Parser.CLOSE_BRACE && braceDepth > 0 && --braceDepth == 0) {
+			if(inFunctionBody)
+				functionKey = Assembly.Fragments.toHex(declarationDigest.digest());
+			inFunctionBody = false;
+			declarationDigest = null;
+		}
+		else if(token == Parser.SEMI && braceDepth == 0)
+			declarationDigest = null;
+		lastToken = token;
+	}
+	
+	/**
+	* Adds a string and a separator to a fingerprint.
+	*/
+	private static void addToFingerprint(MessageDigest md, String text) {
+		md.update(text.getBytes(StandardCharsets.UTF_8));
+		md.update((byte) 0);
+	}
+	
+	/**
+	* Creates a scanner over a source held in memory, such as a mapped file, which lines are sliced from.
+	* @param source The source text.
+	*/
+	public Scanner(CharSequence source) {
+		this(Assembly.SourceText.reader(source));
+		this.source = source;
+		lines = new Assembly.LineIndex(source);
+	}
+	
+	/**
+	* Lexes the whole source up front, on several threads when it is large, and replays the tokens to the
+	* parser from then on.  Only for scanners created over a source text.
+	* @param threads Largest number of threads used.
+	* @throws IOException This can be thrown from File IO features.
+	*/
+	public void prelex(int threads) throws IOException {
+		tokens = TokenBuffer.lex(source, threads);
+		replayed = -1;
+	}
+	
+	/**
+	* Lexes part of a source into a token buffer without running any semantic actions.
+	* @param source The source text.
+	* @param start Offset of the part, which must start a line.
+	* @param end Offset after the part.
+	* @param line Line the part starts on, counting from 0.
+	* @return The tokens of the part.
+	* @throws IOException This can be thrown from File IO features.
+	*/
+	static TokenBuffer lex(CharSequence source, int start, int end, int line) throws IOException {
+		Scanner scanner = new Scanner(Assembly.SourceText.reader(source, start, end));
+		scanner.lexOnly = true;
+		scanner.timeReport = null;
+		scanner.globalDigest = null;
+		TokenBuffer buffer = new TokenBuffer(source, (end - start) / 4);
+		for(int kind; (kind = scanner.scanToken()) != 0; ) {
+			long value = 0;
+			if(kind == Parser.FLOATING_CONSTANT)
+				value = Double.doubleToRawLongBits(scanner.floatValue);
+			else if(kind == Parser.INTEGER_CONSTANT || kind == Parser.CHARACTER_CONSTANT)
+				value = scanner.intValue;
+			buffer.add(kind, start + scanner.yychar, scanner.yylength(), line + scanner.yyline, scanner.yycolumn,
+				value, scanner.pendingError);
+			scanner.pendingError = null;
+		}
+		return buffer;
+	}
+	
+	/**
+	* Returns the next buffered token and runs the semantic actions that were left out when it was lexed.  The
+	* position fields are set to the token's, so diagnostics and line tracking work as they do when scanning.
+	* @return The token, 0 at the end.
+	*/
+	private int replay() {
+		while(replayed + 1 < tokens.size()) {
+			int kind = tokens.kind(++replayed);
+			yyline = tokens.line(replayed);
+			yycolumn = tokens.column(replayed);
+			yychar = tokens.start(replayed);
+			if(kind == TokenBuffer.ERROR)
+				yyerror(tokens.message(replayed));
+			else if(kind == Parser.FLOATING_CONSTANT)
+				floatValue = Double.longBitsToDouble(tokens.value(replayed));
+			else if(kind == Parser.INTEGER_CONSTANT || kind == Parser.CHARACTER_CONSTANT)
+				intValue = tokens.value(replayed);
+			kind = action(kind);
+			if(kind != 0)
+				return kind;
+		}
+		return 0;
+	}
+	
+	/**
+	* Returns the text of the current token, sliced from the source when it is replayed.
+	* @return The token text.
+	*/
+	public String text() {
+		return (tokens != null) ? tokens.text(replayed) : yytext();
+	}
+	
+	/**
+	* Returns a character of the current token without slicing its text.
+	*/
+	private char textAt(int index) {
+		if(tokens != null)
+			return tokens.charAt(replayed, index);
+		return (index < yylength()) ? yycharat(index) : 0;
+	}
+	
+	/**
+	* Runs the semantic action of a token: symbol table handling of identifiers, the type and pointer state the
+	* parser reads, and the debug commands.  Runs as each token is scanned, or as it is replayed when the tokens
+	* were lexed up front.
+	* @param kind The token kind.
+	* @return The token kind, or 0 for a command, which is no token.
+	*/
+	private int action(int kind) {
+		if(lexOnly)
+			return kind;
+		switch(kind) {
+			case Parser.IDENTIFIER:
+				return identifier(internText());
+			case Parser.CHAR:
+				currentType = TypeKind.CHAR;
+				break;
+			case Parser.DOUBLE:
+				currentType = TypeKind.DOUBLE;
+				break;
+			case Parser.FLOAT:
+				currentType = TypeKind.FLOAT;
+				break;
+			case Parser.INT:
+				currentType = TypeKind.INT;
+				break;
+			case Parser.LONG:
+				currentType = TypeKind.LONG;
+				break;
+			case Parser.SHORT:
+				currentType = TypeKind.SHORT;
+				break;
+			case Parser.VOID:
+				currentType = TypeKind.VOID;
+				break;
+			case Parser.MUL_OP:
+				pointerType = true;
+				break;
+			case Parser.INTEGER_CONSTANT:
+				// decimal constants only, not octal or hex
+				if(textAt(0) != '0' || !Character.isLetterOrDigit(textAt(1)) || Character.toLowerCase(textAt(1)) == 'u' ||
+						Character.toLowerCase(textAt(1)) == 'l')
+					lastID = -1;
+				break;
+			case Parser.STRING_LITERAL:
+				yylval = text();
+				break;
+			case TokenBuffer.SYMBOL_DUMP:
+				ctx.st.writeToFile("st_debug" + text().substring(3) + ".txt");
+				return 0;
+			case TokenBuffer.LOOKUP_MODE:
+				insertMode = false;
+				return 0;
+		}
+		return kind;
+	}
+	
+	/**
+	* Interns the text of the current token without slicing it: from the scanner's buffer as it scans, from the
+	* source when it is replayed.
+	* @return The identifier id of the text.
+	*/
+	private int internText() {
+		if(tokens != null)
+			return ctx.names.intern(source, tokens.start(replayed), tokens.start(replayed) + tokens.length(replayed));
+		return ctx.names.intern(zzBuffer, zzStartRead, zzMarkedPos);
+	}
+	
+	/**
+	* Enters a declared identifier into the symbol table or looks up a used one.
+	* @param id The identifier id.
+	* @return The identifier token.
+	*/
+	private int identifier(int id) {
+		if(insertMode) {
+			SymbolTable.FindReturn ret = ctx.st.find(id);
+			if(ret != null) {
+				SymbolNode node = ret.node;
+				//SymbolNode node = ctx.st.find(yytext(),true);
+			
+				if(node != null && ret.level == 0)
+					yyerror("identifier (" + ctx.names.name(id) + ") already defined on line " + String.valueOf(node.lineNum));
+				else if(node != null)
+					yywarning("shadowing variable (" + ctx.names.name(id) + ") declared on line " + String.valueOf(node.lineNum));
+			}
+			currentNode = new SymbolNode(ctx.st.type(currentType, pointerType),yyline+1);	
+			ctx.st.insert(id, currentNode);
+			typeStack.push(id);
+		} else {
+			currentNode = ctx.st.find(id).node;
+			if(currentNode == null)
+				yyerror("undefined symbol: " + ctx.names.name(id));
+		}
+		pointerType = false;
+		lastID = id;
+		yylval = currentNode;
+		return(Parser.IDENTIFIER);
+	}
+	
+	public int getLineNo() {
+		return yyline+1;
+	}
+
+	public void decrementColumn(int decValue) {
+		yycolumn -= decValue;
+	}
+	
+	/**
+	* Getter function to return yylval.
+	* @return A pointer to yylval.
+	*/
+	public Object getLVal() {
+		return yylval;
+	}
+	
+	/**	Powers of ten that are exact doubles.						*/
+	private static final double[] POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+	
+	/**
+	* Parses the integer constant just matched into intValue.  Values above the unsigned 32 bit range are an
+	* overflow.  Suffixes are skipped.
+	* @param start Index of the first digit in the match.
+	* @param radix 8, 10 or 16.
+	*/
+	private void integerConstant(int start, int radix) {
+		long value = 0;
+		int length = yylength();
+		for(int i = start; i < length; i++) {
+			char c = yycharat(i);
+			int digit = Character.digit(c, radix);
+			if(digit < 0) {
+				if(Character.isDigit(c))
+					yyerror("invalid digit in octal constant");
+				break;
+			}
+			value = value * radix + digit;
+			if(value > 0xFFFFFFFFL)
+				yyerror("integer overflow");
+		}
+		intValue = value;
+	}
+	
+	/**
+	* Parses the floating constant just matched into floatValue.  Up to 15 significant digits and a power of ten
+	* up to 22 are converted with one exactly rounded multiplication or division; longer constants go through
+	* Double.parseDouble.  Values above Float.MAX_VALUE are an overflow.
+	*/
+	private void floatConstant() {
+		int length = yylength(), i = 0, digits = 0, scale = 0;
+		long mantissa = 0;
+		boolean fraction = false, exact = true;
+		for(; i < length; i++) {
+			char c = yycharat(i);
+			if(c == '.') {
+				fraction = true;
+				continue;
+			}
+			if(c < '0' || c > '9')
+				break;
+			if(mantissa == 0 && c == '0') {
+				if(fraction)
+					scale--;
+				continue;
+			}
+			if(digits == 15) {
+				exact = false;
+				continue;
+			}
+			mantissa = mantissa * 10 + (c - '0');
+			digits++;
+			if(fraction)
+				scale--;
+		}
+		int suffix = i;
+		if(i < length && (yycharat(i) == 'e' || yycharat(i) == 'E')) {
+			int sign = 1, exponent = 0;
+			if(yycharat(++i) == '-' || yycharat(i) == '+')
+				sign = (yycharat(i++) == '-') ? -1 : 1;
+			for(; i < length && Character.isDigit(yycharat(i)); i++)
+				exponent = Math.min(exponent * 10 + (yycharat(i) - '0'), 100000);
+			scale += sign * exponent;
+			suffix = i;
+		}
+		if(exact && scale >= -22 && scale <= 22)
+			floatValue = (scale < 0) ? mantissa / POWERS_OF_TEN[-scale] : mantissa * POWERS_OF_TEN[scale];
+		else
+			floatValue = Double.parseDouble(yytext().substring(0, suffix));
+		if(floatValue > Float.MAX_VALUE)
+			yyerror("floating point overflow");
+	}
+	
+	/**
+	* Prints an error message to stderr including line number and column number.
+	* Also prints the current line with a reference to where the error occured.
+	* @param errorMessage The message to be displayed describing the error.
+	*/
+	public void yyerror(String errorMessage) {
+		if(lexOnly) {
+			if(pendingError == null)
+				pendingError = errorMessage;
+			return;
+		}
+		String line = currentLine();
+		int count = indentation(line);
+		ctx.err.println(ctx.inFile + ": error on line " + String.valueOf(yyline+1) + " column " + String.valueOf(yycolumn+1));
+		ctx.err.println(line.trim());
+		errorMessage = errorMessage.substring(errorMessage.indexOf(",")+1);
+		for(int i = 0; i <= yycolumn - count - 1; i++)
+			ctx.err.print(' ');
+		ctx.err.println("^ " + errorMessage);
+		ctx.err.println("\nfatal error. compilation terminated");
+		throw new CompileError(errorMessage);
+	}
+	
+	/**
+	* Prints a warning message to stderr including line number and column number.
+	* Also prints the current line with a reference to where the warning occured.
+	* @param warningMessage The message to be displayed describing the error.
+	*/
+	public void yywarning(String warningMessage) {
+		String line = currentLine();
+		int count = indentation(line);
+		ctx.err.println(ctx.inFile + ": warning on line " + String.valueOf(yyline+1) + " column " + String.valueOf(yycolumn+1));
+		ctx.err.println(line.trim());
+		for(int i = 0; i <= yycolumn - count - 1; i++)
+			ctx.err.print(' ');
+		ctx.err.println("^ " + warningMessage + "\n");
+	}
+	
+	/**
+	* Returns the source line of the last token scanned.
+	* @return The current line.
+	* @see #line(int)
+	*/
+	public String currentLine() {
+		return line(yyline);
+	}
+	
+	/**
+	* Returns a source line, sliced from the line index once per line.  AST nodes keep only their line number
+	* and get their text from here.  A scanner created over a stream has no index, so the input file is read once
+	* and indexed the first time a line is asked for; without a readable file the lines are empty.
+	* @param number Line number counting from 0.
+	* @return The line.
+	*/
+	public String line(int number) {
+		if(number == lineNumber)
+			return lineText;
+		if(lines == null) {
+			try {
+				lines = new Assembly.LineIndex(Assembly.SourceText.read(ctx.path));
+			} catch(IOException | RuntimeException e) {
+				lines = new Assembly.LineIndex("");
+			}
+		}
+		lineNumber = number;
+		lineText = lines.line(number);
+		return lineText;
+	}
+	
+	/**
+	* Counts the leading white space of a line, tabs counting as 4 like they do for yycolumn.
+	* @param line The line.
+	* @return The column of the first character that is not white space.
+	*/
+	private static int indentation(String line) {
+		int count = 0;
+		for(int i = 0; i < line.length(); i++) {
+			if(line.charAt(i) == ' ') {
+				count++;
+			} else if(line.charAt(i) == '\t') {
+				count += 4;
+			} else
+				break;
+		}
+		return count;
+	}
+
+
+  /**
+   * Creates a new scanner
+   * There is also a java.io.InputStream version of this constructor.
+   *
+   * @param   in  the java.io.Reader to read input from.
+   */
+  public Scanner(java.io.Reader in) {
+    this.zzReader = in;
+  }
+
+  /**
+   * Creates a new scanner.
+   * There is also java.io.Reader version of this constructor.
+   *
+   * @param   in  the java.io.Inputstream to read input from.
+   */
+  public Scanner(java.io.InputStream in) {
+    this(new java.io.InputStreamReader(in));
+  }
+
+  /** 
+   * Unpacks the compressed character translation table.
+   *
+   * @param packed   the packed character translation table
+   * @return         the unpacked character translation table
+   */
+  private static char [] zzUnpackCMap(String packed) {
+    char [] map = new char[0x10000];
+    int i = 0;  /* index in packed string  */
+    int j = 0;  /* index in unpacked array */
+    while (i < 154) {
+      int  count = packed.charAt(i++);
+      char value = packed.charAt(i++);
+      do map[j++] = value; while (--count > 0);
+    }
+    return map;
+  }
+
+
+  /**
+   * Refills the input buffer.
+   *
+   * @return      <code>false</code>, iff there was new input.
+   * 
+   * @exception   java.io.IOException  if any I/O-Error occurs
+   */
+  private boolean zzRefill() throws java.io.IOException {
+
+    /* first: make room (if you can) */
+    if (zzStartRead > 0) {
+      System.arraycopy(zzBuffer, zzStartRead,
+                       zzBuffer, 0,
+                       zzEndRead-zzStartRead);
+
+      /* translate stored positions */
+      zzEndRead-= zzStartRead;
+      zzCurrentPos-= zzStartRead;
+      zzMarkedPos-= zzStartRead;
+      zzStartRead = 0;
+    }
+
+    /* is the buffer big enough? */
+    if (zzCurrentPos >= zzBuffer.length) {
+      /* if not: blow it up */
+      char newBuffer[] = new char[zzCurrentPos*2];
+      System.arraycopy(zzBuffer, 0, newBuffer, 0, zzBuffer.length);
+      zzBuffer = newBuffer;
+    }
+
+    /* finally: fill the buffer with new input */
+    int numRead = zzReader.read(zzBuffer, zzEndRead,
+                                            zzBuffer.length-zzEndRead);
+
+    if (numRead > 0) {
+      zzEndRead+= numRead;
+      return false;
+    }
+    // unlikely but not impossible: read 0 characters, but not at end of stream    
+    if (numRead == 0) {
+      int c = zzReader.read();
+      if (c == -1) {
+        return true;
+      } else {
+        zzBuffer[zzEndRead++] = (char) c;
+        return false;
+      }     
+    }
+
+	// numRead < 0
+    return true;
+  }
+
+    
+  /**
+   * Closes the input stream.
+   */
+  public final void yyclose() throws java.io.IOException {
+    zzAtEOF = true;            /* indicate end of file */
+    zzEndRead = zzStartRead;  /* invalidate buffer    */
+
+    if (zzReader != null)
+      zzReader.close();
+  }
+
+
+  /**
+   * Resets the scanner to read from a new input stream.
+   * Does not close the old reader.
+   *
+   * All internal variables are reset, the old input stream 
+   * <b>cannot</b> be reused (internal buffer is discarded and lost).
+   * Lexical state is set to <tt>ZZ_INITIAL</tt>.
+   *
+   * @param reader   the new input stream 
+   */
+  public final void yyreset(java.io.Reader reader) {
+    zzReader = reader;
+    zzAtBOL  = true;
+    zzAtEOF  = false;
+    zzEOFDone = false;
+    zzEndRead = zzStartRead = 0;
+    zzCurrentPos = zzMarkedPos = 0;
+    yyline = yychar = yycolumn = 0;
+    zzLexicalState = YYINITIAL;
+  }
+
+
+  /**
+   * Returns the current lexical state.
+   */
+  public final int yystate() {
+    return zzLexicalState;
+  }
+
+
+  /**
+   * Enters a new lexical state
+   *
+   * @param newState the new lexical state
+   */
+  public final void yybegin(int newState) {
+    zzLexicalState = newState;
+  }
+
+
+  /**
+   * Returns the text matched by the current regular expression.
+   */
+  public final String yytext() {
+    return new String( zzBuffer, zzStartRead, zzMarkedPos-zzStartRead );
+  }
+
+
+  /**
+   * Returns the character at position <tt>pos</tt> from the 
+   * matched text. 
+   * 
+   * It is equivalent to yytext().charAt(pos), but faster
+   *
+   * @param pos the position of the character to fetch. 
+   *            A value from 0 to yylength()-1.
+   *
+   * @return the character at position pos
+   */
+  public final char yycharat(int pos) {
+    return zzBuffer[zzStartRead+pos];
+  }
+
+
+  /**
+   * Returns the length of the matched text region.
+   */
+  public final int yylength() {
+    return zzMarkedPos-zzStartRead;
+  }
+
+
+  /**
+   * Reports an error that occured while scanning.
+   *
+   * In a wellformed scanner (no or only correct usage of 
+   * yypushback(int) and a match-all fallback rule) this method 
+   * will only be called with things that "Can't Possibly Happen".
+   * If this method is called, something is seriously wrong
+   * (e.g. a JFlex bug producing a faulty scanner etc.).
+   *
+   * Usual syntax/scanner level error handling should be done
+   * in error fallback rules.
+   *
+   * @param   errorCode  the code of the errormessage to display
+   */
+  private void zzScanError(int errorCode) {
+    String message;
+    try {
+      message = ZZ_ERROR_MSG[errorCode];
+    }
+    catch (ArrayIndexOutOfBoundsException e) {
+      message = ZZ_ERROR_MSG[ZZ_UNKNOWN_ERROR];
+    }
+
+    throw new Error(message);
+  } 
+
+
+  /**
+   * Pushes the specified amount of characters back into the input stream.
+   *
+   * They will be read again by then next call of the scanning method
+   *
+   * @param number  the number of characters to be read again.
+   *                This number must not be greater than yylength()!
+   */
+  public void yypushback(int number)  {
+    if ( number > yylength() )
+      zzScanError(ZZ_PUSHBACK_2BIG);
+
+    zzMarkedPos -= number;
+  }
+
+
+  /**
+   * Contains user EOF-code, which will be executed exactly once,
+   * when the end of file is reached
+   */
+  private void zzDoEOF() throws java.io.IOException {
+    if (!zzEOFDone) {
+      zzEOFDone = true;
+      yyclose();
+    }
+  }
+
+
+  /**
+   * Resumes scanning until the next regular expression is matched,
+   * the end of input is encountered or an I/O-Error occurs.
+   *
+   * @return      the next token
+   * @exception   java.io.IOException  if any I/O-Error occurs
+   */
+  public int scanToken() throws java.io.IOException {
+    int zzInput;
+    int zzAction;
+
+    // cached fields:
+    int zzCurrentPosL;
+    int zzMarkedPosL;
+    int zzEndReadL = zzEndRead;
+    char [] zzBufferL = zzBuffer;
+    char [] zzCMapL = ZZ_CMAP;
+
+    int [] zzTransL = ZZ_TRANS;
+    int [] zzRowMapL = ZZ_ROWMAP;
+    int [] zzAttrL = ZZ_ATTRIBUTE;
+
+    while (true) {
+      zzMarkedPosL = zzMarkedPos;
+
+      yychar+= zzMarkedPosL-zzStartRead;
+
+      boolean zzR = false;
+      for (zzCurrentPosL = zzStartRead; zzCurrentPosL < zzMarkedPosL;
+                                                             zzCurrentPosL++) {
+        switch (zzBufferL[zzCurrentPosL]) {
+        case '\u000B':
+        case '\u000C':
+        case '\u0085':
+        case '\u2028':
+        case '\u2029':
+          yyline++;
+          yycolumn = 0;
+          zzR = false;
+          break;
+        case '\r':
+          yyline++;
+          yycolumn = 0;
+          zzR = true;
+          break;
+        case '\n':
+          if (zzR)
+            zzR = false;
+          else {
+            yyline++;
+            yycolumn = 0;
+          }
+          break;
+        default:
+          zzR = false;
+          yycolumn++;
+        }
+      }
+
+      if (zzR) {
+        // peek one character ahead if it is \n (if we have counted one line too much)
+        boolean zzPeek;
+        if (zzMarkedPosL < zzEndReadL)
+          zzPeek = zzBufferL[zzMarkedPosL] == '\n';
+        else if (zzAtEOF)
+          zzPeek = false;
+        else {
+          boolean eof = zzRefill();
+          zzEndReadL = zzEndRead;
+          zzMarkedPosL = zzMarkedPos;
+          zzBufferL = zzBuffer;
+          if (eof) 
+            zzPeek = false;
+          else 
+            zzPeek = zzBufferL[zzMarkedPosL] == '\n';
+        }
+        if (zzPeek) yyline--;
+      }
+      zzAction = -1;
+
+      zzCurrentPosL = zzCurrentPos = zzStartRead = zzMarkedPosL;
+  
+      zzState = ZZ_LEXSTATE[zzLexicalState];
+
+
+      zzForAction: {
+        while (true) {
+    
+          if (zzCurrentPosL < zzEndReadL)
+            zzInput = zzBufferL[zzCurrentPosL++];
+          else if (zzAtEOF) {
+            zzInput = YYEOF;
+            break zzForAction;
+          }
+          else {
+            // store back cached positions
+            zzCurrentPos  = zzCurrentPosL;
+            zzMarkedPos   = zzMarkedPosL;
+            boolean eof = zzRefill();
+            // get translated positions and possibly new buffer
+            zzCurrentPosL  = zzCurrentPos;
+            zzMarkedPosL   = zzMarkedPos;
+            zzBufferL      = zzBuffer;
+            zzEndReadL     = zzEndRead;
+            if (eof) {
+              zzInput = YYEOF;
+              break zzForAction;
+            }
+            else {
+              zzInput = zzBufferL[zzCurrentPosL++];
+            }
+          }
+          int zzNext = zzTransL[ zzRowMapL[zzState] + zzCMapL[zzInput] ];
+          if (zzNext == -1) break zzForAction;
+          zzState = zzNext;
+
+          int zzAttributes = zzAttrL[zzState];
+          if ( (zzAttributes & 1) == 1 ) {
+            zzAction = zzState;
+            zzMarkedPosL = zzCurrentPosL;
+            if ( (zzAttributes & 8) == 8 ) break zzForAction;
+          }
+
+        }
+      }
+
+      // store back cached position
+      zzMarkedPos = zzMarkedPosL;
+
+      switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
+        case 41: 
+          { return(Parser.RIGHT_OP);
+          }
+        case 92: break;
+        case 5: 
+          { return(Parser.SUB_OP);
+          }
+        case 93: break;
+        case 2: 
+          { /* no action taken */
+          }
+        case 94: break;
+        case 28: 
+          { return(Parser.CLOSE_BRACKET);
+          }
+        case 95: break;
+        case 83: 
+          { return(Parser.SIZEOF);
+          }
+        case 96: break;
+        case 18: 
+          { return(Parser.OR_OP);
+          }
+        case 97: break;
+        case 1: 
+          { yyerror("undefined symbol " + yytext()); return(Parser.ERROR_TOK);
+          }
+        case 98: break;
+        case 25: 
+          { return(Parser.OPEN_PAREN);
+          }
+        case 99: break;
+        case 87: 
+          { return(Parser.DEFAULT);
+          }
+        case 100: break;
+        case 69: 
+          { return action(Parser.CHAR);
+          }
+        case 101: break;
+        case 81: 
+          { return(Parser.STRUCT);
+          }
+        case 102: break;
+        case 68: 
+          { return(Parser.CASE);
+          }
+        case 103: break;
+        case 74: 
+          { return(Parser.BREAK);
+          }
+        case 104: break;
+        case 38: 
+          { return action(Parser.STRING_LITERAL);
+          }
+        case 105: break;
+        case 16: 
+          { return(Parser.AND_OP);
+          }
+        case 106: break;
+        case 26: 
+          { return(Parser.CLOSE_PAREN);
+          }
+        case 107: break;
+        case 60: 
+          { return(Parser.RIGHT_ASSIGN);
+          }
+        case 108: break;
+        case 82: 
+          { return(Parser.SIGNED);
+          }
+        case 109: break;
+        case 45: 
+          { return(Parser.LEFT_OP);
+          }
+        case 110: break;
+        case 6: 
+          { return(Parser.DIV_OP);
+          }
+        case 111: break;
+        case 10: 
+          { yycolumn += 3;
+          }
+        case 112: break;
+        case 7: 
+          { if(lines != null) lines.indexTo(yychar + 1);
+          }
+        case 113: break;
+        case 57: 
+          { intValue = yycharat(1);
+	return(Parser.CHARACTER_CONSTANT);
+          }
+        case 114: break;
+        case 86: 
+          { return(Parser.TYPEDEF);
+          }
+        case 115: break;
+        case 78: 
+          { return(Parser.RETURN);
+          }
+        case 116: break;
+        case 33: 
+          { return(Parser.PTR_OP);
+          }
+        case 117: break;
+        case 36: 
+          { return(Parser.MUL_ASSIGN);
+          }
+        case 118: break;
+        case 54: 
+          { return(Parser.NE_OP);
+          }
+        case 119: break;
+        case 63: 
+          { if(action(TokenBuffer.SYMBOL_DUMP) != 0) return TokenBuffer.SYMBOL_DUMP;
+          }
+        case 120: break;
+        case 34: 
+          { return(Parser.SUB_ASSIGN);
+          }
+        case 121: break;
+        case 59: 
+          { return action(Parser.INT);
+          }
+        case 122: break;
+        case 80: 
+          { return(Parser.STATIC);
+          }
+        case 123: break;
+        case 49: 
+          { return(Parser.AND_ASSIGN);
+          }
+        case 124: break;
+        case 53: 
+          { return(Parser.L_OR_OP);
+          }
+        case 125: break;
+        case 66: 
+          { return(Parser.ELSE);
+          }
+        case 126: break;
+        case 24: 
+          { return(Parser.COLON);
+          }
+        case 127: break;
+        case 61: 
+          { return(Parser.LEFT_ASSIGN);
+          }
+        case 128: break;
+        case 71: 
+          { return action(Parser.VOID);
+          }
+        case 129: break;
+        case 72: 
+          { return action(Parser.FLOAT);
+          }
+        case 130: break;
+        case 9: 
+          { return(Parser.PERIOD);
+          }
+        case 131: break;
+        case 40: 
+          { return(Parser.DO);
+          }
+        case 132: break;
+        case 8: 
+          { return action(Parser.MUL_OP);
+          }
+        case 133: break;
+        case 31: 
+          { floatConstant();
+	return(Parser.FLOATING_CONSTANT);
+          }
+        case 134: break;
+        case 46: 
+          { return(Parser.ADD_ASSIGN);
+          }
+        case 135: break;
+        case 85: 
+          { return action(Parser.DOUBLE);
+          }
+        case 136: break;
+        case 77: 
+          { return(Parser.WHILE);
+          }
+        case 137: break;
+        case 42: 
+          { return(Parser.GE_OP);
+          }
+        case 138: break;
+        case 89: 
+          { return(Parser.REGISTER);
+          }
+        case 139: break;
+        case 23: 
+          { return(Parser.COMMA);
+          }
+        case 140: break;
+        case 19: 
+          { return(Parser.NOT_OP);
+          }
+        case 141: break;
+        case 3: 
+          { integerConstant(0, 10);
+	return action(Parser.INTEGER_CONSTANT);
+          }
+        case 142: break;
+        case 37: 
+          { integerConstant(1, 8);
+	return action(Parser.INTEGER_CONSTANT);
+          }
+        case 143: break;
+        case 21: 
+          { return(Parser.OPEN_BRACE);
+          }
+        case 144: break;
+        case 35: 
+          { return(Parser.DIV_ASSIGN);
+          }
+        case 145: break;
+        case 15: 
+          { return(Parser.MOD_OP);
+          }
+        case 146: break;
+        case 48: 
+          { return(Parser.MOD_ASSIGN);
+          }
+        case 147: break;
+        case 20: 
+          { return(Parser.SEMI);
+          }
+        case 148: break;
+        case 12: 
+          { return(Parser.ASSIGN);
+          }
+        case 149: break;
+        case 73: 
+          { return(Parser.UNION);
+          }
+        case 150: break;
+        case 55: 
+          { return(Parser.FOR);
+          }
+        case 151: break;
+        case 44: 
+          { return(Parser.LE_OP);
+          }
+        case 152: break;
+        case 43: 
+          { return(Parser.EQ_OP);
+          }
+        case 153: break;
+        case 30: 
+          { return(Parser.QUESTION_MARK);
+          }
+        case 154: break;
+        case 51: 
+          { return(Parser.XOR_ASSIGN);
+          }
+        case 155: break;
+        case 79: 
+          { return(Parser.EXTERN);
+          }
+        case 156: break;
+        case 88: 
+          { return(Parser.UNSIGNED);
+          }
+        case 157: break;
+        case 52: 
+          { return(Parser.OR_ASSIGN);
+          }
+        case 158: break;
+        case 56: 
+          { integerConstant(2, 16);
+	return action(Parser.INTEGER_CONSTANT);
+          }
+        case 159: break;
+        case 11: 
+          { return(Parser.GT_OP);
+          }
+        case 160: break;
+        case 65: 
+          { return(Parser.AUTO);
+          }
+        case 161: break;
+        case 84: 
+          { return(Parser.SWITCH);
+          }
+        case 162: break;
+        case 27: 
+          { return(Parser.OPEN_BRACKET);
+          }
+        case 163: break;
+        case 47: 
+          { return(Parser.INC_OP);
+          }
+        case 164: break;
+        case 22: 
+          { return(Parser.CLOSE_BRACE);
+          }
+        case 165: break;
+        case 67: 
+          { return(Parser.ENUM);
+          }
+        case 166: break;
+        case 39: 
+          { return(Parser.IF);
+          }
+        case 167: break;
+        case 76: 
+          { return action(Parser.SHORT);
+          }
+        case 168: break;
+        case 70: 
+          { return(Parser.GOTO);
+          }
+        case 169: break;
+        case 50: 
+          { return(Parser.L_AND_OP);
+          }
+        case 170: break;
+        case 64: 
+          { return action(Parser.LONG);
+          }
+        case 171: break;
+        case 13: 
+          { return(Parser.LT_OP);
+          }
+        case 172: break;
+        case 62: 
+          { if(action(TokenBuffer.LOOKUP_MODE) != 0) return TokenBuffer.LOOKUP_MODE;
+          }
+        case 173: break;
+        case 17: 
+          { return(Parser.XOR_OP);
+          }
+        case 174: break;
+        case 91: 
+          { return(Parser.VOLATILE);
+          }
+        case 175: break;
+        case 75: 
+          { return(Parser.CONST);
+          }
+        case 176: break;
+        case 14: 
+          { return(Parser.ADD_OP);
+          }
+        case 177: break;
+        case 4: 
+          { return action(Parser.IDENTIFIER);
+          }
+        case 178: break;
+        case 32: 
+          { return(Parser.DEC_OP);
+          }
+        case 179: break;
+        case 29: 
+          { return(Parser.BIT_NOT_OP);
+          }
+        case 180: break;
+        case 58: 
+          { return(Parser.ELIPSIS);
+          }
+        case 181: break;
+        case 90: 
+          { return(Parser.CONTINUE);
+          }
+        case 182: break;
+        default: 
+          if (zzInput == YYEOF && zzStartRead == zzCurrentPos) {
+            zzAtEOF = true;
+            zzDoEOF();
+              { return 0; }
+          } 
+          else {
+            zzScanError(ZZ_NO_MATCH);
+          }
+      }
+    }
+  }
+
+
+}
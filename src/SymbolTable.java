@@ -3,28 +3,59 @@ package Compiler;
 import java.io.*;
 import java.util.*;
 
+import Assembly.TimeReport;
+
 /**
-	Class containing references to all stored data in the program.
+	Class containing references to all stored data in the program.<br/>
+	Symbols are kept as bindings on one stack, in the order they were declared, with a marker where each level
+	starts.  Every identifier id heads a chain of its bindings, innermost first, so a lookup reads one array slot
+	whatever the nesting depth, and popping a level unlinks only the bindings declared on it.  The identifier pool
+	already hashes the names, so the chains are indexed by id directly.
 */
 public class SymbolTable
 {
-	/** Stack containing nodes to Binary Search Trees.					*/
-	protected Stack<TreeMap<String,SymbolNode>> stack;
-	/** Stack containing nodes to basic data types (for typedefs)		*/
-	protected Stack<BasicDataType> typeTable;
-	/** Binary Search Tree used when viewing the top of the stack. 		*/
-	private TreeMap<String,SymbolNode> bst;
 	/** Stack containing current total offset for allocation frame.		*/
-	protected Stack<Integer> offsets;
+	private int[] offsets = new int[16];
+	/** Index of the first binding of each level.						*/
+	private int[] levelStarts = new int[16];
+	/** Typedefs visible on each level.  A level shares the chain of the one around it and only adds to it.	*/
+	private Typedef[] typedefs = new Typedef[16];
+	/** Number of levels.												*/
+	private int levels = 0;
+	/** Identifier id of each binding.									*/
+	private int[] bindingIds = new int[64];
+	/** Symbol of each binding, null once removed.						*/
+	private SymbolNode[] bindingNodes = new SymbolNode[64];
+	/** Binding of the same id it shadows, or -1.						*/
+	private int[] shadowed = new int[64];
+	/** Number of bindings.												*/
+	private int bindings = 0;
+	/** Innermost binding of each identifier id, or -1.				*/
+	private int[] innermost = new int[0];
+	/** Result of the last find, reused so lookups do not allocate.		*/
+	private FindReturn result = new FindReturn(null, 0);
+	/** Phase timings for --time-report, or null.						*/
+	public TimeReport timeReport;
+	/** Pool of the identifier ids the levels are keyed on.				*/
+	public Identifiers names;
+	/** Canonical array and function types of this table's symbols.		*/
+	public Types types = new Types();
+	
+	/**
+	* Default Constructor. Allocates all stacks and a pool of its own.
+	*/
+	public SymbolTable()
+	{
+		this(new Identifiers());
+	}
 	
 	/**
-	* Default Constructor. Allocates all stacks.
+	* Allocates all stacks, keying names on the ids of the given pool.
+	* @param _names Identifier pool of the compilation.
 	*/
-	public SymbolTable()
+	public SymbolTable(Identifiers _names)
 	{
-		stack = new Stack<TreeMap<String,SymbolNode>>();
-		typeTable = new Stack<BasicDataType>();
-		offsets = new Stack<Integer>();
+		names = _names;
 	}
 	
 	/**
@@ -32,23 +63,20 @@ public class SymbolTable
 	*/
 	public void pushLevel()
 	{
-		// inherit previous scopes type table
-		if(typeTable.size() > 0)
-			typeTable.push(new BasicDataType(typeTable.peek()));
-		
-		// else create default table
-		else
-			typeTable.push(new BasicDataType());
-		
-		// push new BST onto main stack
-		stack.push(new TreeMap<String,SymbolNode>());
-		
+		if(levels == offsets.length)
+		{
+			offsets = Arrays.copyOf(offsets, levels * 2);
+			levelStarts = Arrays.copyOf(levelStarts, levels * 2);
+			typedefs = Arrays.copyOf(typedefs, levels * 2);
+		}
+	
+		// inherit previous scopes typedefs without copying them
+		typedefs[levels] = (levels > 0) ? typedefs[levels - 1] : null;
+	
 		// add new level to offset stack with default value of 0
-		if(offsets.size() > 1)
-			offsets.push(new Integer(offsets.peek().intValue()));
-			
-		else
-			offsets.push(new Integer(0));
+		offsets[levels] = (levels > 1) ? offsets[levels - 1] : 0;
+		levelStarts[levels] = bindings;
+		levels++;
 	}
 	
 	/**
@@ -56,21 +84,38 @@ public class SymbolTable
 	*/
 	public void popLevel()
 	{
-		if(stack.size() > 0)
+		if(levels > 0)
 		{
-			stack.pop();
-			typeTable.pop();
-			offsets.pop();
+			levels--;
+	
+			// unshadow what the level's bindings hid, newest first
+			while(bindings > levelStarts[levels])
+			{
+				bindings--;
+	
+				if(bindingNodes[bindings] != null)
+					innermost[bindingIds[bindings]] = shadowed[bindings];
+	
+				bindingNodes[bindings] = null;
+			}
+	
+			typedefs[levels] = null;
 		}
 	}
 	
 	/**
-	* Gets a pointer to the top of the stack.
-	* @return Pointer to the BST on the top level of the stack.
+	* Gets the symbols of the top level, for debugging.
+	* @return Symbols declared on the top level by identifier id.
 	*/
-	public TreeMap<String,SymbolNode> getTopLevel()
+	public TreeMap<Integer,SymbolNode> getTopLevel()
 	{
-		return stack.peek();
+		TreeMap<Integer,SymbolNode> level = new TreeMap<Integer,SymbolNode>();
+	
+		for(int i = levelStarts[levels - 1]; i < bindings; i++)
+			if(bindingNodes[i] != null)
+				level.put(bindingIds[i], bindingNodes[i]);
+	
+		return level;
 	}
 	
 	/**
@@ -80,23 +125,59 @@ public class SymbolTable
 	*/
 	public void insert(String key, SymbolNode node)
 	{
+		insert(names.intern(key), node);
+	}
+	
+	/**
+	* Inserts a new value into the top level of the Symbol Table.  A key already on the top level is replaced.
+	* @param key The identifier id to use when inserting.
+	* @param node The SymbolNode to be used when inserting.
+	*/
+	public void insert(int key, SymbolNode node)
+	{
+		if(timeReport != null)
+			timeReport.enter("symbol table");
+	
 		// push a level if the stack is empty
-		if(stack.size() == 0)
+		if(levels == 0)
 			pushLevel();
-			
-		// get pointer to top level of the stack
-		bst = stack.peek();
-
+	
 		// calculate new offset for node that's to be inserted
-		if(node.type.getClass().getName().toLowerCase().contains("function"))
+		if(node.type instanceof FunctionDataType)
 			node.origOffset = 0;
-			
-		Integer i = offsets.pop();
-		offsets.push(new Integer(node.origOffset + i.intValue()));
-		node.offset = i.intValue();
 	
-		// insert into the tree
-		bst.put(key,node);
+		node.offset = offsets[levels - 1];
+		offsets[levels - 1] += node.origOffset;
+	
+		if(key >= innermost.length)
+		{
+			int length = innermost.length;
+			innermost = Arrays.copyOf(innermost, Math.max(key + 1, Math.max(names.size(), length * 2)));
+			Arrays.fill(innermost, length, innermost.length, -1);
+		}
+	
+		int top = innermost[key];
+	
+		if(top >= levelStarts[levels - 1])
+			bindingNodes[top] = node;
+	
+		else
+		{
+			if(bindings == bindingIds.length)
+			{
+				bindingIds = Arrays.copyOf(bindingIds, bindings * 2);
+				bindingNodes = Arrays.copyOf(bindingNodes, bindings * 2);
+				shadowed = Arrays.copyOf(shadowed, bindings * 2);
+			}
+	
+			bindingIds[bindings] = key;
+			bindingNodes[bindings] = node;
+			shadowed[bindings] = top;
+			innermost[key] = bindings++;
+		}
+	
+		if(timeReport != null)
+			timeReport.leave();
 	}
 	
 	/**
@@ -106,90 +187,208 @@ public class SymbolTable
 	*/
 	public SymbolNode removeNode(String key)
 	{
-		SymbolNode value = stack.peek().remove(key);
-		
-		Integer i = offsets.pop();
-		
-		int newOffset = i.intValue() - value.origOffset;
-		
-		offsets.push(new Integer(newOffset));
-		
+		return removeNode(names.intern(key));
+	}
+	
+	/**
+	* Removes a node from the top level of the main stack.  Its binding stays on the stack, marked removed,
+	* until the level is popped.
+	* @param key The identifier id of the node to be removed.
+	* @return The node that was removed.
+	*/
+	public SymbolNode removeNode(int key)
+	{
+		int top = (key < innermost.length) ? innermost[key] : -1;
+	
+		if(top < levelStarts[levels - 1])
+			return null;
+	
+		SymbolNode value = bindingNodes[top];
+		bindingNodes[top] = null;
+		innermost[key] = shadowed[top];
+	
+		offsets[levels - 1] -= value.origOffset;
+	
 		return value;
 	}
 	
+	/**
+	* Declares a typedef name on the top level.
+	* @param key Identifier id of the name.
+	* @param type The type it names.
+	*/
+	public void typedef(int key, BasicDataType type)
+	{
+		if(levels == 0)
+			pushLevel();
+	
+		typedefs[levels - 1] = new Typedef(key, type, typedefs[levels - 1]);
+	}
+	
+	/**
+	* Looks up a typedef name, innermost first.
+	* @param key Identifier id of the name.
+	* @return The type it names, or null.
+	*/
+	public BasicDataType typedef(int key)
+	{
+		for(Typedef t = (levels > 0) ? typedefs[levels - 1] : null; t != null; t = t.outer)
+			if(t.id == key)
+				return t.type;
+	
+		return null;
+	}
+	
+	/**
+	* Returns the canonical type of a variable declared with a type name, built in or typedef.
+	* @param name Type name.
+	* @param pointer True for a pointer to the type.
+	* @return The type.  An unknown name is reported as an error.
+	*/
+	public BasicDataType type(String name, boolean pointer)
+	{
+		TypeKind kind = TypeKind.of(name);
+	
+		if(kind != null || name == null)
+			return type(kind, pointer);
+	
+		BasicDataType named = typedef(names.intern(name));
+	
+		if(named == null)
+			return type((TypeKind) null, pointer);
+	
+		return pointer ? Types.basic(named.kind, true) : named;
+	}
+	
+	/**
+	* Returns the canonical type of a variable declared with a built in type.
+	* @param kind Data type, null if none was given.
+	* @param pointer True for a pointer to the type.
+	* @return The type.  A missing type is reported as an error.
+	*/
+	public BasicDataType type(TypeKind kind, boolean pointer)
+	{
+		if(kind == null)
+		{
+			Compilation.current().scanner.yyerror("undefined data type");
+			kind = TypeKind.VOID;
+		}
+	
+		return Types.basic(kind, pointer);
+	}
+	
 	/**
 	* Get current total offset for top level of the main stack.
 	* @return Current total offset.
 	*/
 	public int getOffset()
 	{
-		return offsets.peek().intValue();
+		return offsets[levels - 1];
 	}
 	
 	
 	/**
 	* Calls find with print set to false.
 	* @param key The key to search for.
-	* @see #find(String,boolean)
+	* @see #find(int,boolean)
 	*/
 	public FindReturn find(String key)
+	{
+		return find(names.intern(key),false);
+	}
+	
+	/**
+	* Calls find with print set to false.
+	* @param key The identifier id to search for.
+	* @see #find(int,boolean)
+	*/
+	public FindReturn find(int key)
 	{
 		return find(key,false);
 	}
 	
 	/**
 	* Finds a node in the Symbol Table.  This node can be on any level of the Symbol Table.
-	* @param key The key (Identifier) to search for.
+	* @param key The identifier id to search for.
 	* @param print Enable printing for debugging.
-	* @return A pointer to the FindReturn class if found, otherwise null.
+	* @return Null if there are no levels, otherwise the node (null if not found) and the number of levels above
+	*	the one it was found on.  The result is reused by the next find.
 	*/
-	public FindReturn find(String key, boolean print)
+	public FindReturn find(int key, boolean print)
 	{
-		boolean found = false;
-		SymbolNode node = null;
-		int numLevels = 0;
-		
-		Stack<TreeMap<String,SymbolNode>> tempStack = new Stack<TreeMap<String,SymbolNode>>();
-		
-		if(stack.size() == 0)
+		if(timeReport == null)
+			return search(key, print);
+	
+		timeReport.enter("symbol table");
+	
+		try
+		{
+			return search(key, print);
+		}
+		finally
+		{
+			timeReport.leave();
+		}
+	}
+	
+	/**
+	* Looks up the innermost binding of a key.
+	* @see #find(int,boolean)
+	*/
+	private FindReturn search(int key, boolean print)
+	{
+		if(levels == 0)
 			return null;
-			
-		bst = stack.peek();
-		
-		if(bst.containsKey(key))
-			return new FindReturn(bst.get(key), 0);
-			
-		// search all stack levels for node
-		while(!found && stack.size() > 1)
+	
+		int binding = (key < innermost.length) ? innermost[key] : -1;
+	
+		if(binding < 0)
 		{
-			tempStack.push(bst);
-			stack.pop();
-			
-			bst = stack.peek();
-			
-			if(bst.containsKey(key))
-			{
-				node = bst.get(key);
-				found = true;
-			}
-			
-			numLevels++;
+			result.node = null;
+			result.level = levels - 1;
 		}
-		
-		// replace all stack levels
-		while(tempStack.size() > 0)
+	
+		else
 		{
-			stack.push(tempStack.peek());
-			tempStack.pop();
+			result.node = bindingNodes[binding];
+			result.level = levels - 1 - levelOf(binding);
 		}
-		
-		if(!found && print)
-			System.out.println("Symbol Not Found");
-			
+	
+		if(result.node == null && print)
+			Compilation.current().out.println("Symbol Not Found");
+	
 		else if(print)
-			System.out.println("Symbol Found " + String.valueOf(numLevels) + " level(s) up.");
-			
-		return new FindReturn(node,numLevels);
+			Compilation.current().out.println("Symbol Found " + String.valueOf(result.level) + " level(s) up.");
+	
+		return result;
+	}
+	
+	/**
+	* Finds the level a binding was declared on.  Most lookups hit the top level or the globals, which are checked
+	* first; anything else is a binary search of the level markers.
+	*/
+	private int levelOf(int binding)
+	{
+		if(binding >= levelStarts[levels - 1])
+			return levels - 1;
+	
+		if(levels == 1 || binding < levelStarts[1])
+			return 0;
+	
+		int low = 1, high = levels - 2;
+	
+		while(low < high)
+		{
+			int middle = (low + high + 1) >>> 1;
+	
+			if(levelStarts[middle] <= binding)
+				low = middle;
+	
+			else
+				high = middle - 1;
+		}
+	
+		return low;
 	}
 	
 	/**
@@ -198,51 +397,38 @@ public class SymbolTable
 	*/
 	public void writeToFile(String filename)
 	{
-		int currentLevel = stack.size();
-		Stack<TreeMap<String,SymbolNode>> tempStack = new Stack<TreeMap<String,SymbolNode>>();
-		
 		PrintWriter fout;
-		
+	
 		try
 		{
 			fout = new PrintWriter(filename);
-				
-			while(currentLevel > 0)
+	
+			for(int level = levels - 1; level >= 0; level--)
 			{
-				bst = stack.peek();
-				
-				fout.println("Stack Level: " + String.valueOf(currentLevel));
-				
-				for(Map.Entry<String,SymbolNode> entry : bst.entrySet())
+				fout.println("Stack Level: " + String.valueOf(level + 1));
+	
+				for(int i = levelStarts[level]; i < levelEnd(level); i++)
 				{
-					String key = entry.getKey();
-					SymbolNode node = entry.getValue();
-					
+					if(bindingNodes[i] == null)
+						continue;
+	
+					String key = names.name(bindingIds[i]);
+					SymbolNode node = bindingNodes[i];
+	
 					fout.println("\t[" + node.toString() + ((node.type.pointer) ? "* " : " ") + key + "]");
 				}
-				
+	
 				fout.println();
-				
-				tempStack.push(stack.peek());
-				stack.pop();
-				
-				currentLevel--;
 			}
-			
-			while(tempStack.size() > 0)
-			{
-				stack.push(tempStack.peek());
-				tempStack.pop();
-			}
-			
+	
 			fout.close();
-			
+	
 		}
-		
+	
 		catch(IOException e)
 		{
-			System.err.println("Error: Critical IO Failure in SymbolTable::writeToFile()");
-			System.exit(1);
+			Compilation.current().err.println("Error: Critical IO Failure in SymbolTable::writeToFile()");
+			throw new CompileError("critical IO failure in SymbolTable::writeToFile()");
 		}
 	}
 	
@@ -254,50 +440,63 @@ public class SymbolTable
 	public String toString()
 	{
 		StringBuilder sb = new StringBuilder();
-		int currentLevel = stack.size();
-		Stack<TreeMap<String,SymbolNode>> tempStack = new Stack<TreeMap<String,SymbolNode>>();
-		
-		while(currentLevel > 0)
+	
+		for(int level = levels - 1; level >= 0; level--)
 		{
-			bst = stack.peek();
-			
-			sb.append("Stack Level: " + String.valueOf(currentLevel) + "\n");
-			
-			for(Map.Entry<String,SymbolNode> entry : bst.entrySet())
+			sb.append("Stack Level: " + String.valueOf(level + 1) + "\n");
+	
+			for(int i = levelStarts[level]; i < levelEnd(level); i++)
 			{
-				String key = entry.getKey();
-				SymbolNode node = entry.getValue();
-				
+				if(bindingNodes[i] == null)
+					continue;
+	
+				String key = names.name(bindingIds[i]);
+				SymbolNode node = bindingNodes[i];
+	
 				sb.append("\t[" + node.toString() + " " + key + "]\n");
 			}
-			
+	
 			sb.append("\n");
-			
-			tempStack.push(stack.peek());
-			stack.pop();
-			
-			currentLevel--;
 		}
-		
-		while(tempStack.size() > 0)
+	
+		return sb.toString();
+	}
+	
+	/**
+	* Returns the index after the last binding of a level.
+	*/
+	private int levelEnd(int level)
+	{
+		return (level + 1 < levels) ? levelStarts[level + 1] : bindings;
+	}
+	
+	/**
+	* Typedef name, linked to the typedefs declared before it.  Never changed, so levels share chains.
+	*/
+	private static class Typedef
+	{
+		final int id;
+		final BasicDataType type;
+		final Typedef outer;
+	
+		Typedef(int _id, BasicDataType _type, Typedef _outer)
 		{
-			stack.push(tempStack.peek());
-			tempStack.pop();
+			id = _id;
+			type = _type;
+			outer = _outer;
 		}
-		
-		return sb.toString();
 	}
 	
 	/**
 	* Class used for returning multiple values from SymbolTable::find function.
 	*/
-	public class FindReturn
+	public static class FindReturn
 	{
 		/** Symbol Node to return							*/
 		public SymbolNode node;
 		/** int containing the level the node was found on 	*/
 		public int level;
-		
+	
 		/**
 		* Only constructor for FindReturn class.
 		*/
@@ -309,6 +508,7 @@ public class SymbolTable
 	}
 }
 
+
 /**
 * Class for storing the contents of a symbol.
 */
@@ -379,12 +579,15 @@ class SymbolNode
 }
 
 /**
-* Class for containing basic data types.
+* Class for containing basic data types.  Instances are canonical: get them from {@link Types}, never change
+* them, and compare them with ==.
 */
 class BasicDataType
 {
 	/** String containing the data type.		*/
 	public String type;
+	/** Kind of the data type.					*/
+	public TypeKind kind;
 	/** int containing the offset of the type.	*/
 	public int offset;
 	/** int containing the type offset.			*/
@@ -393,87 +596,35 @@ class BasicDataType
 	public int dataSize;
 	/** boolean to determine if pointer type	*/
 	public boolean pointer;	
-	/** List of defined types.					*/
-	public ArrayList<String> types = new ArrayList<String>(Arrays.asList(
-	"int", "float", "char", "double", "long", "long long", "short", "void"
-	));
-	
-	/**
-	* Default constructor for this class (rarely used).
-	*/
-	public BasicDataType()
-	{
-		type = "void";
-		dataSize = offset = 0;
-		pointer = false;
-	}
 	
 	/**
-	* Constructor for initializing this class with a type.
-	* @param _type Data type.
+	* Constructor for initializing this class with a kind.  Only used by {@link Types}.
+	* @param _kind Data type.
+	* @param ptr True for a pointer to the type.
 	*/
-	public BasicDataType(String _type)
+	BasicDataType(TypeKind _kind, boolean ptr)
 	{
-		this(_type,false);
-	}
-	
-	public BasicDataType(String _type, boolean ptr)
-	{
-		type = _type;
+		kind = _kind;
+		type = kind.spelling;
 		pointer = ptr;
 		
-		if(!types.contains(type))
-			Driver.scanner.yyerror("undefined data type");
-			
-		if(pointer)
-			offset = 4;
-			
-		if(type.equals("int"))
-			offset = 4;
-			
-		else if(type.equals("short"))
-			offset = 4;
-		
-		else if(type.equals("float"))
-			offset = 4;
-			
-		else if(type.equals("char"))
-			offset = 4;
-			
-		else if(type.equals("double"))
-			offset = 4;
-			
-		else if(type.equals("long"))
-			offset = 4;
-			
-		else if(type.equals("long long"))
-			offset = 4;	
-			
-		else if(type.equals("void"))
-			offset = 0;
-			
+		// pointers take 4 bytes, except void pointers which nothing is allocated for
+		offset = (pointer && kind != TypeKind.VOID) ? 4 : kind.size;
 		dataSize = offset;
 	}
+	
 	/**
-	* Copy Constructor.
+	* Copies the fields of another type.  Only used by {@link Types}.
 	* @param other BasicDataType to be copied.
 	*/
-	public BasicDataType(BasicDataType other)
+	BasicDataType(BasicDataType other)
 	{
-		types = new ArrayList<String>(other.types);
-		type = new String(other.type);
+		kind = other.kind;
+		type = other.type;
+		pointer = other.pointer;
 		offset = other.offset;
+		typeOffset = other.typeOffset;
 		dataSize = other.dataSize;
-		
-	}
-	
-	/**
-	* Adds a type to the list of known types.
-	* @param _type Type to be added.
-	*/
-	public void addType(String _type)
-	{
-		types.add(_type);
 	}
 	
 	/**
@@ -505,19 +656,12 @@ class BasicDataType
 	}
 	
 	/**
-	* Compares two basic data types.
+	* Compares two basic data types.  Types are canonical, so this is identity.
 	* @return True if data types are equal, false otherwise.
 	*/
 	public boolean equals(BasicDataType other)
 	{
-		if(!getClass().getName().equals(other.getClass().getName()))
-			return false;
-			
-		else if(!type.equals(other.type))
-			return false;
-			
-		else
-			return true;
+		return this == other;
 	}
 	
 	public int getParamCount() {
@@ -537,69 +681,40 @@ class ArrayDataType extends BasicDataType
 	/** Nested ArrayDataType for multi-dementional arrays.			*/
 	public ArrayDataType nestedArray = null;
 	
-	/**
-	* Default Constructor (rarely used).
-	*/
-	public ArrayDataType()
-	{
-		super();
-		size = 0;
-	}
-	
-	/**
-	* Constructor to initialize this array with a underlying data type.
-	* @param _type Underlying data type for this array.
-	*/
-	public ArrayDataType(String _type)
-	{
-		super(_type);
-		totalSize = size = 0;
-	}
-	
-	/**
-	* Constructor to initialize with a size.
-	* @param _size Size of the array.
-	*/
-	public ArrayDataType(int _size)
-	{
-		super();
-		totalSize = size = _size;
-	}
-	
 	/**
 	* Constructor initializing this array with a type and size (most comonly used constructor).
 	* @param _type Underlying data type for this array.
 	* @param _size Size of the array.
 	*/
-	public ArrayDataType(String _type, int _size)
+	ArrayDataType(TypeKind _type, int _size)
 	{
-		super(_type);
+		super(_type, false);
 		totalSize = size = _size;
 		typeOffset = offset;
 		offset *= size;
 		offset -= typeOffset;
 		
 		dataSize = size * typeOffset;
-		
-		//System.out.(dataSize);
 	}
 
 	/**
-	* Used to add a nested array. Used for multi-dementional arrays.
+	* Constructor for an array with another array nested in it. Used for multi-dementional arrays.
+	* @param outer The array declared so far.
 	* @param arr Array to be nested.
 	*/
-	public void addNestedArray(ArrayDataType arr)
+	ArrayDataType(ArrayDataType outer, ArrayDataType arr)
 	{
+		super(outer);
+		size = outer.size;
+		totalSize = outer.totalSize;
+		
 		nestedArray = arr;
 		totalSize *= arr.size;
-		//offset = typeOffset;
 		offset = (typeOffset * totalSize) - typeOffset;
 		
 		typeOffset *= arr.size;
 		
 		dataSize = size * arr.size * typeOffset;
-		
-		//System.out.println(dataSize);
 	}
 	
 	/**
@@ -637,65 +752,17 @@ class FunctionDataType extends BasicDataType
 	/** BasicDataType array for holding data types of parameters.	*/
 	public BasicDataType[] parameterTypes;
 	
-	/**
-	* Default constructor (rarely used).
-	*/
-	public FunctionDataType()
-	{
-		super();
-		numParameters = 0;
-	}
-	
-	/**
-	* Constructor initializing with a number of parameters.
-	* @param _numParameters Number of parameters to be set.
-	*/
-	public FunctionDataType(int _numParameters)
-	{
-		super();
-		numParameters = _numParameters;
-		
-		parameterTypes = new BasicDataType[numParameters];
-	}
-	
-	/**
-	* Constructor initializing with return Type and number of parameters.
-	* @param returnType Return type of this function.
-	* @param _numParameters Number of parameters to be set.
-	*/
-	public FunctionDataType(String returnType, int _numParameters)
-	{
-		super(returnType);
-		numParameters = _numParameters;
-		
-		parameterTypes = new BasicDataType[numParameters];
-	}
-	
 	/**
 	* Constructor to initialize this function with return type, number of parameters, and parameter data types.
 	* @param returnType Return data type of this function.
 	* @param _numParameters Number of parameters for this function.
 	* @param _parameterTypes Data types of parameters.
 	*/
-	public FunctionDataType(String returnType, int _numParameters, BasicDataType... _parameterTypes)
+	FunctionDataType(TypeKind returnType, int _numParameters, BasicDataType... _parameterTypes)
 	{
-		super(returnType);
+		super(returnType, false);
 		numParameters = _numParameters;
-		parameterTypes = _parameterTypes;
-	}
-	
-	/**
-	* Constructor to initialize this function with return type, number of parameters, and parameter data types.
-	* @param returnType Return data type of this function.
-	* @param _numParameters Number of parameters for this function.
-	* @param _parameterTypes String representation of the parameter data types.
-	*/
-	public FunctionDataType(String returnType, int _numParameters, String... _parameterTypes)
-	{
-		this(returnType,_numParameters);
-		
-		for(int i = 0; i < _parameterTypes.length; i++)
-			parameterTypes[i] = new BasicDataType(_parameterTypes[i]);
+		parameterTypes = Arrays.copyOf(_parameterTypes, numParameters);
 	}
 	
 	/**
@@ -715,28 +782,133 @@ class FunctionDataType extends BasicDataType
 }
 
 /**
-* Class for containing struct data types.
+* Class for containing struct data types.  Structs are told apart by declaration, not by shape, so every
+* struct is a type of its own.
 */
 class StructDataType extends BasicDataType
 {
-	/** BST for containing struct elements.			*/
-	public TreeMap<String,BasicDataType> elements = new TreeMap<String,BasicDataType>();
+	/** BST for containing struct elements, keyed on identifier ids.	*/
+	public TreeMap<Integer,BasicDataType> elements = new TreeMap<Integer,BasicDataType>();
 	
 	/**
 	* Default constructor.
 	*/
-	public StructDataType()
+	StructDataType()
 	{
-		super("struct");
+		super(TypeKind.STRUCT, false);
 	}
 	
 	/**
 	* Adds an element to the struct type.
-	* @param _identifier Identifier of new element.
+	* @param _identifier Identifier id of new element.
 	* @param _type Data type of new element.
 	*/
-	public void addElement(String _identifier, BasicDataType _type)
+	public void addElement(int _identifier, BasicDataType _type)
 	{
 		elements.put(_identifier,_type);
 	}
 }
+
+/**
+* Makes the canonical instance of every type, so equal types are the same object.  Basic types are shared by
+* all compilations; arrays and functions are hash-consed per symbol table from the canonical types they are
+* built of.
+*/
+class Types
+{
+	/** Basic types by kind, then pointer.							*/
+	private static final BasicDataType[] BASIC = basicTypes();
+	/** Arrays and functions by constructor and parts.				*/
+	private HashMap<List<Object>,BasicDataType> interned = new HashMap<List<Object>,BasicDataType>();
+	
+	/**
+	* Returns a basic type.
+	* @param kind Data type.
+	* @param pointer True for a pointer to the type.
+	* @return The canonical type.
+	*/
+	public static BasicDataType basic(TypeKind kind, boolean pointer)
+	{
+		return BASIC[kind.ordinal() * 2 + (pointer ? 1 : 0)];
+	}
+	
+	/**
+	* Returns a one dimensional array type.
+	* @param element Element type.
+	* @param size Number of elements.
+	* @return The canonical type.
+	*/
+	public ArrayDataType array(TypeKind element, int size)
+	{
+		List<Object> key = Arrays.<Object>asList("[]", element, size);
+		ArrayDataType type = (ArrayDataType) interned.get(key);
+		
+		if(type == null)
+			interned.put(key, type = new ArrayDataType(element, size));
+			
+		return type;
+	}
+	
+	/**
+	* Returns the array type of an array declarator with one more dimension.
+	* @param outer Type of the dimensions declared so far.
+	* @param nested Type of the added dimension.
+	* @return The canonical type.
+	*/
+	public ArrayDataType array(ArrayDataType outer, ArrayDataType nested)
+	{
+		List<Object> key = Arrays.<Object>asList("[][]", outer, nested);
+		ArrayDataType type = (ArrayDataType) interned.get(key);
+		
+		if(type == null)
+			interned.put(key, type = new ArrayDataType(outer, nested));
+			
+		return type;
+	}
+	
+	/**
+	* Returns a function type.
+	* @param returnType Return type.
+	* @param numParameters Number of parameters.
+	* @param parameterTypes Canonical types of the parameters.
+	* @return The canonical type.
+	*/
+	public FunctionDataType function(TypeKind returnType, int numParameters, BasicDataType... parameterTypes)
+	{
+		Object[] parts = new Object[parameterTypes.length + 3];
+		parts[0] = "()";
+		parts[1] = returnType;
+		parts[2] = numParameters;
+		System.arraycopy(parameterTypes, 0, parts, 3, parameterTypes.length);
+		
+		List<Object> key = Arrays.asList(parts);
+		FunctionDataType type = (FunctionDataType) interned.get(key);
+		
+		if(type == null)
+			interned.put(key, type = new FunctionDataType(returnType, numParameters, parameterTypes));
+			
+		return type;
+	}
+	
+	/**
+	* Returns a new struct type.
+	* @return A struct type of its own.
+	*/
+	public StructDataType struct()
+	{
+		return new StructDataType();
+	}
+	
+	private static BasicDataType[] basicTypes()
+	{
+		BasicDataType[] types = new BasicDataType[TypeKind.values().length * 2];
+		
+		for(TypeKind kind : TypeKind.values())
+		{
+			types[kind.ordinal() * 2] = new BasicDataType(kind, false);
+			types[kind.ordinal() * 2 + 1] = new BasicDataType(kind, true);
+		}
+		
+		return types;
+	}
+}
@@ -0,0 +1,332 @@
+package Compiler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+*	Every token of a source file, lexed up front for --prelex and replayed to the parser by the {@link Scanner}.<br/>
+*	Tokens are kept as parallel arrays of primitives (kind, start offset, length, line, column and the value of
+*	constants) instead of a String and an Object per token.  The text of a token is sliced from the source only
+*	when the parser asks for it.<br/>
+*	Large files are cut at newlines outside comments and literals and the parts lexed on several cores.  Lexing
+*	a part runs no semantic actions: identifiers are entered into or looked up in the symbol table, and lexical
+*	errors reported, when the parser reaches them, exactly as when it scans as it goes.
+*/
+public class TokenBuffer
+{
+	/**	Kind of a token the scanner rejected.  The message is reported when the parser reaches it.	*/
+	public static final int ERROR = -1;
+	/**	Kind of a !!S symbol table dump command.					*/
+	public static final int SYMBOL_DUMP = -2;
+	/**	Kind of a !!L lookup mode command.							*/
+	public static final int LOOKUP_MODE = -3;
+
+	/**	Smallest part of a file worth lexing on a core of its own.	*/
+	private static final int MIN_PART = 64 * 1024;
+
+	/**	Source the offsets refer to.								*/
+	private CharSequence source;
+	/**	Number of tokens.											*/
+	private int size;
+	private int[] kinds;
+	private int[] starts;
+	private int[] lengths;
+	/**	Line of each token, counting from 0.						*/
+	private int[] lines;
+	/**	Column of each token, counting from 0, tabs counting as 4.	*/
+	private int[] columns;
+	/**	Value of integer and character constants, raw bits of floating constants.	*/
+	private long[] values;
+	/**	Messages of ERROR tokens by index.  Errors are rare, so they are not kept per token.	*/
+	private HashMap<Integer, String> messages = new HashMap<Integer, String>();
+
+	/**
+	* Creates an empty buffer.
+	* @param _source Source the tokens are taken from.
+	* @param capacity Expected number of tokens.
+	*/
+	public TokenBuffer(CharSequence _source, int capacity)
+	{
+		source = _source;
+		capacity = Math.max(capacity, 16);
+		kinds = new int[capacity];
+		starts = new int[capacity];
+		lengths = new int[capacity];
+		lines = new int[capacity];
+		columns = new int[capacity];
+		values = new long[capacity];
+	}
+
+	/**
+	* Lexes a whole source, in parallel when it is large enough.
+	* @param source Source text.
+	* @param threads Largest number of parts lexed at once.
+	* @return The tokens of the source, in order.
+	* @throws IOException This can be thrown from File IO features.
+	* @throws CompileError If a part could not be lexed.
+	*/
+	public static TokenBuffer lex(CharSequence source, int threads) throws IOException
+	{
+		int[][] cuts = cuts(source, Math.max(1, Math.min(threads, source.length() / MIN_PART)));
+
+		if(cuts[0].length == 2)
+			return Scanner.lex(source, 0, source.length(), 0);
+
+		final Compilation compilation = Compilation.current();
+		ArrayList<Callable<TokenBuffer>> parts = new ArrayList<Callable<TokenBuffer>>();
+
+		for(int i = 0; i + 1 < cuts[0].length; i++)
+		{
+			final int start = cuts[0][i], end = cuts[0][i + 1], firstLine = cuts[1][i];
+
+			// the scanner finds its compilation through the thread it runs on
+			parts.add(() -> {
+				Compilation previous = compilation.enter();
+
+				try
+				{
+					return Scanner.lex(source, start, end, firstLine);
+				}
+				finally
+				{
+					Compilation.leave(previous);
+				}
+			});
+		}
+
+		ArrayList<TokenBuffer> buffers = new ArrayList<TokenBuffer>();
+
+		try
+		{
+			for(Future<TokenBuffer> part : ForkJoinPool.commonPool().invokeAll(parts))
+				buffers.add(part.get());
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new CompileError("interrupted while lexing");
+		}
+		catch(ExecutionException e)
+		{
+			if(e.getCause() instanceof IOException)
+				throw (IOException) e.getCause();
+
+			if(e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+
+			throw new CompileError("lexing failed: " + e.getCause());
+		}
+
+		return join(source, buffers);
+	}
+
+	/**
+	* Finds where to cut a source into parts that can be lexed separately.  A part starts after a newline that
+	* no token can span: one outside comments and literals and not escaped by a backslash.  Finding them takes
+	* one pass over the characters, which costs far less than lexing.
+	* @param source Source text.
+	* @param parts Number of parts wanted.
+	* @return Start offsets of the parts followed by the length of the source, and the first line of each part.
+	*	There may be fewer parts than asked for.
+	*/
+	static int[][] cuts(CharSequence source, int parts)
+	{
+		int length = source.length();
+		int[] cuts = new int[parts + 1], lines = new int[parts + 1];
+		int count = 1, newlines = 0;
+		char quote = 0;
+		boolean block = false, line = false;
+
+		for(int i = 0; i < length && count < parts; i++)
+		{
+			char c = source.charAt(i);
+			char next = (i + 1 < length) ? source.charAt(i + 1) : 0;
+
+			if(c == '\n')
+				newlines++;
+
+			if(block) {
+				if(c == '*' && next == '/') {
+					block = false;
+					i++;
+				}
+			}
+
+			else if(quote != 0) {
+				if(c == '\\') {
+					if(next == '\n')
+						newlines++;
+					i++;
+				}
+				else if(c == quote || c == '\n')
+					quote = 0;
+			}
+
+			else if(line) {
+				if(c == '\n')
+					line = false;
+			}
+
+			else if(c == '/' && next == '*') {
+				block = true;
+				i++;
+			}
+
+			else if(c == '/' && next == '/') {
+				line = true;
+				i++;
+
+				// an empty line comment takes its newline with it
+				if(i + 1 < length && source.charAt(i + 1) == '\n') {
+					newlines++;
+					i++;
+				}
+			}
+
+			else if(c == '"' || c == '\'')
+				quote = c;
+
+			else if(c == '\n' && i + 1 >= (long) length * count / parts && (i == 0 || source.charAt(i - 1) != '\\')) {
+				lines[count] = newlines;
+				cuts[count++] = i + 1;
+			}
+		}
+
+		cuts = Arrays.copyOf(cuts, count + 1);
+		cuts[count] = length;
+		return new int[][] { cuts, lines };
+	}
+
+	/**
+	* Joins the buffers of consecutive parts of a source into one.
+	*/
+	private static TokenBuffer join(CharSequence source, ArrayList<TokenBuffer> buffers)
+	{
+		int total = 0;
+
+		for(TokenBuffer buffer : buffers)
+			total += buffer.size;
+
+		TokenBuffer joined = new TokenBuffer(source, total);
+
+		for(TokenBuffer buffer : buffers)
+		{
+			for(java.util.Map.Entry<Integer, String> message : buffer.messages.entrySet())
+				joined.messages.put(joined.size + message.getKey(), message.getValue());
+
+			System.arraycopy(buffer.kinds, 0, joined.kinds, joined.size, buffer.size);
+			System.arraycopy(buffer.starts, 0, joined.starts, joined.size, buffer.size);
+			System.arraycopy(buffer.lengths, 0, joined.lengths, joined.size, buffer.size);
+			System.arraycopy(buffer.lines, 0, joined.lines, joined.size, buffer.size);
+			System.arraycopy(buffer.columns, 0, joined.columns, joined.size, buffer.size);
+			System.arraycopy(buffer.values, 0, joined.values, joined.size, buffer.size);
+			joined.size += buffer.size;
+		}
+
+		return joined;
+	}
+
+	/**
+	* Appends a token.
+	* @param kind Parser token, or one of the kinds defined here.
+	* @param start Offset in the source.
+	* @param length Length in characters.
+	* @param line Line, counting from 0.
+	* @param column Column, counting from 0.
+	* @param value Value of a constant, or 0.
+	* @param message Message of an {@link #ERROR} token, or null.
+	*/
+	public void add(int kind, int start, int length, int line, int column, long value, String message)
+	{
+		if(size == kinds.length)
+		{
+			int capacity = size * 2;
+			kinds = Arrays.copyOf(kinds, capacity);
+			starts = Arrays.copyOf(starts, capacity);
+			lengths = Arrays.copyOf(lengths, capacity);
+			lines = Arrays.copyOf(lines, capacity);
+			columns = Arrays.copyOf(columns, capacity);
+			values = Arrays.copyOf(values, capacity);
+		}
+
+		if(message != null) {
+			messages.put(size, message);
+			kind = ERROR;
+		}
+
+		kinds[size] = kind;
+		starts[size] = start;
+		lengths[size] = length;
+		lines[size] = line;
+		columns[size] = column;
+		values[size] = value;
+		size++;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public int kind(int token)
+	{
+		return kinds[token];
+	}
+
+	public int start(int token)
+	{
+		return starts[token];
+	}
+
+	public int length(int token)
+	{
+		return lengths[token];
+	}
+
+	public int line(int token)
+	{
+		return lines[token];
+	}
+
+	public int column(int token)
+	{
+		return columns[token];
+	}
+
+	public long value(int token)
+	{
+		return values[token];
+	}
+
+	public String message(int token)
+	{
+		return messages.get(token);
+	}
+
+	/**
+	* Returns a character of a token without slicing its text.
+	* @param token Token index.
+	* @param index Index of the character in the token.
+	* @return The character, or 0 past the end of the token.
+	*/
+	public char charAt(int token, int index)
+	{
+		return (index < lengths[token]) ? source.charAt(starts[token] + index) : 0;
+	}
+
+	/**
+	* Slices the text of a token from the source.
+	* @param token Token index.
+	* @return The token text.
+	*/
+	public String text(int token)
+	{
+		return source.subSequence(starts[token], starts[token] + lengths[token]).toString();
+	}
+}
@@ -0,0 +1,55 @@
+package Compiler;
+
+/**
+*	Kinds of the types a declaration can name.  Arrays and functions are built from these by {@link Types};
+*	type checks and code generation switch on the kind instead of matching type names.
+*/
+public enum TypeKind
+{
+	INT("int", 4),
+	FLOAT("float", 4),
+	CHAR("char", 4),
+	DOUBLE("double", 4),
+	LONG("long", 4),
+	LONG_LONG("long long", 4),
+	SHORT("short", 4),
+	VOID("void", 0),
+	STRUCT("struct", 0);
+
+	/**	Name of the type in C.										*/
+	public final String spelling;
+	/**	Bytes allocated for a variable of the type.					*/
+	public final int size;
+
+	private TypeKind(String _spelling, int _size)
+	{
+		spelling = _spelling;
+		size = _size;
+	}
+
+	/**
+	* Returns whether values of the kind live in floating point registers.
+	* @return True for float and double.
+	*/
+	public boolean floating()
+	{
+		return this == FLOAT || this == DOUBLE;
+	}
+
+	/**
+	* Returns the kind a type name spells.
+	* @param name Type name.
+	* @return The kind, or null if the name is no built in type.
+	*/
+	public static TypeKind of(String name)
+	{
+		if(name == null)
+			return null;
+
+		for(TypeKind kind : values())
+			if(kind.spelling.equals(name))
+				return kind;
+
+		return null;
+	}
+}
@@ -0,0 +1,254 @@
+package Compiler;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import Assembly.Fragments;
+
+/**
+*	Content addressed cache of whole compilations, used by --cache-dir.  The key is a digest of the input name and
+*	bytes, the options that change the output and the compiler build, so a hit can hand back the stored outputs
+*	without scanning or parsing anything.  The name is part of the key because the stored diagnostics quote it.<br/>
+*	Each entry is one file holding the outputs by name.  Entries are written to a temporary file and renamed, so
+*	parallel compilations can share the directory.  A hit touches the entry's modification time, and entries
+*	are evicted oldest first once the directory grows past the size limit.  The size is kept as a running total
+*	and the directory is only listed when the total crosses the limit, or every {@link #RESCAN} stores to pick up
+*	entries written by other processes.
+*/
+public class UnitCache
+{
+	/**	Entry layout version.										*/
+	public static final int FORMAT = 1;
+	/**	Stamp at the start of every entry and every key.  It names the build, see {@link BuildStamp}.	*/
+	public static final String STAMP = "ccompiler " + Driver.VERSION + " unit cache " + FORMAT + " " + BuildStamp.ID;
+	/**	Name of the intermediate code output.							*/
+	public static final String CODE = "3ac";
+	/**	Name of the assembly output.									*/
+	public static final String ASSEMBLY = "s";
+	/**	Name of the captured diagnostics.								*/
+	public static final String DIAGNOSTICS = "stderr";
+	/**	Number of stores between listings of the directory while under the limit.	*/
+	public static final int RESCAN = 256;
+
+	/**	Directory holding the entries.									*/
+	private File dir;
+	/**	Size limit in bytes.											*/
+	private long limit;
+	/**	Running size in bytes, or -1 before the directory was first listed.	*/
+	private long size = -1;
+	/**	Stores since the directory was last listed.						*/
+	private int stores;
+	/**	Hits, misses and evicted entries.								*/
+	private AtomicLong hits = new AtomicLong(), misses = new AtomicLong(), evictions = new AtomicLong();
+
+	/**
+	* Creates a cache stored below the given directory.  Directories are created when the first entry is stored.
+	* @param _dir Cache directory.
+	* @param _limit Size limit in bytes.
+	*/
+	public UnitCache(String _dir, long _limit)
+	{
+		dir = new File(_dir, "units");
+		limit = _limit;
+	}
+
+	/**
+	* Computes the key of a compilation from its input and the options in {@link Driver}.
+	* @param name Input file name, which diagnostics quote.
+	* @param input Bytes of the input file.
+	* @return Hex encoded digest.
+	*/
+	public String key(String name, ByteBuffer input)
+	{
+		MessageDigest md = Fragments.newDigest();
+		String flags = STAMP + " -q=" + !Driver.intermediateFlag + " -S=" + Driver.assemblyFlag +
+			" --full=" + Driver.fullOutput + " --no-reduce-ast=" + !Driver.reduceAST + " " + name + "\0";
+
+		md.update(flags.getBytes(StandardCharsets.UTF_8));
+		md.update(input);
+
+		return Fragments.toHex(md.digest());
+	}
+
+	/**
+	* Looks up an entry and marks it as recently used.
+	* @param key Key from {@link #key(String, ByteBuffer)}.
+	* @return Outputs by name, or null on a miss.
+	*/
+	public Map<String, byte[]> load(String key)
+	{
+		File file = new File(dir, key);
+		Map<String, byte[]> entry = null;
+
+		if(file.isFile())
+		{
+			try
+			{
+				DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+
+				try
+				{
+					if(in.readUTF().equals(STAMP))
+					{
+						entry = new LinkedHashMap<String, byte[]>();
+
+						for(int count = in.readInt(); count > 0; count--)
+						{
+							String name = in.readUTF();
+							byte[] data = new byte[in.readInt()];
+							in.readFully(data);
+							entry.put(name, data);
+						}
+					}
+				}
+				finally
+				{
+					in.close();
+				}
+
+				file.setLastModified(System.currentTimeMillis());
+			}
+			catch(IOException e)
+			{
+				// damaged or half deleted entries count as misses and are rewritten
+				entry = null;
+			}
+		}
+
+		if(entry == null)
+			misses.incrementAndGet();
+
+		else
+			hits.incrementAndGet();
+
+		return entry;
+	}
+
+	/**
+	* Stores an entry, then evicts old entries if the cache is over its limit.
+	* @param key Key from {@link #key(String, ByteBuffer)}.
+	* @param entry Outputs by name.
+	*/
+	public void store(String key, Map<String, byte[]> entry)
+	{
+		try
+		{
+			dir.mkdirs();
+
+			File temp = File.createTempFile(key, ".tmp", dir);
+			File file = new File(dir, key);
+			long replaced = file.length();
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+
+			try
+			{
+				out.writeUTF(STAMP);
+				out.writeInt(entry.size());
+
+				for(Map.Entry<String, byte[]> output : entry.entrySet())
+				{
+					out.writeUTF(output.getKey());
+					out.writeInt(output.getValue().length);
+					out.write(output.getValue());
+				}
+			}
+			finally
+			{
+				out.close();
+			}
+
+			long written = temp.length();
+
+			Files.move(temp.toPath(), file.toPath(),
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+			grow(written - replaced);
+		}
+		catch(IOException e)
+		{
+			// a cache that cannot be written only costs speed
+			Compilation.errors().println("Warning: cannot write unit cache entry: " + e.getMessage());
+			return;
+		}
+
+	}
+
+	/**
+	* Adds a stored entry to the running size, and evicts once the size is over the limit.  The directory is
+	* listed on the first store, when the running size crosses the limit and every {@link #RESCAN} stores.
+	* @param delta Change in bytes.
+	*/
+	private synchronized void grow(long delta)
+	{
+		if(size < 0 || ++stores >= RESCAN)
+			evict();
+
+		else if((size += delta) > limit)
+			evict();
+	}
+
+	/**
+	* Lists the directory to recompute the running size, then deletes the least recently used entries until the
+	* cache is below 90% of its limit.  Temporary files of running writers are left alone.
+	*/
+	private void evict()
+	{
+		File[] entries = dir.listFiles((d, name) -> !name.endsWith(".tmp"));
+
+		stores = 0;
+		size = 0;
+
+		if(entries == null)
+			return;
+
+		for(File f : entries)
+			size += f.length();
+
+		if(size <= limit)
+			return;
+
+		Arrays.sort(entries, Comparator.comparingLong(File::lastModified));
+
+		for(File f : entries)
+		{
+			if(size <= limit * 9 / 10)
+				break;
+
+			long length = f.length();
+
+			if(f.delete()) {
+				size -= length;
+				evictions.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	* Formats the hit and miss counts and the cache size.
+	* @return Printable report.
+	*/
+	public String statistics()
+	{
+		File[] entries = dir.listFiles((d, name) -> !name.endsWith(".tmp"));
+		long size = 0;
+
+		if(entries != null)
+			for(File f : entries)
+				size += f.length();
+
+		return String.format("unit cache %s%n" +
+			"  files:    %6d hit(s) %6d miss(es)%n" +
+			"  size:     %6d entries, %.1f of %.1f MB, %d evicted%n",
+			dir.getParent(), hits.get(), misses.get(), (entries == null) ? 0 : entries.length,
+			size / 1048576.0, limit / 1048576.0, evictions.get());
+	}
+}
@@ -0,0 +1,110 @@
+package Compiler;
+
+import java.io.*;
+import java.nio.file.Files;
+
+import Assembly.Assembler;
+import Assembly.AssemblyError;
+import Assembly.SourceText;
+
+/**
+*	Compiles a program with an instruction the assembler has no translation for, a division, once with
+*	--full and once to 3AC that the standalone assembler reads back.  Both must report the same error on the
+*	same line of the 3AC.  Run by "ant test"; exits with status 1 if they differ.
+*/
+public class AssemblyLineTest
+{
+	/**	Program whose division is the first instruction without a translation.	*/
+	private static final String PROGRAM =
+		"int g;\n" +
+		"\n" +
+		"int main()\n" +
+		"{\n" +
+		"	int a = 6;\n" +
+		"	g = a / 2;\n" +
+		"	return 0;\n" +
+		"}\n";
+
+	/**
+	* Runs the check.
+	* @param args Not used.
+	* @throws IOException If the program or its outputs cannot be written or read.
+	*/
+	public static void main(String[] args) throws IOException
+	{
+		File work = Files.createTempDirectory("assembly-line-test").toFile();
+		File input = new File(work, "divide.c");
+		File code = new File(work, "divide.3ac.s");
+		Files.write(input.toPath(), PROGRAM.getBytes("UTF-8"));
+
+		Driver.fullOutput = true;
+		String full = error(compile(input, code));
+
+		Driver.fullOutput = false;
+		compile(input, code);
+		String standalone = error(assemble(code));
+
+		System.out.println("--full:\n" + full);
+		System.out.println("assembler:\n" + standalone);
+
+		if(full == null || !full.equals(standalone))
+			System.exit(1);
+	}
+
+	/**
+	* Compiles a program, to assembly when --full is on.
+	* @return The diagnostics.
+	*/
+	private static String compile(File input, File code) throws IOException
+	{
+		ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+		Compilation compilation = new Compilation(input.getPath(), input.getPath() + ".s", code.getPath(), null);
+
+		compilation.out = new PrintStream(OutputStream.nullOutputStream());
+		compilation.err = new PrintStream(diagnostics, true);
+
+		try
+		{
+			compilation.run();
+		}
+		catch(AssemblyError e)
+		{
+			// reported on err
+		}
+
+		return diagnostics.toString("UTF-8");
+	}
+
+	/**
+	* Assembles 3AC the way the standalone assembler does.
+	* @return The diagnostics.
+	*/
+	private static String assemble(File code) throws IOException
+	{
+		ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+		Assembler asm = new Assembler(code.getPath(), new PrintWriter(new StringWriter()));
+
+		asm.out = new PrintStream(OutputStream.nullOutputStream());
+		asm.err = new PrintStream(diagnostics, true);
+
+		try
+		{
+			asm.assemble(SourceText.read(code.getPath()));
+		}
+		catch(AssemblyError e)
+		{
+			// reported on err
+		}
+
+		return diagnostics.toString("UTF-8");
+	}
+
+	/**
+	* Returns the diagnostic of the error, from its file name on, or null if there is none.
+	*/
+	private static String error(String diagnostics)
+	{
+		int start = diagnostics.indexOf("error on line ");
+		return (start < 0) ? null : diagnostics.substring(diagnostics.lastIndexOf('\n', start) + 1);
+	}
+}
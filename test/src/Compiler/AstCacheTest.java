@@ -0,0 +1,87 @@
+package Compiler;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+*	Compiles every program in a directory three times: parsed, parsed and stored in the AST cache, and loaded
+*	from it.  All three must write the same 3AC and print the same diagnostics, and the last must not parse.
+*	Run by "ant test"; exits with status 1 if any program fails.
+*/
+public class AstCacheTest
+{
+	/**
+	* Runs the check.
+	* @param args Directory of the programs, tests by default.
+	* @throws IOException If the programs cannot be copied or the outputs read.
+	*/
+	public static void main(String[] args) throws IOException
+	{
+		File[] inputs = new File((args.length > 0) ? args[0] : "tests").listFiles((dir, name) -> name.endsWith(".c"));
+		File work = Files.createTempDirectory("ast-cache-test").toFile();
+		int failures = 0;
+
+		Arrays.sort(inputs);
+
+		for(File input : inputs)
+		{
+			// the cache file is written next to the input, so it is compiled from a copy
+			File copy = new File(work, input.getName());
+			Files.copy(input.toPath(), copy.toPath());
+
+			AstCache cache = new AstCache();
+			Result parsed = compile(copy, null);
+			Result stored = compile(copy, cache);
+			Result loaded = compile(copy, cache);
+			String failure = null;
+
+			if(!stored.parsed || loaded.parsed)
+				failure = "the tree was not loaded from the cache";
+
+			else if(!stored.code.equals(parsed.code) || !loaded.code.equals(parsed.code))
+				failure = "3AC differs";
+
+			else if(!stored.diagnostics.equals(parsed.diagnostics) || !loaded.diagnostics.equals(parsed.diagnostics))
+				failure = "diagnostics differ";
+
+			System.out.println(input + ": " + ((failure == null) ? "ok" : failure));
+
+			if(failure != null)
+				failures++;
+		}
+
+		if(failures > 0)
+			System.exit(1);
+	}
+
+	/**	Outputs of one compilation.	*/
+	private static class Result
+	{
+		String code;
+		String diagnostics;
+		boolean parsed;
+	}
+
+	/**
+	* Compiles a program to 3AC next to it.
+	* @param cache AST cache, or null.
+	*/
+	private static Result compile(File input, AstCache cache) throws IOException
+	{
+		File code = new File(input.getPath() + ".3ac.s");
+		ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+		Compilation compilation = new Compilation(input.getPath(), null, code.getPath(), null);
+		Result result = new Result();
+
+		compilation.astCache = cache;
+		compilation.out = new PrintStream(OutputStream.nullOutputStream());
+		compilation.err = new PrintStream(diagnostics, true);
+		compilation.run();
+
+		result.code = new String(Files.readAllBytes(code.toPath()), "UTF-8");
+		result.diagnostics = diagnostics.toString("UTF-8");
+		result.parsed = compilation.parser != null;
+		return result;
+	}
+}
@@ -0,0 +1,81 @@
+package Compiler;
+
+import java.io.*;
+import java.nio.file.Files;
+
+/**
+*	Compiles a program nested {@link Ast#NESTING_LIMIT} levels deep, in blocks of statements and in a chain of
+*	unary operators, and checks that parsing, the tree passes, the dot export and the 3AC all finish on the
+*	default thread stack.  Run by "ant test"; exits with status 1 on a StackOverflowError or a diagnostic.
+*/
+public class NestingDepthTest
+{
+	/**
+	* Runs the check.
+	* @param args Depth to try, {@link Ast#NESTING_LIMIT} by default.
+	* @throws IOException If the program or its outputs cannot be written.
+	*/
+	public static void main(String[] args) throws IOException
+	{
+		int depth = (args.length > 0) ? Integer.parseInt(args[0]) : Ast.NESTING_LIMIT;
+		File work = Files.createTempDirectory("nesting-depth-test").toFile();
+		File input = new File(work, "nested.c");
+		File code = new File(work, "nested.3ac.s");
+		Files.write(input.toPath(), program(depth).getBytes("UTF-8"));
+
+		ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+		Compilation compilation = new Compilation(input.getPath(), null, code.getPath(), null);
+		String failure = null;
+
+		compilation.out = new PrintStream(OutputStream.nullOutputStream());
+		compilation.err = new PrintStream(diagnostics, true);
+
+		try
+		{
+			compilation.run();
+
+			if(diagnostics.size() > 0)
+				failure = diagnostics.toString("UTF-8");
+
+			else
+			{
+				compilation.ast.size();
+				new AstDot(0, 0, null, false).write(compilation.ast, new File(work, "nested.dot").getPath());
+			}
+		}
+		catch(StackOverflowError e)
+		{
+			failure = "StackOverflowError";
+		}
+
+		System.out.println("depth " + depth + ": " + ((failure == null) ? "ok" : failure));
+
+		if(failure != null)
+			System.exit(1);
+	}
+
+	/**
+	* Builds a function whose innermost statement is depth blocks deep, alternating while and if, and negates a
+	* value through depth unary operators.
+	*/
+	private static String program(int depth)
+	{
+		StringBuilder source = new StringBuilder("int main()\n{\n\tint a = 1;\n\tint b = 0;\n");
+
+		for(int i = 0; i < depth; i++)
+			source.append((i % 2 == 0) ? "while(a)\n{\n" : "if(a)\n{\n");
+
+		source.append("a = 0;\n");
+
+		for(int i = 0; i < depth; i++)
+			source.append("}\n");
+
+		source.append("\tb = ");
+
+		for(int i = 0; i < depth; i++)
+			source.append("-!~".charAt(i % 3)).append(' ');
+
+		source.append("a;\n\treturn b;\n}\n");
+		return source.toString();
+	}
+}